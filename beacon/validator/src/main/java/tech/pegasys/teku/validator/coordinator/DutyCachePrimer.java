@@ -0,0 +1,76 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.validator.coordinator;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.statetransition.EpochCachePrimer;
+import tech.pegasys.teku.storage.api.ChainHeadChannel;
+import tech.pegasys.teku.storage.api.ReorgContext;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+/**
+ * Primes the epoch caches again when the chain head changes around an epoch boundary and local
+ * validators have duties in the upcoming epoch.
+ *
+ * <p>The {@link EpochCachePrimer} runs towards the end of the last slot of each epoch and again if
+ * the head changes before the epoch starts. If the block for the last slot arrives after the epoch
+ * has started, or the head is reorged, the first duty requests of the next epoch would otherwise
+ * have to process the epoch transition on demand.
+ */
+public class DutyCachePrimer implements ChainHeadChannel {
+  private final Spec spec;
+  private final RecentChainData recentChainData;
+  private final ActiveValidatorTracker activeValidatorTracker;
+  private final EpochCachePrimer epochCachePrimer;
+
+  public DutyCachePrimer(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final ActiveValidatorTracker activeValidatorTracker,
+      final EpochCachePrimer epochCachePrimer) {
+    this.spec = spec;
+    this.recentChainData = recentChainData;
+    this.activeValidatorTracker = activeValidatorTracker;
+    this.epochCachePrimer = epochCachePrimer;
+  }
+
+  @Override
+  public void chainHeadUpdated(
+      final UInt64 slot,
+      final Bytes32 stateRoot,
+      final Bytes32 bestBlockRoot,
+      final boolean epochTransition,
+      final boolean executionOptimistic,
+      final Bytes32 previousDutyDependentRoot,
+      final Bytes32 currentDutyDependentRoot,
+      final Optional<ReorgContext> optionalReorgContext) {
+    recentChainData
+        .getCurrentSlot()
+        .filter(this::isNearEpochBoundary)
+        .map(currentSlot -> spec.computeEpochAtSlot(currentSlot.plus(1)))
+        .filter(epoch -> activeValidatorTracker.getNumberOfValidatorsForEpoch(epoch) > 0)
+        .ifPresent(epochCachePrimer::primeCacheForEpoch);
+  }
+
+  // Head changes before the last slot of an epoch will likely be superseded before the transition
+  private boolean isNearEpochBoundary(final UInt64 currentSlot) {
+    return isEpochStartSlot(currentSlot) || isEpochStartSlot(currentSlot.plus(1));
+  }
+
+  private boolean isEpochStartSlot(final UInt64 slot) {
+    return spec.computeStartSlotAtEpoch(spec.computeEpochAtSlot(slot)).equals(slot);
+  }
+}
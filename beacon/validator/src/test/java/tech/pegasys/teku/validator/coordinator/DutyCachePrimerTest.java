@@ -0,0 +1,98 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.validator.coordinator;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.statetransition.EpochCachePrimer;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+class DutyCachePrimerTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final RecentChainData recentChainData = mock(RecentChainData.class);
+  private final ActiveValidatorTracker activeValidatorTracker = mock(ActiveValidatorTracker.class);
+  private final EpochCachePrimer epochCachePrimer = mock(EpochCachePrimer.class);
+
+  private final DutyCachePrimer primer =
+      new DutyCachePrimer(spec, recentChainData, activeValidatorTracker, epochCachePrimer);
+
+  @Test
+  void shouldPrimeNextEpochWhenHeadChangesInLastSlotOfEpoch() {
+    final UInt64 nextEpoch = UInt64.valueOf(3);
+    withCurrentSlot(spec.computeStartSlotAtEpoch(nextEpoch).minus(1));
+    when(activeValidatorTracker.getNumberOfValidatorsForEpoch(nextEpoch)).thenReturn(2);
+
+    chainHeadUpdated();
+
+    verify(epochCachePrimer).primeCacheForEpoch(nextEpoch);
+  }
+
+  @Test
+  void shouldPrimeCurrentEpochWhenHeadChangesInFirstSlotOfEpoch() {
+    final UInt64 epoch = UInt64.valueOf(3);
+    withCurrentSlot(spec.computeStartSlotAtEpoch(epoch));
+    when(activeValidatorTracker.getNumberOfValidatorsForEpoch(epoch)).thenReturn(2);
+
+    chainHeadUpdated();
+
+    verify(epochCachePrimer).primeCacheForEpoch(epoch);
+  }
+
+  @Test
+  void shouldNotPrimeWhenNoValidatorsHaveDutiesInEpoch() {
+    final UInt64 nextEpoch = UInt64.valueOf(3);
+    withCurrentSlot(spec.computeStartSlotAtEpoch(nextEpoch).minus(1));
+    when(activeValidatorTracker.getNumberOfValidatorsForEpoch(nextEpoch)).thenReturn(0);
+
+    chainHeadUpdated();
+
+    verify(epochCachePrimer, never()).primeCacheForEpoch(any());
+  }
+
+  @Test
+  void shouldNotPrimeWhenHeadChangesMidEpoch() {
+    final UInt64 epoch = UInt64.valueOf(3);
+    withCurrentSlot(spec.computeStartSlotAtEpoch(epoch).plus(2));
+    when(activeValidatorTracker.getNumberOfValidatorsForEpoch(any())).thenReturn(2);
+
+    chainHeadUpdated();
+
+    verify(epochCachePrimer, never()).primeCacheForEpoch(any());
+  }
+
+  private void withCurrentSlot(final UInt64 slot) {
+    when(recentChainData.getCurrentSlot()).thenReturn(Optional.of(slot));
+  }
+
+  private void chainHeadUpdated() {
+    primer.chainHeadUpdated(
+        UInt64.ONE,
+        Bytes32.ZERO,
+        Bytes32.ZERO,
+        false,
+        false,
+        Bytes32.ZERO,
+        Bytes32.ZERO,
+        Optional.empty());
+  }
+}
@@ -31,6 +31,7 @@ public class BeaconRestApiConfig {
   public static final List<String> DEFAULT_REST_API_CORS_ALLOWED_ORIGINS = new ArrayList<>();
   public static final boolean DEFAULT_BEACON_LIVENESS_TRACKING_ENABLED = false;
   public static final int DEFAULT_SUBSCRIBE_THREADS_COUNT = 1;
+  public static final boolean DEFAULT_REST_API_VIRTUAL_THREADS_ENABLED = false;
 
   // Beacon REST API
   private final int restApiPort;
@@ -45,6 +46,7 @@ public class BeaconRestApiConfig {
   private final int maxUrlLength;
   private final int maxPendingEvents;
   private final int validatorThreads;
+  private final boolean restApiVirtualThreadsEnabled;
 
   private BeaconRestApiConfig(
       final int restApiPort,
@@ -58,7 +60,8 @@ public class BeaconRestApiConfig {
       final int maxUrlLength,
       final int maxPendingEvents,
       final int validatorThreads,
-      final boolean beaconLivenessTrackingEnabled) {
+      final boolean beaconLivenessTrackingEnabled,
+      final boolean restApiVirtualThreadsEnabled) {
     this.restApiPort = restApiPort;
     this.restApiDocsEnabled = restApiDocsEnabled;
     this.restApiEnabled = restApiEnabled;
@@ -71,6 +74,7 @@ public class BeaconRestApiConfig {
     this.maxPendingEvents = maxPendingEvents;
     this.validatorThreads = validatorThreads;
     this.beaconLivenessTrackingEnabled = beaconLivenessTrackingEnabled;
+    this.restApiVirtualThreadsEnabled = restApiVirtualThreadsEnabled;
   }
 
   public int getRestApiPort() {
@@ -121,6 +125,10 @@ public class BeaconRestApiConfig {
     return validatorThreads;
   }
 
+  public boolean isRestApiVirtualThreadsEnabled() {
+    return restApiVirtualThreadsEnabled;
+  }
+
   public static BeaconRestApiConfigBuilder builder() {
     return new BeaconRestApiConfigBuilder();
   }
@@ -138,6 +146,7 @@ public class BeaconRestApiConfig {
     private int maxPendingEvents = DEFAULT_MAX_EVENT_QUEUE_SIZE;
     private int maxUrlLength = DEFAULT_MAX_URL_LENGTH;
     private int validatorThreads = DEFAULT_SUBSCRIBE_THREADS_COUNT;
+    private boolean restApiVirtualThreadsEnabled = DEFAULT_REST_API_VIRTUAL_THREADS_ENABLED;
     private Eth1Address eth1DepositContractAddress;
 
     private BeaconRestApiConfigBuilder() {}
@@ -223,6 +232,12 @@ public class BeaconRestApiConfig {
       return this;
     }
 
+    public BeaconRestApiConfigBuilder restApiVirtualThreadsEnabled(
+        final boolean restApiVirtualThreadsEnabled) {
+      this.restApiVirtualThreadsEnabled = restApiVirtualThreadsEnabled;
+      return this;
+    }
+
     public BeaconRestApiConfig build() {
       return new BeaconRestApiConfig(
           restApiPort,
@@ -236,7 +251,8 @@ public class BeaconRestApiConfig {
           maxUrlLength,
           maxPendingEvents,
           validatorThreads,
-          beaconLivenessTrackingEnabled);
+          beaconLivenessTrackingEnabled,
+          restApiVirtualThreadsEnabled);
     }
 
     public BeaconRestApiConfigBuilder maxUrlLength(final int maxUrlLength) {
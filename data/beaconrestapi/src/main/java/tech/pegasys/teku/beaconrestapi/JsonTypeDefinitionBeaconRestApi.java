@@ -18,6 +18,7 @@ import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORT
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.commons.lang3.StringUtils;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.ExecutionClientDataProvider;
 import tech.pegasys.teku.api.exceptions.BadRequestException;
@@ -127,6 +128,7 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
       final ExecutionClientDataProvider executionClientDataProvider,
+      final MetricsSystem metricsSystem,
       final Spec spec) {
     restApi =
         create(
@@ -137,6 +139,7 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
             asyncRunner,
             timeProvider,
             executionClientDataProvider,
+            metricsSystem,
             spec);
   }
 
@@ -163,8 +166,10 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
       final ExecutionClientDataProvider executionClientDataProvider,
+      final MetricsSystem metricsSystem,
       final Spec spec) {
     final SchemaDefinitionCache schemaCache = new SchemaDefinitionCache(spec);
+    final RestApiResponseCache responseCache = new RestApiResponseCache();
     RestApiBuilder builder =
         new RestApiBuilder()
             .openApiInfo(
@@ -180,6 +185,8 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
             .listenAddress(config.getRestApiInterface())
             .port(config.getRestApiPort())
             .maxUrlLength(config.getMaxUrlLength())
+            .metricsSystem(metricsSystem)
+            .virtualThreadsEnabled(config.isRestApiVirtualThreadsEnabled())
             .corsAllowedOrigins(config.getRestApiCorsAllowedOrigins())
             .hostAllowlist(config.getRestApiHostAllowlist())
             .exceptionHandler(
@@ -208,14 +215,14 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
                 (throwable) -> HttpErrorResponse.badRequest(throwable.getMessage()))
             // Beacon Handlers
             .endpoint(new GetGenesis(dataProvider))
-            .endpoint(new GetStateRoot(dataProvider))
-            .endpoint(new GetStateFork(dataProvider))
-            .endpoint(new GetStateFinalityCheckpoints(dataProvider))
+            .endpoint(new GetStateRoot(dataProvider, responseCache))
+            .endpoint(new GetStateFork(dataProvider, responseCache))
+            .endpoint(new GetStateFinalityCheckpoints(dataProvider, responseCache))
             .endpoint(new GetStateValidators(dataProvider))
             .endpoint(new GetStateValidator(dataProvider))
-            .endpoint(new GetStateValidatorBalances(dataProvider))
-            .endpoint(new GetStateCommittees(dataProvider))
-            .endpoint(new GetStateSyncCommittees(dataProvider))
+            .endpoint(new GetStateValidatorBalances(dataProvider, responseCache))
+            .endpoint(new GetStateCommittees(dataProvider, responseCache))
+            .endpoint(new GetStateSyncCommittees(dataProvider, responseCache))
             .endpoint(new GetStateRandao(dataProvider))
             .endpoint(new GetBlockHeaders(dataProvider))
             .endpoint(new GetBlockHeader(dataProvider))
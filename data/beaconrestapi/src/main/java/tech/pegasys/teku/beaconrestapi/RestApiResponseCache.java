@@ -0,0 +1,224 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi;
+
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_MODIFIED;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ETAG;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_IF_NONE_MATCH;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import java.io.ByteArrayOutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.ResponseMetadata;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.SerializedResponse;
+import tech.pegasys.teku.spec.datastructures.metadata.StateAndMetaData;
+
+/**
+ * Caches serialized responses for endpoints which only depend on a state and the request
+ * parameters.
+ *
+ * <p>Responses are keyed by the endpoint, the normalized request parameters, the selected content
+ * type and the root of the state they were computed from, so a repeated request for the same state
+ * is answered with the previously serialized bytes. Entries are evicted in least recently used
+ * order once the total size of cached responses exceeds the memory budget.
+ *
+ * <p>Responses for finalized states can never change so they are sent with a strong ETag, and
+ * requests which already hold the current version via {@code If-None-Match} get a 304 response.
+ */
+public class RestApiResponseCache {
+  static final long DEFAULT_MAX_CACHED_BYTES = 64 * 1024 * 1024;
+
+  private final long maxCachedBytes;
+  private final Map<String, CachedResponse> responses = new LinkedHashMap<>(16, 0.75f, true);
+  private long cachedBytes = 0;
+
+  public RestApiResponseCache() {
+    this(DEFAULT_MAX_CACHED_BYTES);
+  }
+
+  public RestApiResponseCache(final long maxCachedBytes) {
+    this.maxCachedBytes = maxCachedBytes;
+  }
+
+  /** Creates a cache which always creates a new response and never sets an ETag. */
+  public static RestApiResponseCache disabled() {
+    return new RestApiResponseCache(0);
+  }
+
+  public static String requestKey(final Optional<?>... parameters) {
+    return Stream.of(parameters)
+        .map(parameter -> parameter.map(Object::toString).orElse(""))
+        .collect(Collectors.joining(","));
+  }
+
+  /**
+   * Responds to a request with data derived from a state, or with not found if the state isn't
+   * available.
+   */
+  public <T> SafeFuture<AsyncApiResponse> respond(
+      final RestApiRequest request,
+      final EndpointMetadata metadata,
+      final String requestKey,
+      final SafeFuture<Optional<StateAndMetaData>> futureState,
+      final Function<StateAndMetaData, T> responseCreator) {
+    return futureState.thenApplyChecked(
+        maybeStateAndMetaData -> {
+          if (maybeStateAndMetaData.isEmpty()) {
+            return AsyncApiResponse.respondNotFound();
+          }
+          return getResponse(
+              request, metadata, requestKey, maybeStateAndMetaData.get(), responseCreator);
+        });
+  }
+
+  /**
+   * Returns the response for a request, using the cached serialized response if the same request
+   * has already been answered from the same state.
+   *
+   * @param requestKey the request parameters which affect the response, in a normalized form
+   * @param responseCreator creates the response object from the state when it isn't cached
+   */
+  public <T> AsyncApiResponse getResponse(
+      final RestApiRequest request,
+      final EndpointMetadata metadata,
+      final String requestKey,
+      final StateAndMetaData stateAndMetaData,
+      final Function<StateAndMetaData, T> responseCreator)
+      throws JsonProcessingException {
+    if (maxCachedBytes <= 0) {
+      return AsyncApiResponse.respondOk(responseCreator.apply(stateAndMetaData));
+    }
+    final String contentType =
+        metadata.getContentType(SC_OK, request.getRequestHeader(HEADER_ACCEPT));
+    final String cacheKey =
+        String.join(
+            "|",
+            metadata.getPath(),
+            contentType,
+            requestKey,
+            stateAndMetaData.getData().hashTreeRoot().toHexString(),
+            Boolean.toString(stateAndMetaData.isExecutionOptimistic()),
+            Boolean.toString(stateAndMetaData.isFinalized()));
+
+    CachedResponse cachedResponse = get(cacheKey);
+    if (cachedResponse == null) {
+      cachedResponse =
+          createResponse(
+              metadata,
+              contentType,
+              responseCreator.apply(stateAndMetaData),
+              stateAndMetaData.isFinalized());
+      put(cacheKey, cachedResponse);
+    }
+
+    if (cachedResponse.etag.isPresent()) {
+      final String etag = cachedResponse.etag.get();
+      request.header(HEADER_ETAG, etag);
+      if (request
+          .getRequestHeader(HEADER_IF_NONE_MATCH)
+          .map(etags -> matches(etags, etag))
+          .orElse(false)) {
+        return AsyncApiResponse.respondWithCode(SC_NOT_MODIFIED);
+      }
+    }
+    return AsyncApiResponse.respondOk(cachedResponse.response);
+  }
+
+  private static <T> CachedResponse createResponse(
+      final EndpointMetadata metadata,
+      final String contentType,
+      final T response,
+      final boolean immutable)
+      throws JsonProcessingException {
+    final ResponseMetadata responseMetadata =
+        metadata.createResponseMetadata(SC_OK, Optional.of(contentType), response);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    metadata.serialize(SC_OK, responseMetadata.getContentType(), response, out);
+    final Bytes body = Bytes.wrap(out.toByteArray());
+    final Optional<String> etag =
+        immutable
+            ? Optional.of("\"" + Hashing.sha256().hashBytes(body.toArrayUnsafe()) + "\"")
+            : Optional.empty();
+    return new CachedResponse(
+        new SerializedResponse(
+            responseMetadata.getContentType(), responseMetadata.getAdditionalHeaders(), body),
+        etag);
+  }
+
+  private static boolean matches(final String ifNoneMatch, final String etag) {
+    for (String candidate : ifNoneMatch.split(",")) {
+      final String trimmed = candidate.trim();
+      if (trimmed.equals("*") || trimmed.equals(etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private synchronized CachedResponse get(final String cacheKey) {
+    return responses.get(cacheKey);
+  }
+
+  private synchronized void put(final String cacheKey, final CachedResponse cachedResponse) {
+    final int size = cachedResponse.response.size();
+    if (size > maxCachedBytes) {
+      return;
+    }
+    final CachedResponse previous = responses.put(cacheKey, cachedResponse);
+    if (previous != null) {
+      cachedBytes -= previous.response.size();
+    }
+    cachedBytes += size;
+    final Iterator<CachedResponse> iterator = responses.values().iterator();
+    while (cachedBytes > maxCachedBytes && iterator.hasNext()) {
+      cachedBytes -= iterator.next().response.size();
+      iterator.remove();
+    }
+  }
+
+  @VisibleForTesting
+  synchronized int size() {
+    return responses.size();
+  }
+
+  @VisibleForTesting
+  synchronized long getCachedBytes() {
+    return cachedBytes;
+  }
+
+  private static class CachedResponse {
+    private final SerializedResponse response;
+    private final Optional<String> etag;
+
+    private CachedResponse(final SerializedResponse response, final Optional<String> etag) {
+      this.response = response;
+      this.etag = etag;
+    }
+  }
+}
@@ -17,9 +17,10 @@ import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.PARAMETER_STATE
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.Optional;
+import java.util.function.Function;
 import tech.pegasys.teku.api.ChainDataProvider;
+import tech.pegasys.teku.beaconrestapi.RestApiResponseCache;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
-import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
@@ -28,11 +29,20 @@ import tech.pegasys.teku.spec.datastructures.metadata.StateAndMetaData;
 public abstract class AbstractGetSimpleDataFromState extends RestApiEndpoint {
 
   private final ChainDataProvider chainDataProvider;
+  private final RestApiResponseCache responseCache;
 
   public AbstractGetSimpleDataFromState(
       final EndpointMetadata build, final ChainDataProvider chainDataProvider) {
+    this(build, chainDataProvider, RestApiResponseCache.disabled());
+  }
+
+  public AbstractGetSimpleDataFromState(
+      final EndpointMetadata build,
+      final ChainDataProvider chainDataProvider,
+      final RestApiResponseCache responseCache) {
     super(build);
     this.chainDataProvider = chainDataProvider;
+    this.responseCache = responseCache;
   }
 
   @Override
@@ -40,10 +50,6 @@ public abstract class AbstractGetSimpleDataFromState extends RestApiEndpoint {
     final SafeFuture<Optional<StateAndMetaData>> future =
         chainDataProvider.getBeaconStateAndMetadata(request.getPathParameter(PARAMETER_STATE_ID));
     request.respondAsync(
-        future.thenApply(
-            maybeStateAndMetadata ->
-                maybeStateAndMetadata
-                    .map(AsyncApiResponse::respondOk)
-                    .orElseGet(AsyncApiResponse::respondNotFound)));
+        responseCache.respond(request, getMetadata(), "", future, Function.identity()));
   }
 }
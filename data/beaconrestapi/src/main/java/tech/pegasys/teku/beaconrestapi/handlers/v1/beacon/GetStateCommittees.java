@@ -31,15 +31,16 @@ import java.util.List;
 import java.util.Optional;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
+import tech.pegasys.teku.beaconrestapi.RestApiResponseCache;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
-import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64Util;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
+import tech.pegasys.teku.spec.datastructures.metadata.StateAndMetaData;
 import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
 
 public class GetStateCommittees extends RestApiEndpoint {
@@ -66,12 +67,23 @@ public class GetStateCommittees extends RestApiEndpoint {
               .build();
 
   private final ChainDataProvider chainDataProvider;
+  private final RestApiResponseCache responseCache;
 
   public GetStateCommittees(final DataProvider dataProvider) {
     this(dataProvider.getChainDataProvider());
   }
 
+  public GetStateCommittees(
+      final DataProvider dataProvider, final RestApiResponseCache responseCache) {
+    this(dataProvider.getChainDataProvider(), responseCache);
+  }
+
   GetStateCommittees(final ChainDataProvider chainDataProvider) {
+    this(chainDataProvider, RestApiResponseCache.disabled());
+  }
+
+  GetStateCommittees(
+      final ChainDataProvider chainDataProvider, final RestApiResponseCache responseCache) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getStateCommittees")
@@ -86,6 +98,7 @@ public class GetStateCommittees extends RestApiEndpoint {
             .withNotFoundResponse()
             .build());
     this.chainDataProvider = chainDataProvider;
+    this.responseCache = responseCache;
   }
 
   @Override
@@ -95,15 +108,19 @@ public class GetStateCommittees extends RestApiEndpoint {
     final Optional<UInt64> slot =
         request.getOptionalQueryParameter(SLOT_PARAMETER.withDescription(SLOT_QUERY_DESCRIPTION));
 
-    final SafeFuture<Optional<ObjectAndMetaData<List<CommitteeAssignment>>>> future =
-        chainDataProvider.getStateCommittees(
-            request.getPathParameter(PARAMETER_STATE_ID), epoch, committeeIndex, slot);
+    final SafeFuture<Optional<StateAndMetaData>> future =
+        chainDataProvider.getBeaconStateAndMetadata(request.getPathParameter(PARAMETER_STATE_ID));
 
     request.respondAsync(
-        future.thenApply(
-            maybeListObjectAndMetaData ->
-                maybeListObjectAndMetaData
-                    .map(AsyncApiResponse::respondOk)
-                    .orElse(AsyncApiResponse.respondNotFound())));
+        responseCache.respond(
+            request,
+            getMetadata(),
+            RestApiResponseCache.requestKey(epoch, committeeIndex, slot),
+            future,
+            stateAndMetaData ->
+                stateAndMetaData.map(
+                    state ->
+                        chainDataProvider.getCommitteesFromState(
+                            state, epoch, committeeIndex, slot))));
   }
 }
@@ -22,6 +22,7 @@ import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.BOOLEAN_TYPE
 
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
+import tech.pegasys.teku.beaconrestapi.RestApiResponseCache;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
@@ -59,7 +60,17 @@ public class GetStateFinalityCheckpoints extends AbstractGetSimpleDataFromState
     this(dataProvider.getChainDataProvider());
   }
 
+  public GetStateFinalityCheckpoints(
+      final DataProvider dataProvider, final RestApiResponseCache responseCache) {
+    this(dataProvider.getChainDataProvider(), responseCache);
+  }
+
   GetStateFinalityCheckpoints(final ChainDataProvider chainDataProvider) {
+    this(chainDataProvider, RestApiResponseCache.disabled());
+  }
+
+  GetStateFinalityCheckpoints(
+      final ChainDataProvider chainDataProvider, final RestApiResponseCache responseCache) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getStateFinalityCheckpoints")
@@ -71,6 +82,7 @@ public class GetStateFinalityCheckpoints extends AbstractGetSimpleDataFromState
             .response(SC_OK, "Request successful", RESPONSE_TYPE)
             .withNotFoundResponse()
             .build(),
-        chainDataProvider);
+        chainDataProvider,
+        responseCache);
   }
 }
@@ -23,6 +23,7 @@ import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.BOOLEAN_TYPE
 
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
+import tech.pegasys.teku.beaconrestapi.RestApiResponseCache;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
@@ -49,7 +50,16 @@ public class GetStateFork extends AbstractGetSimpleDataFromState {
     this(dataProvider.getChainDataProvider());
   }
 
+  public GetStateFork(final DataProvider dataProvider, final RestApiResponseCache responseCache) {
+    this(dataProvider.getChainDataProvider(), responseCache);
+  }
+
   GetStateFork(final ChainDataProvider chainDataProvider) {
+    this(chainDataProvider, RestApiResponseCache.disabled());
+  }
+
+  GetStateFork(
+      final ChainDataProvider chainDataProvider, final RestApiResponseCache responseCache) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getSateFork")
@@ -60,6 +70,7 @@ public class GetStateFork extends AbstractGetSimpleDataFromState {
             .response(SC_OK, "Request successful", RESPONSE_TYPE)
             .withNotFoundResponse()
             .build(),
-        chainDataProvider);
+        chainDataProvider,
+        responseCache);
   }
 }
@@ -23,6 +23,7 @@ import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.BOOLEAN_TYPE
 
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
+import tech.pegasys.teku.beaconrestapi.RestApiResponseCache;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
@@ -44,7 +45,16 @@ public class GetStateRoot extends AbstractGetSimpleDataFromState {
     this(dataProvider.getChainDataProvider());
   }
 
+  public GetStateRoot(final DataProvider dataProvider, final RestApiResponseCache responseCache) {
+    this(dataProvider.getChainDataProvider(), responseCache);
+  }
+
   GetStateRoot(final ChainDataProvider chainDataProvider) {
+    this(chainDataProvider, RestApiResponseCache.disabled());
+  }
+
+  GetStateRoot(
+      final ChainDataProvider chainDataProvider, final RestApiResponseCache responseCache) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getStateRoot")
@@ -56,6 +66,7 @@ public class GetStateRoot extends AbstractGetSimpleDataFromState {
             .response(SC_OK, "Request successful", RESPONSE_TYPE)
             .withNotFoundResponse()
             .build(),
-        chainDataProvider);
+        chainDataProvider,
+        responseCache);
   }
 }
@@ -31,6 +31,7 @@ import java.util.Optional;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.migrated.StateSyncCommitteesData;
+import tech.pegasys.teku.beaconrestapi.RestApiResponseCache;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.http.HttpStatusCodes;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
@@ -40,10 +41,12 @@ import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
+import tech.pegasys.teku.spec.datastructures.metadata.StateAndMetaData;
 
 public class GetStateSyncCommittees extends RestApiEndpoint {
   public static final String ROUTE = "/eth/v1/beacon/states/{state_id}/sync_committees";
   private final ChainDataProvider chainDataProvider;
+  private final RestApiResponseCache responseCache;
 
   private static final SerializableTypeDefinition<StateSyncCommitteesData> DATA_TYPE =
       SerializableTypeDefinition.object(StateSyncCommitteesData.class)
@@ -68,7 +71,17 @@ public class GetStateSyncCommittees extends RestApiEndpoint {
     this(dataProvider.getChainDataProvider());
   }
 
+  public GetStateSyncCommittees(
+      final DataProvider dataProvider, final RestApiResponseCache responseCache) {
+    this(dataProvider.getChainDataProvider(), responseCache);
+  }
+
   public GetStateSyncCommittees(final ChainDataProvider chainDataProvider) {
+    this(chainDataProvider, RestApiResponseCache.disabled());
+  }
+
+  GetStateSyncCommittees(
+      final ChainDataProvider chainDataProvider, final RestApiResponseCache responseCache) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getStateSyncCommittees")
@@ -81,22 +94,25 @@ public class GetStateSyncCommittees extends RestApiEndpoint {
             .withNotFoundResponse()
             .build());
     this.chainDataProvider = chainDataProvider;
+    this.responseCache = responseCache;
   }
 
   @Override
   public void handleRequest(RestApiRequest request) throws JsonProcessingException {
     final Optional<UInt64> epoch = request.getOptionalQueryParameter(EPOCH_PARAMETER);
-    final SafeFuture<Optional<ObjectAndMetaData<StateSyncCommitteesData>>> future =
-        chainDataProvider.getStateSyncCommittees(
-            request.getPathParameter(PARAMETER_STATE_ID), epoch);
+    final SafeFuture<Optional<StateAndMetaData>> future =
+        chainDataProvider.getBeaconStateAndMetadata(request.getPathParameter(PARAMETER_STATE_ID));
 
     request.respondAsync(
-        future
-            .thenApply(
-                maybeStateSyncCommitteesAndMetaData ->
-                    maybeStateSyncCommitteesAndMetaData
-                        .map(AsyncApiResponse::respondOk)
-                        .orElse(AsyncApiResponse.respondNotFound()))
+        responseCache
+            .respond(
+                request,
+                getMetadata(),
+                RestApiResponseCache.requestKey(epoch),
+                future,
+                stateAndMetaData ->
+                    stateAndMetaData.map(
+                        state -> chainDataProvider.getSyncCommitteesFromState(state, epoch)))
             .exceptionallyCompose(
                 error -> {
                   final Throwable rootCause = Throwables.getRootCause(error);
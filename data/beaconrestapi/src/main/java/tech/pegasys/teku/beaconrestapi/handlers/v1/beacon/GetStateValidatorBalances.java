@@ -28,13 +28,14 @@ import java.util.Optional;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.migrated.StateValidatorBalanceData;
+import tech.pegasys.teku.beaconrestapi.RestApiResponseCache;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
-import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
+import tech.pegasys.teku.spec.datastructures.metadata.StateAndMetaData;
 
 public class GetStateValidatorBalances extends RestApiEndpoint {
   public static final String ROUTE = "/eth/v1/beacon/states/{state_id}/validator_balances";
@@ -54,12 +55,23 @@ public class GetStateValidatorBalances extends RestApiEndpoint {
               .build();
 
   private final ChainDataProvider chainDataProvider;
+  private final RestApiResponseCache responseCache;
 
   public GetStateValidatorBalances(final DataProvider dataProvider) {
     this(dataProvider.getChainDataProvider());
   }
 
+  public GetStateValidatorBalances(
+      final DataProvider dataProvider, final RestApiResponseCache responseCache) {
+    this(dataProvider.getChainDataProvider(), responseCache);
+  }
+
   GetStateValidatorBalances(final ChainDataProvider chainDataProvider) {
+    this(chainDataProvider, RestApiResponseCache.disabled());
+  }
+
+  GetStateValidatorBalances(
+      final ChainDataProvider chainDataProvider, final RestApiResponseCache responseCache) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getStateValidatorBalances")
@@ -72,21 +84,24 @@ public class GetStateValidatorBalances extends RestApiEndpoint {
             .withNotFoundResponse()
             .build());
     this.chainDataProvider = chainDataProvider;
+    this.responseCache = responseCache;
   }
 
   @Override
   public void handleRequest(RestApiRequest request) throws JsonProcessingException {
     final List<String> validators = request.getQueryParameterList(ID_PARAMETER);
 
-    final SafeFuture<Optional<ObjectAndMetaData<List<StateValidatorBalanceData>>>> future =
-        chainDataProvider.getStateValidatorBalances(
-            request.getPathParameter(PARAMETER_STATE_ID), validators);
+    final SafeFuture<Optional<StateAndMetaData>> future =
+        chainDataProvider.getBeaconStateAndMetadata(request.getPathParameter(PARAMETER_STATE_ID));
 
     request.respondAsync(
-        future.thenApply(
-            maybeDataList ->
-                maybeDataList
-                    .map(AsyncApiResponse::respondOk)
-                    .orElse(AsyncApiResponse.respondNotFound())));
+        responseCache.respond(
+            request,
+            getMetadata(),
+            RestApiResponseCache.requestKey(Optional.of(validators)),
+            future,
+            stateAndMetaData ->
+                stateAndMetaData.map(
+                    state -> chainDataProvider.getValidatorBalancesFromState(state, validators))));
   }
 }
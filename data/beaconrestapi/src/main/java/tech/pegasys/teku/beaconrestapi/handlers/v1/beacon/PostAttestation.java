@@ -30,8 +30,11 @@ import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.spec.schemas.ApiSchemas;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionCache;
 import tech.pegasys.teku.validator.api.SubmitDataError;
 
@@ -46,29 +49,34 @@ public class PostAttestation extends RestApiEndpoint {
 
   public PostAttestation(
       final ValidatorDataProvider provider, final SchemaDefinitionCache schemaDefinitionCache) {
-    super(
-        EndpointMetadata.post(ROUTE)
-            .operationId("postAttestation")
-            .summary("Submit signed attestations")
-            .description(
-                "Submit signed attestations to the beacon node to be validated and submitted if valid.\n\n"
-                    + "This endpoint does not protected against slashing.")
-            .tags(TAG_BEACON, TAG_VALIDATOR_REQUIRED)
-            .requestBodyType(
-                DeserializableTypeDefinition.listOf(
-                    schemaDefinitionCache
-                        .getSchemaDefinition(SpecMilestone.PHASE0)
-                        .getAttestationSchema()
-                        .getJsonTypeDefinition()))
-            .response(SC_OK, "Attestations are stored in pool and broadcast on appropriate subnet")
-            .response(
-                SC_BAD_REQUEST,
-                "Errors with one or more attestations",
-                ErrorListBadRequest.getJsonTypeDefinition())
-            .build());
+    super(createMetadata(schemaDefinitionCache));
     this.provider = provider;
   }
 
+  private static EndpointMetadata createMetadata(
+      final SchemaDefinitionCache schemaDefinitionCache) {
+    final AttestationSchema attestationSchema =
+        schemaDefinitionCache.getSchemaDefinition(SpecMilestone.PHASE0).getAttestationSchema();
+    final SszListSchema<Attestation, ?> attestationsSchema =
+        ApiSchemas.createAttestationsSchema(attestationSchema);
+    return EndpointMetadata.post(ROUTE)
+        .operationId("postAttestation")
+        .summary("Submit signed attestations")
+        .description(
+            "Submit signed attestations to the beacon node to be validated and submitted if valid.\n\n"
+                + "This endpoint does not protected against slashing.")
+        .tags(TAG_BEACON, TAG_VALIDATOR_REQUIRED)
+        .requestBodyType(
+            DeserializableTypeDefinition.listOf(attestationSchema.getJsonTypeDefinition()),
+            bytes -> attestationsSchema.sszDeserialize(bytes).asList())
+        .response(SC_OK, "Attestations are stored in pool and broadcast on appropriate subnet")
+        .response(
+            SC_BAD_REQUEST,
+            "Errors with one or more attestations",
+            ErrorListBadRequest.getJsonTypeDefinition())
+        .build();
+  }
+
   @Override
   public void handleRequest(RestApiRequest request) throws JsonProcessingException {
     final List<Attestation> attestations = request.getRequestBody();
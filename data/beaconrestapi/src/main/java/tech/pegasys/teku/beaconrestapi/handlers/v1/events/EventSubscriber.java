@@ -69,6 +69,10 @@ public class EventSubscriber {
     keepAlive();
   }
 
+  public boolean isSubscribedTo(final EventType eventType) {
+    return eventTypes.contains(eventType);
+  }
+
   public void onEvent(final EventType eventType, final EventSource<?> message)
       throws JsonProcessingException {
     if (!eventTypes.contains(eventType)) {
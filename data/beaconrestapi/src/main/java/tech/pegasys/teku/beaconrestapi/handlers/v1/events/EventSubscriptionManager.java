@@ -30,6 +30,7 @@ import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.ConfigProvider;
 import tech.pegasys.teku.api.NodeDataProvider;
 import tech.pegasys.teku.api.SyncDataProvider;
+import tech.pegasys.teku.api.ValidatorDataProvider;
 import tech.pegasys.teku.api.response.v1.EventType;
 import tech.pegasys.teku.beacon.sync.events.SyncState;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -54,15 +55,20 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
 
   private final ConfigProvider configProvider;
   private final ChainDataProvider provider;
+  private final ValidatorDataProvider validatorDataProvider;
   private final AsyncRunner asyncRunner;
   private final TimeProvider timeProvider;
   private final int maxPendingEvents;
   // collection of subscribers
   private final Collection<EventSubscriber> eventSubscribers;
+  // Dependent root of the proposer duties last sent to subscribers and of those being calculated
+  private Optional<Bytes32> proposerDutiesDependentRoot = Optional.empty();
+  private Optional<Bytes32> pendingProposerDutiesDependentRoot = Optional.empty();
 
   public EventSubscriptionManager(
       final NodeDataProvider nodeDataProvider,
       final ChainDataProvider chainDataProvider,
+      final ValidatorDataProvider validatorDataProvider,
       final SyncDataProvider syncDataProvider,
       final ConfigProvider configProvider,
       final AsyncRunner asyncRunner,
@@ -70,6 +76,7 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
       final TimeProvider timeProvider,
       final int maxPendingEvents) {
     this.provider = chainDataProvider;
+    this.validatorDataProvider = validatorDataProvider;
     this.asyncRunner = asyncRunner;
     this.timeProvider = timeProvider;
     this.maxPendingEvents = maxPendingEvents;
@@ -140,6 +147,52 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
             previousDutyDependentRoot,
             currentDutyDependentRoot);
     notifySubscribersOfEvent(EventType.head, headEvent);
+
+    sendProposerDutiesIfChanged(configProvider.computeEpochAtSlot(slot), currentDutyDependentRoot);
+  }
+
+  /**
+   * Proposer duties are the same for every validator client so are calculated once each time the
+   * dependent root changes and sent to all subscribers, rather than each client requesting them.
+   * Duties are calculated asynchronously so head events are never delayed, and the dependent root
+   * is only recorded once duties for it have been sent so a failed calculation is retried on the
+   * next head event.
+   */
+  private void sendProposerDutiesIfChanged(final UInt64 epoch, final Bytes32 dependentRoot) {
+    if (eventSubscribers.stream()
+        .noneMatch(subscriber -> subscriber.isSubscribedTo(EventType.proposer_duties))) {
+      return;
+    }
+    synchronized (this) {
+      if (proposerDutiesDependentRoot.equals(Optional.of(dependentRoot))
+          || pendingProposerDutiesDependentRoot.equals(Optional.of(dependentRoot))) {
+        return;
+      }
+      pendingProposerDutiesDependentRoot = Optional.of(dependentRoot);
+    }
+    asyncRunner
+        .runAsync(() -> validatorDataProvider.getProposerDuties(epoch))
+        .thenAccept(
+            maybeDuties ->
+                maybeDuties.ifPresent(
+                    duties -> {
+                      notifySubscribersOfEvent(
+                          EventType.proposer_duties, new ProposerDutiesEvent(epoch, duties));
+                      onProposerDutiesSent(dependentRoot);
+                    }))
+        .alwaysRun(() -> clearPendingProposerDuties(dependentRoot))
+        .finish(
+            error -> LOG.debug("Failed to calculate proposer duties for epoch {}", epoch, error));
+  }
+
+  private synchronized void onProposerDutiesSent(final Bytes32 dependentRoot) {
+    proposerDutiesDependentRoot = Optional.of(dependentRoot);
+  }
+
+  private synchronized void clearPendingProposerDuties(final Bytes32 dependentRoot) {
+    if (pendingProposerDutiesDependentRoot.equals(Optional.of(dependentRoot))) {
+      pendingProposerDutiesDependentRoot = Optional.empty();
+    }
   }
 
   protected void onNewVoluntaryExit(
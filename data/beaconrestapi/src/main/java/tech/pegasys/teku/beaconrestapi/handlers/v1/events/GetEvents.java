@@ -24,6 +24,7 @@ import tech.pegasys.teku.api.ConfigProvider;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.NodeDataProvider;
 import tech.pegasys.teku.api.SyncDataProvider;
+import tech.pegasys.teku.api.ValidatorDataProvider;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
@@ -45,6 +46,7 @@ public class GetEvents extends RestApiEndpoint {
     this(
         dataProvider.getNodeDataProvider(),
         dataProvider.getChainDataProvider(),
+        dataProvider.getValidatorDataProvider(),
         dataProvider.getSyncDataProvider(),
         dataProvider.getConfigProvider(),
         eventChannels,
@@ -56,6 +58,7 @@ public class GetEvents extends RestApiEndpoint {
   GetEvents(
       final NodeDataProvider nodeDataProvider,
       final ChainDataProvider chainDataProvider,
+      final ValidatorDataProvider validatorDataProvider,
       final SyncDataProvider syncDataProvider,
       final ConfigProvider configProvider,
       final EventChannels eventChannels,
@@ -80,6 +83,7 @@ public class GetEvents extends RestApiEndpoint {
         new EventSubscriptionManager(
             nodeDataProvider,
             chainDataProvider,
+            validatorDataProvider,
             syncDataProvider,
             configProvider,
             asyncRunner,
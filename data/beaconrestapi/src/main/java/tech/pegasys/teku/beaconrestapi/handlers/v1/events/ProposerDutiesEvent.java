@@ -0,0 +1,73 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
+
+import static tech.pegasys.teku.ethereum.json.types.EthereumTypes.PUBLIC_KEY_TYPE;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.EXECUTION_OPTIMISTIC;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.BOOLEAN_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.BYTES32_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.INTEGER_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.UINT64_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition.listOf;
+
+import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.validator.api.ProposerDuties;
+import tech.pegasys.teku.validator.api.ProposerDuty;
+
+/**
+ * Proposer duties for an epoch, sent once per duty dependent root to every subscriber. There are no
+ * equivalent events for attester or sync committee duties as those are specific to the validator
+ * indices each client requests.
+ */
+public class ProposerDutiesEvent extends Event<ProposerDutiesEvent.ProposerDutiesData> {
+
+  private static final SerializableTypeDefinition<ProposerDuty> PROPOSER_DUTY_TYPE =
+      SerializableTypeDefinition.object(ProposerDuty.class)
+          .withField("pubkey", PUBLIC_KEY_TYPE, ProposerDuty::getPublicKey)
+          .withField("validator_index", INTEGER_TYPE, ProposerDuty::getValidatorIndex)
+          .withField("slot", UINT64_TYPE, ProposerDuty::getSlot)
+          .build();
+
+  static final SerializableTypeDefinition<ProposerDutiesData> PROPOSER_DUTIES_EVENT_TYPE =
+      SerializableTypeDefinition.object(ProposerDutiesData.class)
+          .name("ProposerDutiesEvent")
+          .withField("epoch", UINT64_TYPE, ProposerDutiesData::getEpoch)
+          .withField("dependent_root", BYTES32_TYPE, data -> data.getDuties().getDependentRoot())
+          .withField(
+              EXECUTION_OPTIMISTIC, BOOLEAN_TYPE, data -> data.getDuties().isExecutionOptimistic())
+          .withField("data", listOf(PROPOSER_DUTY_TYPE), data -> data.getDuties().getDuties())
+          .build();
+
+  ProposerDutiesEvent(final UInt64 epoch, final ProposerDuties duties) {
+    super(PROPOSER_DUTIES_EVENT_TYPE, new ProposerDutiesData(epoch, duties));
+  }
+
+  public static class ProposerDutiesData {
+    private final UInt64 epoch;
+    private final ProposerDuties duties;
+
+    ProposerDutiesData(final UInt64 epoch, final ProposerDuties duties) {
+      this.epoch = epoch;
+      this.duties = duties;
+    }
+
+    public UInt64 getEpoch() {
+      return epoch;
+    }
+
+    public ProposerDuties getDuties() {
+      return duties;
+    }
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_MODIFIED;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ETAG;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_IF_NONE_MATCH;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.STRING_TYPE;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.restapi.StubRestApiRequest;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.SerializedResponse;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.metadata.StateAndMetaData;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class RestApiResponseCacheTest {
+  private static final EndpointMetadata METADATA =
+      EndpointMetadata.get("/foo")
+          .operationId("foo")
+          .summary("Foo Summary")
+          .description("description")
+          .response(SC_OK, "Good", STRING_TYPE)
+          .build();
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StateAndMetaData headState = createState(false);
+  private final StateAndMetaData finalizedState = createState(true);
+  private final AtomicInteger createdResponses = new AtomicInteger();
+  private final Function<StateAndMetaData, String> responseCreator =
+      state -> {
+        createdResponses.incrementAndGet();
+        return state.getData().getSlot().toString();
+      };
+
+  private final RestApiResponseCache cache = new RestApiResponseCache();
+
+  @Test
+  void shouldReuseSerializedResponseForSameState() throws Exception {
+    final AsyncApiResponse first = getResponse(cache, new StubRestApiRequest(METADATA), "a");
+    final AsyncApiResponse second = getResponse(cache, new StubRestApiRequest(METADATA), "a");
+
+    assertThat(createdResponses).hasValue(1);
+    assertThat(second.getResponseCode()).isEqualTo(SC_OK);
+    assertThat(second.getResponseBody()).isEqualTo(first.getResponseBody());
+    assertThat(getBody(second)).isEqualTo("\"" + headState.getData().getSlot() + "\"");
+  }
+
+  @Test
+  void shouldCreateNewResponseWhenRequestDiffers() throws Exception {
+    getResponse(cache, new StubRestApiRequest(METADATA), "a");
+    getResponse(cache, new StubRestApiRequest(METADATA), "b");
+
+    assertThat(createdResponses).hasValue(2);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotSetEtagForNonFinalizedState() throws Exception {
+    final StubRestApiRequest request = new StubRestApiRequest(METADATA);
+    getResponse(cache, request, "a");
+
+    assertThat(request.getHeader(HEADER_ETAG)).isNull();
+  }
+
+  @Test
+  void shouldRespondNotModifiedWhenEtagMatches() throws Exception {
+    final StubRestApiRequest request = new StubRestApiRequest(METADATA);
+    final AsyncApiResponse response =
+        cache.getResponse(request, METADATA, "a", finalizedState, responseCreator);
+    final String etag = request.getHeader(HEADER_ETAG);
+    assertThat(response.getResponseCode()).isEqualTo(SC_OK);
+    assertThat(etag).startsWith("\"").endsWith("\"");
+
+    final StubRestApiRequest conditionalRequest = new StubRestApiRequest(METADATA);
+    conditionalRequest.setRequestHeader(HEADER_IF_NONE_MATCH, "\"other\", " + etag);
+    final AsyncApiResponse conditionalResponse =
+        cache.getResponse(conditionalRequest, METADATA, "a", finalizedState, responseCreator);
+
+    assertThat(conditionalResponse.getResponseCode()).isEqualTo(SC_NOT_MODIFIED);
+    assertThat(conditionalResponse.getResponseBody()).isEmpty();
+    assertThat(conditionalRequest.getHeader(HEADER_ETAG)).isEqualTo(etag);
+    assertThat(createdResponses).hasValue(1);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedResponsesWhenOverBudget() throws Exception {
+    final int responseSize =
+        getBody(getResponse(cache, new StubRestApiRequest(METADATA), "a")).length();
+    final RestApiResponseCache smallCache = new RestApiResponseCache(responseSize * 2L);
+
+    getResponse(smallCache, new StubRestApiRequest(METADATA), "a");
+    getResponse(smallCache, new StubRestApiRequest(METADATA), "b");
+    // Makes "b" the least recently used
+    getResponse(smallCache, new StubRestApiRequest(METADATA), "a");
+    getResponse(smallCache, new StubRestApiRequest(METADATA), "c");
+    assertThat(smallCache.size()).isEqualTo(2);
+    assertThat(smallCache.getCachedBytes()).isEqualTo(responseSize * 2L);
+
+    createdResponses.set(0);
+    getResponse(smallCache, new StubRestApiRequest(METADATA), "a");
+    assertThat(createdResponses).hasValue(0);
+    getResponse(smallCache, new StubRestApiRequest(METADATA), "b");
+    assertThat(createdResponses).hasValue(1);
+  }
+
+  @Test
+  void shouldAlwaysCreateResponseWhenDisabled() throws Exception {
+    final RestApiResponseCache disabledCache = RestApiResponseCache.disabled();
+    final StubRestApiRequest request = new StubRestApiRequest(METADATA);
+    getResponse(disabledCache, request, "a");
+    final AsyncApiResponse response =
+        disabledCache.getResponse(request, METADATA, "a", finalizedState, responseCreator);
+
+    assertThat(createdResponses).hasValue(2);
+    assertThat(response.getResponseBody()).contains(finalizedState.getData().getSlot().toString());
+    assertThat(request.getHeader(HEADER_ETAG)).isNull();
+  }
+
+  private AsyncApiResponse getResponse(
+      final RestApiResponseCache cache, final StubRestApiRequest request, final String requestKey)
+      throws Exception {
+    return cache.getResponse(request, METADATA, requestKey, headState, responseCreator);
+  }
+
+  private String getBody(final AsyncApiResponse response) {
+    final SerializedResponse body = (SerializedResponse) response.getResponseBody().orElseThrow();
+    return new String(body.getBody().toArrayUnsafe(), UTF_8);
+  }
+
+  private StateAndMetaData createState(final boolean finalized) {
+    return new StateAndMetaData(
+        dataStructureUtil.randomBeaconState(), SpecMilestone.PHASE0, false, true, finalized);
+  }
+}
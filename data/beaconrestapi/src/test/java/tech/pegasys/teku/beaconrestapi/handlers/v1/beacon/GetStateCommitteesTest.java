@@ -62,20 +62,24 @@ public class GetStateCommitteesTest extends AbstractMigratedBeaconHandlerWithCha
             .optionalQueryParameter("slot", "1")
             .build();
 
-    final Optional<ObjectAndMetaData<List<CommitteeAssignment>>> expectedData =
+    final ObjectAndMetaData<List<CommitteeAssignment>> expectedData =
         chainDataProvider
-            .getStateCommittees(
-                "head",
-                Optional.of(UInt64.valueOf(0)),
-                Optional.of(UInt64.valueOf(0)),
-                Optional.of(UInt64.valueOf(1)))
-            .get();
-    assertThat(expectedData.orElseThrow().getData()).isNotEmpty();
+            .getBeaconStateAndMetadata("head")
+            .get()
+            .orElseThrow()
+            .map(
+                state ->
+                    chainDataProvider.getCommitteesFromState(
+                        state,
+                        Optional.of(UInt64.valueOf(0)),
+                        Optional.of(UInt64.valueOf(0)),
+                        Optional.of(UInt64.valueOf(1))));
+    assertThat(expectedData.getData()).isNotEmpty();
 
     handler.handleRequest(request);
 
     assertThat(request.getResponseCode()).isEqualTo(SC_OK);
-    assertThat(request.getResponseBody()).isEqualTo(expectedData.get());
+    assertThat(request.getResponseBody()).isEqualTo(expectedData);
   }
 
   @ParameterizedTest
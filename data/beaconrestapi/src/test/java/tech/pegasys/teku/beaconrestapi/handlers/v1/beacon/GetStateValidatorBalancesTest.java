@@ -27,7 +27,6 @@ import com.google.common.io.Resources;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.api.migrated.StateValidatorBalanceData;
@@ -57,13 +56,13 @@ public class GetStateValidatorBalancesTest
             .listQueryParameter("id", List.of("1", "2"))
             .build();
 
-    final Optional<ObjectAndMetaData<List<StateValidatorBalanceData>>> stateValidatorBalancesData =
-        chainDataProvider.getStateValidatorBalances("head", List.of("1", "2")).get();
+    final ObjectAndMetaData<List<StateValidatorBalanceData>> stateValidatorBalancesData =
+        getValidatorBalancesAtHead(List.of("1", "2"));
 
     handler.handleRequest(request);
 
     assertThat(request.getResponseCode()).isEqualTo(SC_OK);
-    assertThat(request.getResponseBody()).isEqualTo(stateValidatorBalancesData.orElseThrow());
+    assertThat(request.getResponseBody()).isEqualTo(stateValidatorBalancesData);
   }
 
   @Test
@@ -74,13 +73,13 @@ public class GetStateValidatorBalancesTest
             .pathParameter("state_id", "head")
             .build();
 
-    final Optional<ObjectAndMetaData<List<StateValidatorBalanceData>>> stateValidatorBalancesData =
-        chainDataProvider.getStateValidatorBalances("head", List.of()).get();
+    final ObjectAndMetaData<List<StateValidatorBalanceData>> stateValidatorBalancesData =
+        getValidatorBalancesAtHead(List.of());
 
     handler.handleRequest(request);
 
     assertThat(request.getResponseCode()).isEqualTo(SC_OK);
-    assertThat(request.getResponseBody()).isEqualTo(stateValidatorBalancesData.orElseThrow());
+    assertThat(request.getResponseBody()).isEqualTo(stateValidatorBalancesData);
   }
 
   @Test
@@ -117,4 +116,13 @@ public class GetStateValidatorBalancesTest
             UTF_8);
     assertThat(data).isEqualTo(expected);
   }
+
+  private ObjectAndMetaData<List<StateValidatorBalanceData>> getValidatorBalancesAtHead(
+      final List<String> validators) throws Exception {
+    return chainDataProvider
+        .getBeaconStateAndMetadata("head")
+        .get()
+        .orElseThrow()
+        .map(state -> chainDataProvider.getValidatorBalancesFromState(state, validators));
+  }
 }
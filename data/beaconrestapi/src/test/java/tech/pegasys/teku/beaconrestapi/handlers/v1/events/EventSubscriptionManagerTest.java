@@ -14,7 +14,11 @@
 package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -33,8 +37,10 @@ import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.ConfigProvider;
 import tech.pegasys.teku.api.NodeDataProvider;
 import tech.pegasys.teku.api.SyncDataProvider;
+import tech.pegasys.teku.api.ValidatorDataProvider;
 import tech.pegasys.teku.api.schema.SignedBeaconBlock;
 import tech.pegasys.teku.beacon.sync.events.SyncState;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
@@ -52,6 +58,8 @@ import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
 import tech.pegasys.teku.storage.api.ReorgContext;
+import tech.pegasys.teku.validator.api.ProposerDuties;
+import tech.pegasys.teku.validator.api.ProposerDuty;
 
 public class EventSubscriptionManagerTest {
   private final Spec spec = TestSpecFactory.createMinimalCapella();
@@ -59,6 +67,7 @@ public class EventSubscriptionManagerTest {
   private final DataStructureUtil data = new DataStructureUtil(spec);
   protected final NodeDataProvider nodeDataProvider = mock(NodeDataProvider.class);
   protected final ChainDataProvider chainDataProvider = mock(ChainDataProvider.class);
+  protected final ValidatorDataProvider validatorDataProvider = mock(ValidatorDataProvider.class);
   protected final SyncDataProvider syncDataProvider = mock(SyncDataProvider.class);
   private final ConfigProvider configProvider = new ConfigProvider(spec);
   // chain reorg fields
@@ -118,6 +127,7 @@ public class EventSubscriptionManagerTest {
         new EventSubscriptionManager(
             nodeDataProvider,
             chainDataProvider,
+            validatorDataProvider,
             syncDataProvider,
             configProvider,
             asyncRunner,
@@ -166,6 +176,80 @@ public class EventSubscriptionManagerTest {
     assertThat(events.get(1)).contains("event: head\n");
   }
 
+  @Test
+  void shouldSendProposerDutiesAfterHeadEventWhenDependentRootChanges() {
+    when(req.getQueryString()).thenReturn("&topics=head,proposer_duties");
+    manager.registerClient(client1);
+    final ProposerDuties duties =
+        new ProposerDuties(
+            headEvent.getData().getCurrentDutyDependentRoot(),
+            List.of(new ProposerDuty(data.randomPublicKey(), 3, slot)),
+            false);
+    final SafeFuture<Optional<ProposerDuties>> dutiesFuture = new SafeFuture<>();
+    when(validatorDataProvider.getProposerDuties(epoch)).thenReturn(dutiesFuture);
+
+    triggerHeadEvent();
+    // Head event is sent without waiting for duties to be calculated
+    assertThat(outputStream.countEvents()).isEqualTo(1);
+
+    dutiesFuture.complete(Optional.of(duties));
+    asyncRunner.executeQueuedActions();
+    final List<String> events = outputStream.getEvents();
+    assertThat(events).hasSize(2);
+    assertThat(events.get(0)).contains("event: head\n");
+    assertThat(events.get(1)).contains("event: proposer_duties\n");
+  }
+
+  @Test
+  void shouldRetryProposerDutiesWhenCalculationFails() {
+    when(req.getQueryString()).thenReturn("&topics=proposer_duties");
+    manager.registerClient(client1);
+    when(validatorDataProvider.getProposerDuties(epoch))
+        .thenReturn(SafeFuture.failedFuture(new RuntimeException("Failed")))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    new ProposerDuties(
+                        headEvent.getData().getCurrentDutyDependentRoot(), List.of(), false))));
+
+    triggerHeadEvent();
+    assertThat(outputStream.countEvents()).isZero();
+
+    triggerHeadEvent();
+    asyncRunner.executeQueuedActions();
+    verify(validatorDataProvider, times(2)).getProposerDuties(epoch);
+    assertThat(outputStream.countEvents()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldOnlyCalculateProposerDutiesOncePerDependentRoot() {
+    when(req.getQueryString()).thenReturn("&topics=proposer_duties");
+    manager.registerClient(client1);
+    when(validatorDataProvider.getProposerDuties(epoch))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    new ProposerDuties(
+                        headEvent.getData().getCurrentDutyDependentRoot(), List.of(), false))));
+
+    triggerHeadEvent();
+    triggerHeadEvent();
+
+    verify(validatorDataProvider).getProposerDuties(epoch);
+    assertThat(outputStream.countEvents()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotCalculateProposerDutiesWhenNotSubscribed() {
+    when(req.getQueryString()).thenReturn("&topics=head");
+    manager.registerClient(client1);
+
+    triggerHeadEvent();
+
+    verify(validatorDataProvider, never()).getProposerDuties(any());
+    assertThat(outputStream.countEvents()).isEqualTo(1);
+  }
+
   @Test
   void shouldPropagateMultipleMessagesIfSubscribed() {
     when(req.getQueryString()).thenReturn("&topics=chain_reorg,finalized_checkpoint");
@@ -80,6 +80,7 @@ public class ChainDataProvider {
   private final SchemaObjectProvider schemaObjectProvider;
 
   private final RecentChainData recentChainData;
+  private final ValidatorStatusCache validatorStatusCache = new ValidatorStatusCache();
 
   public ChainDataProvider(
       final Spec spec,
@@ -276,13 +277,7 @@ public class ChainDataProvider {
     return fromState(stateIdParam, state -> new Fork(state.getFork()));
   }
 
-  public SafeFuture<Optional<ObjectAndMetaData<List<StateValidatorBalanceData>>>>
-      getStateValidatorBalances(final String stateIdParam, final List<String> validators) {
-    return fromState(stateIdParam, state -> getValidatorBalancesFromState(state, validators));
-  }
-
-  @VisibleForTesting
-  List<StateValidatorBalanceData> getValidatorBalancesFromState(
+  public List<StateValidatorBalanceData> getValidatorBalancesFromState(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
       final List<String> validators) {
     return getValidatorSelector(state, validators)
@@ -362,6 +357,15 @@ public class ChainDataProvider {
       final List<String> validators,
       final Set<ValidatorStatus> statusFilter) {
     final UInt64 epoch = spec.getCurrentEpoch(state);
+    if (validators.isEmpty()) {
+      // Querying the whole validator set so filter using the cached statuses for the state
+      final byte[] statuses = validatorStatusCache.getStatuses(state, epoch);
+      final int[] validatorIndices =
+          IntStream.range(0, statuses.length)
+              .filter(ValidatorStatusCache.statusPredicate(statuses, statusFilter))
+              .toArray();
+      return new StateValidatorDataList(state, validatorIndices, statuses);
+    }
     return getValidatorSelector(state, validators)
         .filter(getStatusPredicate(state, statusFilter))
         .mapToObj(index -> StateValidatorData.fromState(state, index, epoch, FAR_FUTURE_EPOCH))
@@ -383,15 +387,6 @@ public class ChainDataProvider {
     return maybeValidator.map(data -> stateData.map(__ -> data));
   }
 
-  public SafeFuture<Optional<ObjectAndMetaData<List<CommitteeAssignment>>>> getStateCommittees(
-      final String stateIdParameter,
-      final Optional<UInt64> epoch,
-      final Optional<UInt64> committeeIndex,
-      final Optional<UInt64> slot) {
-    return fromState(
-        stateIdParameter, state -> getCommitteesFromState(state, epoch, committeeIndex, slot));
-  }
-
   public SafeFuture<Optional<ValidatorStatuses>> getValidatorInclusionAtEpoch(final UInt64 epoch) {
     final Optional<UInt64> maybeCurrentEpoch = getCurrentEpoch();
     if (maybeCurrentEpoch.isEmpty()) {
@@ -420,7 +415,7 @@ public class ChainDataProvider {
     return recentChainData.getCurrentEpoch();
   }
 
-  List<CommitteeAssignment> getCommitteesFromState(
+  public List<CommitteeAssignment> getCommitteesFromState(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
       final Optional<UInt64> epoch,
       final Optional<UInt64> committeeIndex,
@@ -507,12 +502,7 @@ public class ChainDataProvider {
         .map(clientUtil -> stateAndMetaData.map(clientUtil::getLightClientBootstrap));
   }
 
-  public SafeFuture<Optional<ObjectAndMetaData<StateSyncCommitteesData>>> getStateSyncCommittees(
-      final String stateIdParam, final Optional<UInt64> epoch) {
-    return fromState(stateIdParam, state -> getSyncCommitteesFromState(state, epoch));
-  }
-
-  private StateSyncCommitteesData getSyncCommitteesFromState(
+  public StateSyncCommitteesData getSyncCommitteesFromState(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
       final Optional<UInt64> epochQueryParam) {
     final UInt64 epoch = epochQueryParam.orElse(spec.computeEpochAtSlot(state.getSlot()));
@@ -0,0 +1,55 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import tech.pegasys.teku.api.migrated.StateValidatorData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * A read-only list of validators from a state which only creates each {@link StateValidatorData}
+ * when it is accessed.
+ *
+ * <p>Serializing a response iterates the list once, so each element can be discarded as soon as it
+ * has been written rather than holding an object for every matching validator in memory at once.
+ */
+class StateValidatorDataList extends AbstractList<StateValidatorData> implements RandomAccess {
+  private final BeaconState state;
+  private final int[] validatorIndices;
+  private final byte[] statuses;
+
+  StateValidatorDataList(
+      final BeaconState state, final int[] validatorIndices, final byte[] statuses) {
+    this.state = state;
+    this.validatorIndices = validatorIndices;
+    this.statuses = statuses;
+  }
+
+  @Override
+  public StateValidatorData get(final int index) {
+    final int validatorIndex = validatorIndices[index];
+    return new StateValidatorData(
+        UInt64.valueOf(validatorIndex),
+        state.getBalances().getElement(validatorIndex),
+        ValidatorStatusCache.toStatus(statuses[validatorIndex]),
+        state.getValidators().get(validatorIndex));
+  }
+
+  @Override
+  public int size() {
+    return validatorIndices.length;
+  }
+}
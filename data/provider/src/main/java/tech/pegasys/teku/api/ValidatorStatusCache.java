@@ -0,0 +1,79 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api;
+
+import static tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse.getValidatorStatus;
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Caches the status of every validator in recently queried states, keyed by state root.
+ *
+ * <p>Statuses are held as one byte per validator so filtering all validators by status only needs a
+ * scan over a primitive array, and repeated queries against the same state (e.g. dashboards polling
+ * head) don't need to recalculate statuses at all.
+ */
+class ValidatorStatusCache {
+  private static final int MAX_CACHED_STATES = 4;
+  private static final ValidatorStatus[] STATUSES = ValidatorStatus.values();
+
+  private final Map<Bytes32, byte[]> statusesByStateRoot =
+      LimitedMap.createSynchronized(MAX_CACHED_STATES);
+
+  byte[] getStatuses(final BeaconState state, final UInt64 epoch) {
+    final Bytes32 stateRoot = state.hashTreeRoot();
+    final byte[] cachedStatuses = statusesByStateRoot.get(stateRoot);
+    if (cachedStatuses != null) {
+      return cachedStatuses;
+    }
+    // Calculate outside the map's lock so concurrent requests for other states aren't blocked,
+    // which would also pin the carrier thread when requests are handled on virtual threads
+    final byte[] statuses = calculateStatuses(state, epoch);
+    final byte[] existingStatuses = statusesByStateRoot.putIfAbsent(stateRoot, statuses);
+    return existingStatuses != null ? existingStatuses : statuses;
+  }
+
+  static ValidatorStatus toStatus(final byte status) {
+    return STATUSES[status];
+  }
+
+  static IntPredicate statusPredicate(
+      final byte[] statuses, final Set<ValidatorStatus> statusFilter) {
+    if (statusFilter.isEmpty()) {
+      return index -> true;
+    }
+    final boolean[] includedStatuses = new boolean[STATUSES.length];
+    statusFilter.forEach(status -> includedStatuses[status.ordinal()] = true);
+    return index -> includedStatuses[statuses[index]];
+  }
+
+  private static byte[] calculateStatuses(final BeaconState state, final UInt64 epoch) {
+    final SszList<Validator> validators = state.getValidators();
+    final byte[] statuses = new byte[validators.size()];
+    for (int i = 0; i < statuses.length; i++) {
+      statuses[i] = (byte) getValidatorStatus(epoch, validators.get(i), FAR_FUTURE_EPOCH).ordinal();
+    }
+    return statuses;
+  }
+}
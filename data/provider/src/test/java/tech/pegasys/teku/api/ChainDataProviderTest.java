@@ -28,12 +28,14 @@ import static tech.pegasys.teku.infrastructure.async.SafeFuture.completedFuture;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.bytes.Bytes48;
@@ -45,6 +47,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import tech.pegasys.teku.api.exceptions.ServiceUnavailableException;
 import tech.pegasys.teku.api.migrated.BlockHeadersResponse;
 import tech.pegasys.teku.api.migrated.StateSyncCommitteesData;
+import tech.pegasys.teku.api.migrated.StateValidatorData;
 import tech.pegasys.teku.api.response.v1.beacon.GenesisData;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.api.schema.BeaconState;
@@ -297,19 +300,67 @@ public class ChainDataProviderTest {
   }
 
   @Test
-  public void getStateCommittees_shouldReturnEmptyIfStateNotFound()
-      throws ExecutionException, InterruptedException {
+  public void filteredValidatorsList_shouldOnlyIncludeValidatorsWithMatchingStatus() {
+    final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState internalState =
+        data.randomBeaconState(16)
+            .updated(
+                state -> {
+                  for (int i = 1; i < 16; i += 2) {
+                    state
+                        .getValidators()
+                        .set(
+                            i,
+                            state
+                                .getValidators()
+                                .get(i)
+                                .withActivationEpoch(ZERO)
+                                .withExitEpoch(FAR_FUTURE_EPOCH));
+                  }
+                });
     final ChainDataProvider provider =
         new ChainDataProvider(spec, recentChainData, combinedChainDataClient);
-    assertThat(
-            provider
-                .getStateCommittees(
-                    data.randomBytes32().toHexString(),
-                    Optional.empty(),
-                    Optional.empty(),
-                    Optional.empty())
-                .get())
-        .isEmpty();
+    final UInt64 epoch = spec.getCurrentEpoch(internalState);
+
+    final List<StateValidatorData> result =
+        provider.getFilteredValidatorList(
+            internalState, emptyList(), Set.of(ValidatorStatus.active_ongoing));
+    assertThat(result).hasSize(8);
+    assertThat(result.get(0))
+        .isEqualTo(StateValidatorData.fromState(internalState, 1, epoch, FAR_FUTURE_EPOCH).get());
+    assertThat(result)
+        .containsExactlyElementsOf(
+            IntStream.range(0, 16)
+                .filter(index -> index % 2 == 1)
+                .mapToObj(
+                    index ->
+                        StateValidatorData.fromState(internalState, index, epoch, FAR_FUTURE_EPOCH)
+                            .orElseThrow())
+                .collect(toList()));
+    assertThat(result)
+        .extracting(StateValidatorData::getStatus)
+        .containsOnly(ValidatorStatus.active_ongoing);
+  }
+
+  @Test
+  public void filteredValidatorsList_shouldIncludeAllValidatorsWhenNotFiltered() {
+    final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState internalState =
+        data.randomBeaconState(64);
+    final ChainDataProvider provider =
+        new ChainDataProvider(spec, recentChainData, combinedChainDataClient);
+    final UInt64 epoch = spec.getCurrentEpoch(internalState);
+
+    final List<StateValidatorData> expected =
+        IntStream.range(0, 64)
+            .mapToObj(
+                index ->
+                    StateValidatorData.fromState(internalState, index, epoch, FAR_FUTURE_EPOCH)
+                        .orElseThrow())
+            .collect(toList());
+    assertThat(provider.getFilteredValidatorList(internalState, emptyList(), emptySet()))
+        .containsExactlyElementsOf(expected);
+    // Statuses are cached for the state so a second query returns the same result
+    assertThat(provider.getFilteredValidatorList(internalState, emptyList(), emptySet()))
+        .containsExactlyElementsOf(expected);
   }
 
   @Test
@@ -352,7 +403,7 @@ public class ChainDataProviderTest {
         List.of(UInt64.valueOf(6), UInt64.valueOf(9), UInt64.valueOf(0));
 
     final SafeFuture<Optional<ObjectAndMetaData<StateSyncCommitteesData>>> future =
-        provider.getStateSyncCommittees("head", Optional.empty());
+        getSyncCommitteesAtHead(provider, Optional.empty());
     assertThatSafeFuture(future)
         .isCompletedWithOptionalContaining(
             new ObjectAndMetaData<>(
@@ -373,7 +424,7 @@ public class ChainDataProviderTest {
         .thenReturn(Optional.of(completedFuture(internalState)));
 
     final SafeFuture<Optional<ObjectAndMetaData<StateSyncCommitteesData>>> future =
-        provider.getStateSyncCommittees("head", Optional.empty());
+        getSyncCommitteesAtHead(provider, Optional.empty());
     assertThatSafeFuture(future)
         .isCompletedWithOptionalContaining(
             addMetaData(new StateSyncCommitteesData(List.of(), List.of()), ZERO));
@@ -383,7 +434,7 @@ public class ChainDataProviderTest {
   public void getStateSyncCommittees_shouldRejectFarFutureEpoch() {
     final ChainDataProvider provider = setupAltairState();
     final SafeFuture<Optional<ObjectAndMetaData<StateSyncCommitteesData>>> future =
-        provider.getStateSyncCommittees("head", Optional.of(UInt64.valueOf("1024000")));
+        getSyncCommitteesAtHead(provider, Optional.of(UInt64.valueOf("1024000")));
     SafeFutureAssert.assertThatSafeFuture(future)
         .isCompletedExceptionallyWith(IllegalArgumentException.class);
   }
@@ -639,6 +690,19 @@ public class ChainDataProviderTest {
     return safeJoin(mockCombinedChainDataClient.getChainHead().orElseThrow().getState());
   }
 
+  private SafeFuture<Optional<ObjectAndMetaData<StateSyncCommitteesData>>> getSyncCommitteesAtHead(
+      final ChainDataProvider provider, final Optional<UInt64> epoch) {
+    return provider
+        .getBeaconStateAndMetadata("head")
+        .thenApply(
+            maybeState ->
+                maybeState.map(
+                    state ->
+                        state.map(
+                            internalState ->
+                                provider.getSyncCommitteesFromState(internalState, epoch))));
+  }
+
   private <T> ObjectAndMetaData<T> addMetaData(final T expected, final UInt64 slot) {
     return new ObjectAndMetaData<>(
         expected,
@@ -26,7 +26,8 @@ public enum EventType {
   chain_reorg,
   sync_state,
   contribution_and_proof,
-  bls_to_execution_change;
+  bls_to_execution_change,
+  proposer_duties;
 
   public static List<EventType> getTopics(List<String> topics) {
     return topics.stream().map(EventType::valueOf).collect(Collectors.toList());
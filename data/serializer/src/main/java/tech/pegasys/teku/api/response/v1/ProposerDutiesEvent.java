@@ -0,0 +1,80 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.api.response.v1;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.MoreObjects;
+import java.util.List;
+import java.util.Objects;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.api.response.v1.validator.ProposerDuty;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ProposerDutiesEvent {
+  @JsonProperty(value = "epoch", required = true)
+  public final UInt64 epoch;
+
+  @JsonProperty(value = "dependent_root", required = true)
+  public final Bytes32 dependentRoot;
+
+  @JsonProperty("execution_optimistic")
+  public final boolean executionOptimistic;
+
+  @JsonProperty(value = "data", required = true)
+  public final List<ProposerDuty> data;
+
+  @JsonCreator
+  public ProposerDutiesEvent(
+      @JsonProperty(value = "epoch", required = true) final UInt64 epoch,
+      @JsonProperty(value = "dependent_root", required = true) final Bytes32 dependentRoot,
+      @JsonProperty("execution_optimistic") final boolean executionOptimistic,
+      @JsonProperty(value = "data", required = true) final List<ProposerDuty> data) {
+    this.epoch = epoch;
+    this.dependentRoot = dependentRoot;
+    this.executionOptimistic = executionOptimistic;
+    this.data = data;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final ProposerDutiesEvent that = (ProposerDutiesEvent) o;
+    return executionOptimistic == that.executionOptimistic
+        && Objects.equals(epoch, that.epoch)
+        && Objects.equals(dependentRoot, that.dependentRoot)
+        && Objects.equals(data, that.data);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(epoch, dependentRoot, executionOptimistic, data);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("epoch", epoch)
+        .add("dependentRoot", dependentRoot)
+        .add("executionOptimistic", executionOptimistic)
+        .add("data", data)
+        .toString();
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.util.Optional;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs {@link MainnetStateBenchmark} and writes the results as JMH JSON, which includes the
+ * parameters and score of every benchmark so results can be compared between runs.
+ *
+ * <p>Usage: {@code MainnetBenchmarkSuite [result-file]}. The benchmark parameters can be narrowed
+ * with the system properties {@code milestones}, {@code validatorCounts} (both comma separated),
+ * {@code stateFile} and {@code stateCacheDir}.
+ */
+public class MainnetBenchmarkSuite {
+
+  public static void main(final String[] args) throws Exception {
+    final String resultFile = args.length > 0 ? args[0] : "mainnet-benchmarks.json";
+    final ChainedOptionsBuilder options =
+        new OptionsBuilder()
+            .include(MainnetStateBenchmark.class.getSimpleName())
+            .resultFormat(ResultFormatType.JSON)
+            .result(resultFile);
+    getProperty("milestones").ifPresent(value -> options.param("milestone", value.split(",")));
+    getProperty("validatorCounts")
+        .ifPresent(value -> options.param("validatorCount", value.split(",")));
+    getProperty("stateFile").ifPresent(value -> options.param("stateFile", value));
+    getProperty("stateCacheDir").ifPresent(value -> options.param("stateCacheDir", value));
+
+    new Runner(options.build()).run();
+    System.out.println("Results written to " + resultFile);
+  }
+
+  private static Optional<String> getProperty(final String name) {
+    return Optional.ofNullable(System.getProperty(name)).filter(value -> !value.isBlank());
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.benchmarks.gen.MainnetStateGenerator;
+import tech.pegasys.teku.bls.BLSSignatureVerifier;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecFactory;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.BeaconBlockBodySchemaAltair;
+import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.SyncAggregate;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconState;
+import tech.pegasys.teku.spec.logic.common.block.BlockProcessor;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochProcessor;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.BlockProcessingException;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
+import tech.pegasys.teku.spec.networks.Eth2Network;
+
+/**
+ * Measures state processing on mainnet-sized states for each milestone.
+ *
+ * <p>States are generated by {@link MainnetStateGenerator} and cached as SSZ files in {@code
+ * stateCacheDir} so each benchmark fork only pays the generation cost once. A real state can be
+ * measured instead by setting {@code stateFile} to an SSZ encoded mainnet state, in which case the
+ * {@code milestone} and {@code validatorCount} parameters are ignored.
+ *
+ * <p>Block processing is measured against the state advanced to the next slot, as a block proposed
+ * after the state would be. For generated states that is the first slot of the next epoch, after
+ * the epoch transition. Signatures are not verified, so it measures the cost of applying
+ * attestations and sync aggregates to the state rather than BLS verification.
+ *
+ * <p>Use {@link MainnetBenchmarkSuite} to run the whole suite and write machine-readable results.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@State(Scope.Thread)
+@Threads(1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx16g")
+public class MainnetStateBenchmark {
+  private static final long SEED = 1;
+
+  @Param({"PHASE0", "ALTAIR", "BELLATRIX", "CAPELLA", "EIP4844"})
+  String milestone;
+
+  @Param({"500000", "1000000"})
+  int validatorCount;
+
+  @Param({""})
+  String stateFile;
+
+  @Param({""})
+  String stateCacheDir;
+
+  private Spec spec;
+  private BeaconState state;
+  private Bytes serializedState;
+  private EpochProcessor epochProcessor;
+  private BeaconState blockPreState;
+  private BlockProcessor blockProcessor;
+  private SszList<Attestation> blockAttestations;
+  private Optional<SyncAggregate> syncAggregate;
+
+  @Setup(Level.Trial)
+  public void init() throws Exception {
+    if (stateFile.isEmpty()) {
+      spec = TestSpecFactory.createMainnet(SpecMilestone.valueOf(milestone));
+      loadOrGenerateState();
+    } else {
+      spec = SpecFactory.create(Eth2Network.MAINNET.configName());
+      serializedState = Bytes.wrap(Files.readAllBytes(Path.of(stateFile)));
+      state = spec.deserializeBeaconState(serializedState);
+    }
+    System.out.printf(
+        "Using %s state at slot %s with %d validators%n",
+        spec.atSlot(state.getSlot()).getMilestone(), state.getSlot(), state.getValidators().size());
+
+    epochProcessor = spec.atSlot(state.getSlot()).getEpochProcessor();
+    blockPreState = spec.processSlots(state, state.getSlot().plus(1));
+    blockProcessor = spec.atSlot(blockPreState.getSlot()).getBlockProcessor();
+    final MainnetStateGenerator generator = new MainnetStateGenerator(spec, SEED);
+    blockAttestations = generator.createBlockAttestations(blockPreState);
+    syncAggregate =
+        spec.atSlot(blockPreState.getSlot())
+            .getSchemaDefinitions()
+            .getBeaconBlockBodySchema()
+            .toVersionAltair()
+            .map(BeaconBlockBodySchemaAltair::getSyncAggregateSchema)
+            .map(generator::createSyncAggregate);
+    state.hashTreeRoot();
+    blockPreState.hashTreeRoot();
+  }
+
+  private void loadOrGenerateState() throws IOException {
+    final Path cacheDir =
+        stateCacheDir.isEmpty()
+            ? Path.of(System.getProperty("java.io.tmpdir"), "teku-benchmark-states")
+            : Path.of(stateCacheDir);
+    final Path cachedState =
+        cacheDir.resolve(milestone.toLowerCase() + "-" + validatorCount + "-" + SEED + ".ssz");
+    if (Files.exists(cachedState)) {
+      System.out.println("Loading state from " + cachedState);
+      serializedState = Bytes.wrap(Files.readAllBytes(cachedState));
+      state = spec.deserializeBeaconState(serializedState);
+      return;
+    }
+    System.out.println("Generating state with " + validatorCount + " validators");
+    state = new MainnetStateGenerator(spec, SEED).generate(validatorCount);
+    serializedState = state.sszSerialize();
+    Files.createDirectories(cacheDir);
+    Files.write(cachedState, serializedState.toArrayUnsafe());
+  }
+
+  /** Provides a state which hasn't had any hashes calculated yet. */
+  @State(Scope.Thread)
+  public static class UnhashedState {
+    BeaconState state;
+
+    @Setup(Level.Invocation)
+    public void setup(final MainnetStateBenchmark benchmark) {
+      state = benchmark.spec.deserializeBeaconState(benchmark.serializedState);
+    }
+  }
+
+  /**
+   * Provides a hashed copy of the state which hasn't been processed before, so epoch processing
+   * can't reuse anything cached in the state's transition caches by a previous invocation.
+   */
+  @State(Scope.Thread)
+  public static class FreshState {
+    BeaconState state;
+
+    @Setup(Level.Invocation)
+    public void setup(final MainnetStateBenchmark benchmark) {
+      state = benchmark.spec.deserializeBeaconState(benchmark.serializedState);
+      state.hashTreeRoot();
+    }
+  }
+
+  /** Provides the result of the epoch transition, with only the unchanged parts hashed. */
+  @State(Scope.Thread)
+  public static class TransitionedState {
+    BeaconState state;
+
+    @Setup(Level.Invocation)
+    public void setup(final MainnetStateBenchmark benchmark) {
+      state = benchmark.processEpoch();
+    }
+  }
+
+  @Benchmark
+  public void epochProcessing(final FreshState freshState, final Blackhole bh)
+      throws EpochProcessingException {
+    bh.consume(epochProcessor.processEpoch(freshState.state));
+  }
+
+  @Benchmark
+  public void blockProcessing(final Blackhole bh) throws BlockProcessingException {
+    final MutableBeaconState mutableState = (MutableBeaconState) blockPreState.createWritableCopy();
+    blockProcessor.processAttestations(mutableState, blockAttestations, BLSSignatureVerifier.NO_OP);
+    if (syncAggregate.isPresent()) {
+      blockProcessor.processSyncAggregate(
+          mutableState, syncAggregate.get(), BLSSignatureVerifier.NO_OP);
+    }
+    bh.consume(mutableState.commitChanges());
+  }
+
+  @Benchmark
+  public void fullStateHashing(final UnhashedState unhashedState, final Blackhole bh) {
+    bh.consume(unhashedState.state.hashTreeRoot());
+  }
+
+  @Benchmark
+  public void stateHashingAfterEpochProcessing(
+      final TransitionedState transitionedState, final Blackhole bh) {
+    bh.consume(transitionedState.state.hashTreeRoot());
+  }
+
+  @Benchmark
+  public void stateSerialization(final Blackhole bh) {
+    bh.consume(state.sszSerialize());
+  }
+
+  @Benchmark
+  public void stateDeserialization(final Blackhole bh) {
+    bh.consume(spec.deserializeBeaconState(serializedState));
+  }
+
+  private BeaconState processEpoch() {
+    try {
+      return epochProcessor.processEpoch(state);
+    } catch (EpochProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
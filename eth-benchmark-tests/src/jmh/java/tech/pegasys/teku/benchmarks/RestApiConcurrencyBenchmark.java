@@ -0,0 +1,139 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.STRING_TYPE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.infrastructure.restapi.RestApi;
+import tech.pegasys.teku.infrastructure.restapi.RestApiBuilder;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
+
+/**
+ * Measures REST API throughput when many concurrent clients make requests which block on I/O,
+ * comparing platform and virtual threads.
+ *
+ * <p>Virtual threads are only used when the JVM running the benchmark supports them, otherwise both
+ * variants use platform threads.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class RestApiConcurrencyBenchmark {
+  private static final String ROUTE = "/blocking";
+
+  @Param({"false", "true"})
+  boolean virtualThreads;
+
+  @Param({"10"})
+  int blockingMillis;
+
+  private RestApi restApi;
+  private ExecutorService clientExecutor;
+  private HttpClient httpClient;
+  private HttpRequest request;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    restApi =
+        new RestApiBuilder()
+            .listenAddress("127.0.0.1")
+            .port(0)
+            .virtualThreadsEnabled(virtualThreads)
+            .endpoint(new BlockingEndpoint(blockingMillis))
+            .build();
+    restApi.start().join();
+    clientExecutor = Executors.newFixedThreadPool(8);
+    httpClient =
+        HttpClient.newBuilder()
+            .executor(clientExecutor)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    request =
+        HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + restApi.getListenPort() + ROUTE))
+            .GET()
+            .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    restApi.stop().join();
+    clientExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  @Threads(256)
+  public int concurrentBlockingRequests() throws IOException, InterruptedException {
+    final HttpResponse<String> response = httpClient.send(request, BodyHandlers.ofString());
+    return response.statusCode();
+  }
+
+  /** Simulates a handler which blocks while waiting for a slow backend, such as a disk read. */
+  private static class BlockingEndpoint extends RestApiEndpoint {
+    private final long blockingMillis;
+
+    BlockingEndpoint(final long blockingMillis) {
+      super(
+          EndpointMetadata.get(ROUTE)
+              .operationId("blocking")
+              .summary("Blocking request")
+              .description("Blocks before responding")
+              .tags(TAG_VALIDATOR)
+              .response(SC_OK, "Request successful", STRING_TYPE)
+              .build());
+      this.blockingMillis = blockingMillis;
+    }
+
+    @Override
+    public void handleRequest(final RestApiRequest request) throws JsonProcessingException {
+      try {
+        Thread.sleep(blockingMillis);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      request.respondOk("ok");
+    }
+  }
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.gen;
+
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszBitlistSchema;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.config.SpecConfig;
+import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.SyncAggregate;
+import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.SyncAggregateSchema;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.PendingAttestation;
+import tech.pegasys.teku.spec.datastructures.state.PendingAttestation.PendingAttestationSchema;
+import tech.pegasys.teku.spec.datastructures.state.SyncCommittee;
+import tech.pegasys.teku.spec.datastructures.state.SyncCommittee.SyncCommitteeSchema;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateSchema;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateSchemaAltair;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.MutableBeaconStateAltair;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.phase0.BeaconStateSchemaPhase0;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.phase0.MutableBeaconStatePhase0;
+import tech.pegasys.teku.spec.datastructures.type.SszPublicKey;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Generates beacon states with a mainnet-like validator set and participation, positioned at the
+ * last slot of an epoch so the epoch transition can be applied directly.
+ *
+ * <p>Most validators are active with a 32 ETH effective balance and participate in the previous and
+ * current epochs. A small share are exited, queued for activation or exit, slashed, or have
+ * balances which trigger effective balance updates, so every step of epoch processing does a
+ * realistic amount of work. Public keys are random bytes rather than real keys, which is fine as
+ * long as signatures are not verified.
+ */
+public class MainnetStateGenerator {
+  private static final UInt64 GWEI_PER_ETH = UInt64.valueOf(1_000_000_000L);
+  private static final UInt64 STATE_EPOCH = UInt64.valueOf(10_000);
+
+  private static final double PARTICIPATION_RATE = 0.97;
+  private static final double PARTIAL_PARTICIPATION_RATE = 0.01;
+  private static final double EXITED_RATE = 0.015;
+  private static final double PENDING_ACTIVATION_RATE = 0.005;
+  private static final double PENDING_EXIT_RATE = 0.0005;
+  private static final double SLASHED_RATE = 0.0002;
+  private static final double LOW_BALANCE_RATE = 0.01;
+
+  private static final byte ALL_PARTICIPATION_FLAGS = 0b111;
+  private static final byte SOURCE_AND_TARGET_FLAGS = 0b011;
+
+  private final Spec spec;
+  private final SpecConfig specConfig;
+  private final SpecMilestone milestone;
+  private final Random random;
+  private final DataStructureUtil dataStructureUtil;
+
+  public MainnetStateGenerator(final Spec spec, final long seed) {
+    this.spec = spec;
+    this.specConfig = spec.getGenesisSpecConfig();
+    this.milestone = spec.getGenesisSpec().getMilestone();
+    this.random = new Random(seed);
+    this.dataStructureUtil = new DataStructureUtil((int) seed, spec);
+  }
+
+  public BeaconState generate(final int validatorCount) {
+    final BeaconStateSchema<?, ?> schema =
+        spec.getGenesisSchemaDefinitions().getBeaconStateSchema();
+    final List<Validator> validators = new ArrayList<>(validatorCount);
+    final List<UInt64> balances = new ArrayList<>(validatorCount);
+    for (int i = 0; i < validatorCount; i++) {
+      final Validator validator = randomValidator();
+      validators.add(validator);
+      balances.add(randomBalance(validator));
+    }
+
+    final UInt64 slot = spec.computeStartSlotAtEpoch(STATE_EPOCH.plus(1)).minus(1);
+    final BeaconState state =
+        dataStructureUtil
+            .stateBuilder(milestone, 0, 10)
+            .slot(slot)
+            .validators(schema.getValidatorsSchema().createFromElements(validators))
+            .balances(schema.getBalancesSchema().of(balances))
+            .slashings(schema.getSlashingsSchema().getDefault())
+            .justificationBits(schema.getJustificationBitsSchema().ofBits(0, 1, 2))
+            .build();
+
+    return state.updated(
+        mutableState -> {
+          setCheckpoints(mutableState);
+          mutableState
+              .toMutableVersionPhase0()
+              .ifPresent(phase0State -> setPendingAttestations(phase0State));
+          mutableState
+              .toMutableVersionAltair()
+              .ifPresent(altairState -> setParticipation(altairState, validatorCount));
+        });
+  }
+
+  /**
+   * Creates the attestations a block at the state's slot would include, one aggregate for each
+   * committee of the previous slot, up to the maximum allowed in a block.
+   */
+  public SszList<Attestation> createBlockAttestations(final BeaconState state) {
+    final AttestationSchema attestationSchema =
+        spec.atSlot(state.getSlot()).getSchemaDefinitions().getAttestationSchema();
+    final UInt64 attestationSlot = state.getSlot().minus(1);
+    final UInt64 epoch = spec.computeEpochAtSlot(attestationSlot);
+    final Checkpoint target = new Checkpoint(epoch, spec.getBlockRoot(state, epoch));
+    final Checkpoint source =
+        epoch.equals(spec.getCurrentEpoch(state))
+            ? state.getCurrentJustifiedCheckpoint()
+            : state.getPreviousJustifiedCheckpoint();
+    final int committeeCount = spec.getCommitteeCountPerSlot(state, epoch).intValue();
+    final List<Attestation> attestations = new ArrayList<>();
+    for (int i = 0;
+        i < committeeCount && attestations.size() < specConfig.getMaxAttestations();
+        i++) {
+      final UInt64 index = UInt64.valueOf(i);
+      final IntList committee = spec.getBeaconCommittee(state, attestationSlot, index);
+      final AttestationData data =
+          new AttestationData(
+              attestationSlot,
+              index,
+              spec.getBlockRootAtSlot(state, attestationSlot),
+              source,
+              target);
+      attestations.add(
+          attestationSchema.create(
+              randomAggregationBits(attestationSchema.getAggregationBitsSchema(), committee.size()),
+              data,
+              BLSSignature.empty()));
+    }
+    return spec.atSlot(state.getSlot())
+        .getSchemaDefinitions()
+        .getBeaconBlockBodySchema()
+        .getAttestationsSchema()
+        .createFromElements(attestations);
+  }
+
+  /** Creates a sync aggregate with mainnet-like participation for states from Altair onwards. */
+  public SyncAggregate createSyncAggregate(final SyncAggregateSchema syncAggregateSchema) {
+    final List<Integer> participants = new ArrayList<>();
+    for (int i = 0; i < syncAggregateSchema.getSyncCommitteeBitsSchema().getLength(); i++) {
+      if (random.nextDouble() < PARTICIPATION_RATE) {
+        participants.add(i);
+      }
+    }
+    return syncAggregateSchema.create(participants, BLSSignature.empty());
+  }
+
+  private Validator randomValidator() {
+    final double type = random.nextDouble();
+    final Bytes48 pubkey = Bytes48.wrap(Bytes.random(Bytes48.SIZE, random));
+    final Bytes32 withdrawalCredentials =
+        Bytes32.wrap(
+            Bytes.concatenate(Bytes.of(random.nextBoolean() ? 0 : 1), Bytes.random(31, random)));
+    final UInt64 maxEffectiveBalance = specConfig.getMaxEffectiveBalance();
+    final UInt64 activationEpoch = UInt64.valueOf(random.nextInt(STATE_EPOCH.intValue() / 2));
+    if (type < EXITED_RATE) {
+      final UInt64 exitEpoch =
+          activationEpoch.plus(random.nextInt(STATE_EPOCH.minus(activationEpoch).intValue()));
+      return new Validator(
+          pubkey,
+          withdrawalCredentials,
+          maxEffectiveBalance,
+          false,
+          UInt64.ZERO,
+          activationEpoch,
+          exitEpoch,
+          exitEpoch.plus(specConfig.getMinValidatorWithdrawabilityDelay()));
+    }
+    if (type < EXITED_RATE + PENDING_ACTIVATION_RATE) {
+      return new Validator(
+          pubkey,
+          withdrawalCredentials,
+          maxEffectiveBalance,
+          false,
+          STATE_EPOCH.minus(random.nextInt(10)),
+          FAR_FUTURE_EPOCH,
+          FAR_FUTURE_EPOCH,
+          FAR_FUTURE_EPOCH);
+    }
+    if (type < EXITED_RATE + PENDING_ACTIVATION_RATE + PENDING_EXIT_RATE) {
+      final UInt64 exitEpoch = STATE_EPOCH.plus(1 + random.nextInt(5));
+      return new Validator(
+          pubkey,
+          withdrawalCredentials,
+          maxEffectiveBalance,
+          false,
+          UInt64.ZERO,
+          activationEpoch,
+          exitEpoch,
+          exitEpoch.plus(specConfig.getMinValidatorWithdrawabilityDelay()));
+    }
+    if (type < EXITED_RATE + PENDING_ACTIVATION_RATE + PENDING_EXIT_RATE + SLASHED_RATE) {
+      // Slashings are processed halfway through the withdrawability delay
+      final UInt64 withdrawableEpoch =
+          STATE_EPOCH.plus(specConfig.getEpochsPerSlashingsVector() / 2);
+      return new Validator(
+          pubkey,
+          withdrawalCredentials,
+          maxEffectiveBalance,
+          true,
+          UInt64.ZERO,
+          activationEpoch,
+          STATE_EPOCH.minus(1),
+          withdrawableEpoch);
+    }
+    return new Validator(
+        pubkey,
+        withdrawalCredentials,
+        maxEffectiveBalance,
+        false,
+        UInt64.ZERO,
+        activationEpoch,
+        FAR_FUTURE_EPOCH,
+        FAR_FUTURE_EPOCH);
+  }
+
+  private UInt64 randomBalance(final Validator validator) {
+    if (validator.getWithdrawableEpoch().isLessThanOrEqualTo(STATE_EPOCH)) {
+      return UInt64.ZERO;
+    }
+    final UInt64 effectiveBalance = validator.getEffectiveBalance();
+    if (random.nextDouble() < LOW_BALANCE_RATE) {
+      // Below the hysteresis threshold so the effective balance is reduced
+      return effectiveBalance.minus(GWEI_PER_ETH.dividedBy(4)).minus(random.nextInt(1_000_000));
+    }
+    return effectiveBalance.plus(random.nextInt(50_000_000));
+  }
+
+  private void setCheckpoints(final MutableBeaconState state) {
+    final Checkpoint previousJustified =
+        new Checkpoint(STATE_EPOCH.minus(2), spec.getBlockRoot(state, STATE_EPOCH.minus(2)));
+    final Checkpoint currentJustified =
+        new Checkpoint(STATE_EPOCH.minus(1), spec.getBlockRoot(state, STATE_EPOCH.minus(1)));
+    state.setPreviousJustifiedCheckpoint(previousJustified);
+    state.setCurrentJustifiedCheckpoint(currentJustified);
+    state.setFinalizedCheckpoint(previousJustified);
+  }
+
+  private void setPendingAttestations(final MutableBeaconStatePhase0 state) {
+    final PendingAttestationSchema pendingAttestationSchema =
+        BeaconStateSchemaPhase0.required(state.getBeaconStateSchema())
+            .getPendingAttestationSchema();
+    state
+        .getPreviousEpochAttestations()
+        .setAll(
+            createPendingAttestations(
+                state,
+                pendingAttestationSchema,
+                STATE_EPOCH.minus(1),
+                state.getPreviousJustifiedCheckpoint()));
+    state
+        .getCurrentEpochAttestations()
+        .setAll(
+            createPendingAttestations(
+                state,
+                pendingAttestationSchema,
+                STATE_EPOCH,
+                state.getCurrentJustifiedCheckpoint()));
+  }
+
+  private List<PendingAttestation> createPendingAttestations(
+      final BeaconState state,
+      final PendingAttestationSchema schema,
+      final UInt64 epoch,
+      final Checkpoint source) {
+    final Checkpoint target = new Checkpoint(epoch, spec.getBlockRoot(state, epoch));
+    final UInt64 committeeCount = spec.getCommitteeCountPerSlot(state, epoch);
+    final List<PendingAttestation> attestations = new ArrayList<>();
+    // Attestations for the state's own slot can't have been included yet
+    UInt64.range(
+            spec.computeStartSlotAtEpoch(epoch),
+            spec.computeStartSlotAtEpoch(epoch.plus(1)).min(state.getSlot()))
+        .forEach(
+            slot ->
+                UInt64.range(UInt64.ZERO, committeeCount)
+                    .forEach(
+                        index -> {
+                          final IntList committee = spec.getBeaconCommittee(state, slot, index);
+                          final AttestationData data =
+                              new AttestationData(
+                                  slot,
+                                  index,
+                                  spec.getBlockRootAtSlot(state, slot),
+                                  source,
+                                  target);
+                          attestations.add(
+                              schema.create(
+                                  randomAggregationBits(
+                                      schema.getAggregationBitfieldSchema(), committee.size()),
+                                  data,
+                                  UInt64.valueOf(1 + random.nextInt(3)),
+                                  UInt64.valueOf(committee.getInt(0))));
+                        }));
+    return attestations;
+  }
+
+  private SszBitlist randomAggregationBits(
+      final SszBitlistSchema<?> schema, final int committeeSize) {
+    return schema.ofBits(
+        committeeSize,
+        IntStream.range(0, committeeSize)
+            .filter(__ -> random.nextDouble() < PARTICIPATION_RATE)
+            .toArray());
+  }
+
+  private void setParticipation(final MutableBeaconStateAltair state, final int validatorCount) {
+    final BeaconStateSchemaAltair schema =
+        BeaconStateSchemaAltair.required(state.getBeaconStateSchema());
+    final List<Byte> previousEpochParticipation = new ArrayList<>(validatorCount);
+    final List<Byte> currentEpochParticipation = new ArrayList<>(validatorCount);
+    final List<UInt64> inactivityScores = new ArrayList<>(validatorCount);
+    for (int i = 0; i < validatorCount; i++) {
+      final byte previousFlags = randomParticipationFlags();
+      previousEpochParticipation.add(previousFlags);
+      currentEpochParticipation.add(randomParticipationFlags());
+      inactivityScores.add(previousFlags == 0 ? UInt64.valueOf(random.nextInt(16)) : UInt64.ZERO);
+    }
+    state.setPreviousEpochParticipation(
+        schema.getPreviousEpochParticipationSchema().of(previousEpochParticipation));
+    state.setCurrentEpochParticipation(
+        schema.getCurrentEpochParticipationSchema().of(currentEpochParticipation));
+    state.setInactivityScores(schema.getInactivityScoresSchema().of(inactivityScores));
+    state.setCurrentSyncCommittee(
+        createSyncCommittee(schema.getCurrentSyncCommitteeSchema(), state));
+    state.setNextSyncCommittee(createSyncCommittee(schema.getNextSyncCommitteeSchema(), state));
+  }
+
+  private byte randomParticipationFlags() {
+    final double participation = random.nextDouble();
+    if (participation < PARTICIPATION_RATE) {
+      return ALL_PARTICIPATION_FLAGS;
+    }
+    return participation < PARTICIPATION_RATE + PARTIAL_PARTICIPATION_RATE
+        ? SOURCE_AND_TARGET_FLAGS
+        : 0;
+  }
+
+  private SyncCommittee createSyncCommittee(
+      final SyncCommitteeSchema schema, final BeaconState state) {
+    final SszList<Validator> validators = state.getValidators();
+    final List<SszPublicKey> pubkeys = new ArrayList<>();
+    while (pubkeys.size() < schema.getPubkeysSchema().getLength()) {
+      final Validator validator = validators.get(random.nextInt(validators.size()));
+      if (validator.getExitEpoch().equals(FAR_FUTURE_EPOCH)
+          && !validator.getActivationEpoch().equals(FAR_FUTURE_EPOCH)) {
+        pubkeys.add(new SszPublicKey(validator.getPubkeyBytes()));
+      }
+    }
+    return schema.create(pubkeys, new SszPublicKey(Bytes48.wrap(Bytes.random(48, random))));
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.ssz;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Compares per-element and bulk access to a list the size of MainNet balances, e.g. reading all
+ * balances and applying rewards and penalties to them during epoch processing.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class UInt64ListBenchmark {
+
+  private static final long MAX_LIST_SIZE = 1L << 40; // Max Validators on Mainnet
+  private static final int LIST_SIZE = 1 << 19; // ~500K, MainNet state balances
+  private static final SszUInt64ListSchema<SszUInt64List> LIST_SCHEMA =
+      SszUInt64ListSchema.create(MAX_LIST_SIZE);
+  private static final SszUInt64List LIST = createList();
+
+  private static SszUInt64List createList() {
+    final SszMutableUInt64List list = LIST_SCHEMA.getDefault().createWritableCopy();
+    for (int i = 0; i < LIST_SIZE; i++) {
+      list.appendElement(UInt64.valueOf(32_000_000_000L + i));
+    }
+    return list.commitChanges();
+  }
+
+  @Benchmark
+  public void readElements(Blackhole bh) {
+    final SszUInt64List list = LIST_SCHEMA.createFromBackingNode(LIST.getBackingNode());
+    final int size = list.size();
+    for (int i = 0; i < size; i++) {
+      bh.consume(list.getElement(i));
+    }
+  }
+
+  @Benchmark
+  public void readLongArray(Blackhole bh) {
+    final SszUInt64List list = LIST_SCHEMA.createFromBackingNode(LIST.getBackingNode());
+    bh.consume(list.toLongArray());
+  }
+
+  @Benchmark
+  public void updateAllElements(Blackhole bh) {
+    final SszMutableUInt64List list = LIST.createWritableCopy();
+    final int size = list.size();
+    for (int i = 0; i < size; i++) {
+      list.setElement(i, list.getElement(i).plus(1));
+    }
+    bh.consume(list.commitChanges().hashTreeRoot());
+  }
+
+  @Benchmark
+  public void updateAllElementsInBulk(Blackhole bh) {
+    final SszMutableUInt64List list = LIST.createWritableCopy();
+    final long[] values = list.toLongArray();
+    for (int i = 0; i < values.length; i++) {
+      values[i]++;
+    }
+    list.setAllElements(values);
+    bh.consume(list.commitChanges().hashTreeRoot());
+  }
+
+  @Benchmark
+  public void updateSparseElements(Blackhole bh) {
+    final SszMutableUInt64List list = LIST.createWritableCopy();
+    final int size = list.size();
+    for (int i = 0; i < size; i += 64) {
+      list.setElement(i, list.getElement(i).plus(1));
+    }
+    bh.consume(list.commitChanges().hashTreeRoot());
+  }
+
+  @Benchmark
+  public void updateSparseElementsInBulk(Blackhole bh) {
+    final SszMutableUInt64List list = LIST.createWritableCopy();
+    final long[] values = list.toLongArray();
+    for (int i = 0; i < values.length; i += 64) {
+      values[i]++;
+    }
+    list.setAllElements(values);
+    bh.consume(list.commitChanges().hashTreeRoot());
+  }
+}
@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.dataproviders.generators;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -21,6 +23,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.IntSupplier;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -56,11 +59,21 @@ public class CachingTaskQueue<K, V> {
       final String metricsPrefix,
       final IntSupplier activeTaskLimit,
       final int maxCacheSize) {
+    this(asyncRunner, metricsSystem, metricsPrefix, activeTaskLimit, maxCacheSize, (k, v) -> {});
+  }
+
+  CachingTaskQueue(
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final String metricsPrefix,
+      final IntSupplier activeTaskLimit,
+      final int maxCacheSize,
+      final BiConsumer<K, V> evictionListener) {
     this.asyncRunner = asyncRunner;
     this.metricsSystem = metricsSystem;
     this.metricsPrefix = metricsPrefix;
     this.activeTaskLimit = activeTaskLimit;
-    this.cache = LimitedMap.createSoft(maxCacheSize);
+    this.cache = LimitedMap.createSoft(maxCacheSize, evictionListener);
 
     final LabelledMetric<Counter> labelledCounter =
         metricsSystem.createLabelledCounter(
@@ -87,6 +100,25 @@ public class CachingTaskQueue<K, V> {
         maxCacheSize);
   }
 
+  /**
+   * Create a task queue which notifies the supplied listener when a cached value is evicted because
+   * the cache is full, allowing it to be retained in a secondary cache.
+   */
+  public static <K, V> CachingTaskQueue<K, V> create(
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final String metricsPrefix,
+      final int maxCacheSize,
+      final BiConsumer<K, V> evictionListener) {
+    return new CachingTaskQueue<>(
+        asyncRunner,
+        metricsSystem,
+        metricsPrefix,
+        () -> Math.max(2, Runtime.getRuntime().availableProcessors()),
+        maxCacheSize,
+        evictionListener);
+  }
+
   public void startMetrics() {
     final LabelledGauge taskQueueMetrics =
         metricsSystem.createLabelledGauge(
@@ -151,6 +183,10 @@ public class CachingTaskQueue<K, V> {
     return Optional.ofNullable(cache.get(key));
   }
 
+  public Collection<V> getCachedValues() {
+    return List.copyOf(cache.values());
+  }
+
   private void queueTask(final CacheableTask<K, V> task) {
     queuedTasks.add(task);
     tryProcessNext();
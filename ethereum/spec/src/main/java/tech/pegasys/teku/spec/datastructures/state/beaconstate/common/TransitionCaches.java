@@ -27,6 +27,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ProgressiveTotalBalancesUpdates;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatusSnapshot;
 
 /** The container class for all transition caches. */
 public class TransitionCaches {
@@ -53,7 +54,13 @@ public class TransitionCaches {
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
-          ProgressiveTotalBalancesUpdates.NOOP) {
+          ProgressiveTotalBalancesUpdates.NOOP,
+          Optional.empty()) {
+
+        @Override
+        public void setValidatorStatusSnapshot(final ValidatorStatusSnapshot snapshot) {
+          // Shared by all states so mustn't retain anything
+        }
 
         @Override
         public TransitionCaches copy() {
@@ -86,6 +93,7 @@ public class TransitionCaches {
 
   private volatile Optional<TotalBalances> latestTotalBalances = Optional.empty();
   private volatile ProgressiveTotalBalancesUpdates progressiveTotalBalances;
+  private volatile Optional<ValidatorStatusSnapshot> validatorStatusSnapshot = Optional.empty();
 
   private TransitionCaches() {
     activeValidators = LRUCache.create(MAX_ACTIVE_VALIDATORS_CACHE);
@@ -114,7 +122,8 @@ public class TransitionCaches {
       Cache<UInt64, List<UInt64>> effectiveBalances,
       Cache<UInt64, Map<UInt64, SyncSubcommitteeAssignments>> syncCommitteeCache,
       Cache<UInt64, UInt64> baseRewardPerIncrement,
-      ProgressiveTotalBalancesUpdates progressiveTotalBalances) {
+      ProgressiveTotalBalancesUpdates progressiveTotalBalances,
+      Optional<ValidatorStatusSnapshot> validatorStatusSnapshot) {
     this.activeValidators = activeValidators;
     this.beaconProposerIndex = beaconProposerIndex;
     this.beaconCommittee = beaconCommittee;
@@ -127,6 +136,7 @@ public class TransitionCaches {
     this.syncCommitteeCache = syncCommitteeCache;
     this.baseRewardPerIncrement = baseRewardPerIncrement;
     this.progressiveTotalBalances = progressiveTotalBalances;
+    this.validatorStatusSnapshot = validatorStatusSnapshot;
   }
 
   public void setLatestTotalBalances(TotalBalances totalBalances) {
@@ -146,6 +156,20 @@ public class TransitionCaches {
     this.progressiveTotalBalances = progressiveTotalBalances;
   }
 
+  /**
+   * The snapshot of validator fields taken at the end of the most recent epoch transition, used to
+   * create validator statuses. Snapshots are immutable so copies of these caches share it until the
+   * next epoch transition replaces it. Each snapshot costs about 33 bytes per validator, so at most
+   * one is held per epoch boundary state and its descendants.
+   */
+  public Optional<ValidatorStatusSnapshot> getValidatorStatusSnapshot() {
+    return validatorStatusSnapshot;
+  }
+
+  public void setValidatorStatusSnapshot(final ValidatorStatusSnapshot snapshot) {
+    this.validatorStatusSnapshot = Optional.of(snapshot);
+  }
+
   /** (epoch) -> (active validators) cache */
   public Cache<UInt64, IntList> getActiveValidators() {
     return activeValidators;
@@ -228,6 +252,7 @@ public class TransitionCaches {
         effectiveBalances.copy(),
         syncCommitteeCache.copy(),
         baseRewardPerIncrement.copy(),
-        progressiveTotalBalances.copy());
+        progressiveTotalBalances.copy(),
+        validatorStatusSnapshot);
   }
 }
@@ -21,7 +21,6 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
-import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
@@ -48,6 +47,9 @@ import tech.pegasys.teku.spec.logic.common.util.ValidatorsUtil;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
 
 public abstract class AbstractEpochProcessor implements EpochProcessor {
+  // Effective balances are capped well below the maximum UInt64 so it can never be a new value
+  private static final long NO_EFFECTIVE_BALANCE_CHANGE = UInt64.MAX_VALUE.longValue();
+
   protected final SpecConfig specConfig;
   protected final MiscHelpers miscHelpers;
   protected final ValidatorsUtil validatorsUtil;
@@ -84,7 +86,10 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
    */
   @Override
   public BeaconState processEpoch(final BeaconState preState) throws EpochProcessingException {
-    return preState.updated(mutableState -> processEpoch(preState, mutableState));
+    final BeaconState postState =
+        preState.updated(mutableState -> processEpoch(preState, mutableState));
+    validatorStatusFactory.updateValidatorStatusSnapshot(postState);
+    return postState;
   }
 
   protected void processEpoch(final BeaconState preState, final MutableBeaconState state)
@@ -287,13 +292,21 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
   protected void applyDeltas(
       final MutableBeaconState state, final RewardAndPenaltyDeltas attestationDeltas) {
     final SszMutableUInt64List balances = state.getBalances();
-    // To optimize performance, calculate validator size once outside of the loop
-    int validatorsCount = state.getValidators().size();
-    for (int i = 0; i < validatorsCount; i++) {
-      final RewardAndPenalty delta = attestationDeltas.getDelta(i);
-      balances.setElement(
-          i, balances.getElement(i).plus(delta.getReward()).minusMinZero(delta.getPenalty()));
-    }
+    final long[] originalBalances = balances.toLongArray();
+    final long[] newBalances = new long[originalBalances.length];
+    ValidatorIndexRanges.forEachRange(
+        newBalances.length,
+        (fromIndex, toIndex) -> {
+          for (int i = fromIndex; i < toIndex; i++) {
+            final RewardAndPenalty delta = attestationDeltas.getDelta(i);
+            newBalances[i] =
+                UInt64.fromLongBits(originalBalances[i])
+                    .plus(delta.getReward())
+                    .minusMinZero(delta.getPenalty())
+                    .longValue();
+          }
+        });
+    balances.setAllElements(newBalances);
   }
 
   /** Processes validator registry updates */
@@ -426,28 +439,44 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
   public void processEffectiveBalanceUpdates(
       final MutableBeaconState state, final List<ValidatorStatus> statuses) {
     // Update effective balances with hysteresis
-    SszMutableList<Validator> validators = state.getValidators();
-    SszUInt64List balances = state.getBalances();
-    for (int index = 0; index < validators.size(); index++) {
-      ValidatorStatus status = statuses.get(index);
-      UInt64 balance = balances.getElement(index);
-
-      final UInt64 hysteresisIncrement =
-          specConfig.getEffectiveBalanceIncrement().dividedBy(specConfig.getHysteresisQuotient());
-      final UInt64 currentEffectiveBalance = status.getCurrentEpochEffectiveBalance();
-      if (shouldDecreaseEffectiveBalance(balance, hysteresisIncrement, currentEffectiveBalance)
-          || shouldIncreaseEffectiveBalance(
-              balance, hysteresisIncrement, currentEffectiveBalance)) {
-        Validator validator = validators.get(index);
-        final UInt64 newEffectiveBalance =
-            balance
-                .minus(balance.mod(specConfig.getEffectiveBalanceIncrement()))
-                .min(specConfig.getMaxEffectiveBalance());
-        BeaconStateCache.getTransitionCaches(state)
-            .getProgressiveTotalBalances()
-            .onEffectiveBalanceChange(status, newEffectiveBalance);
-        validators.set(index, validator.withEffectiveBalance(newEffectiveBalance));
+    final SszMutableList<Validator> validators = state.getValidators();
+    final long[] balances = state.getBalances().toLongArray();
+    final long[] newEffectiveBalances = new long[validators.size()];
+    final UInt64 hysteresisIncrement =
+        specConfig.getEffectiveBalanceIncrement().dividedBy(specConfig.getHysteresisQuotient());
+    // Find the validators which need updating in parallel but apply the updates sequentially as
+    // neither the state nor the progressive balances are thread safe
+    ValidatorIndexRanges.forEachRange(
+        newEffectiveBalances.length,
+        (fromIndex, toIndex) -> {
+          for (int index = fromIndex; index < toIndex; index++) {
+            final UInt64 balance = UInt64.fromLongBits(balances[index]);
+            final UInt64 currentEffectiveBalance =
+                statuses.get(index).getCurrentEpochEffectiveBalance();
+            if (shouldDecreaseEffectiveBalance(
+                    balance, hysteresisIncrement, currentEffectiveBalance)
+                || shouldIncreaseEffectiveBalance(
+                    balance, hysteresisIncrement, currentEffectiveBalance)) {
+              newEffectiveBalances[index] =
+                  balance
+                      .minus(balance.mod(specConfig.getEffectiveBalanceIncrement()))
+                      .min(specConfig.getMaxEffectiveBalance())
+                      .longValue();
+            } else {
+              newEffectiveBalances[index] = NO_EFFECTIVE_BALANCE_CHANGE;
+            }
+          }
+        });
+
+    final ProgressiveTotalBalancesUpdates progressiveTotalBalances =
+        BeaconStateCache.getTransitionCaches(state).getProgressiveTotalBalances();
+    for (int index = 0; index < newEffectiveBalances.length; index++) {
+      if (newEffectiveBalances[index] == NO_EFFECTIVE_BALANCE_CHANGE) {
+        continue;
       }
+      final UInt64 newEffectiveBalance = UInt64.fromLongBits(newEffectiveBalances[index]);
+      progressiveTotalBalances.onEffectiveBalanceChange(statuses.get(index), newEffectiveBalance);
+      validators.set(index, validators.get(index).withEffectiveBalance(newEffectiveBalance));
     }
   }
 
@@ -0,0 +1,69 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import java.util.stream.IntStream;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
+
+/**
+ * Splits per-validator epoch processing into contiguous validator index ranges which are processed
+ * in parallel.
+ *
+ * <p>Each range is processed by a single thread so work which only writes to accumulators for the
+ * indices in its own range needs no synchronization. States aren't thread safe, so values must be
+ * read from the state before processing the ranges and written back afterwards, e.g. with {@link
+ * SszUInt64List#toLongArray()} and {@link SszMutableUInt64List#setAllElements(long[])}.
+ */
+public class ValidatorIndexRanges {
+  static final int MIN_RANGE_SIZE = 4096;
+  private static final int RANGES_PER_THREAD = 4;
+
+  private ValidatorIndexRanges() {}
+
+  /**
+   * Calls the processor once for each range of indices, together covering all indices from 0 to
+   * validatorCount exactly once.
+   */
+  public static void forEachRange(final int validatorCount, final RangeProcessor processor) {
+    if (validatorCount <= MIN_RANGE_SIZE) {
+      processor.process(0, validatorCount);
+      return;
+    }
+    final int maxRanges = Runtime.getRuntime().availableProcessors() * RANGES_PER_THREAD;
+    final int rangeCount =
+        Math.min(maxRanges, (validatorCount + MIN_RANGE_SIZE - 1) / MIN_RANGE_SIZE);
+    final int rangeSize = (validatorCount + rangeCount - 1) / rangeCount;
+    IntStream.range(0, rangeCount)
+        .parallel()
+        .forEach(
+            range -> {
+              final int fromIndex = range * rangeSize;
+              final int toIndex = Math.min(validatorCount, fromIndex + rangeSize);
+              if (fromIndex < toIndex) {
+                processor.process(fromIndex, toIndex);
+              }
+            });
+  }
+
+  public interface RangeProcessor {
+    /**
+     * Processes validators from fromIndex (inclusive) to toIndex (exclusive).
+     *
+     * @param fromIndex the first validator index to process
+     * @param toIndex the index after the last validator to process
+     */
+    void process(int fromIndex, int toIndex);
+  }
+}
@@ -15,12 +15,14 @@ package tech.pegasys.teku.spec.logic.common.statetransition.epoch.status;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
 import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
@@ -54,28 +56,53 @@ public abstract class AbstractValidatorStatusFactory implements ValidatorStatusF
 
   @Override
   public ValidatorStatuses createValidatorStatuses(final BeaconState state) {
-    final SszList<Validator> validators = state.getValidators();
-
     final UInt64 currentEpoch = beaconStateAccessors.getCurrentEpoch(state);
     final UInt64 previousEpoch = beaconStateAccessors.getPreviousEpoch(state);
 
     final List<ValidatorStatus> statuses =
-        createInitialValidatorStatuses(validators, currentEpoch, previousEpoch);
+        createInitialValidatorStatuses(
+            getValidatorStatusSnapshot(state), currentEpoch, previousEpoch);
 
     processParticipation(statuses, state, previousEpoch, currentEpoch);
 
     return new ValidatorStatuses(statuses, createTotalBalances(statuses));
   }
 
+  @Override
+  public void updateValidatorStatusSnapshot(final BeaconState state) {
+    BeaconStateCache.getTransitionCaches(state)
+        .setValidatorStatusSnapshot(getValidatorStatusSnapshot(state));
+  }
+
+  private ValidatorStatusSnapshot getValidatorStatusSnapshot(final BeaconState state) {
+    final SszList<Validator> validators = state.getValidators();
+    return BeaconStateCache.getTransitionCaches(state)
+        .getValidatorStatusSnapshot()
+        .map(previousSnapshot -> previousSnapshot.update(validators))
+        .orElseGet(() -> ValidatorStatusSnapshot.create(validators));
+  }
+
   private List<ValidatorStatus> createInitialValidatorStatuses(
-      final SszList<Validator> validators, final UInt64 currentEpoch, final UInt64 previousEpoch) {
-    // Note: parallel() here is being used with great care. The iteration of the list is done by a
-    // single thread and then the conversion of individual Validator to ValidatorStatus is done by
-    // worker pools. Thus, each Validator instance is still only accessed by a single thread at a
-    // time. By the time we get the list back we're back to single threaded mode.
-    return validators.stream()
+      final ValidatorStatusSnapshot snapshot,
+      final UInt64 currentEpoch,
+      final UInt64 previousEpoch) {
+    final UInt64 nextEpoch = currentEpoch.plus(1);
+    return IntStream.range(0, snapshot.getValidatorCount())
         .parallel()
-        .map(validator -> createValidatorStatus(validator, previousEpoch, currentEpoch))
+        .mapToObj(
+            index -> {
+              final UInt64 activationEpoch = snapshot.getActivationEpoch(index);
+              final UInt64 exitEpoch = snapshot.getExitEpoch(index);
+              final UInt64 withdrawableEpoch = snapshot.getWithdrawableEpoch(index);
+              return new ValidatorStatus(
+                  snapshot.isSlashed(index),
+                  withdrawableEpoch.isLessThanOrEqualTo(currentEpoch),
+                  snapshot.getEffectiveBalance(index),
+                  withdrawableEpoch,
+                  predicates.isActiveValidator(activationEpoch, exitEpoch, currentEpoch),
+                  predicates.isActiveValidator(activationEpoch, exitEpoch, previousEpoch),
+                  predicates.isActiveValidator(activationEpoch, exitEpoch, nextEpoch));
+            })
         .collect(Collectors.toList());
   }
 
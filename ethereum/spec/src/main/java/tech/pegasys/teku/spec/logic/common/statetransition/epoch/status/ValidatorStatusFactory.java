@@ -20,6 +20,13 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 public interface ValidatorStatusFactory {
   ValidatorStatuses createValidatorStatuses(BeaconState state);
 
+  /**
+   * Stores a snapshot of the state's validators in its transition caches so the next epoch
+   * transition only has to read the validators which change before then. Only epoch processing
+   * calls this so that states loaded to answer queries don't retain a snapshot.
+   */
+  void updateValidatorStatusSnapshot(BeaconState state);
+
   ValidatorStatus createValidatorStatus(
       final Validator validator, final UInt64 previousEpoch, final UInt64 currentEpoch);
 }
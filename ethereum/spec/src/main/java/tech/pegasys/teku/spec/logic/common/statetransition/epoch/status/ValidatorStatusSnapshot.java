@@ -0,0 +1,154 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch.status;
+
+import java.util.Arrays;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+
+/**
+ * The fields of each validator that epoch processing needs, held in flat arrays indexed by
+ * validator index.
+ *
+ * <p>Reading these fields from the validators list means walking the tree for every validator. Very
+ * few validators change between epochs so rather than reading them all again, {@link
+ * #update(SszList)} compares the new validators tree against the one this snapshot was created from
+ * and only reads the validators which aren't the same tree node.
+ *
+ * <p>Instances are immutable and so may be shared between states and threads. A snapshot keeps a
+ * reference to the validators tree it was read from. Epoch processing stores the snapshot of its
+ * post-state, so that tree is the state's own and the snapshot only keeps alive the nodes later
+ * blocks replace. The previous snapshot, and with it the previous tree, is released once the next
+ * epoch transition stores its replacement.
+ */
+public class ValidatorStatusSnapshot {
+  private final TreeNode validatorsData;
+  private final int treeDepth;
+  private final int validatorCount;
+  private final boolean[] slashed;
+  private final long[] effectiveBalances;
+  private final long[] activationEpochs;
+  private final long[] exitEpochs;
+  private final long[] withdrawableEpochs;
+
+  private ValidatorStatusSnapshot(
+      final TreeNode validatorsData,
+      final int treeDepth,
+      final int validatorCount,
+      final boolean[] slashed,
+      final long[] effectiveBalances,
+      final long[] activationEpochs,
+      final long[] exitEpochs,
+      final long[] withdrawableEpochs) {
+    this.validatorsData = validatorsData;
+    this.treeDepth = treeDepth;
+    this.validatorCount = validatorCount;
+    this.slashed = slashed;
+    this.effectiveBalances = effectiveBalances;
+    this.activationEpochs = activationEpochs;
+    this.exitEpochs = exitEpochs;
+    this.withdrawableEpochs = withdrawableEpochs;
+  }
+
+  public static ValidatorStatusSnapshot create(final SszList<Validator> validators) {
+    final int validatorCount = validators.size();
+    final ValidatorStatusSnapshot snapshot =
+        new ValidatorStatusSnapshot(
+            getValidatorsData(validators),
+            validators.getSchema().treeDepth(),
+            validatorCount,
+            new boolean[validatorCount],
+            new long[validatorCount],
+            new long[validatorCount],
+            new long[validatorCount],
+            new long[validatorCount]);
+    for (int i = 0; i < validatorCount; i++) {
+      snapshot.read(validators, i);
+    }
+    return snapshot;
+  }
+
+  /**
+   * Returns a snapshot of the specified validators, reusing the values from this snapshot for any
+   * validator which hasn't changed.
+   */
+  public ValidatorStatusSnapshot update(final SszList<Validator> validators) {
+    final TreeNode newValidatorsData = getValidatorsData(validators);
+    final int newValidatorCount = validators.size();
+    if (newValidatorsData == validatorsData && newValidatorCount == validatorCount) {
+      return this;
+    }
+    if (validators.getSchema().treeDepth() != treeDepth) {
+      return create(validators);
+    }
+    final ValidatorStatusSnapshot snapshot =
+        new ValidatorStatusSnapshot(
+            newValidatorsData,
+            treeDepth,
+            newValidatorCount,
+            Arrays.copyOf(slashed, newValidatorCount),
+            Arrays.copyOf(effectiveBalances, newValidatorCount),
+            Arrays.copyOf(activationEpochs, newValidatorCount),
+            Arrays.copyOf(exitEpochs, newValidatorCount),
+            Arrays.copyOf(withdrawableEpochs, newValidatorCount));
+    TreeUtil.findChangedNodes(
+        validatorsData,
+        newValidatorsData,
+        treeDepth,
+        newValidatorCount,
+        index -> snapshot.read(validators, index));
+    return snapshot;
+  }
+
+  private static TreeNode getValidatorsData(final SszList<Validator> validators) {
+    return validators.getBackingNode().get(GIndexUtil.LEFT_CHILD_G_INDEX);
+  }
+
+  private void read(final SszList<Validator> validators, final int index) {
+    final Validator validator = validators.get(index);
+    slashed[index] = validator.isSlashed();
+    effectiveBalances[index] = validator.getEffectiveBalance().longValue();
+    activationEpochs[index] = validator.getActivationEpoch().longValue();
+    exitEpochs[index] = validator.getExitEpoch().longValue();
+    withdrawableEpochs[index] = validator.getWithdrawableEpoch().longValue();
+  }
+
+  public int getValidatorCount() {
+    return validatorCount;
+  }
+
+  public boolean isSlashed(final int index) {
+    return slashed[index];
+  }
+
+  public UInt64 getEffectiveBalance(final int index) {
+    return UInt64.fromLongBits(effectiveBalances[index]);
+  }
+
+  public UInt64 getActivationEpoch(final int index) {
+    return UInt64.fromLongBits(activationEpochs[index]);
+  }
+
+  public UInt64 getExitEpoch(final int index) {
+    return UInt64.fromLongBits(exitEpochs[index]);
+  }
+
+  public UInt64 getWithdrawableEpoch(final int index) {
+    return UInt64.fromLongBits(withdrawableEpochs[index]);
+  }
+}
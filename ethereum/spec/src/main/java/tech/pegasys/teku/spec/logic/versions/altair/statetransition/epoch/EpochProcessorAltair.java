@@ -31,6 +31,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.M
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateMutators;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.AbstractEpochProcessor;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorIndexRanges;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ProgressiveTotalBalancesAltair;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatus;
@@ -151,30 +152,35 @@ public class EpochProcessorAltair extends AbstractEpochProcessor {
     }
     final MutableBeaconStateAltair state = MutableBeaconStateAltair.required(baseState);
     final SszMutableUInt64List inactivityScores = state.getInactivityScores();
+    final long[] originalScores = inactivityScores.toLongArray();
+    final long[] newScores = originalScores.clone();
     final List<ValidatorStatus> statuses = validatorStatuses.getStatuses();
     final boolean isInInactivityLeak = beaconStateAccessors.isInactivityLeak(state);
-    for (int i = 0; i < statuses.size(); i++) {
-      final ValidatorStatus validatorStatus = statuses.get(i);
-      if (!validatorStatus.isEligibleValidator()) {
-        continue;
-      }
-
-      // Increase inactivity score of inactive validators
-      final UInt64 currentScore = inactivityScores.getElement(i);
-      UInt64 newScore;
-      if (validatorStatus.isNotSlashed() && validatorStatus.isPreviousEpochTargetAttester()) {
-        newScore = currentScore.minusMinZero(1);
-      } else {
-        newScore = currentScore.plus(specConfigAltair.getInactivityScoreBias());
-      }
-      // Decrease the score of all validators for forgiveness when not during a leak
-      if (!isInInactivityLeak) {
-        newScore = newScore.minusMinZero(specConfigAltair.getInactivityScoreRecoveryRate());
-      }
-      if (!currentScore.equals(newScore)) {
-        inactivityScores.setElement(i, newScore);
-      }
-    }
+    ValidatorIndexRanges.forEachRange(
+        statuses.size(),
+        (fromIndex, toIndex) -> {
+          for (int i = fromIndex; i < toIndex; i++) {
+            final ValidatorStatus validatorStatus = statuses.get(i);
+            if (!validatorStatus.isEligibleValidator()) {
+              continue;
+            }
+
+            // Increase inactivity score of inactive validators
+            final UInt64 currentScore = UInt64.fromLongBits(originalScores[i]);
+            UInt64 newScore;
+            if (validatorStatus.isNotSlashed() && validatorStatus.isPreviousEpochTargetAttester()) {
+              newScore = currentScore.minusMinZero(1);
+            } else {
+              newScore = currentScore.plus(specConfigAltair.getInactivityScoreBias());
+            }
+            // Decrease the score of all validators for forgiveness when not during a leak
+            if (!isInInactivityLeak) {
+              newScore = newScore.minusMinZero(specConfigAltair.getInactivityScoreRecoveryRate());
+            }
+            newScores[i] = newScore.longValue();
+          }
+        });
+    inactivityScores.setAllElements(newScores);
   }
 
   @Override
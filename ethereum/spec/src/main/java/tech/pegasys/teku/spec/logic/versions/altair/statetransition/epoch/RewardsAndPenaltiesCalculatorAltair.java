@@ -26,6 +26,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.B
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas.RewardAndPenalty;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardsAndPenaltiesCalculator;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorIndexRanges;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatus;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
@@ -56,11 +57,19 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
   public RewardAndPenaltyDeltas getDeltas() throws IllegalArgumentException {
     final RewardAndPenaltyDeltas deltas =
         new RewardAndPenaltyDeltas(validatorStatuses.getValidatorCount());
-
-    for (int flagIndex = 0; flagIndex < PARTICIPATION_FLAG_WEIGHTS.size(); flagIndex++) {
-      processFlagIndexDeltas(deltas, flagIndex);
-    }
-    processInactivityPenaltyDeltas(deltas);
+    final UInt64 baseRewardPerIncrement =
+        beaconStateAccessorsAltair.getBaseRewardPerIncrement(stateAltair);
+    final long[] inactivityScores = stateAltair.getInactivityScores().toLongArray();
+
+    // Each validator's deltas only depend on its own status so ranges can be processed in parallel
+    ValidatorIndexRanges.forEachRange(
+        validatorStatuses.getValidatorCount(),
+        (fromIndex, toIndex) -> {
+          for (int flagIndex = 0; flagIndex < PARTICIPATION_FLAG_WEIGHTS.size(); flagIndex++) {
+            processFlagIndexDeltas(deltas, flagIndex, baseRewardPerIncrement, fromIndex, toIndex);
+          }
+          processInactivityPenaltyDeltas(deltas, inactivityScores, fromIndex, toIndex);
+        });
 
     return deltas;
   }
@@ -75,6 +84,22 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
    * @param flagIndex The flag index to process
    */
   public void processFlagIndexDeltas(final RewardAndPenaltyDeltas deltas, final int flagIndex) {
+    // Cache baseRewardPerIncrement - while it is also cached in transition caches,
+    // looking it up from there for every single validator is quite expensive.
+    processFlagIndexDeltas(
+        deltas,
+        flagIndex,
+        beaconStateAccessorsAltair.getBaseRewardPerIncrement(stateAltair),
+        0,
+        validatorStatuses.getValidatorCount());
+  }
+
+  private void processFlagIndexDeltas(
+      final RewardAndPenaltyDeltas deltas,
+      final int flagIndex,
+      final UInt64 baseRewardPerIncrement,
+      final int fromIndex,
+      final int toIndex) {
     final List<ValidatorStatus> statusList = validatorStatuses.getStatuses();
     final TotalBalances totalBalances = validatorStatuses.getTotalBalances();
 
@@ -85,11 +110,7 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
     final UInt64 activeIncrements =
         totalBalances.getCurrentEpochActiveValidators().dividedBy(effectiveBalanceIncrement);
 
-    // Cache baseRewardPerIncrement - while it is also cached in transition caches,
-    // looking it up from there for every single validator is quite expensive.
-    final UInt64 baseRewardPerIncrement =
-        beaconStateAccessorsAltair.getBaseRewardPerIncrement(stateAltair);
-    for (int i = 0; i < statusList.size(); i++) {
+    for (int i = fromIndex; i < toIndex; i++) {
       final ValidatorStatus validator = statusList.get(i);
       if (!validator.isEligibleValidator()) {
         continue;
@@ -138,8 +159,20 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
    * @param deltas The deltas accumulator (holding deltas for all validators) to be updated
    */
   public void processInactivityPenaltyDeltas(final RewardAndPenaltyDeltas deltas) {
+    processInactivityPenaltyDeltas(
+        deltas,
+        stateAltair.getInactivityScores().toLongArray(),
+        0,
+        validatorStatuses.getValidatorCount());
+  }
+
+  private void processInactivityPenaltyDeltas(
+      final RewardAndPenaltyDeltas deltas,
+      final long[] inactivityScores,
+      final int fromIndex,
+      final int toIndex) {
     final List<ValidatorStatus> statusList = validatorStatuses.getStatuses();
-    for (int i = 0; i < statusList.size(); i++) {
+    for (int i = fromIndex; i < toIndex; i++) {
       final ValidatorStatus validator = statusList.get(i);
       if (!validator.isEligibleValidator()) {
         continue;
@@ -151,7 +184,7 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
       final UInt64 penaltyNumerator =
           validator
               .getCurrentEpochEffectiveBalance()
-              .times(stateAltair.getInactivityScores().get(i).get());
+              .times(UInt64.fromLongBits(inactivityScores[i]));
       final UInt64 penaltyDenominator =
           specConfigAltair.getInactivityScoreBias().times(getInactivityPenaltyQuotient());
       final UInt64 penalty = penaltyNumerator.dividedBy(penaltyDenominator);
@@ -13,9 +13,12 @@
 
 package tech.pegasys.teku.spec.schemas;
 
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.spec.datastructures.builder.SignedValidatorRegistrationSchema;
 import tech.pegasys.teku.spec.datastructures.builder.SignedValidatorRegistrationsSchema;
 import tech.pegasys.teku.spec.datastructures.builder.ValidatorRegistrationSchema;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
 
 public class ApiSchemas {
 
@@ -30,4 +33,12 @@ public class ApiSchemas {
   public static final SignedValidatorRegistrationsSchema SIGNED_VALIDATOR_REGISTRATIONS_SCHEMA =
       new SignedValidatorRegistrationsSchema(
           SIGNED_VALIDATOR_REGISTRATION_SCHEMA, MAX_VALIDATOR_REGISTRATIONS_SIZE);
+
+  // each validator submits at most one attestation so the max size is also VALIDATOR_REGISTRY_LIMIT
+  public static final long MAX_ATTESTATIONS_SIZE = MAX_VALIDATOR_REGISTRATIONS_SIZE;
+
+  public static SszListSchema<Attestation, ?> createAttestationsSchema(
+      final AttestationSchema attestationSchema) {
+    return SszListSchema.create(attestationSchema, MAX_ATTESTATIONS_SIZE);
+  }
 }
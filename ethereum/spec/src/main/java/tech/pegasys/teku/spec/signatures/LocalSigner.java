@@ -43,10 +43,18 @@ public class LocalSigner implements Signer {
   private final SigningRootUtil signingRootUtil;
 
   public LocalSigner(final Spec spec, final BLSKeyPair keypair, final AsyncRunner asyncRunner) {
+    this(spec, keypair, asyncRunner, new SigningRootUtil(spec));
+  }
+
+  public LocalSigner(
+      final Spec spec,
+      final BLSKeyPair keypair,
+      final AsyncRunner asyncRunner,
+      final SigningRootUtil signingRootUtil) {
     this.spec = spec;
     this.keypair = keypair;
     this.asyncRunner = asyncRunner;
-    this.signingRootUtil = new SigningRootUtil(spec);
+    this.signingRootUtil = signingRootUtil;
   }
 
   @Override
@@ -90,11 +98,9 @@ public class LocalSigner implements Signer {
   @Override
   public SafeFuture<BLSSignature> signSyncCommitteeMessage(
       final UInt64 slot, final Bytes32 beaconBlockRoot, final ForkInfo forkInfo) {
-    return signingRootFromSyncCommitteeUtils(
-            slot,
-            utils ->
-                utils.getSyncCommitteeMessageSigningRoot(
-                    beaconBlockRoot, spec.computeEpochAtSlot(slot), forkInfo))
+    return SafeFuture.of(
+            () ->
+                signingRootUtil.signingRootForSyncCommitteeMessage(slot, beaconBlockRoot, forkInfo))
         .thenCompose(this::sign);
   }
 
@@ -0,0 +1,219 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.spec.signatures;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.constants.Domain;
+import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
+
+/**
+ * Caches the domains and signing roots used by validator duties in recent slots.
+ *
+ * <p>All validators in a committee sign the same attestation data and all sync committee members
+ * sign the same block root, so the signing root only needs to be computed once per slot rather than
+ * once per validator. Signing roots are keyed by domain and object root. Slot-scoped roots are
+ * discarded once they are more than {@link #RETAINED_SLOTS} slots old, while epoch-scoped roots
+ * such as the randao reveal are kept for {@link #RETAINED_EPOCHS} epochs.
+ */
+public class SigningRootCache {
+  static final int RETAINED_SLOTS = 2;
+  static final int RETAINED_EPOCHS = 2;
+
+  private static final List<Bytes4> DUTY_DOMAIN_TYPES =
+      List.of(
+          Domain.BEACON_PROPOSER,
+          Domain.BEACON_ATTESTER,
+          Domain.RANDAO,
+          Domain.SELECTION_PROOF,
+          Domain.AGGREGATE_AND_PROOF,
+          Domain.SYNC_COMMITTEE,
+          Domain.SYNC_COMMITTEE_SELECTION_PROOF,
+          Domain.CONTRIBUTION_AND_PROOF);
+
+  private final Spec spec;
+  private final Map<DomainKey, CachedValue> domains = new ConcurrentHashMap<>();
+  private final Map<SigningRootKey, CachedValue> signingRoots = new ConcurrentHashMap<>();
+  private final Map<SigningRootKey, CachedValue> epochSigningRoots = new ConcurrentHashMap<>();
+  private volatile UInt64 latestEpoch = UInt64.ZERO;
+  private volatile UInt64 latestSlot = UInt64.ZERO;
+
+  public SigningRootCache(final Spec spec) {
+    this.spec = spec;
+  }
+
+  /**
+   * Computes the domains used by validator duties in the given epoch so they are available before
+   * the duties are due.
+   */
+  public void precomputeDomains(final UInt64 epoch, final ForkInfo forkInfo) {
+    DUTY_DOMAIN_TYPES.forEach(domainType -> getDomain(domainType, epoch, forkInfo));
+  }
+
+  public Bytes32 getDomain(final Bytes4 domainType, final UInt64 epoch, final ForkInfo forkInfo) {
+    onEpoch(epoch);
+    return domains.computeIfAbsent(
+            new DomainKey(domainType, epoch, forkInfo),
+            key ->
+                new CachedValue(
+                    epoch,
+                    spec.getDomain(
+                        domainType,
+                        epoch,
+                        forkInfo.getFork(),
+                        forkInfo.getGenesisValidatorsRoot())))
+        .value;
+  }
+
+  /** Returns the signing root for an object signed at, and only relevant to, the given slot. */
+  public Bytes32 getSigningRoot(final UInt64 slot, final Bytes32 domain, final Bytes32 objectRoot) {
+    onSlot(slot);
+    return signingRoots.computeIfAbsent(
+            new SigningRootKey(domain, objectRoot),
+            key ->
+                new CachedValue(
+                    slot, spec.atSlot(slot).miscHelpers().computeSigningRoot(objectRoot, domain)))
+        .value;
+  }
+
+  /** Returns the signing root for an object signed once per epoch, such as the randao reveal. */
+  public Bytes32 getEpochSigningRoot(
+      final UInt64 epoch, final Bytes32 domain, final Bytes32 objectRoot) {
+    onEpoch(epoch);
+    return epochSigningRoots.computeIfAbsent(
+            new SigningRootKey(domain, objectRoot),
+            key ->
+                new CachedValue(
+                    epoch,
+                    spec.atEpoch(epoch).miscHelpers().computeSigningRoot(objectRoot, domain)))
+        .value;
+  }
+
+  @VisibleForTesting
+  int getCachedDomainCount() {
+    return domains.size();
+  }
+
+  @VisibleForTesting
+  int getCachedSigningRootCount() {
+    return signingRoots.size();
+  }
+
+  @VisibleForTesting
+  int getCachedEpochSigningRootCount() {
+    return epochSigningRoots.size();
+  }
+
+  private void onEpoch(final UInt64 epoch) {
+    if (epoch.isGreaterThan(latestEpoch)) {
+      synchronized (domains) {
+        if (epoch.isGreaterThan(latestEpoch)) {
+          latestEpoch = epoch;
+          final UInt64 earliestRetainedEpoch = epoch.minusMinZero(RETAINED_EPOCHS);
+          prune(domains, earliestRetainedEpoch);
+          prune(epochSigningRoots, earliestRetainedEpoch);
+        }
+      }
+    }
+  }
+
+  private void onSlot(final UInt64 slot) {
+    if (slot.isGreaterThan(latestSlot)) {
+      synchronized (signingRoots) {
+        if (slot.isGreaterThan(latestSlot)) {
+          latestSlot = slot;
+          prune(signingRoots, slot.minusMinZero(RETAINED_SLOTS));
+        }
+      }
+    }
+  }
+
+  private static void prune(final Map<?, CachedValue> cache, final UInt64 earliestRetained) {
+    cache.values().removeIf(cachedValue -> cachedValue.addedAt.isLessThan(earliestRetained));
+  }
+
+  private static class CachedValue {
+    private final UInt64 addedAt;
+    private final Bytes32 value;
+
+    private CachedValue(final UInt64 addedAt, final Bytes32 value) {
+      this.addedAt = addedAt;
+      this.value = value;
+    }
+  }
+
+  private static class DomainKey {
+    private final Bytes4 domainType;
+    private final UInt64 epoch;
+    private final ForkInfo forkInfo;
+
+    private DomainKey(final Bytes4 domainType, final UInt64 epoch, final ForkInfo forkInfo) {
+      this.domainType = domainType;
+      this.epoch = epoch;
+      this.forkInfo = forkInfo;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final DomainKey that = (DomainKey) o;
+      return Objects.equals(domainType, that.domainType)
+          && Objects.equals(epoch, that.epoch)
+          && Objects.equals(forkInfo, that.forkInfo);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(domainType, epoch, forkInfo);
+    }
+  }
+
+  private static class SigningRootKey {
+    private final Bytes32 domain;
+    private final Bytes32 objectRoot;
+
+    private SigningRootKey(final Bytes32 domain, final Bytes32 objectRoot) {
+      this.domain = domain;
+      this.objectRoot = objectRoot;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final SigningRootKey that = (SigningRootKey) o;
+      return Objects.equals(domain, that.domain) && Objects.equals(objectRoot, that.objectRoot);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(domain, objectRoot);
+    }
+  }
+}
@@ -13,8 +13,11 @@
 
 package tech.pegasys.teku.spec.signatures;
 
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecVersion;
@@ -27,19 +30,33 @@ import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
 import tech.pegasys.teku.spec.datastructures.operations.VoluntaryExit;
 import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.logic.common.helpers.MiscHelpers;
+import tech.pegasys.teku.spec.logic.common.util.SyncCommitteeUtil;
 
 public class SigningRootUtil {
   private final Spec spec;
+  private final Optional<SigningRootCache> signingRootCache;
 
   public SigningRootUtil(final Spec spec) {
+    this(spec, Optional.empty());
+  }
+
+  public SigningRootUtil(final Spec spec, final SigningRootCache signingRootCache) {
+    this(spec, Optional.of(signingRootCache));
+  }
+
+  private SigningRootUtil(final Spec spec, final Optional<SigningRootCache> signingRootCache) {
     this.spec = spec;
+    this.signingRootCache = signingRootCache;
   }
 
   public Bytes signingRootForRandaoReveal(final UInt64 epoch, final ForkInfo forkInfo) {
+    final Bytes32 domain = getDomain(Domain.RANDAO, epoch, forkInfo);
+    if (signingRootCache.isPresent()) {
+      return signingRootCache
+          .get()
+          .getEpochSigningRoot(epoch, domain, SszUInt64.of(epoch).hashTreeRoot());
+    }
     final SpecVersion specVersion = spec.atEpoch(epoch);
-    Bytes32 domain =
-        spec.getDomain(
-            Domain.RANDAO, epoch, forkInfo.getFork(), forkInfo.getGenesisValidatorsRoot());
     return specVersion.miscHelpers().computeSigningRoot(epoch, domain);
   }
 
@@ -54,35 +71,29 @@ public class SigningRootUtil {
   }
 
   private Bytes32 getDomainForSignBlock(UInt64 slot, ForkInfo forkInfo) {
-    final Bytes32 domain =
-        spec.getDomain(
-            Domain.BEACON_PROPOSER,
-            spec.computeEpochAtSlot(slot),
-            forkInfo.getFork(),
-            forkInfo.getGenesisValidatorsRoot());
-    return domain;
+    return getDomain(Domain.BEACON_PROPOSER, spec.computeEpochAtSlot(slot), forkInfo);
   }
 
   public Bytes signingRootForSignAttestationData(
       final AttestationData attestationData, final ForkInfo forkInfo) {
-    final SpecVersion specVersion = spec.atSlot(attestationData.getSlot());
     final Bytes32 domain =
-        spec.getDomain(
-            Domain.BEACON_ATTESTER,
-            attestationData.getTarget().getEpoch(),
-            forkInfo.getFork(),
-            forkInfo.getGenesisValidatorsRoot());
+        getDomain(Domain.BEACON_ATTESTER, attestationData.getTarget().getEpoch(), forkInfo);
+    if (signingRootCache.isPresent()) {
+      return signingRootCache
+          .get()
+          .getSigningRoot(attestationData.getSlot(), domain, attestationData.hashTreeRoot());
+    }
+    final SpecVersion specVersion = spec.atSlot(attestationData.getSlot());
     return specVersion.miscHelpers().computeSigningRoot(attestationData, domain);
   }
 
   public Bytes signingRootForSignAggregationSlot(final UInt64 slot, final ForkInfo forkInfo) {
-    final SpecVersion specVersion = spec.atSlot(slot);
     final Bytes32 domain =
-        spec.getDomain(
-            Domain.SELECTION_PROOF,
-            spec.computeEpochAtSlot(slot),
-            forkInfo.getFork(),
-            forkInfo.getGenesisValidatorsRoot());
+        getDomain(Domain.SELECTION_PROOF, spec.computeEpochAtSlot(slot), forkInfo);
+    if (signingRootCache.isPresent()) {
+      return signingRootCache.get().getSigningRoot(slot, domain, SszUInt64.of(slot).hashTreeRoot());
+    }
+    final SpecVersion specVersion = spec.atSlot(slot);
     return specVersion.miscHelpers().computeSigningRoot(slot, domain);
   }
 
@@ -91,14 +102,21 @@ public class SigningRootUtil {
     final UInt64 slot = aggregateAndProof.getAggregate().getData().getSlot();
     final SpecVersion specVersion = spec.atSlot(slot);
     final Bytes32 domain =
-        spec.getDomain(
-            Domain.AGGREGATE_AND_PROOF,
-            spec.computeEpochAtSlot(slot),
-            forkInfo.getFork(),
-            forkInfo.getGenesisValidatorsRoot());
+        getDomain(Domain.AGGREGATE_AND_PROOF, spec.computeEpochAtSlot(slot), forkInfo);
     return specVersion.miscHelpers().computeSigningRoot(aggregateAndProof, domain);
   }
 
+  public Bytes signingRootForSyncCommitteeMessage(
+      final UInt64 slot, final Bytes32 beaconBlockRoot, final ForkInfo forkInfo) {
+    final SyncCommitteeUtil syncCommitteeUtil = spec.getSyncCommitteeUtilRequired(slot);
+    final UInt64 epoch = spec.computeEpochAtSlot(slot);
+    if (signingRootCache.isPresent()) {
+      final Bytes32 domain = getDomain(Domain.SYNC_COMMITTEE, epoch, forkInfo);
+      return signingRootCache.get().getSigningRoot(slot, domain, beaconBlockRoot);
+    }
+    return syncCommitteeUtil.getSyncCommitteeMessageSigningRoot(beaconBlockRoot, epoch, forkInfo);
+  }
+
   public Bytes signingRootForSignVoluntaryExit(
       final VoluntaryExit voluntaryExit, final ForkInfo forkInfo) {
     final SpecVersion specVersion = spec.atEpoch(voluntaryExit.getEpoch());
@@ -117,4 +135,12 @@ public class SigningRootUtil {
     final Bytes32 domain = miscHelpers.computeDomain(Domain.APPLICATION_BUILDER);
     return miscHelpers.computeSigningRoot(validatorRegistration, domain);
   }
+
+  private Bytes32 getDomain(final Bytes4 domainType, final UInt64 epoch, final ForkInfo forkInfo) {
+    if (signingRootCache.isPresent()) {
+      return signingRootCache.get().getDomain(domainType, epoch, forkInfo);
+    }
+    return spec.getDomain(
+        domainType, epoch, forkInfo.getFork(), forkInfo.getGenesisValidatorsRoot());
+  }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ValidatorIndexRangesTest {
+
+  @ParameterizedTest
+  @ValueSource(
+      ints = {
+        0,
+        1,
+        ValidatorIndexRanges.MIN_RANGE_SIZE - 1,
+        ValidatorIndexRanges.MIN_RANGE_SIZE,
+        ValidatorIndexRanges.MIN_RANGE_SIZE + 1,
+        500_001
+      })
+  void forEachRange_shouldProcessEachIndexExactlyOnce(final int validatorCount) {
+    final AtomicIntegerArray processCounts = new AtomicIntegerArray(validatorCount);
+    ValidatorIndexRanges.forEachRange(
+        validatorCount,
+        (fromIndex, toIndex) -> {
+          assertThat(fromIndex).isLessThanOrEqualTo(toIndex);
+          for (int i = fromIndex; i < toIndex; i++) {
+            processCounts.incrementAndGet(i);
+          }
+        });
+
+    for (int i = 0; i < validatorCount; i++) {
+      assertThat(processCounts.get(i)).describedAs("Index %s", i).isEqualTo(1);
+    }
+  }
+}
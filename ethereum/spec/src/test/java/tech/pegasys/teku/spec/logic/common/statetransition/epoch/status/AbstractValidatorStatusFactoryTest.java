@@ -28,6 +28,8 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 
 public abstract class AbstractValidatorStatusFactoryTest {
@@ -58,6 +60,25 @@ public abstract class AbstractValidatorStatusFactoryTest {
         .isEqualTo(slashed);
   }
 
+  @Test
+  void createValidatorStatuses_shouldNotStoreValidatorStatusSnapshot() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(4, 0);
+
+    validatorStatusFactory.createValidatorStatuses(state);
+
+    assertThat(BeaconStateCache.getTransitionCaches(state).getValidatorStatusSnapshot()).isEmpty();
+  }
+
+  @Test
+  void updateValidatorStatusSnapshot_shouldStoreSnapshotOfValidators() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(4, 0);
+
+    validatorStatusFactory.updateValidatorStatusSnapshot(state);
+
+    assertThat(BeaconStateCache.getTransitionCaches(state).getValidatorStatusSnapshot())
+        .hasValueSatisfying(snapshot -> assertThat(snapshot.getValidatorCount()).isEqualTo(4));
+  }
+
   @Test
   void createValidatorStatus_shouldBeWithdrawableWhenWithdrawalEpochBeforeCurrentEpoch() {
     final Validator validator =
@@ -0,0 +1,78 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch.status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class ValidatorStatusSnapshotTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final BeaconState state = dataStructureUtil.randomBeaconState(32);
+
+  @Test
+  void shouldReturnSameSnapshotWhenValidatorsUnchanged() {
+    final ValidatorStatusSnapshot snapshot = ValidatorStatusSnapshot.create(state.getValidators());
+
+    assertThat(snapshot.update(state.getValidators())).isSameAs(snapshot);
+  }
+
+  @Test
+  void shouldMatchNewSnapshotAfterValidatorsChange() {
+    final ValidatorStatusSnapshot snapshot = ValidatorStatusSnapshot.create(state.getValidators());
+    final BeaconState updatedState =
+        state.updated(
+            mutableState -> {
+              final Validator validator = mutableState.getValidators().get(3);
+              mutableState
+                  .getValidators()
+                  .set(
+                      3,
+                      validator
+                          .withSlashed(true)
+                          .withEffectiveBalance(UInt64.valueOf(1234))
+                          .withExitEpoch(UInt64.valueOf(10)));
+              mutableState.getValidators().append(dataStructureUtil.randomValidator());
+            });
+
+    final ValidatorStatusSnapshot updatedSnapshot = snapshot.update(updatedState.getValidators());
+
+    assertSnapshotMatches(updatedSnapshot, updatedState.getValidators());
+    assertThat(updatedSnapshot.isSlashed(3)).isTrue();
+    assertThat(updatedSnapshot.getEffectiveBalance(3)).isEqualTo(UInt64.valueOf(1234));
+    // The original snapshot is unchanged
+    assertSnapshotMatches(snapshot, state.getValidators());
+  }
+
+  private void assertSnapshotMatches(
+      final ValidatorStatusSnapshot snapshot, final SszList<Validator> validators) {
+    assertThat(snapshot.getValidatorCount()).isEqualTo(validators.size());
+    for (int i = 0; i < validators.size(); i++) {
+      final Validator validator = validators.get(i);
+      assertThat(snapshot.isSlashed(i)).isEqualTo(validator.isSlashed());
+      assertThat(snapshot.getEffectiveBalance(i)).isEqualTo(validator.getEffectiveBalance());
+      assertThat(snapshot.getActivationEpoch(i)).isEqualTo(validator.getActivationEpoch());
+      assertThat(snapshot.getExitEpoch(i)).isEqualTo(validator.getExitEpoch());
+      assertThat(snapshot.getWithdrawableEpoch(i)).isEqualTo(validator.getWithdrawableEpoch());
+    }
+  }
+}
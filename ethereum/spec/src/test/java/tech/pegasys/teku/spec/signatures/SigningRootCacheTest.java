@@ -0,0 +1,117 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.spec.signatures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.constants.Domain;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class SigningRootCacheTest {
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final ForkInfo forkInfo = dataStructureUtil.randomForkInfo();
+  private final SigningRootCache cache = new SigningRootCache(spec);
+  private final SigningRootUtil uncachedSigningRootUtil = new SigningRootUtil(spec);
+  private final SigningRootUtil cachedSigningRootUtil = new SigningRootUtil(spec, cache);
+
+  @Test
+  void shouldComputeSameSigningRootsAsUncachedUtil() {
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+    final UInt64 slot = attestationData.getSlot();
+    final UInt64 epoch = spec.computeEpochAtSlot(slot);
+    final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+
+    assertThat(cachedSigningRootUtil.signingRootForSignAttestationData(attestationData, forkInfo))
+        .isEqualTo(
+            uncachedSigningRootUtil.signingRootForSignAttestationData(attestationData, forkInfo));
+    assertThat(cachedSigningRootUtil.signingRootForSignAggregationSlot(slot, forkInfo))
+        .isEqualTo(uncachedSigningRootUtil.signingRootForSignAggregationSlot(slot, forkInfo));
+    assertThat(cachedSigningRootUtil.signingRootForRandaoReveal(epoch, forkInfo))
+        .isEqualTo(uncachedSigningRootUtil.signingRootForRandaoReveal(epoch, forkInfo));
+    assertThat(cachedSigningRootUtil.signingRootForSyncCommitteeMessage(slot, blockRoot, forkInfo))
+        .isEqualTo(
+            uncachedSigningRootUtil.signingRootForSyncCommitteeMessage(slot, blockRoot, forkInfo));
+    assertThat(
+            spec.getSyncCommitteeUtilRequired(slot)
+                .getSyncCommitteeMessageSigningRoot(blockRoot, epoch, forkInfo))
+        .isEqualTo(
+            uncachedSigningRootUtil.signingRootForSyncCommitteeMessage(slot, blockRoot, forkInfo));
+  }
+
+  @Test
+  void shouldComputeSigningRootOnceForSameObject() {
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+
+    cachedSigningRootUtil.signingRootForSignAttestationData(attestationData, forkInfo);
+    cachedSigningRootUtil.signingRootForSignAttestationData(attestationData, forkInfo);
+
+    assertThat(cache.getCachedSigningRootCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldPruneSigningRootsFromOldSlots() {
+    final Bytes32 domain = dataStructureUtil.randomBytes32();
+    cache.getSigningRoot(UInt64.valueOf(10), domain, dataStructureUtil.randomBytes32());
+    cache.getSigningRoot(UInt64.valueOf(11), domain, dataStructureUtil.randomBytes32());
+    assertThat(cache.getCachedSigningRootCount()).isEqualTo(2);
+
+    cache.getSigningRoot(
+        UInt64.valueOf(10 + SigningRootCache.RETAINED_SLOTS + 1),
+        domain,
+        dataStructureUtil.randomBytes32());
+
+    assertThat(cache.getCachedSigningRootCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldKeepRandaoSigningRootForWholeEpoch() {
+    final UInt64 epoch = UInt64.valueOf(3);
+    cachedSigningRootUtil.signingRootForRandaoReveal(epoch, forkInfo);
+    assertThat(cache.getCachedEpochSigningRootCount()).isEqualTo(1);
+
+    final UInt64 lastSlotInEpoch = spec.computeStartSlotAtEpoch(epoch.plus(1)).minus(1);
+    cache.getSigningRoot(lastSlotInEpoch, dataStructureUtil.randomBytes32(), Bytes32.ZERO);
+    cachedSigningRootUtil.signingRootForRandaoReveal(epoch, forkInfo);
+    assertThat(cache.getCachedEpochSigningRootCount()).isEqualTo(1);
+
+    cache.getDomain(Domain.RANDAO, epoch.plus(SigningRootCache.RETAINED_EPOCHS + 1), forkInfo);
+    assertThat(cache.getCachedEpochSigningRootCount()).isZero();
+  }
+
+  @Test
+  void shouldPrecomputeDomains() {
+    final UInt64 epoch = UInt64.valueOf(3);
+    cache.precomputeDomains(epoch, forkInfo);
+    final int precomputedCount = cache.getCachedDomainCount();
+    assertThat(precomputedCount).isPositive();
+
+    final Bytes32 domain = cache.getDomain(Domain.BEACON_ATTESTER, epoch, forkInfo);
+
+    assertThat(cache.getCachedDomainCount()).isEqualTo(precomputedCount);
+    assertThat(domain)
+        .isEqualTo(
+            spec.getDomain(
+                Domain.BEACON_ATTESTER,
+                epoch,
+                forkInfo.getFork(),
+                forkInfo.getGenesisValidatorsRoot()));
+  }
+}
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.statetransition;
 
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -25,12 +26,22 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
+/**
+ * Processes the epoch transition for the current head ahead of the epoch starting and primes the
+ * caches of the resulting state.
+ *
+ * <p>The transitioned state is stored in the store's checkpoint states so block import, gossip
+ * validation and duty requests at the start of the epoch reuse it rather than processing the epoch
+ * transition on demand, as long as the head doesn't change. Priming may be requested repeatedly as
+ * the head changes but is skipped if the epoch was already primed for the same head block.
+ */
 public class EpochCachePrimer {
   private static final Logger LOG = LogManager.getLogger();
 
   private final Spec spec;
   private final RecentChainData recentChainData;
   private final AsyncRunner asyncRunner;
+  private final AtomicReference<SlotAndBlockRoot> lastPrimedState = new AtomicReference<>();
 
   public EpochCachePrimer(
       final Spec spec, final RecentChainData recentChainData, final AsyncRunner asyncRunner) {
@@ -48,20 +59,28 @@ public class EpochCachePrimer {
             headBlock ->
                 isWithinOneEpochOfHeadBlock(firstSlot, headBlock)
                     && isAfterHeadBlockEpoch(epoch, headBlock))
+        .map(headBlock -> new SlotAndBlockRoot(firstSlot, headBlock.getRoot()))
         .ifPresent(
-            headBlock ->
-                asyncRunner
-                    .runAsync(() -> primeCacheForBlockAtSlot(headBlock, firstSlot))
-                    .ifExceptionGetsHereRaiseABug());
+            slotAndBlockRoot -> {
+              if (slotAndBlockRoot.equals(lastPrimedState.getAndSet(slotAndBlockRoot))) {
+                return;
+              }
+              asyncRunner
+                  .runAsync(() -> primeCacheForState(slotAndBlockRoot))
+                  .ifExceptionGetsHereRaiseABug();
+            });
   }
 
-  private void primeCacheForBlockAtSlot(
-      final MinimalBeaconBlockSummary headBlock, final UInt64 firstSlotOfEpoch) {
+  private void primeCacheForState(final SlotAndBlockRoot slotAndBlockRoot) {
     recentChainData
-        .retrieveStateAtSlot(new SlotAndBlockRoot(firstSlotOfEpoch, headBlock.getRoot()))
+        .retrieveStateAtSlot(slotAndBlockRoot)
+        .thenAccept(maybeState -> maybeState.ifPresent(this::primeEpochStateCaches))
         .finish(
-            maybeState -> maybeState.ifPresent(this::primeEpochStateCaches),
-            error -> LOG.warn("Failed to precompute epoch transition", error));
+            error -> {
+              // Allow the next request for the same head to try again
+              lastPrimedState.compareAndSet(slotAndBlockRoot, null);
+              LOG.warn("Failed to precompute epoch transition", error);
+            });
   }
 
   private boolean isWithinOneEpochOfHeadBlock(
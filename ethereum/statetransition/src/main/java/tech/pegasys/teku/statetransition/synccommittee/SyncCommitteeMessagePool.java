@@ -13,18 +13,21 @@
 
 package tech.pegasys.teku.statetransition.synccommittee;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntIterator;
-import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -39,6 +42,14 @@ import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
 import tech.pegasys.teku.statetransition.OperationPool.OperationAddedSubscriber;
 import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
 
+/**
+ * Aggregates sync committee messages into contributions as they arrive.
+ *
+ * <p>Each (slot, blockRoot, subcommitteeIndex) holds the participation bits and the aggregate
+ * signature of the messages received so far, updated with a compare-and-set as each message is
+ * added. Messages for different subcommittees or block roots never contend with each other and a
+ * contribution is available without any further aggregation when it is requested.
+ */
 public class SyncCommitteeMessagePool implements SlotEventsChannel {
 
   private final Subscribers<OperationAddedSubscriber<ValidateableSyncCommitteeMessage>>
@@ -51,7 +62,7 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
    * but using a nested map under slot so that pruning based on slot is efficient.
    */
   private final NavigableMap<UInt64, Map<BlockRootAndCommitteeIndex, ContributionData>>
-      committeeContributionData = new TreeMap<>();
+      committeeContributionData = new ConcurrentSkipListMap<>();
 
   public SyncCommitteeMessagePool(final Spec spec, final SyncCommitteeMessageValidator validator) {
     this.spec = spec;
@@ -87,11 +98,12 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
             });
   }
 
-  private synchronized void doAdd(final ValidateableSyncCommitteeMessage message) {
+  private void doAdd(final ValidateableSyncCommitteeMessage message) {
     final SyncSubcommitteeAssignments assignments =
         message.getSubcommitteeAssignments().orElseThrow();
     final Map<BlockRootAndCommitteeIndex, ContributionData> blockRootAndCommitteeIndexToMessages =
-        committeeContributionData.computeIfAbsent(message.getSlot(), __ -> new HashMap<>());
+        committeeContributionData.computeIfAbsent(
+            message.getSlot(), __ -> new ConcurrentHashMap<>());
     final IntSet applicableSubnets;
     if (message.getReceivedSubnetId().isEmpty()) {
       applicableSubnets = assignments.getAssignedSubcommittees();
@@ -109,18 +121,19 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
                     message.getMessage().getSignature()));
   }
 
-  public synchronized Optional<SyncCommitteeContribution> createContribution(
+  public Optional<SyncCommitteeContribution> createContribution(
       final UInt64 slot, final Bytes32 blockRoot, final int subcommitteeIndex) {
     return getContributionData(slot, blockRoot, subcommitteeIndex)
+        .map(ContributionData::getContribution)
         .map(
-            contributionData ->
+            contribution ->
                 spec.getSyncCommitteeUtilRequired(slot)
                     .createSyncCommitteeContribution(
                         slot,
                         blockRoot,
                         UInt64.valueOf(subcommitteeIndex),
-                        contributionData.getParticipationIndices(),
-                        contributionData.getAggregatedSignature()));
+                        contribution.getParticipationIndices(),
+                        contribution.getAggregatedSignature()));
   }
 
   /**
@@ -130,7 +143,7 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
    * @param slot the current node slot
    */
   @Override
-  public synchronized void onSlot(final UInt64 slot) {
+  public void onSlot(final UInt64 slot) {
     committeeContributionData.headMap(slot.minusMinZero(1), false).clear();
   }
 
@@ -170,26 +183,80 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
   }
 
   private static class ContributionData {
-    private final IntSet participationIndices = new IntOpenHashSet();
-    private final List<BLSSignature> signatures = new ArrayList<>();
+    private final AtomicReference<AggregatedContribution> contribution =
+        new AtomicReference<>(AggregatedContribution.EMPTY);
 
     public void add(final IntSet participationIndices, final BLSSignature signature) {
-      IntIterator iterator = participationIndices.iterator();
+      AggregatedContribution current = contribution.get();
+      while (true) {
+        final AggregatedContribution updated = current.add(participationIndices, signature);
+        if (contribution.compareAndSet(current, updated)) {
+          return;
+        }
+        current = contribution.get();
+      }
+    }
+
+    public AggregatedContribution getContribution() {
+      return contribution.get();
+    }
+  }
+
+  private static class AggregatedContribution {
+    private static final AggregatedContribution EMPTY =
+        new AggregatedContribution(new long[0], BLSSignature.infinity());
+
+    private final long[] participationBits;
+    private final BLSSignature aggregatedSignature;
+
+    private AggregatedContribution(
+        final long[] participationBits, final BLSSignature aggregatedSignature) {
+      this.participationBits = participationBits;
+      this.aggregatedSignature = aggregatedSignature;
+    }
+
+    public AggregatedContribution add(
+        final IntSet participationIndices, final BLSSignature signature) {
+      if (participationIndices.isEmpty()) {
+        return this;
+      }
+      long[] updatedBits = participationBits;
+      // The signature is included once for each position the validator holds in the subcommittee
+      final List<BLSSignature> signatures = new ArrayList<>(participationIndices.size() + 1);
+      if (this != EMPTY) {
+        signatures.add(aggregatedSignature);
+      }
+      final IntIterator iterator = participationIndices.iterator();
       while (iterator.hasNext()) {
-        int index = iterator.nextInt();
-        if (!this.participationIndices.add(index)) {
+        final int index = iterator.nextInt();
+        final int word = index >>> 6;
+        final long mask = 1L << index;
+        if (word < updatedBits.length && (updatedBits[word] & mask) != 0) {
           throw new IllegalStateException("Already added " + index);
         }
-        this.signatures.add(signature);
+        if (updatedBits == participationBits || word >= updatedBits.length) {
+          updatedBits = Arrays.copyOf(updatedBits, Math.max(updatedBits.length, word + 1));
+        }
+        updatedBits[word] |= mask;
+        signatures.add(signature);
       }
+      return new AggregatedContribution(updatedBits, BLS.aggregate(signatures));
     }
 
-    public IntSet getParticipationIndices() {
-      return participationIndices;
+    public IntList getParticipationIndices() {
+      final IntList indices = new IntArrayList();
+      for (int word = 0; word < participationBits.length; word++) {
+        long bits = participationBits[word];
+        while (bits != 0) {
+          indices.add((word << 6) + Long.numberOfTrailingZeros(bits));
+          bits &= bits - 1;
+        }
+      }
+      return indices;
     }
 
     public BLSSignature getAggregatedSignature() {
-      return signatures.isEmpty() ? BLSSignature.infinity() : BLS.aggregate(signatures);
+      return aggregatedSignature;
     }
   }
 }
@@ -16,10 +16,13 @@ package tech.pegasys.teku.statetransition.validatorcache;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.annotations.VisibleForTesting;
-import it.unimi.dsi.fastutil.objects.Object2BooleanArrayMap;
+import it.unimi.dsi.fastutil.objects.Object2BooleanLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -28,6 +31,13 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 
+/**
+ * Tracks which validators have been seen proposing or attesting in recent epochs.
+ *
+ * <p>Each tracked epoch holds a bitset indexed by validator index, so recording an attestation only
+ * sets a bit per attester and answering a liveness request for any number of validators only needs
+ * to find the bitset for the requested epoch once.
+ */
 public class ActiveValidatorCache implements ActiveValidatorChannel {
   private final Spec spec;
   private static final Logger LOG = LogManager.getLogger();
@@ -39,70 +49,102 @@ public class ActiveValidatorCache implements ActiveValidatorChannel {
   // so the cache size will actually be the TRACKED_EPOCHS + 1
   private static final int CACHED_EPOCHS = TRACKED_EPOCHS + 1;
 
-  // validatorActiveEpochs is indexed by validator id, contains mod(CACHED_EPOCHS) of epoch values
-  // - basically a rotating list
-  private UInt64[][] validatorActiveEpochs;
+  // The most recent CACHED_EPOCHS epochs that validators have been seen in, each mapped to a bitset
+  // with one bit per validator index
+  private final NavigableMap<UInt64, long[]> seenValidatorsByEpoch = new TreeMap<>();
+
+  // Number of validator indices each bitset can hold without growing
+  private int capacity;
 
   public ActiveValidatorCache(final Spec spec, final int initialSize) {
     checkArgument(initialSize >= 0);
-    validatorActiveEpochs = new UInt64[initialSize + VALIDATOR_CACHE_SPARE_CAPACITY][];
+    this.capacity = initialSize + VALIDATOR_CACHE_SPARE_CAPACITY;
     this.spec = spec;
   }
 
   void touch(final UInt64 validatorIndex, final UInt64 epoch) {
-    LOG.trace("Touch validator {} at epoch {}", validatorIndex, epoch);
-
-    ensureNodeIsInitialized(validatorIndex);
-    final int index = validatorIndex.intValue();
-    final int offset = epoch.mod(CACHED_EPOCHS).intValue();
-    if (validatorActiveEpochs[index][offset] == null) {
-      validatorActiveEpochs[index][offset] = epoch;
-    } else {
+    touch(List.of(validatorIndex), epoch);
+  }
+
+  private synchronized void touch(final Iterable<UInt64> validatorIndices, final UInt64 epoch) {
+    long[] seenValidators = getOrCreateSeenValidators(epoch);
+    if (seenValidators == null) {
       // Given the chain only ever goes forward,
       // older epochs are not important in this cache
-      validatorActiveEpochs[index][offset] = validatorActiveEpochs[index][offset].max(epoch);
+      return;
     }
-  }
-
-  boolean isValidatorSeenAtEpoch(final UInt64 validatorIndex, final UInt64 epoch) {
-    if (validatorActiveEpochs.length <= validatorIndex.intValue()) {
-      LOG.trace(
-          "validator index {} exceeds array size {}", validatorIndex, validatorActiveEpochs.length);
-      return false;
+    for (UInt64 validatorIndex : validatorIndices) {
+      LOG.trace("Touch validator {} at epoch {}", validatorIndex, epoch);
+      final int index = validatorIndex.intValue();
+      if (index >= capacity) {
+        grow(index);
+        seenValidators = seenValidatorsByEpoch.get(epoch);
+      }
+      seenValidators[index >>> 6] |= 1L << index;
     }
+  }
 
-    return validatorActiveEpochs[validatorIndex.intValue()] != null
-        && epoch.equals(
-            validatorActiveEpochs[validatorIndex.intValue()][epoch.mod(CACHED_EPOCHS).intValue()]);
+  synchronized boolean isValidatorSeenAtEpoch(final UInt64 validatorIndex, final UInt64 epoch) {
+    return isSeen(seenValidatorsByEpoch.get(epoch), validatorIndex);
   }
 
-  int getCacheSize() {
-    return validatorActiveEpochs.length;
+  synchronized int getCacheSize() {
+    return capacity;
   }
 
   @VisibleForTesting
-  UInt64[] getValidatorEpochs(final UInt64 validatorIndex) {
-    checkArgument(validatorIndex.intValue() < validatorActiveEpochs.length);
-    return validatorActiveEpochs[validatorIndex.intValue()];
+  synchronized UInt64[] getValidatorEpochs(final UInt64 validatorIndex) {
+    checkArgument(validatorIndex.intValue() < capacity);
+    // Presents the seen epochs as a rotating list indexed by epoch mod CACHED_EPOCHS
+    final UInt64[] epochs = new UInt64[CACHED_EPOCHS];
+    boolean seen = false;
+    for (Map.Entry<UInt64, long[]> entry : seenValidatorsByEpoch.entrySet()) {
+      if (isSeen(entry.getValue(), validatorIndex)) {
+        epochs[entry.getKey().mod(CACHED_EPOCHS).intValue()] = entry.getKey();
+        seen = true;
+      }
+    }
+    return seen ? epochs : null;
   }
 
-  private void ensureNodeIsInitialized(final UInt64 validatorIndex) {
-    if (validatorIndex.intValue() >= validatorActiveEpochs.length) {
-      grow(validatorIndex);
+  private long[] getOrCreateSeenValidators(final UInt64 epoch) {
+    final long[] seenValidators = seenValidatorsByEpoch.get(epoch);
+    if (seenValidators != null) {
+      return seenValidators;
+    }
+    if (seenValidatorsByEpoch.size() >= CACHED_EPOCHS) {
+      if (epoch.isLessThan(seenValidatorsByEpoch.firstKey())) {
+        return null;
+      }
+      seenValidatorsByEpoch.pollFirstEntry();
     }
+    final long[] newSeenValidators = new long[wordsFor(capacity)];
+    seenValidatorsByEpoch.put(epoch, newSeenValidators);
+    return newSeenValidators;
+  }
 
-    if (validatorActiveEpochs[validatorIndex.intValue()] == null) {
-      validatorActiveEpochs[validatorIndex.intValue()] = new UInt64[CACHED_EPOCHS];
+  private static boolean isSeen(final long[] seenValidators, final UInt64 validatorIndex) {
+    if (seenValidators == null) {
+      return false;
     }
+    final long index = validatorIndex.longValue();
+    if (index >= (long) seenValidators.length << 6) {
+      LOG.trace("validator index {} exceeds cache size {}", validatorIndex, seenValidators.length);
+      return false;
+    }
+    return (seenValidators[(int) (index >>> 6)] & (1L << index)) != 0;
+  }
+
+  private void grow(final int requestedValidatorIndex) {
+    final int newSize = requestedValidatorIndex + VALIDATOR_CACHE_SPARE_CAPACITY;
+    LOG.trace("Growing ActiveValidatorCache from {} to {} elements", capacity, newSize);
+    capacity = newSize;
+    seenValidatorsByEpoch.replaceAll(
+        (epoch, seenValidators) -> Arrays.copyOf(seenValidators, wordsFor(newSize)));
   }
 
-  private void grow(final UInt64 requestedValidatorIndex) {
-    final int newSize = requestedValidatorIndex.intValue() + VALIDATOR_CACHE_SPARE_CAPACITY;
-    LOG.trace(
-        "Growing ActiveValidatorCache from {} to {} elements",
-        validatorActiveEpochs.length,
-        newSize);
-    validatorActiveEpochs = Arrays.copyOf(validatorActiveEpochs, newSize);
+  private static int wordsFor(final int validatorCount) {
+    return (validatorCount + 63) >>> 6;
   }
 
   @Override
@@ -115,20 +157,20 @@ public class ActiveValidatorCache implements ActiveValidatorChannel {
     validateableAttestation
         .getIndexedAttestation()
         .ifPresent(
-            attestation -> {
-              final UInt64 epoch = spec.computeEpochAtSlot(attestation.getData().getSlot());
-              attestation
-                  .getAttestingIndices()
-                  .forEach((validatorIndex) -> touch(validatorIndex.get(), epoch));
-            });
+            attestation ->
+                touch(
+                    attestation.getAttestingIndices().asListUnboxed(),
+                    spec.computeEpochAtSlot(attestation.getData().getSlot())));
   }
 
   @Override
-  public SafeFuture<Object2BooleanMap<UInt64>> validatorsLiveAtEpoch(
+  public synchronized SafeFuture<Object2BooleanMap<UInt64>> validatorsLiveAtEpoch(
       final List<UInt64> validators, final UInt64 epoch) {
-    final Object2BooleanMap<UInt64> result = new Object2BooleanArrayMap<>();
+    final long[] seenValidators = seenValidatorsByEpoch.get(epoch);
+    final Object2BooleanMap<UInt64> result =
+        new Object2BooleanLinkedOpenHashMap<>(validators.size());
     for (UInt64 validator : validators) {
-      result.put(validator, isValidatorSeenAtEpoch(validator, epoch));
+      result.put(validator, isSeen(seenValidators, validator));
     }
 
     return SafeFuture.completedFuture(result);
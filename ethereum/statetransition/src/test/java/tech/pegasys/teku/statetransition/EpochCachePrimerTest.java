@@ -15,8 +15,11 @@ package tech.pegasys.teku.statetransition;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
@@ -120,6 +123,59 @@ class EpochCachePrimerTest {
     forEachSlotInEpoch(epoch, slot -> verify(mockSpec).getBeaconProposerIndex(state, slot));
   }
 
+  @Test
+  void shouldNotPrimeAgainWhenHeadIsUnchanged() {
+    final UInt64 epoch = UInt64.ONE;
+
+    primer.primeCacheForEpoch(epoch);
+    asyncRunner.executeQueuedActions();
+    primer.primeCacheForEpoch(epoch);
+    asyncRunner.executeQueuedActions();
+
+    final BeaconState state = getStateForEpoch(epoch);
+    forEachSlotInEpoch(epoch, slot -> verify(mockSpec).getBeaconProposerIndex(state, slot));
+  }
+
+  @Test
+  void shouldPrimeAgainWhenHeadChanges() {
+    final UInt64 epoch = UInt64.ONE;
+
+    primer.primeCacheForEpoch(epoch);
+    asyncRunner.executeQueuedActions();
+
+    final SignedBlockAndState newHead = storageSystem.chainUpdater().advanceChainUntil(6);
+    storageSystem.chainUpdater().updateBestBlock(newHead);
+    primer.primeCacheForEpoch(epoch);
+    asyncRunner.executeQueuedActions();
+
+    final BeaconState state = getStateForEpoch(epoch);
+    forEachSlotInEpoch(epoch, slot -> verify(mockSpec).getBeaconProposerIndex(state, slot));
+    verify(mockSpec, times(realSpec.getSlotsPerEpoch(UInt64.ZERO) * 2))
+        .getBeaconProposerIndex(any(), any());
+  }
+
+  @Test
+  void shouldPrimeAgainWhenPreviousAttemptFailed() {
+    final UInt64 epoch = UInt64.ONE;
+    final RecentChainData failingChainData = spy(recentChainData);
+    doReturn(SafeFuture.failedFuture(new RuntimeException("Nope")))
+        .doCallRealMethod()
+        .when(failingChainData)
+        .retrieveStateAtSlot(any());
+    final EpochCachePrimer failingPrimer =
+        new EpochCachePrimer(mockSpec, failingChainData, asyncRunner);
+
+    failingPrimer.primeCacheForEpoch(epoch);
+    asyncRunner.executeQueuedActions();
+    verify(mockSpec, never()).getBeaconProposerIndex(any(), any());
+
+    failingPrimer.primeCacheForEpoch(epoch);
+    asyncRunner.executeQueuedActions();
+
+    final BeaconState state = getStateForEpoch(epoch);
+    forEachSlotInEpoch(epoch, slot -> verify(mockSpec).getBeaconProposerIndex(state, slot));
+  }
+
   @Test
   void shouldPrecomputeAttestersTotalEffectiveBalance() {
     final UInt64 epoch = UInt64.ONE;
@@ -29,6 +29,11 @@ import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
@@ -274,6 +279,43 @@ class SyncCommitteeMessagePoolTest {
     assertThat(contribution.orElseThrow().getSignature()).isEqualTo(expectedAggregate);
   }
 
+  @Test
+  void shouldAggregateMessagesAddedConcurrently() throws Exception {
+    final int subcommitteeIndex = 2;
+    final UInt64 slot = dataStructureUtil.randomUInt64();
+    final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+    final List<ValidateableSyncCommitteeMessage> messages = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      final ValidateableSyncCommitteeMessage message =
+          ValidateableSyncCommitteeMessage.fromValidator(
+              dataStructureUtil.randomSyncCommitteeMessage(slot, blockRoot));
+      message.setSubcommitteeAssignments(
+          SyncSubcommitteeAssignments.builder().addAssignment(subcommitteeIndex, i).build());
+      messages.add(message);
+    }
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> results = new ArrayList<>();
+      messages.forEach(message -> results.add(executor.submit(() -> addValidLocal(message))));
+      for (Future<?> result : results) {
+        result.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    final SyncCommitteeContribution contribution =
+        pool.createContribution(slot, blockRoot, subcommitteeIndex).orElseThrow();
+    assertThat(contribution.getAggregationBits().getAllSetBits().toIntArray())
+        .containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+    assertThat(contribution.getSignature())
+        .isEqualTo(
+            BLS.aggregate(
+                messages.stream()
+                    .map(message -> message.getMessage().getSignature())
+                    .collect(Collectors.toList())));
+  }
+
   @Test
   void shouldExcludeMessagesWhereSlotDoesNotMatch() {
     final ValidateableSyncCommitteeMessage message =
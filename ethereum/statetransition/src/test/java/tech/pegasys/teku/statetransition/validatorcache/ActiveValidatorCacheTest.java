@@ -91,6 +91,16 @@ public class ActiveValidatorCacheTest {
     assertThat(cache.getValidatorEpochs(UInt64.valueOf(1_100))).containsExactly(ZERO, null, null);
   }
 
+  @Test
+  void shouldRetainSeenValidatorsWhenGrowing() {
+    cache.touch(ONE, TWO);
+    cache.touch(UInt64.valueOf(5_000), TWO);
+
+    assertThat(cache.isValidatorSeenAtEpoch(ONE, TWO)).isTrue();
+    assertThat(cache.isValidatorSeenAtEpoch(UInt64.valueOf(5_000), TWO)).isTrue();
+    assertThat(cache.isValidatorSeenAtEpoch(UInt64.valueOf(4_999), TWO)).isFalse();
+  }
+
   @Test
   void shouldFindValidatorSeenAtEpoch() {
     for (UInt64 i = ZERO; i.isLessThan(FOUR); i = i.increment()) {
@@ -41,6 +41,16 @@ public interface AsyncRunnerFactory {
 
   AsyncRunner create(String name, int maxThreads, int maxQueueSize, int threadPriority);
 
+  /**
+   * Creates an AsyncRunner which runs each task on a new virtual thread, so tasks which block don't
+   * limit how many other tasks can run. Uses a pool of up to {@code maxThreads} platform threads
+   * instead if the JVM doesn't support virtual threads.
+   */
+  default AsyncRunner createWithVirtualThreads(
+      final String name, final int maxThreads, final int maxQueueSize) {
+    return create(name, maxThreads, maxQueueSize);
+  }
+
   void shutdown();
 
   static DefaultAsyncRunnerFactory createDefault(
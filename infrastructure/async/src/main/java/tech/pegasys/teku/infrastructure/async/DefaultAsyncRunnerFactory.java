@@ -15,8 +15,11 @@ package tech.pegasys.teku.infrastructure.async;
 
 import java.util.Collection;
 import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 public class DefaultAsyncRunnerFactory implements AsyncRunnerFactory {
+  private static final Logger LOG = LogManager.getLogger();
   private final Collection<AsyncRunner> asyncRunners = new CopyOnWriteArrayList<>();
 
   private final MetricTrackingExecutorFactory executorFactory;
@@ -36,6 +39,20 @@ public class DefaultAsyncRunnerFactory implements AsyncRunnerFactory {
     return asyncRunner;
   }
 
+  @Override
+  public AsyncRunner createWithVirtualThreads(
+      final String name, final int maxThreads, final int maxQueueSize) {
+    if (!VirtualThreads.areSupported()) {
+      LOG.warn(
+          "Virtual threads are not supported by this JVM, using platform threads for {}", name);
+      return create(name, maxThreads, maxQueueSize);
+    }
+    validateAsyncRunnerName(name);
+    final AsyncRunner asyncRunner = ScheduledExecutorAsyncRunner.createWithVirtualThreads(name);
+    asyncRunners.add(asyncRunner);
+    return asyncRunner;
+  }
+
   @Override
   public void shutdown() {
     asyncRunners.forEach(AsyncRunner::shutdown);
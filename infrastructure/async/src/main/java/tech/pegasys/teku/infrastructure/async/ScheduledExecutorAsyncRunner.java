@@ -62,6 +62,21 @@ public class ScheduledExecutorAsyncRunner implements AsyncRunner {
     return new ScheduledExecutorAsyncRunner(scheduler, workerPool);
   }
 
+  /**
+   * Creates an AsyncRunner which runs each task on a new virtual thread. Delays are still scheduled
+   * on a platform thread.
+   */
+  public static AsyncRunner createWithVirtualThreads(final String name) {
+    final ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat(name + "-async-scheduler-%d")
+                .setDaemon(false)
+                .build());
+    return new ScheduledExecutorAsyncRunner(
+        scheduler, VirtualThreads.newVirtualThreadPerTaskExecutor(name));
+  }
+
   @Override
   public <U> SafeFuture<U> runAsync(final ExceptionThrowingFutureSupplier<U> action) {
     if (shutdown.get()) {
@@ -0,0 +1,103 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.async;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Provides access to virtual threads when the JVM supports them.
+ *
+ * <p>Teku still targets Java 11 so virtual threads are only available via reflection. Callers must
+ * check {@link #areSupported()} and fall back to platform threads when they aren't available.
+ *
+ * <p>A virtual thread which blocks while holding a monitor pins its carrier thread, so tasks run on
+ * virtual threads should avoid blocking inside {@code synchronized} blocks.
+ */
+public final class VirtualThreads {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final Optional<VirtualThreadSupport> SUPPORT = loadSupport();
+
+  private VirtualThreads() {}
+
+  public static boolean areSupported() {
+    return SUPPORT.isPresent();
+  }
+
+  /**
+   * Creates an executor which runs each task on a new virtual thread.
+   *
+   * @param name the prefix for the names of created threads
+   * @throws UnsupportedOperationException if virtual threads are not supported by this JVM
+   */
+  public static ExecutorService newVirtualThreadPerTaskExecutor(final String name) {
+    final VirtualThreadSupport support =
+        SUPPORT.orElseThrow(
+            () -> new UnsupportedOperationException("Virtual threads are not supported"));
+    try {
+      final ThreadFactory threadFactory = support.createThreadFactory(name + "-virtual-");
+      return (ExecutorService) support.newThreadPerTaskExecutor.invoke(null, threadFactory);
+    } catch (final ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to create virtual thread executor", e);
+    }
+  }
+
+  private static Optional<VirtualThreadSupport> loadSupport() {
+    try {
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      final VirtualThreadSupport support =
+          new VirtualThreadSupport(
+              Thread.class.getMethod("ofVirtual"),
+              builderClass.getMethod("name", String.class, long.class),
+              builderClass.getMethod("factory"),
+              Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class));
+      // Preview releases expose the API but throw when it is used without --enable-preview
+      support.createThreadFactory("probe");
+      return Optional.of(support);
+    } catch (final ReflectiveOperationException | RuntimeException e) {
+      LOG.trace("Virtual threads are not supported", e);
+      return Optional.empty();
+    }
+  }
+
+  private static class VirtualThreadSupport {
+    private final Method ofVirtual;
+    private final Method name;
+    private final Method factory;
+    private final Method newThreadPerTaskExecutor;
+
+    private VirtualThreadSupport(
+        final Method ofVirtual,
+        final Method name,
+        final Method factory,
+        final Method newThreadPerTaskExecutor) {
+      this.ofVirtual = ofVirtual;
+      this.name = name;
+      this.factory = factory;
+      this.newThreadPerTaskExecutor = newThreadPerTaskExecutor;
+    }
+
+    private ThreadFactory createThreadFactory(final String namePrefix)
+        throws ReflectiveOperationException {
+      final Object builder = name.invoke(ofVirtual.invoke(null), namePrefix, 0L);
+      return (ThreadFactory) factory.invoke(builder);
+    }
+  }
+}
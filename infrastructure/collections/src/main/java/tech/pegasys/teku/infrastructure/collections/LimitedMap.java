@@ -14,7 +14,10 @@
 package tech.pegasys.teku.infrastructure.collections;
 
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalListener;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 public interface LimitedMap<K, V> extends Map<K, V> {
 
@@ -76,6 +79,37 @@ public interface LimitedMap<K, V> extends Map<K, V> {
     return CacheBuilder.newBuilder().maximumSize(maxSize).softValues().<K, V>build().asMap();
   }
 
+  /**
+   * Creates a limited map using soft references for values, notifying the supplied listener when an
+   * entry is evicted because maxSize was exceeded. The returned map is safe for concurrent access
+   * and evicts the least recently used items.
+   *
+   * <p>The listener is not notified for explicit removals or for values collected by the garbage
+   * collector. It is called synchronously on the thread performing the write so should not perform
+   * expensive work.
+   *
+   * @param maxSize The maximum number of elements to keep in the map.
+   * @param evictionListener The listener to notify of entries evicted due to the size limit.
+   * @param <K> The key type of the map.
+   * @param <V> The value type of the map.
+   * @return A map that will evict elements when the max size is exceeded or when the GC evicts
+   *     them.
+   */
+  static <K, V> Map<K, V> createSoft(final int maxSize, final BiConsumer<K, V> evictionListener) {
+    final RemovalListener<K, V> removalListener =
+        notification -> {
+          if (notification.getCause() == RemovalCause.SIZE && notification.getValue() != null) {
+            evictionListener.accept(notification.getKey(), notification.getValue());
+          }
+        };
+    return CacheBuilder.newBuilder()
+        .maximumSize(maxSize)
+        .softValues()
+        .removalListener(removalListener)
+        .build()
+        .asMap();
+  }
+
   int getMaxSize();
 
   LimitedMap<K, V> copy();
@@ -15,6 +15,7 @@ package tech.pegasys.teku.infrastructure.collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 
@@ -37,4 +38,20 @@ public class LimitedMapTest {
     assertThat(map.containsKey(3)).isTrue();
     assertThat(map.containsKey(1)).isTrue();
   }
+
+  @Test
+  public void createSoft_notifyListenerOfSizeEvictionsOnly() {
+    final Map<Integer, Integer> evicted = new HashMap<>();
+    final Map<Integer, Integer> map = LimitedMap.createSoft(2, evicted::put);
+    map.put(1, 1);
+    map.put(2, 2);
+    map.remove(2);
+    assertThat(evicted).isEmpty();
+
+    map.put(3, 3);
+    map.get(1);
+    map.put(4, 4);
+    assertThat(map).containsOnlyKeys(1, 4);
+    assertThat(evicted).containsExactly(Map.entry(3, 3));
+  }
 }
@@ -14,56 +14,108 @@
 package tech.pegasys.teku.infrastructure.events;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.util.Collections.synchronizedMap;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 
 public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
   private static final Logger LOG = LogManager.getLogger();
   private static final int QUEUE_CAPACITY = 500;
 
-  private final Map<T, BlockingQueue<Runnable>> eventQueuesBySubscriber =
-      synchronizedMap(new IdentityHashMap<>());
+  // Replaced rather than modified when subscribing so publishing doesn't need to lock
+  private volatile Map<Object, EventQueue<QueuedEvent>> eventQueuesBySubscriber =
+      new IdentityHashMap<>();
   private final List<QueueReader> queueReaders = new CopyOnWriteArrayList<>();
   private final AtomicBoolean stopped = new AtomicBoolean(false);
+  private final String channelName;
   private final ExecutorService executor;
+  private final MetricsHistogram queueDelayHistogram;
 
   public AsyncEventDeliverer(
+      final String channelName,
       final ExecutorService executor,
       final ChannelExceptionHandler exceptionHandler,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final MetricsHistogram queueDelayHistogram) {
     super(exceptionHandler, metricsSystem);
+    this.channelName = channelName;
     this.executor = executor;
+    this.queueDelayHistogram = queueDelayHistogram;
+  }
+
+  /**
+   * Creates the histogram recording how long events wait before delivery starts. It registers with
+   * the metrics system so must be created once and shared by every channel.
+   */
+  public static MetricsHistogram createQueueDelayHistogram(final MetricsSystem metricsSystem) {
+    return MetricsHistogram.create(
+        TekuMetricCategory.EVENTBUS,
+        metricsSystem,
+        "event_queue_delay_micros",
+        "Time in microseconds events spent queued before delivery started",
+        3,
+        List.of("channel", "subscriber"));
   }
 
   @Override
   void subscribe(final T subscriber, final int numberOfThreads) {
-    final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
-    eventQueuesBySubscriber.put(subscriber, queue);
+    final EventQueue<QueuedEvent> queue = addQueue(subscriber);
     super.subscribe(subscriber, numberOfThreads);
     for (int i = 0; i < numberOfThreads; i++) {
-      final QueueReader reader = new QueueReader(queue);
-      queueReaders.add(reader);
-      executor.execute(reader);
+      startReader(new SubscriberQueueReader(subscriber, queue));
     }
   }
 
+  @Override
+  void subscribeBatched(final BatchedEventSubscriber<T> subscriber, final int maxBatchSize) {
+    final EventQueue<QueuedEvent> queue = addQueue(subscriber);
+    super.subscribeBatched(subscriber, maxBatchSize);
+    // A single reader so batches are delivered in order
+    startReader(new BatchQueueReader(subscriber, queue, maxBatchSize));
+  }
+
+  private synchronized EventQueue<QueuedEvent> addQueue(final Object subscriber) {
+    final EventQueue<QueuedEvent> queue = new EventQueue<>(QUEUE_CAPACITY);
+    final Map<Object, EventQueue<QueuedEvent>> updatedQueues =
+        new IdentityHashMap<>(eventQueuesBySubscriber);
+    updatedQueues.put(subscriber, queue);
+    eventQueuesBySubscriber = updatedQueues;
+    return queue;
+  }
+
+  private void startReader(final QueueReader reader) {
+    queueReaders.add(reader);
+    executor.execute(reader);
+  }
+
+  @Override
+  int getQueueSize() {
+    return eventQueuesBySubscriber.values().stream().mapToInt(EventQueue::size).sum();
+  }
+
   @Override
   protected void deliverTo(final T subscriber, final Method method, final Object[] args) {
-    enqueueDelivery(subscriber, method, () -> super.deliverTo(subscriber, method, args));
+    enqueueDelivery(subscriber, new QueuedEvent(method, args));
+  }
+
+  @Override
+  protected void deliverBatchedTo(
+      final BatchedEventSubscriber<T> subscriber, final Method method, final Object[] args) {
+    enqueueDelivery(subscriber, new QueuedEvent(method, args));
   }
 
   @Override
@@ -72,24 +124,20 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
       final Method method,
       final Object[] args,
       final AsyncRunner responseRunner) {
-    final SafeFuture<X> result = new SafeFuture<>();
-    enqueueDelivery(
-        subscriber,
-        method,
-        () ->
-            super.<X>deliverToWithResponse(subscriber, method, args, responseRunner)
-                .propagateToAsync(result, responseRunner));
-    return result;
-  }
-
-  private void enqueueDelivery(final T subscriber, final Method method, final Runnable action) {
-    final BlockingQueue<Runnable> queue = checkNotNull(eventQueuesBySubscriber.get(subscriber));
+    final QueuedEventWithResponse<X> event =
+        new QueuedEventWithResponse<>(method, args, responseRunner);
+    enqueueDelivery(subscriber, event);
+    return event.result;
+  }
+
+  private void enqueueDelivery(final Object subscriber, final QueuedEvent event) {
+    final EventQueue<QueuedEvent> queue = checkNotNull(eventQueuesBySubscriber.get(subscriber));
     while (!stopped.get()) {
       try {
-        queue.put(action);
+        queue.put(event);
         return;
       } catch (final InterruptedException e) {
-        LOG.debug("Interrupted while trying to publish event {}", method::getName);
+        LOG.debug("Interrupted while trying to publish event {}", event.method::getName);
       }
     }
   }
@@ -101,12 +149,47 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
     return SafeFuture.allOf(queueReaders.stream().map(reader -> reader.readerStopped));
   }
 
-  class QueueReader implements Runnable {
+  class QueuedEvent {
+    final Method method;
+    final Object[] args;
+    private final long queuedAt = System.nanoTime();
+
+    QueuedEvent(final Method method, final Object[] args) {
+      this.method = method;
+      this.args = args;
+    }
+
+    void deliver(final T subscriber) {
+      AsyncEventDeliverer.super.deliverTo(subscriber, method, args);
+    }
+  }
+
+  class QueuedEventWithResponse<X> extends QueuedEvent {
+    private final SafeFuture<X> result = new SafeFuture<>();
+    private final AsyncRunner responseRunner;
+
+    QueuedEventWithResponse(
+        final Method method, final Object[] args, final AsyncRunner responseRunner) {
+      super(method, args);
+      this.responseRunner = responseRunner;
+    }
+
+    @Override
+    void deliver(final T subscriber) {
+      AsyncEventDeliverer.super
+          .<X>deliverToWithResponse(subscriber, method, args, responseRunner)
+          .propagateToAsync(result, responseRunner);
+    }
+  }
+
+  abstract class QueueReader implements Runnable {
     private final SafeFuture<Void> readerStopped = new SafeFuture<>();
-    private final BlockingQueue<Runnable> queue;
+    protected final EventQueue<QueuedEvent> queue;
+    private final String subscriberName;
 
-    public QueueReader(final BlockingQueue<Runnable> queue) {
+    protected QueueReader(final Object subscriber, final EventQueue<QueuedEvent> queue) {
       this.queue = queue;
+      this.subscriberName = subscriber.getClass().getSimpleName();
     }
 
     @Override
@@ -121,8 +204,56 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
       readerStopped.complete(null);
     }
 
-    void deliverNextEvent() throws InterruptedException {
-      queue.take().run();
+    protected abstract void deliverNextEvent() throws InterruptedException;
+
+    protected void recordQueueDelay(final QueuedEvent event) {
+      queueDelayHistogram.recordValue(
+          TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - event.queuedAt),
+          channelName,
+          subscriberName);
+    }
+  }
+
+  class SubscriberQueueReader extends QueueReader {
+    private final T subscriber;
+
+    SubscriberQueueReader(final T subscriber, final EventQueue<QueuedEvent> queue) {
+      super(subscriber, queue);
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    protected void deliverNextEvent() throws InterruptedException {
+      final QueuedEvent event = queue.take();
+      recordQueueDelay(event);
+      event.deliver(subscriber);
+    }
+  }
+
+  class BatchQueueReader extends QueueReader {
+    private final BatchedEventSubscriber<T> subscriber;
+    private final int maxBatchSize;
+
+    BatchQueueReader(
+        final BatchedEventSubscriber<T> subscriber,
+        final EventQueue<QueuedEvent> queue,
+        final int maxBatchSize) {
+      super(subscriber, queue);
+      this.subscriber = subscriber;
+      this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    protected void deliverNextEvent() throws InterruptedException {
+      final List<ChannelEvent<T>> batch = new ArrayList<>();
+      // Wait for the first event, then take whatever else has already queued up behind it
+      QueuedEvent event = queue.take();
+      while (event != null) {
+        recordQueueDelay(event);
+        batch.add(new ChannelEvent<>(event.method, event.args));
+        event = batch.size() < maxBatchSize ? queue.poll() : null;
+      }
+      deliverBatch(subscriber, batch);
     }
   }
 }
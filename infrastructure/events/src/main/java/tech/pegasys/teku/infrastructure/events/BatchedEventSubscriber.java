@@ -0,0 +1,37 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import java.util.List;
+
+/**
+ * A subscriber which receives the events published to a channel in batches rather than one method
+ * call at a time.
+ *
+ * <p>When events are published faster than the subscriber processes them, every event that has
+ * queued up since the last batch (up to the maximum batch size requested when subscribing) is
+ * delivered in a single call, allowing the subscriber to coalesce or bulk process them.
+ *
+ * @param <T> the channel interface
+ */
+@FunctionalInterface
+public interface BatchedEventSubscriber<T> {
+
+  /**
+   * Handles a batch of events.
+   *
+   * @param events the events, in the order they were published. Never empty.
+   */
+  void onEvents(List<ChannelEvent<T>> events);
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import com.google.common.base.Throwables;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * A single method call made on a channel's publisher, as delivered to a {@link
+ * BatchedEventSubscriber}.
+ *
+ * @param <T> the channel interface
+ */
+public final class ChannelEvent<T> {
+  private static final Object[] NO_ARGUMENTS = new Object[0];
+
+  private final Method method;
+  private final Object[] args;
+
+  ChannelEvent(final Method method, final Object[] args) {
+    this.method = method;
+    this.args = args != null ? args : NO_ARGUMENTS;
+  }
+
+  public Method getMethod() {
+    return method;
+  }
+
+  public Object[] getArguments() {
+    return args;
+  }
+
+  /**
+   * Invokes the method this event was published with on {@code target}.
+   *
+   * @param target the implementation of the channel interface to deliver the event to
+   */
+  public void deliverTo(final T target) {
+    try {
+      method.invoke(target, args);
+    } catch (final IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    } catch (final InvocationTargetException e) {
+      Throwables.throwIfUnchecked(e.getTargetException());
+      throw new RuntimeException(e.getTargetException());
+    }
+  }
+}
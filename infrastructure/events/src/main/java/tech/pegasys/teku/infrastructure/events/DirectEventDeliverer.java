@@ -17,6 +17,7 @@ import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.EVENTB
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.List;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
@@ -58,6 +59,31 @@ class DirectEventDeliverer<T> extends EventDeliverer<T> {
     }
   }
 
+  @Override
+  protected void deliverBatchedTo(
+      final BatchedEventSubscriber<T> subscriber, final Method method, final Object[] args) {
+    deliverBatch(subscriber, List.of(new ChannelEvent<>(method, args)));
+  }
+
+  protected void deliverBatch(
+      final BatchedEventSubscriber<T> subscriber, final List<ChannelEvent<T>> events) {
+    // All events in a batch come from the same channel so the first one identifies it
+    final ChannelEvent<T> firstEvent = events.get(0);
+    try {
+      subscriber.onEvents(events);
+    } catch (final RuntimeException e) {
+      incrementCounter(failedEventCounter, subscriber, firstEvent.getMethod());
+      exceptionHandler.handleException(
+          e, subscriber, firstEvent.getMethod(), firstEvent.getArguments());
+    } finally {
+      consumedEventCounter
+          .labels(
+              firstEvent.getMethod().getDeclaringClass().getSimpleName(),
+              subscriber.getClass().getSimpleName())
+          .inc(events.size());
+    }
+  }
+
   @Override
   protected <X> SafeFuture<X> deliverToWithResponse(
       final T subscriber,
@@ -84,7 +110,7 @@ class DirectEventDeliverer<T> extends EventDeliverer<T> {
   }
 
   private void incrementCounter(
-      final LabelledMetric<Counter> counter, final T subscriber, final Method method) {
+      final LabelledMetric<Counter> counter, final Object subscriber, final Method method) {
     counter
         .labels(method.getDeclaringClass().getSimpleName(), subscriber.getClass().getSimpleName())
         .inc();
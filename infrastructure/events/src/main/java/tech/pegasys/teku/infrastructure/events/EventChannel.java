@@ -28,6 +28,7 @@ import java.util.stream.Stream;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
 
 class EventChannel<T> {
 
@@ -61,7 +62,8 @@ class EventChannel<T> {
   static <T> EventChannel<T> createAsync(
       final Class<T> channelInterface,
       final ChannelExceptionHandler exceptionHandler,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final MetricsHistogram queueDelayHistogram) {
     return createAsync(
         channelInterface,
         Executors.newCachedThreadPool(
@@ -70,7 +72,8 @@ class EventChannel<T> {
                 .setNameFormat(channelInterface.getSimpleName() + "-%d")
                 .build()),
         exceptionHandler,
-        metricsSystem);
+        metricsSystem,
+        queueDelayHistogram);
   }
 
   static <T> EventChannel<T> createAsync(
@@ -89,8 +92,28 @@ class EventChannel<T> {
       final ExecutorService executor,
       final ChannelExceptionHandler exceptionHandler,
       final MetricsSystem metricsSystem) {
+    return createAsync(
+        channelInterface,
+        executor,
+        exceptionHandler,
+        metricsSystem,
+        AsyncEventDeliverer.createQueueDelayHistogram(metricsSystem));
+  }
+
+  static <T> EventChannel<T> createAsync(
+      final Class<T> channelInterface,
+      final ExecutorService executor,
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem,
+      final MetricsHistogram queueDelayHistogram) {
     return create(
-        channelInterface, new AsyncEventDeliverer<>(executor, exceptionHandler, metricsSystem));
+        channelInterface,
+        new AsyncEventDeliverer<>(
+            channelInterface.getSimpleName(),
+            executor,
+            exceptionHandler,
+            metricsSystem,
+            queueDelayHistogram));
   }
 
   private static <T> EventChannel<T> create(
@@ -167,6 +190,27 @@ class EventChannel<T> {
     invoker.subscribe(listener, requestedParallelism);
   }
 
+  /**
+   * Adds a subscriber to this channel which receives events in batches.
+   *
+   * <p>Only channels whose methods all return void support batched subscribers. Synchronous
+   * channels deliver each event as a batch of one on the publisher thread.
+   *
+   * @param subscriber the subscriber to notify of events
+   * @param maxBatchSize the maximum number of events to deliver in a single batch
+   */
+  void subscribeBatched(final BatchedEventSubscriber<T> subscriber, final int maxBatchSize) {
+    checkArgument(maxBatchSize > 0, "Maximum batch size must be at least 1");
+    checkArgument(
+        allowMultipleSubscribers, "Batched subscribers require all channel methods to return void");
+    hasSubscriber.set(true);
+    invoker.subscribeBatched(subscriber, maxBatchSize);
+  }
+
+  int getQueueSize() {
+    return invoker.getQueueSize();
+  }
+
   public SafeFuture<Void> stop() {
     return invoker.stop();
   }
@@ -18,19 +18,40 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 
 public class EventChannels {
 
   private final ConcurrentMap<Class<?>, EventChannel<?>> channels = new ConcurrentHashMap<>();
   private final Function<Class<?>, EventChannel<?>> eventChannelFactory;
+  private final Optional<LabelledGauge> queueSizeGauge;
 
   public EventChannels(
       final ChannelExceptionHandler exceptionHandler, final MetricsSystem metricsSystem) {
+    this(
+        exceptionHandler,
+        metricsSystem,
+        AsyncEventDeliverer.createQueueDelayHistogram(metricsSystem));
+  }
+
+  private EventChannels(
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem,
+      final MetricsHistogram queueDelayHistogram) {
     this(
         channelInterface ->
-            EventChannel.createAsync(channelInterface, exceptionHandler, metricsSystem));
+            EventChannel.createAsync(
+                channelInterface, exceptionHandler, metricsSystem, queueDelayHistogram),
+        Optional.of(
+            metricsSystem.createLabelledGauge(
+                TekuMetricCategory.EVENTBUS,
+                "event_queue_size",
+                "Number of events waiting to be delivered to subscribers",
+                "channel")));
   }
 
   public static EventChannels createSyncChannels(
@@ -40,7 +61,14 @@ public class EventChannels {
   }
 
   EventChannels(final Function<Class<?>, EventChannel<?>> eventChannelFactory) {
+    this(eventChannelFactory, Optional.empty());
+  }
+
+  private EventChannels(
+      final Function<Class<?>, EventChannel<?>> eventChannelFactory,
+      final Optional<LabelledGauge> queueSizeGauge) {
     this.eventChannelFactory = eventChannelFactory;
+    this.queueSizeGauge = queueSizeGauge;
   }
 
   /**
@@ -103,9 +131,35 @@ public class EventChannels {
     return this;
   }
 
+  /**
+   * Adds a subscriber to this channel which receives events in batches rather than one call at a
+   * time. Events published while the subscriber is busy queue up and are delivered together in the
+   * next batch, so the subscriber can coalesce them or process them in bulk.
+   *
+   * <p>Synchronous channels always deliver each event as a batch of one on the publisher thread.
+   *
+   * @param channelInterface the channel to subscribe to
+   * @param subscriber the subscriber to notify of batches of events
+   * @param maxBatchSize the maximum number of events to deliver in a single batch
+   */
+  public <T extends VoidReturningChannelInterface> EventChannels subscribeBatched(
+      final Class<T> channelInterface,
+      final BatchedEventSubscriber<T> subscriber,
+      final int maxBatchSize) {
+    getChannel(channelInterface).subscribeBatched(subscriber, maxBatchSize);
+    return this;
+  }
+
   @SuppressWarnings("unchecked")
   private <T extends ChannelInterface> EventChannel<T> getChannel(final Class<T> channelInterface) {
-    return (EventChannel<T>) channels.computeIfAbsent(channelInterface, eventChannelFactory);
+    return (EventChannel<T>) channels.computeIfAbsent(channelInterface, this::createChannel);
+  }
+
+  private EventChannel<?> createChannel(final Class<?> channelInterface) {
+    final EventChannel<?> channel = eventChannelFactory.apply(channelInterface);
+    queueSizeGauge.ifPresent(
+        gauge -> gauge.labels(channel::getQueueSize, channelInterface.getSimpleName()));
+    return channel;
   }
 
   public SafeFuture<Void> stop() {
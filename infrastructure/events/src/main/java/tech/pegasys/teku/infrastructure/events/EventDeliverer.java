@@ -26,6 +26,8 @@ import tech.pegasys.teku.infrastructure.subscribers.Subscribers;
 
 abstract class EventDeliverer<T> {
   private final Subscribers<T> subscribers = Subscribers.create(true);
+  private final Subscribers<BatchedEventSubscriber<T>> batchedSubscribers =
+      Subscribers.create(true);
   private final LabelledMetric<Counter> publishedEventCounter;
 
   protected EventDeliverer(final MetricsSystem metricsSystem) {
@@ -41,6 +43,15 @@ abstract class EventDeliverer<T> {
     subscribers.subscribe(subscriber);
   }
 
+  void subscribeBatched(final BatchedEventSubscriber<T> subscriber, final int maxBatchSize) {
+    batchedSubscribers.subscribe(subscriber);
+  }
+
+  /** Returns the number of events waiting to be delivered to subscribers. */
+  int getQueueSize() {
+    return 0;
+  }
+
   @SuppressWarnings("FutureReturnValueIgnored")
   public Object invoke(
       final Object proxy,
@@ -57,6 +68,7 @@ abstract class EventDeliverer<T> {
     publishedEventCounter.labels(method.getDeclaringClass().getSimpleName()).inc();
     if (method.getReturnType().equals(Void.TYPE)) {
       subscribers.forEach(subscriber -> deliverTo(subscriber, method, args));
+      batchedSubscribers.forEach(subscriber -> deliverBatchedTo(subscriber, method, args));
       return null;
     } else {
       final SafeFuture<T> result = new SafeFuture<>();
@@ -72,6 +84,9 @@ abstract class EventDeliverer<T> {
 
   protected abstract void deliverTo(T subscriber, Method method, Object[] args);
 
+  protected abstract void deliverBatchedTo(
+      BatchedEventSubscriber<T> subscriber, Method method, Object[] args);
+
   protected abstract <X> SafeFuture<X> deliverToWithResponse(
       T subscriber, Method method, Object[] args, AsyncRunner responseRunner);
 
@@ -0,0 +1,194 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded, lock-free, multi-producer multi-consumer queue based on a ring buffer.
+ *
+ * <p>Each slot has a sequence number which tells producers and consumers whether the slot is ready
+ * to be written or read, so offering and polling only require a compare-and-set on the shared
+ * position rather than acquiring a lock.
+ *
+ * <p>Threads only park when the queue is empty (consumers) or full (producers) and are only
+ * unparked when another thread is actually waiting, so a consumer works through a burst of events
+ * without being woken once per event.
+ */
+final class EventQueue<E> {
+  private final int mask;
+  private final AtomicReferenceArray<E> elements;
+  private final AtomicLongArray sequences;
+  private final AtomicLong enqueuePosition = new AtomicLong();
+  private final AtomicLong dequeuePosition = new AtomicLong();
+  private final Queue<Thread> waitingConsumers = new ConcurrentLinkedQueue<>();
+  private final Queue<Thread> waitingProducers = new ConcurrentLinkedQueue<>();
+
+  EventQueue(final int capacity) {
+    checkArgument(capacity > 0, "Capacity must be positive");
+    final int size = roundUp(capacity);
+    this.mask = size - 1;
+    this.elements = new AtomicReferenceArray<>(size);
+    this.sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  private static int roundUp(final int capacity) {
+    // A single slot can't distinguish between full and empty so at least two are required
+    if (capacity <= 2) {
+      return 2;
+    }
+    return Integer.bitCount(capacity) == 1 ? capacity : Integer.highestOneBit(capacity) << 1;
+  }
+
+  /**
+   * Adds an element to the queue if there is space available.
+   *
+   * @return true if the element was added, false if the queue is full
+   */
+  boolean offer(final E element) {
+    long position = enqueuePosition.get();
+    while (true) {
+      final int index = (int) (position & mask);
+      final long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (enqueuePosition.compareAndSet(position, position + 1)) {
+          elements.set(index, element);
+          // Publishes the element to consumers
+          sequences.set(index, position + 1);
+          wakeOne(waitingConsumers);
+          return true;
+        }
+        position = enqueuePosition.get();
+      } else if (difference < 0) {
+        // The slot from a full lap ago hasn't been consumed yet
+        return false;
+      } else {
+        position = enqueuePosition.get();
+      }
+    }
+  }
+
+  /**
+   * Removes the element at the head of the queue if there is one.
+   *
+   * @return the element or null if the queue is empty
+   */
+  E poll() {
+    long position = dequeuePosition.get();
+    while (true) {
+      final int index = (int) (position & mask);
+      final long difference = sequences.get(index) - (position + 1);
+      if (difference == 0) {
+        if (dequeuePosition.compareAndSet(position, position + 1)) {
+          final E element = elements.get(index);
+          elements.set(index, null);
+          // Makes the slot available to producers on the next lap
+          sequences.set(index, position + mask + 1);
+          wakeOne(waitingProducers);
+          return element;
+        }
+        position = dequeuePosition.get();
+      } else if (difference < 0) {
+        return null;
+      } else {
+        position = dequeuePosition.get();
+      }
+    }
+  }
+
+  /** Adds an element to the queue, waiting for space to become available if necessary. */
+  void put(final E element) throws InterruptedException {
+    while (!offer(element)) {
+      final Thread currentThread = Thread.currentThread();
+      waitingProducers.add(currentThread);
+      // Check again after registering so a concurrent poll can't be missed
+      if (offer(element)) {
+        cancelWait(waitingProducers, currentThread);
+        return;
+      }
+      LockSupport.park(this);
+      waitingProducers.remove(currentThread);
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+    }
+  }
+
+  /** Removes the element at the head of the queue, waiting for one to be added if necessary. */
+  E take() throws InterruptedException {
+    E element = poll();
+    while (element == null) {
+      final Thread currentThread = Thread.currentThread();
+      waitingConsumers.add(currentThread);
+      // Check again after registering so a concurrent offer can't be missed
+      element = poll();
+      if (element != null) {
+        cancelWait(waitingConsumers, currentThread);
+        return element;
+      }
+      LockSupport.park(this);
+      waitingConsumers.remove(currentThread);
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      element = poll();
+    }
+    return element;
+  }
+
+  int size() {
+    // Read dequeue first so the result can't be negative
+    final long dequeued = dequeuePosition.get();
+    final long enqueued = enqueuePosition.get();
+    return (int) Math.max(0, enqueued - dequeued);
+  }
+
+  boolean isEmpty() {
+    return size() == 0;
+  }
+
+  boolean hasWaitingConsumers() {
+    return !waitingConsumers.isEmpty();
+  }
+
+  boolean hasWaitingProducers() {
+    return !waitingProducers.isEmpty();
+  }
+
+  private static void cancelWait(final Queue<Thread> waiters, final Thread thread) {
+    if (!waiters.remove(thread)) {
+      // Already woken by another thread but didn't need it, so pass the wake up on
+      wakeOne(waiters);
+    }
+  }
+
+  private static void wakeOne(final Queue<Thread> waiters) {
+    if (!waiters.isEmpty()) {
+      final Thread waiter = waiters.poll();
+      if (waiter != null) {
+        LockSupport.unpark(waiter);
+      }
+    }
+  }
+}
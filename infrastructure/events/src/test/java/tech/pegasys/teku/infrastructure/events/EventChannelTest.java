@@ -23,6 +23,8 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -346,6 +348,84 @@ class EventChannelTest {
     assertThat(stopFuture).isCompleted();
   }
 
+  @Test
+  @SuppressWarnings("rawtypes")
+  void shouldDeliverQueuedEventsToBatchedSubscriberTogether() throws Exception {
+    final ExecutorService executor = mock(ExecutorService.class);
+    final EventChannel<EventWithArgument> channel =
+        EventChannel.createAsync(EventWithArgument.class, executor, metricsSystem);
+    final List<List<ChannelEvent<EventWithArgument>>> batches = new ArrayList<>();
+    channel.subscribeBatched(batches::add, 2);
+
+    channel.getPublisher(Optional.empty()).method1("Event1");
+    channel.getPublisher(Optional.empty()).method2("Event2");
+    channel.getPublisher(Optional.empty()).method1("Event3");
+    assertThat(batches).isEmpty();
+
+    final ArgumentCaptor<QueueReader> consumerCaptor = ArgumentCaptor.forClass(QueueReader.class);
+    verify(executor).execute(consumerCaptor.capture());
+    consumerCaptor.getValue().deliverNextEvent();
+    consumerCaptor.getValue().deliverNextEvent();
+
+    // Limited by the max batch size
+    assertThat(batches).hasSize(2);
+    assertThat(batches.get(0)).hasSize(2);
+    assertThat(batches.get(1)).hasSize(1);
+
+    final EventWithArgument target = mock(EventWithArgument.class);
+    batches.forEach(batch -> batch.forEach(event -> event.deliverTo(target)));
+    final InOrder inOrder = inOrder(target);
+    inOrder.verify(target).method1("Event1");
+    inOrder.verify(target).method2("Event2");
+    inOrder.verify(target).method1("Event3");
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  void shouldDeliverEachEventAsBatchOfOneWhenSynchronous() {
+    final EventChannel<EventWithArgument> channel =
+        EventChannel.create(EventWithArgument.class, metricsSystem);
+    final List<List<ChannelEvent<EventWithArgument>>> batches = new ArrayList<>();
+    channel.subscribeBatched(batches::add, 10);
+
+    channel.getPublisher(Optional.empty()).method1("Event1");
+    channel.getPublisher(Optional.empty()).method2("Event2");
+
+    assertThat(batches).hasSize(2);
+    assertThat(batches.get(0)).hasSize(1);
+    assertThat(batches.get(0).get(0).getMethod().getName()).isEqualTo("method1");
+    assertThat(batches.get(0).get(0).getArguments()).containsExactly("Event1");
+    assertThat(batches.get(1).get(0).getArguments()).containsExactly("Event2");
+  }
+
+  @Test
+  void shouldReportBatchedSubscriberExceptionsToExceptionHandler() throws Exception {
+    final EventChannel<EventWithArgument> channel =
+        EventChannel.create(EventWithArgument.class, exceptionHandler, metricsSystem);
+    final RuntimeException error = new RuntimeException("Nope");
+    final BatchedEventSubscriber<EventWithArgument> subscriber =
+        events -> {
+          throw error;
+        };
+    channel.subscribeBatched(subscriber, 10);
+
+    channel.getPublisher(Optional.empty()).method1("Event1");
+
+    verify(exceptionHandler)
+        .handleException(
+            error,
+            subscriber,
+            EventWithArgument.class.getMethod("method1", String.class),
+            new Object[] {"Event1"});
+  }
+
+  @Test
+  void shouldRejectBatchedSubscribersForChannelsWithReturnValues() {
+    final EventChannel<WithFuture> channel = EventChannel.create(WithFuture.class, metricsSystem);
+    assertThatThrownBy(() -> channel.subscribeBatched(events -> {}, 10))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   private void waitForCountDownLatchComplete(final CountDownLatch started1)
       throws InterruptedException {
     assertThat(started1.await(5, TimeUnit.SECONDS)).isTrue();
@@ -0,0 +1,155 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EventQueueTest {
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void shouldReturnElementsInOrder() {
+    final EventQueue<Integer> queue = new EventQueue<>(4);
+    queue.offer(1);
+    queue.offer(2);
+    queue.offer(3);
+
+    assertThat(queue.size()).isEqualTo(3);
+    assertThat(queue.poll()).isEqualTo(1);
+    assertThat(queue.poll()).isEqualTo(2);
+    assertThat(queue.poll()).isEqualTo(3);
+    assertThat(queue.poll()).isNull();
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldRejectElementsWhenFull() {
+    final EventQueue<Integer> queue = new EventQueue<>(3);
+    // Capacity is rounded up to a power of two
+    for (int i = 0; i < 4; i++) {
+      assertThat(queue.offer(i)).isTrue();
+    }
+    assertThat(queue.offer(4)).isFalse();
+
+    assertThat(queue.poll()).isZero();
+    assertThat(queue.offer(4)).isTrue();
+  }
+
+  @Test
+  void take_shouldWaitForElement() throws Exception {
+    final EventQueue<Integer> queue = new EventQueue<>(4);
+    final Future<Integer> result = executor.submit(queue::take);
+
+    // Queue is empty so the consumer must still be waiting once it has registered
+    waitUntil(queue::hasWaitingConsumers);
+    assertThat(result).isNotDone();
+
+    queue.offer(1);
+    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+  }
+
+  @Test
+  void put_shouldWaitForSpace() throws Exception {
+    final EventQueue<Integer> queue = new EventQueue<>(2);
+    queue.put(1);
+    queue.put(2);
+    final Future<?> result =
+        executor.submit(
+            () -> {
+              queue.put(3);
+              return null;
+            });
+
+    // Queue is full so the producer must still be waiting once it has registered
+    waitUntil(queue::hasWaitingProducers);
+    assertThat(result).isNotDone();
+
+    assertThat(queue.poll()).isEqualTo(1);
+    result.get(5, TimeUnit.SECONDS);
+    assertThat(queue.poll()).isEqualTo(2);
+    assertThat(queue.poll()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldDeliverAllElementsWithConcurrentProducersAndConsumers() throws Exception {
+    final EventQueue<Integer> queue = new EventQueue<>(16);
+    final int producerCount = 4;
+    final int consumerCount = 3;
+    final int elementsPerProducer = 10_000;
+    final int totalElements = producerCount * elementsPerProducer;
+    final CountDownLatch allConsumed = new CountDownLatch(totalElements);
+    final Set<Integer> consumed = new HashSet<>();
+
+    for (int i = 0; i < consumerCount; i++) {
+      executor.execute(
+          () -> {
+            try {
+              while (true) {
+                final Integer element = queue.take();
+                synchronized (consumed) {
+                  consumed.add(element);
+                }
+                allConsumed.countDown();
+              }
+            } catch (final InterruptedException e) {
+              // Test complete
+            }
+          });
+    }
+    final List<Future<?>> producers = new ArrayList<>();
+    for (int i = 0; i < producerCount; i++) {
+      final int firstElement = i * elementsPerProducer;
+      producers.add(
+          executor.submit(
+              () -> {
+                for (int j = 0; j < elementsPerProducer; j++) {
+                  queue.put(firstElement + j);
+                }
+                return null;
+              }));
+    }
+
+    for (Future<?> producer : producers) {
+      producer.get(30, TimeUnit.SECONDS);
+    }
+    assertThat(allConsumed.await(30, TimeUnit.SECONDS)).isTrue();
+    assertThat(consumed).hasSize(totalElements);
+  }
+
+  private static void waitUntil(final BooleanSupplier condition) {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean()) {
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      Thread.yield();
+    }
+  }
+}
@@ -21,12 +21,15 @@ import java.io.IOException;
 import java.net.BindException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.RequestPool;
 import tech.pegasys.teku.service.serviceutils.Service;
 
 public class RestApi extends Service {
@@ -34,14 +37,24 @@ public class RestApi extends Service {
   private final Javalin app;
   private final Optional<String> restApiDocs;
   private final Optional<Path> passwordPath;
+  private final Collection<RequestPool> requestPools;
 
   public RestApi(
       final Javalin app,
       final Optional<String> restApiDocs,
       final Optional<Path> passwordFilePath) {
+    this(app, restApiDocs, passwordFilePath, List.of());
+  }
+
+  public RestApi(
+      final Javalin app,
+      final Optional<String> restApiDocs,
+      final Optional<Path> passwordFilePath,
+      final Collection<RequestPool> requestPools) {
     this.app = app;
     this.restApiDocs = restApiDocs;
     this.passwordPath = passwordFilePath;
+    this.requestPools = requestPools;
   }
 
   public Optional<String> getRestApiDocs() {
@@ -96,6 +109,7 @@ public class RestApi extends Service {
   @Override
   protected SafeFuture<?> doStop() {
     app.stop();
+    requestPools.forEach(RequestPool::shutdown);
     return SafeFuture.COMPLETE;
   }
 }
@@ -41,9 +41,15 @@ import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.VirtualThreads;
 import tech.pegasys.teku.infrastructure.http.HttpErrorResponse;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.JavalinEndpointAdapter;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.RequestPool;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.RequestPriority;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
 import tech.pegasys.teku.infrastructure.restapi.openapi.OpenApiDocBuilder;
 
@@ -64,6 +70,8 @@ public class RestApiBuilder {
   private Optional<Path> maybeKeystorePath = Optional.empty();
   private Optional<Path> maybePasswordPath = Optional.empty();
   private Optional<Path> passwordFilePath = Optional.empty();
+  private MetricsSystem metricsSystem = new NoOpMetricsSystem();
+  private boolean virtualThreadsEnabled = false;
 
   public RestApiBuilder listenAddress(final String listenAddress) {
     this.listenAddress = listenAddress;
@@ -87,6 +95,20 @@ public class RestApiBuilder {
     return this;
   }
 
+  public RestApiBuilder metricsSystem(final MetricsSystem metricsSystem) {
+    this.metricsSystem = metricsSystem;
+    return this;
+  }
+
+  /**
+   * Handle requests and write responses from virtual threads, if the JVM supports them, so that
+   * requests blocked on I/O don't each hold a platform thread.
+   */
+  public RestApiBuilder virtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+    return this;
+  }
+
   public RestApiBuilder maxUrlLength(final int maxUrlLength) {
     this.maxUrlLength = OptionalInt.of(maxUrlLength);
     return this;
@@ -126,6 +148,15 @@ public class RestApiBuilder {
 
   public RestApi build() {
     final SwaggerUIBuilder swaggerBuilder = new SwaggerUIBuilder(openApiDocsEnabled);
+    // Asynchronous responses are written from a pool per request priority so a slow client or a
+    // burst of expensive queries can't delay responses to validators
+    final boolean useVirtualThreads = virtualThreadsEnabled && VirtualThreads.areSupported();
+    if (virtualThreadsEnabled && !useVirtualThreads) {
+      LOG.warn(
+          "Virtual threads are not supported by this JVM, using platform threads for REST API");
+    }
+    final Map<RequestPriority, RequestPool> requestPools =
+        RequestPool.createPools(metricsSystem, useVirtualThreads);
     final Javalin app =
         Javalin.create(
             config -> {
@@ -133,18 +164,23 @@ public class RestApiBuilder {
               config.showJavalinBanner = false;
               configureCors(config);
               swaggerBuilder.configureUI(config);
-              config.jetty.server(this::createJettyServer);
+              config.jetty.server(() -> createJettyServer(useVirtualThreads));
             });
 
     if (!hostAllowlist.isEmpty()) {
       app.before(new HostAllowlistHandler(hostAllowlist));
     }
 
-    endpoints.forEach(endpoint -> JavalinEndpointAdapter.addEndpoint(app, endpoint));
+    endpoints.forEach(
+        endpoint ->
+            JavalinEndpointAdapter.addEndpoint(
+                app,
+                endpoint,
+                requestPools.get(RequestPriority.forEndpoint(endpoint.getMetadata()))));
 
     addExceptionHandlers(app);
     Optional<String> restApiDocs = swaggerBuilder.configureDocs(app, openApiDocBuilder);
-    return new RestApi(app, restApiDocs, passwordFilePath);
+    return new RestApi(app, restApiDocs, passwordFilePath, requestPools.values());
   }
 
   private void addExceptionHandlers(final Javalin app) {
@@ -185,8 +221,16 @@ public class RestApiBuilder {
     }
   }
 
-  private Server createJettyServer() {
-    final Server server = new Server();
+  private Server createJettyServer(final boolean useVirtualThreads) {
+    final Server server;
+    if (useVirtualThreads) {
+      final QueuedThreadPool threadPool = new QueuedThreadPool();
+      threadPool.setName("rest-api-jetty");
+      threadPool.setUseVirtualThreads(true);
+      server = new Server(threadPool);
+    } else {
+      server = new Server();
+    }
     final ServerConnector connector;
     if (maybeKeystorePath.isPresent()) {
       connector = new ServerConnector(server, getSslContextFactory());
@@ -226,6 +226,11 @@ public class EndpointMetadata {
     if (openApiResponse == null) {
       throw new IllegalArgumentException("Status code " + statusCode + " not supported");
     }
+    if (response instanceof SerializedResponse) {
+      final SerializedResponse serializedResponse = (SerializedResponse) response;
+      return new ResponseMetadata(
+          serializedResponse.getContentType(), serializedResponse.getAdditionalHeaders());
+    }
     final String selectedType = selectContentType(openApiResponse, acceptHeader);
     final ResponseContentTypeDefinition<T> typeDefinition =
         (ResponseContentTypeDefinition<T>) openApiResponse.getType(selectedType);
@@ -254,9 +259,13 @@ public class EndpointMetadata {
   public <T> void serialize(
       final int statusCode, final String contentType, final T response, final OutputStream out)
       throws JsonProcessingException {
-    final ResponseContentTypeDefinition<T> type =
-        (ResponseContentTypeDefinition<T>) getResponseType(statusCode, contentType);
     try {
+      if (response instanceof SerializedResponse) {
+        ((SerializedResponse) response).writeTo(out);
+        return;
+      }
+      final ResponseContentTypeDefinition<T> type =
+          (ResponseContentTypeDefinition<T>) getResponseType(statusCode, contentType);
       type.serialize(response, out);
     } catch (final JsonProcessingException e) {
       throw e;
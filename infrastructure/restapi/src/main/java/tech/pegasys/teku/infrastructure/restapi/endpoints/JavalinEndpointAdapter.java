@@ -13,26 +13,82 @@
 
 package tech.pegasys.teku.infrastructure.restapi.endpoints;
 
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_SERVICE_UNAVAILABLE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.HTTP_ERROR_RESPONSE_TYPE;
+
 import io.javalin.Javalin;
 import io.javalin.http.Context;
 import io.javalin.http.Handler;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import tech.pegasys.teku.infrastructure.http.HttpErrorResponse;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
 
 public class JavalinEndpointAdapter implements Handler {
 
   private final RestApiEndpoint endpoint;
+  private final Executor responseExecutor;
+  private final Optional<RequestPool> requestPool;
 
-  private JavalinEndpointAdapter(final RestApiEndpoint endpoint) {
+  private JavalinEndpointAdapter(
+      final RestApiEndpoint endpoint,
+      final Executor responseExecutor,
+      final Optional<RequestPool> requestPool) {
     this.endpoint = endpoint;
+    this.responseExecutor = responseExecutor;
+    this.requestPool = requestPool;
   }
 
   public static void addEndpoint(final Javalin app, final RestApiEndpoint endpoint) {
+    addEndpoint(
+        app, endpoint, new JavalinEndpointAdapter(endpoint, Runnable::run, Optional.empty()));
+  }
+
+  public static void addEndpoint(
+      final Javalin app, final RestApiEndpoint endpoint, final RequestPool requestPool) {
+    addEndpoint(
+        app,
+        endpoint,
+        new JavalinEndpointAdapter(
+            endpoint, requestPool.getResponseExecutor(), Optional.of(requestPool)));
+  }
+
+  private static void addEndpoint(
+      final Javalin app, final RestApiEndpoint endpoint, final JavalinEndpointAdapter adapter) {
     final EndpointMetadata metadata = endpoint.getMetadata();
-    app.addHandler(metadata.getMethod(), metadata.getPath(), new JavalinEndpointAdapter(endpoint));
+    app.addHandler(metadata.getMethod(), metadata.getPath(), adapter);
   }
 
   @Override
   public void handle(final Context ctx) throws Exception {
-    final RestApiRequest request = new JavalinRestApiRequest(ctx, endpoint.getMetadata());
+    if (requestPool.isEmpty()) {
+      handleRequest(ctx);
+      return;
+    }
+    final RequestPool pool = requestPool.get();
+    if (!pool.tryAcquire()) {
+      ctx.status(SC_SERVICE_UNAVAILABLE);
+      ctx.json(
+          JsonUtil.serialize(
+              new HttpErrorResponse(
+                  SC_SERVICE_UNAVAILABLE, "Too many requests in progress, try again later"),
+              HTTP_ERROR_RESPONSE_TYPE));
+      return;
+    }
+    final JavalinRestApiRequest request;
+    try {
+      request = handleRequest(ctx);
+    } catch (final Throwable t) {
+      pool.release();
+      throw t;
+    }
+    request.getResponseComplete().always(pool::release);
+  }
+
+  private JavalinRestApiRequest handleRequest(final Context ctx) throws Exception {
+    final JavalinRestApiRequest request =
+        new JavalinRestApiRequest(ctx, endpoint.getMetadata(), responseExecutor);
     endpoint.handleRequest(request);
+    return request;
   }
 }
@@ -30,6 +30,7 @@ import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
@@ -44,6 +45,8 @@ public class JavalinRestApiRequest implements RestApiRequest {
   private final EndpointMetadata metadata;
   private final Map<String, String> pathParamMap;
   private final Map<String, List<String>> queryParamMap;
+  private final Executor responseExecutor;
+  private SafeFuture<Void> responseComplete = SafeFuture.COMPLETE;
 
   @Override
   @SuppressWarnings({"TypeParameterUnusedInFormals"})
@@ -53,10 +56,21 @@ public class JavalinRestApiRequest implements RestApiRequest {
   }
 
   public JavalinRestApiRequest(final Context context, final EndpointMetadata metadata) {
+    this(context, metadata, Runnable::run);
+  }
+
+  /**
+   * @param responseExecutor the executor used to write asynchronous responses. Responses are
+   *     streamed straight to the client so writing blocks while the client is slow to read, which
+   *     must not happen on the thread that happened to complete the response future.
+   */
+  public JavalinRestApiRequest(
+      final Context context, final EndpointMetadata metadata, final Executor responseExecutor) {
     this.context = context;
     this.metadata = metadata;
     this.pathParamMap = context.pathParamMap();
     this.queryParamMap = context.queryParamMap();
+    this.responseExecutor = responseExecutor;
   }
 
   @Override
@@ -66,23 +80,34 @@ public class JavalinRestApiRequest implements RestApiRequest {
 
   @Override
   public void respondAsync(final SafeFuture<AsyncApiResponse> futureResponse) {
+    final SafeFuture<Void> responseWritten = new SafeFuture<>();
+    responseComplete = responseWritten;
+    // Only start writing once Javalin has switched the request to async processing
     context.future(
-        () ->
-            futureResponse
-                .thenApply(
-                    result -> {
-                      try {
-                        respond(
-                            result.getResponseCode(),
-                            result.getResponseBody(),
-                            getResponseOutputStream());
-                      } catch (JsonProcessingException e) {
-                        LOG.trace("Failed to generate API response", e);
-                        context.status(SC_INTERNAL_SERVER_ERROR);
-                      }
-                      return Bytes.EMPTY.toArrayUnsafe();
-                    })
-                .thenApply(ByteArrayInputStream::new));
+        () -> {
+          final SafeFuture<byte[]> result =
+              futureResponse.thenApplyAsync(
+                  response -> {
+                    try {
+                      respond(
+                          response.getResponseCode(),
+                          response.getResponseBody(),
+                          getResponseOutputStream());
+                    } catch (JsonProcessingException e) {
+                      LOG.trace("Failed to generate API response", e);
+                      context.status(SC_INTERNAL_SERVER_ERROR);
+                    }
+                    return Bytes.EMPTY.toArrayUnsafe();
+                  },
+                  responseExecutor);
+          result.toVoid().propagateTo(responseWritten);
+          return result.thenApply(ByteArrayInputStream::new);
+        });
+  }
+
+  /** Returns a future which completes once any asynchronous response has been written. */
+  SafeFuture<Void> getResponseComplete() {
+    return responseComplete;
   }
 
   @Override
@@ -205,6 +230,11 @@ public class JavalinRestApiRequest implements RestApiRequest {
     context.header(name, value);
   }
 
+  @Override
+  public Optional<String> getRequestHeader(final String name) {
+    return Optional.ofNullable(context.header(name));
+  }
+
   @Override
   public void startEventStream(Consumer<SseClient> clientConsumer) {
     SseHandler sseHandler =
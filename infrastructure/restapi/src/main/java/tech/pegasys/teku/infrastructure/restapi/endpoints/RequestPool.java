@@ -0,0 +1,174 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.restapi.endpoints;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
+import tech.pegasys.teku.infrastructure.async.VirtualThreads;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+/**
+ * Limits the number of requests of a {@link RequestPriority} which may be in progress and provides
+ * the threads their responses are written from.
+ *
+ * <p>A request holds its place from when it is accepted until its response has been written.
+ * Requests beyond the limit are rejected immediately so they can be answered with a 503 instead of
+ * queueing behind requests which are already slow to complete.
+ *
+ * <p>When virtual threads are used each response is written from its own virtual thread, so a
+ * response blocked on a slow client doesn't hold up the others. The limit on pending requests still
+ * bounds how many may be in progress.
+ */
+public class RequestPool {
+  private final int maxPendingRequests;
+  private final AtomicInteger pendingRequests = new AtomicInteger();
+  private final ExecutorService responseExecutor;
+  private final OperationTimer queueTimer;
+  private final Counter rejectedRequests;
+
+  RequestPool(
+      final int maxPendingRequests,
+      final ExecutorService responseExecutor,
+      final OperationTimer queueTimer,
+      final Counter rejectedRequests) {
+    this.maxPendingRequests = maxPendingRequests;
+    this.responseExecutor = responseExecutor;
+    this.queueTimer = queueTimer;
+    this.rejectedRequests = rejectedRequests;
+  }
+
+  private static ExecutorService createPlatformExecutor(
+      final String name, final int responseThreads, final int maxPendingRequests) {
+    // Each pending request writes at most one response so the queue never overflows
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            responseThreads,
+            responseThreads,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(maxPendingRequests),
+            new ThreadFactoryBuilder().setNameFormat(name + "-%d").setDaemon(true).build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  public static Map<RequestPriority, RequestPool> createPools(final MetricsSystem metricsSystem) {
+    return createPools(metricsSystem, false);
+  }
+
+  /**
+   * Creates a pool for each {@link RequestPriority}.
+   *
+   * @param useVirtualThreads write responses from virtual threads, which is ignored if they aren't
+   *     supported by the JVM
+   */
+  public static Map<RequestPriority, RequestPool> createPools(
+      final MetricsSystem metricsSystem, final boolean useVirtualThreads) {
+    final LabelledMetric<OperationTimer> queueTimers =
+        metricsSystem.createLabelledTimer(
+            TekuMetricCategory.BEACON,
+            "rest_api_response_queue_time",
+            "Time REST API responses wait for a thread to be written from",
+            "priority");
+    final LabelledMetric<Counter> rejectedCounters =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "rest_api_rejected_requests_total",
+            "Number of REST API requests rejected because too many were already in progress",
+            "priority");
+    final LabelledGauge pendingGauge =
+        metricsSystem.createLabelledGauge(
+            TekuMetricCategory.BEACON,
+            "rest_api_pending_requests",
+            "Number of REST API requests currently in progress",
+            "priority");
+    final Map<RequestPriority, RequestPool> pools = new EnumMap<>(RequestPriority.class);
+    for (RequestPriority priority : RequestPriority.values()) {
+      final String label = priority.name().toLowerCase(Locale.ROOT);
+      final String name = "rest-api-" + label;
+      final ExecutorService responseExecutor =
+          useVirtualThreads && VirtualThreads.areSupported()
+              ? VirtualThreads.newVirtualThreadPerTaskExecutor(name)
+              : createPlatformExecutor(
+                  name, priority.getResponseThreads(), priority.getMaxPendingRequests());
+      final RequestPool pool =
+          new RequestPool(
+              priority.getMaxPendingRequests(),
+              responseExecutor,
+              queueTimers.labels(label),
+              rejectedCounters.labels(label));
+      pendingGauge.labels(pool::getPendingRequests, label);
+      pools.put(priority, pool);
+    }
+    return pools;
+  }
+
+  /**
+   * Reserves a place for a new request.
+   *
+   * @return true if the request may proceed and {@link #release()} must be called once it
+   *     completes, false if too many requests are already in progress
+   */
+  public boolean tryAcquire() {
+    while (true) {
+      final int pending = pendingRequests.get();
+      if (pending >= maxPendingRequests) {
+        rejectedRequests.inc();
+        return false;
+      }
+      if (pendingRequests.compareAndSet(pending, pending + 1)) {
+        return true;
+      }
+    }
+  }
+
+  public void release() {
+    pendingRequests.decrementAndGet();
+  }
+
+  public int getPendingRequests() {
+    return pendingRequests.get();
+  }
+
+  public Executor getResponseExecutor() {
+    return this::executeResponse;
+  }
+
+  private void executeResponse(final Runnable task) {
+    final TimingContext timingContext = queueTimer.startTimer();
+    responseExecutor.execute(
+        () -> {
+          timingContext.stopTimer();
+          task.run();
+        });
+  }
+
+  public void shutdown() {
+    responseExecutor.shutdownNow();
+  }
+}
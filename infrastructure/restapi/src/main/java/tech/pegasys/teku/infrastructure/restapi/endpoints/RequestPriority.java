@@ -0,0 +1,65 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.restapi.endpoints;
+
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_DEBUG;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_EVENTS;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR_REQUIRED;
+
+import java.util.List;
+
+/**
+ * The class of work an endpoint performs, used to isolate requests for validator duties from
+ * expensive data queries.
+ *
+ * <p>Each class has its own pool of threads to write responses and its own limit on the number of
+ * requests which may be in progress, so a burst of requests in a lower priority class is rejected
+ * rather than delaying requests from validators.
+ */
+public enum RequestPriority {
+  VALIDATOR(8, 1024),
+  EVENTS(1, Integer.MAX_VALUE),
+  DATA(4, 256),
+  DEBUG(2, 8);
+
+  private final int responseThreads;
+  private final int maxPendingRequests;
+
+  RequestPriority(final int responseThreads, final int maxPendingRequests) {
+    this.responseThreads = responseThreads;
+    this.maxPendingRequests = maxPendingRequests;
+  }
+
+  public int getResponseThreads() {
+    return responseThreads;
+  }
+
+  public int getMaxPendingRequests() {
+    return maxPendingRequests;
+  }
+
+  public static RequestPriority forEndpoint(final EndpointMetadata metadata) {
+    final List<String> tags = metadata.getTags();
+    if (tags.contains(TAG_DEBUG)) {
+      return DEBUG;
+    } else if (tags.contains(TAG_EVENTS)) {
+      return EVENTS;
+    } else if (tags.contains(TAG_VALIDATOR) || tags.contains(TAG_VALIDATOR_REQUIRED)) {
+      return VALIDATOR;
+    } else {
+      return DATA;
+    }
+  }
+}
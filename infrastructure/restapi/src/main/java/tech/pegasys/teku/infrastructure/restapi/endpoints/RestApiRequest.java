@@ -54,5 +54,7 @@ public interface RestApiRequest {
 
   void header(final String name, final String value);
 
+  Optional<String> getRequestHeader(final String name);
+
   void startEventStream(final Consumer<SseClient> clientConsumer);
 }
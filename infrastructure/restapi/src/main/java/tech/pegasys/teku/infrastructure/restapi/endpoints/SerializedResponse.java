@@ -0,0 +1,63 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.restapi.endpoints;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * A response body which has already been serialized, allowing endpoints to reuse the output of an
+ * earlier request instead of serializing the same object again.
+ *
+ * <p>The content type and headers are those selected when the body was originally serialized and
+ * are sent as is, bypassing content negotiation for the response.
+ */
+public class SerializedResponse {
+  private final String contentType;
+  private final Map<String, String> additionalHeaders;
+  private final Bytes body;
+
+  public SerializedResponse(
+      final String contentType, final Map<String, String> additionalHeaders, final Bytes body) {
+    checkNotNull(contentType, "Content type must be specified");
+    checkNotNull(body, "Body must be specified");
+    this.contentType = contentType;
+    this.additionalHeaders = Map.copyOf(additionalHeaders);
+    this.body = body;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public Map<String, String> getAdditionalHeaders() {
+    return additionalHeaders;
+  }
+
+  public Bytes getBody() {
+    return body;
+  }
+
+  public int size() {
+    return body.size();
+  }
+
+  public void writeTo(final OutputStream out) throws IOException {
+    out.write(body.toArrayUnsafe());
+  }
+}
@@ -16,18 +16,24 @@ package tech.pegasys.teku.infrastructure.restapi;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.javalin.Javalin;
 import java.net.BindException;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.RequestPool;
 
 class RestApiTest {
   private final Javalin app = mock(Javalin.class);
 
-  private final RestApi restApi = new RestApi(app, Optional.empty(), Optional.empty());
+  private final RequestPool requestPool = mock(RequestPool.class);
+
+  private final RestApi restApi =
+      new RestApi(app, Optional.empty(), Optional.empty(), List.of(requestPool));
 
   @Test
   void start_shouldThrowInvalidConfigurationExceptionWhenPortInUse() {
@@ -35,4 +41,12 @@ class RestApiTest {
     assertThatThrownBy(restApi::start).isInstanceOf(InvalidConfigurationException.class);
     assertThat(restApi.getRestApiDocs()).isEmpty();
   }
+
+  @Test
+  void stop_shouldShutdownRequestPools() {
+    restApi.start();
+    restApi.stop();
+    verify(app).stop();
+    verify(requestPool).shutdown();
+  }
 }
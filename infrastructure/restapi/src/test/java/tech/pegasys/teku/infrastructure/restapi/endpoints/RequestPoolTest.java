@@ -0,0 +1,105 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.restapi.endpoints;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_BEACON;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_DEBUG;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_EVENTS;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR_REQUIRED;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestPoolTest {
+  private final Map<RequestPriority, RequestPool> pools =
+      RequestPool.createPools(new NoOpMetricsSystem());
+
+  @AfterEach
+  void tearDown() {
+    pools.values().forEach(RequestPool::shutdown);
+  }
+
+  @Test
+  void shouldRejectRequestsOverLimit() {
+    final RequestPool pool = pools.get(RequestPriority.DEBUG);
+    final int limit = RequestPriority.DEBUG.getMaxPendingRequests();
+    for (int i = 0; i < limit; i++) {
+      assertThat(pool.tryAcquire()).isTrue();
+    }
+    assertThat(pool.tryAcquire()).isFalse();
+    assertThat(pool.getPendingRequests()).isEqualTo(limit);
+
+    pool.release();
+    assertThat(pool.tryAcquire()).isTrue();
+  }
+
+  @Test
+  void shouldLimitPrioritiesIndependently() {
+    final RequestPool debugPool = pools.get(RequestPriority.DEBUG);
+    while (debugPool.tryAcquire()) {
+      // Fill the debug pool
+    }
+
+    assertThat(pools.get(RequestPriority.VALIDATOR).tryAcquire()).isTrue();
+    assertThat(pools.get(RequestPriority.DATA).tryAcquire()).isTrue();
+  }
+
+  @Test
+  void shouldRunResponsesOnPoolThreads() throws Exception {
+    final CountDownLatch complete = new CountDownLatch(1);
+    final String[] threadName = new String[1];
+    pools
+        .get(RequestPriority.VALIDATOR)
+        .getResponseExecutor()
+        .execute(
+            () -> {
+              threadName[0] = Thread.currentThread().getName();
+              complete.countDown();
+            });
+
+    assertThat(complete.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(threadName[0]).startsWith("rest-api-validator-");
+  }
+
+  @Test
+  void shouldSelectPriorityFromTags() {
+    assertThat(RequestPriority.forEndpoint(endpointWithTags(TAG_VALIDATOR, TAG_VALIDATOR_REQUIRED)))
+        .isEqualTo(RequestPriority.VALIDATOR);
+    assertThat(RequestPriority.forEndpoint(endpointWithTags(TAG_BEACON, TAG_VALIDATOR_REQUIRED)))
+        .isEqualTo(RequestPriority.VALIDATOR);
+    assertThat(RequestPriority.forEndpoint(endpointWithTags(TAG_EVENTS, TAG_VALIDATOR_REQUIRED)))
+        .isEqualTo(RequestPriority.EVENTS);
+    assertThat(RequestPriority.forEndpoint(endpointWithTags(TAG_DEBUG)))
+        .isEqualTo(RequestPriority.DEBUG);
+    assertThat(RequestPriority.forEndpoint(endpointWithTags(TAG_BEACON)))
+        .isEqualTo(RequestPriority.DATA);
+  }
+
+  private EndpointMetadata endpointWithTags(final String... tags) {
+    return EndpointMetadata.get("/foo")
+        .operationId("foo")
+        .summary("Foo Summary")
+        .description("description")
+        .tags(tags)
+        .response(SC_OK, "Good")
+        .build();
+  }
+}
@@ -14,8 +14,11 @@
 package tech.pegasys.teku.infrastructure.restapi.endpoints;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT;
@@ -27,14 +30,26 @@ import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.STRING_TYPE;
 import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.UINT8_TYPE;
 
 import io.javalin.http.Context;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.http.ContentTypes;
 import tech.pegasys.teku.infrastructure.restapi.CustomResponseTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.openapi.response.ResponseContentTypeDefinition;
@@ -177,4 +192,95 @@ public class RestApiRequestTest {
 
     assertThat(request.getQueryParameterList(INT_PARAM)).isEqualTo(List.of());
   }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void respondAsync_shouldWriteResponseUsingResponseExecutor() throws Exception {
+    final EndpointMetadata metadata =
+        EndpointMetadata.get("/foo")
+            .operationId("foo")
+            .summary("Foo Summary")
+            .description("description")
+            .response(SC_OK, "Good", STRING_TYPE)
+            .build();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final HttpServletResponse response = mock(HttpServletResponse.class);
+    when(response.getOutputStream()).thenReturn(new StubServletOutputStream(output));
+    when(context.res()).thenReturn(response);
+    final List<Runnable> pendingResponses = new ArrayList<>();
+    final JavalinRestApiRequest request =
+        new JavalinRestApiRequest(context, metadata, pendingResponses::add);
+
+    request.respondAsync(SafeFuture.completedFuture(AsyncApiResponse.respondOk("hello")));
+    final ArgumentCaptor<Supplier<CompletableFuture<?>>> futureSupplier =
+        ArgumentCaptor.forClass(Supplier.class);
+    verify(context).future(futureSupplier.capture());
+    final CompletableFuture<?> result = futureSupplier.getValue().get();
+
+    // Nothing is written by the thread that completed the response future
+    assertThat(result).isNotDone();
+    assertThat(output.size()).isZero();
+
+    assertThat(pendingResponses).hasSize(1);
+    pendingResponses.get(0).run();
+    assertThat(result).isCompleted();
+    assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("\"hello\"");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void respondAsync_shouldNotWriteCompletedResponseUntilJavalinStartsAsyncProcessing()
+      throws Exception {
+    final EndpointMetadata metadata =
+        EndpointMetadata.get("/foo")
+            .operationId("foo")
+            .summary("Foo Summary")
+            .description("description")
+            .response(SC_OK, "Good", STRING_TYPE)
+            .build();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final HttpServletResponse response = mock(HttpServletResponse.class);
+    when(response.getOutputStream()).thenReturn(new StubServletOutputStream(output));
+    when(context.res()).thenReturn(response);
+    final JavalinRestApiRequest request =
+        new JavalinRestApiRequest(context, metadata, Runnable::run);
+
+    request.respondAsync(SafeFuture.completedFuture(AsyncApiResponse.respondOk("hello")));
+
+    // Javalin hasn't requested the future yet so nothing may be written
+    verify(context, never()).status(anyInt());
+    assertThat(output.size()).isZero();
+    assertThat(request.getResponseComplete()).isNotDone();
+
+    final ArgumentCaptor<Supplier<CompletableFuture<?>>> futureSupplier =
+        ArgumentCaptor.forClass(Supplier.class);
+    verify(context).future(futureSupplier.capture());
+    final CompletableFuture<?> result = futureSupplier.getValue().get();
+
+    assertThat(result).isCompleted();
+    assertThat(request.getResponseComplete()).isCompleted();
+    verify(context).status(SC_OK);
+    assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("\"hello\"");
+  }
+
+  private static class StubServletOutputStream extends ServletOutputStream {
+    private final OutputStream delegate;
+
+    private StubServletOutputStream(final OutputStream delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setWriteListener(final WriteListener writeListener) {}
+
+    @Override
+    public void write(final int b) throws IOException {
+      delegate.write(b);
+    }
+  }
 }
@@ -88,6 +88,11 @@ public class ServiceConfig {
     return asyncRunnerFactory.create(name, maxThreads, maxQueueSize, threadPriority);
   }
 
+  public AsyncRunner createAsyncRunnerWithVirtualThreads(
+      final String name, final int maxQueueSize) {
+    return asyncRunnerFactory.createWithVirtualThreads(name, calculateMaxThreads(), maxQueueSize);
+  }
+
   public AsyncRunnerFactory getAsyncRunnerFactory() {
     return asyncRunnerFactory;
   }
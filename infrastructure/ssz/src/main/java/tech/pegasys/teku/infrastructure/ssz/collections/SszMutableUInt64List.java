@@ -21,4 +21,14 @@ public interface SszMutableUInt64List
 
   @Override
   SszUInt64List commitChanges();
+
+  /**
+   * Updates every element of the list, creating new packed leaf nodes only for the chunks which
+   * contain a changed value. This avoids creating an {@link SszUInt64} and tree update per element
+   * when most of a large list changes.
+   *
+   * @param values the unsigned bits of the new value for each element, which must have the same
+   *     length as this list
+   */
+  void setAllElements(long[] values);
 }
@@ -20,4 +20,12 @@ public interface SszUInt64List extends SszPrimitiveList<UInt64, SszUInt64> {
 
   @Override
   SszMutableUInt64List createWritableCopy();
+
+  /**
+   * Reads all elements directly from the packed leaf nodes, avoiding creating an {@link SszUInt64}
+   * per element.
+   *
+   * @return the unsigned bits of each element
+   */
+  long[] toLongArray();
 }
@@ -13,12 +13,23 @@
 
 package tech.pegasys.teku.infrastructure.ssz.collections.impl;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.cache.IntCache;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUpdates;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public class SszMutableUInt64ListImpl extends SszMutablePrimitiveListImpl<UInt64, SszUInt64>
@@ -44,6 +55,60 @@ public class SszMutableUInt64ListImpl extends SszMutablePrimitiveListImpl<UInt64
     return (SszUInt64ListSchema<?>) super.getSchema();
   }
 
+  @Override
+  public long[] toLongArray() {
+    final long[] values = Arrays.copyOf(getBackingData().toLongArray(), size());
+    // Overlay the changes which haven't been committed to the backing data yet
+    final IntSortedSet changedIndices = getChangedChildIndices();
+    changedIndices.forEach((int index) -> values[index] = get(index).longValue());
+    return values;
+  }
+
+  @Override
+  public void setAllElements(final long[] values) {
+    checkArgument(values.length == size(), "Expected %s values but got %s", size(), values.length);
+    if (!getChangedChildIndices().isEmpty()) {
+      // Pending changes would otherwise be applied over the new values when committed
+      replaceBackingData((SszUInt64ListImpl) commitChanges());
+    }
+    final SszUInt64ListImpl backingData = getBackingData();
+    final long[] currentValues = backingData.toLongArray();
+    final int elementsPerChunk = getSchema().getElementsPerChunk();
+    final LongList gIndices = new LongArrayList();
+    final List<TreeNode> newNodes = new ArrayList<>();
+    for (int fromIndex = 0; fromIndex < values.length; fromIndex += elementsPerChunk) {
+      final int toIndex = Math.min(values.length, fromIndex + elementsPerChunk);
+      if (!Arrays.equals(values, fromIndex, toIndex, currentValues, fromIndex, toIndex)) {
+        gIndices.add(getSchema().getChildGeneralizedIndex(fromIndex / elementsPerChunk));
+        newNodes.add(createPackedNode(values, fromIndex, toIndex));
+      }
+    }
+    if (gIndices.isEmpty()) {
+      return;
+    }
+    final TreeNode newBackingNode =
+        backingData.getBackingNode().updated(new TreeUpdates(gIndices, newNodes));
+    replaceBackingData(new SszUInt64ListImpl(getSchema(), newBackingNode));
+  }
+
+  private static TreeNode createPackedNode(
+      final long[] values, final int fromIndex, final int toIndex) {
+    // Only the bytes of existing elements are included so the last chunk serializes correctly
+    final byte[] data = new byte[(toIndex - fromIndex) * Long.BYTES];
+    for (int i = fromIndex; i < toIndex; i++) {
+      final long value = values[i];
+      final int offset = (i - fromIndex) * Long.BYTES;
+      for (int b = 0; b < Long.BYTES; b++) {
+        data[offset + b] = (byte) (value >> (b * 8));
+      }
+    }
+    return LeafNode.create(Bytes.wrap(data));
+  }
+
+  private SszUInt64ListImpl getBackingData() {
+    return (SszUInt64ListImpl) backingImmutableData;
+  }
+
   @Override
   public SszMutableUInt64ListImpl createWritableCopy() {
     throw new UnsupportedOperationException(
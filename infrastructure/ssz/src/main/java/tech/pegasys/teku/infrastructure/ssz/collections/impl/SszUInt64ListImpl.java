@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.infrastructure.ssz.collections.impl;
 
+import java.nio.ByteOrder;
 import tech.pegasys.teku.infrastructure.ssz.cache.IntCache;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
@@ -20,6 +21,7 @@ import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public class SszUInt64ListImpl extends SszPrimitiveListImpl<UInt64, SszUInt64>
@@ -38,4 +40,26 @@ public class SszUInt64ListImpl extends SszPrimitiveListImpl<UInt64, SszUInt64>
   public SszMutableUInt64List createWritableCopy() {
     return new SszMutableUInt64ListImpl(this);
   }
+
+  @Override
+  public long[] toLongArray() {
+    final int size = size();
+    final long[] values = new long[size];
+    if (size == 0) {
+      return values;
+    }
+    final int lastChunkIndex = (size - 1) / elementsPerChunk;
+    final int[] nextIndex = new int[1];
+    TreeUtil.iterateLeavesData(
+        getBackingNode(),
+        getSchema().getChildGeneralizedIndex(0),
+        getSchema().getChildGeneralizedIndex(lastChunkIndex),
+        leafData -> {
+          final int count = Math.min(leafData.size() / Long.BYTES, size - nextIndex[0]);
+          for (int i = 0; i < count; i++) {
+            values[nextIndex[0]++] = leafData.getLong(i * Long.BYTES, ByteOrder.LITTLE_ENDIAN);
+          }
+        });
+    return values;
+  }
 }
@@ -17,6 +17,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectRBTreeMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectSortedMap;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+import it.unimi.dsi.fastutil.ints.IntSortedSets;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -154,6 +156,23 @@ public abstract class AbstractSszMutableComposite<
     return sizeCache;
   }
 
+  /** Returns the indices of the children changed since the backing data was last replaced */
+  protected IntSortedSet getChangedChildIndices() {
+    return IntSortedSets.unmodifiable(childrenChanges.keySet());
+  }
+
+  /**
+   * Replaces the backing data and discards all changed children. Allows subclasses to apply bulk
+   * updates directly to the backing tree, so any changes which should be kept must already be
+   * included in the new backing data.
+   */
+  protected void replaceBackingData(final AbstractSszComposite<SszChildT> newBackingData) {
+    backingImmutableData = newBackingData;
+    childrenChanges.clear();
+    sizeCache = newBackingData.size();
+    invalidate();
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public SszComposite<SszChildT> commitChanges() {
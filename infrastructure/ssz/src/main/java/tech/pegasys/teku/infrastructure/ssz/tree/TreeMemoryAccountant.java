@@ -0,0 +1,124 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil.ZeroBranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil.ZeroLeafNode;
+
+/**
+ * Estimates the heap retained by trees, taking into account that unmodified subtrees are shared
+ * between trees (e.g. between a state and the state it was derived from).
+ *
+ * <p>Measuring a tree with {@link #estimateSize(TreeNode)} visits every node so is only suitable
+ * for occasional use. {@link #diff(TreeNode, TreeNode)} instead walks two trees together and skips
+ * any subtree which is the same node in both, so its cost is proportional to the number of nodes
+ * that changed. Path copying means a derived tree shares every unmodified subtree with the tree it
+ * was derived from at the same position, so the bytes it adds are found without walking the shared
+ * parts. Subtrees shared at different positions are counted again.
+ *
+ * <p>Sizes are estimates of the shallow size of each node assuming compressed object pointers and
+ * cached hashes. Static zero trees are always retained so are not counted. Children of lazily
+ * loaded branches are not walked as that would load them from storage.
+ */
+public class TreeMemoryAccountant {
+  static final long BRANCH_NODE_SIZE = 88;
+  static final long LEAF_NODE_BASE_SIZE = 56;
+  static final long OTHER_NODE_SIZE = 16;
+
+  private long addedBytes = 0;
+  private long removedBytes = 0;
+
+  private TreeMemoryAccountant() {}
+
+  /** Estimates the bytes retained by every node in the tree. */
+  public static long estimateSize(final TreeNode root) {
+    if (isStatic(root)) {
+      return 0;
+    }
+    if (!isTrackedBranch(root)) {
+      return estimateNodeSize(root);
+    }
+    final BranchNode branch = (BranchNode) root;
+    return BRANCH_NODE_SIZE + estimateSize(branch.left()) + estimateSize(branch.right());
+  }
+
+  /**
+   * Estimates the bytes of nodes that are only in one of the two trees.
+   *
+   * @param oldRoot the root of the tree to compare against
+   * @param newRoot the root of the tree being measured
+   * @return the bytes only retained by {@code newRoot} and the bytes only retained by {@code
+   *     oldRoot}
+   */
+  public static TreeMemoryDiff diff(final TreeNode oldRoot, final TreeNode newRoot) {
+    final TreeMemoryAccountant accountant = new TreeMemoryAccountant();
+    accountant.compare(oldRoot, newRoot);
+    return new TreeMemoryDiff(accountant.addedBytes, accountant.removedBytes);
+  }
+
+  private void compare(final TreeNode oldNode, final TreeNode newNode) {
+    if (oldNode == newNode) {
+      return;
+    }
+    if (isTrackedBranch(oldNode) && isTrackedBranch(newNode)) {
+      addedBytes += BRANCH_NODE_SIZE;
+      removedBytes += BRANCH_NODE_SIZE;
+      final BranchNode oldBranch = (BranchNode) oldNode;
+      final BranchNode newBranch = (BranchNode) newNode;
+      compare(oldBranch.left(), newBranch.left());
+      compare(oldBranch.right(), newBranch.right());
+    } else {
+      addedBytes += estimateSize(newNode);
+      removedBytes += estimateSize(oldNode);
+    }
+  }
+
+  static long estimateNodeSize(final TreeNode node) {
+    if (node instanceof BranchNode) {
+      return BRANCH_NODE_SIZE;
+    } else if (node instanceof LeafDataNode) {
+      return LEAF_NODE_BASE_SIZE + ((LeafDataNode) node).getData().size();
+    } else {
+      return OTHER_NODE_SIZE;
+    }
+  }
+
+  private static boolean isStatic(final TreeNode node) {
+    return node instanceof ZeroBranchNode || node instanceof ZeroLeafNode;
+  }
+
+  private static boolean isTrackedBranch(final TreeNode node) {
+    return node instanceof BranchNode && !(node instanceof LazyBranchNode) && !isStatic(node);
+  }
+
+  public static class TreeMemoryDiff {
+    private final long addedBytes;
+    private final long removedBytes;
+
+    public TreeMemoryDiff(final long addedBytes, final long removedBytes) {
+      this.addedBytes = addedBytes;
+      this.removedBytes = removedBytes;
+    }
+
+    /** Estimated bytes of nodes only in the new tree. */
+    public long getAddedBytes() {
+      return addedBytes;
+    }
+
+    /** Estimated bytes of nodes only in the old tree. */
+    public long getRemovedBytes() {
+      return removedBytes;
+    }
+  }
+}
@@ -20,6 +20,7 @@ import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 
@@ -193,6 +194,63 @@ public class TreeUtil {
         });
   }
 
+  /**
+   * Finds the nodes at the given depth which differ between two trees, e.g. the elements which
+   * changed between two versions of a list. Trees are immutable so only subtrees which aren't the
+   * same instance need to be compared, which makes finding a few changes in a large tree cheap.
+   *
+   * @param oldTree the previous version of the tree
+   * @param newTree the current version of the tree
+   * @param depth the depth of the nodes to compare, relative to the tree roots
+   * @param maxIndex only nodes with an index below this are reported
+   * @param changedIndexConsumer called with the index of each node which differs, in order
+   */
+  public static void findChangedNodes(
+      final TreeNode oldTree,
+      final TreeNode newTree,
+      final int depth,
+      final int maxIndex,
+      final IntConsumer changedIndexConsumer) {
+    findChangedNodes(oldTree, newTree, depth, 0, maxIndex, changedIndexConsumer);
+  }
+
+  private static void findChangedNodes(
+      final TreeNode oldNode,
+      final TreeNode newNode,
+      final int height,
+      final long firstIndex,
+      final int maxIndex,
+      final IntConsumer changedIndexConsumer) {
+    if (oldNode == newNode || firstIndex >= maxIndex) {
+      return;
+    }
+    if (height > 0 && oldNode instanceof BranchNode && newNode instanceof BranchNode) {
+      final BranchNode oldBranch = (BranchNode) oldNode;
+      final BranchNode newBranch = (BranchNode) newNode;
+      final long rightFirstIndex = firstIndex + (1L << (height - 1));
+      findChangedNodes(
+          oldBranch.left(),
+          newBranch.left(),
+          height - 1,
+          firstIndex,
+          maxIndex,
+          changedIndexConsumer);
+      findChangedNodes(
+          oldBranch.right(),
+          newBranch.right(),
+          height - 1,
+          rightFirstIndex,
+          maxIndex,
+          changedIndexConsumer);
+    } else {
+      // Can't compare the subtrees any further so treat every node within them as changed
+      final long endIndex = Math.min(maxIndex, firstIndex + (1L << height));
+      for (long index = firstIndex; index < endIndex; index++) {
+        changedIndexConsumer.accept((int) index);
+      }
+    }
+  }
+
   public static Bytes concatenateLeavesData(TreeNode tree) {
     List<Bytes> leavesData = new ArrayList<>();
     iterateLeavesData(
@@ -0,0 +1,122 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class SszUInt64ListTest {
+  private static final SszUInt64ListSchema<SszUInt64List> SCHEMA =
+      SszUInt64ListSchema.create(1L << 40);
+
+  private final Random random = new Random(42);
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 3, 4, 5, 17, 300})
+  void toLongArray_shouldReturnAllElements(final int size) {
+    final SszUInt64List list = randomList(size);
+
+    assertThat(list.toLongArray()).containsExactly(unboxed(list));
+  }
+
+  @Test
+  void toLongArray_shouldIncludeUncommittedChanges() {
+    final SszMutableUInt64List list = randomList(10).createWritableCopy();
+    list.setElement(3, UInt64.valueOf(333));
+    list.appendElement(UInt64.MAX_VALUE);
+
+    final long[] values = list.toLongArray();
+
+    assertThat(values).hasSize(11);
+    assertThat(values[3]).isEqualTo(333);
+    assertThat(values[10]).isEqualTo(-1L);
+    assertThat(values).containsExactly(unboxed(list.commitChanges()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 3, 4, 5, 17, 300})
+  void setAllElements_shouldMatchSettingEachElement(final int size) {
+    final SszUInt64List original = randomList(size);
+    final long[] newValues = original.toLongArray();
+    for (int i = 0; i < size; i += 3) {
+      newValues[i] = random.nextLong();
+    }
+
+    final SszMutableUInt64List bulkUpdated = original.createWritableCopy();
+    bulkUpdated.setAllElements(newValues);
+    final SszMutableUInt64List individuallyUpdated = original.createWritableCopy();
+    for (int i = 0; i < size; i++) {
+      individuallyUpdated.setElement(i, UInt64.fromLongBits(newValues[i]));
+    }
+
+    final SszUInt64List expected = individuallyUpdated.commitChanges();
+    final SszUInt64List actual = bulkUpdated.commitChanges();
+    assertThat(actual.toLongArray()).containsExactly(newValues);
+    assertThat(actual.hashTreeRoot()).isEqualTo(expected.hashTreeRoot());
+    assertThat(actual.sszSerialize()).isEqualTo(expected.sszSerialize());
+  }
+
+  @Test
+  void setAllElements_shouldReplaceUncommittedChanges() {
+    final SszMutableUInt64List list = randomList(5).createWritableCopy();
+    list.setElement(1, UInt64.valueOf(1));
+    list.appendElement(UInt64.valueOf(6));
+    final long[] newValues = {10, 11, 12, 13, 14, 15};
+
+    list.setAllElements(newValues);
+
+    assertThat(list.getElement(1)).isEqualTo(UInt64.valueOf(11));
+    assertThat(list.commitChanges()).isEqualTo(SCHEMA.of(toUInt64s(newValues)));
+  }
+
+  @Test
+  void setAllElements_shouldReturnSameTreeWhenNothingChanged() {
+    final SszUInt64List original = randomList(17);
+    final SszMutableUInt64List list = original.createWritableCopy();
+
+    list.setAllElements(original.toLongArray());
+
+    assertThat(list.commitChanges().getBackingNode()).isSameAs(original.getBackingNode());
+  }
+
+  @Test
+  void setAllElements_shouldRejectValuesWithDifferentLength() {
+    final SszMutableUInt64List list = randomList(5).createWritableCopy();
+
+    assertThatThrownBy(() -> list.setAllElements(new long[4]))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private SszUInt64List randomList(final int size) {
+    return SCHEMA.of(toUInt64s(LongStream.generate(random::nextLong).limit(size).toArray()));
+  }
+
+  private static List<UInt64> toUInt64s(final long[] values) {
+    return LongStream.of(values).mapToObj(UInt64::fromLongBits).collect(Collectors.toList());
+  }
+
+  private static long[] unboxed(final SszUInt64List list) {
+    return list.asListUnboxed().stream().mapToLong(UInt64::longValue).toArray();
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.ssz.tree.TreeMemoryAccountant.BRANCH_NODE_SIZE;
+import static tech.pegasys.teku.infrastructure.ssz.tree.TreeMemoryAccountant.LEAF_NODE_BASE_SIZE;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeMemoryAccountant.TreeMemoryDiff;
+
+public class TreeMemoryAccountantTest {
+  private static final long LEAF_SIZE = LEAF_NODE_BASE_SIZE + 1;
+
+  private final TreeNode leafA = leaf(1);
+  private final TreeNode leafB = leaf(2);
+  private final TreeNode sharedSubtree = BranchNode.create(leafA, leafB);
+
+  @Test
+  void shouldEstimateSizeOfTree() {
+    assertThat(TreeMemoryAccountant.estimateSize(sharedSubtree))
+        .isEqualTo(BRANCH_NODE_SIZE + 2 * LEAF_SIZE);
+  }
+
+  @Test
+  void shouldNotCountZeroTrees() {
+    final TreeNode root = BranchNode.create(sharedSubtree, TreeUtil.ZERO_TREES[5]);
+
+    assertThat(TreeMemoryAccountant.estimateSize(root))
+        .isEqualTo(2 * BRANCH_NODE_SIZE + 2 * LEAF_SIZE);
+  }
+
+  @Test
+  void diff_shouldOnlyCountNodesNotShared() {
+    final TreeNode root1 = BranchNode.create(sharedSubtree, leaf(3));
+    final TreeNode root2 = BranchNode.create(sharedSubtree, leaf(4));
+
+    final TreeMemoryDiff diff = TreeMemoryAccountant.diff(root1, root2);
+
+    assertThat(diff.getAddedBytes()).isEqualTo(BRANCH_NODE_SIZE + LEAF_SIZE);
+    assertThat(diff.getRemovedBytes()).isEqualTo(BRANCH_NODE_SIZE + LEAF_SIZE);
+  }
+
+  @Test
+  void diff_shouldBeEmptyForSameTree() {
+    final TreeMemoryDiff diff = TreeMemoryAccountant.diff(sharedSubtree, sharedSubtree);
+
+    assertThat(diff.getAddedBytes()).isZero();
+    assertThat(diff.getRemovedBytes()).isZero();
+  }
+
+  @Test
+  void diff_shouldAccountForSizeDifference() {
+    final TreeNode root1 = BranchNode.create(sharedSubtree, TreeUtil.ZERO_TREES[1]);
+    final TreeNode root2 = BranchNode.create(sharedSubtree, BranchNode.create(leaf(3), leaf(4)));
+
+    final TreeMemoryDiff diff = TreeMemoryAccountant.diff(root1, root2);
+
+    assertThat(diff.getAddedBytes()).isEqualTo(2 * BRANCH_NODE_SIZE + 2 * LEAF_SIZE);
+    assertThat(diff.getRemovedBytes()).isEqualTo(BRANCH_NODE_SIZE);
+    assertThat(TreeMemoryAccountant.estimateSize(root2))
+        .isEqualTo(
+            TreeMemoryAccountant.estimateSize(root1)
+                + diff.getAddedBytes()
+                - diff.getRemovedBytes());
+  }
+
+  private static TreeNode leaf(final int value) {
+    return LeafNode.create(Bytes.of(value));
+  }
+}
@@ -243,6 +243,35 @@ public class TreeTest {
     assertThatLongCollection(iteratedIndices).containsExactly(0b1L, 0b11L, 0b110L, 0b111L);
   }
 
+  @Test
+  void testFindChangedNodes() {
+    TreeNode zeroTree = TreeUtil.createDefaultTree(8, LeafNode.EMPTY_LEAF);
+    TreeNode t1 = zeroTree.updated(8 + 1, newTestLeaf(111));
+    TreeNode t2 =
+        t1.updated(
+            new TreeUpdates(
+                List.of(new Update(8 + 3, newTestLeaf(222)), new Update(8 + 6, newTestLeaf(333)))));
+
+    assertThat(findChangedNodes(t1, t1, 8)).isEmpty();
+    assertThat(findChangedNodes(t1, t2, 8)).containsExactly(3, 6);
+    assertThat(findChangedNodes(zeroTree, t2, 8)).containsExactly(1, 3, 6);
+    assertThat(findChangedNodes(zeroTree, t2, 5)).containsExactly(1, 3);
+  }
+
+  @Test
+  void testFindChangedNodesWhenSubtreeCannotBeCompared() {
+    TreeNode zeroTree = TreeUtil.createDefaultTree(8, LeafNode.EMPTY_LEAF);
+    TreeNode t1 = zeroTree.updated(0b10, newTestLeaf(111));
+
+    assertThat(findChangedNodes(zeroTree, t1, 8)).containsExactly(0, 1, 2, 3);
+  }
+
+  static List<Integer> findChangedNodes(TreeNode oldTree, TreeNode newTree, int maxIndex) {
+    List<Integer> ret = new ArrayList<>();
+    TreeUtil.findChangedNodes(oldTree, newTree, 3, maxIndex, ret::add);
+    return ret;
+  }
+
   static List<LeafNode> collectLeaves(TreeNode n, long from, long to) {
     List<LeafNode> ret = new ArrayList<>();
     TreeUtil.iterateLeaves(n, from, to, ret::add);
@@ -149,6 +149,7 @@ import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.storage.client.StorageBackedRecentChainData;
 import tech.pegasys.teku.storage.store.FileKeyValueStore;
+import tech.pegasys.teku.storage.store.HotStateSnapshot;
 import tech.pegasys.teku.storage.store.KeyValueStore;
 import tech.pegasys.teku.storage.store.StoreConfig;
 import tech.pegasys.teku.validator.api.InteropConfig;
@@ -158,6 +159,7 @@ import tech.pegasys.teku.validator.coordinator.ActiveValidatorTracker;
 import tech.pegasys.teku.validator.coordinator.BlockFactory;
 import tech.pegasys.teku.validator.coordinator.BlockOperationSelectorFactory;
 import tech.pegasys.teku.validator.coordinator.DepositProvider;
+import tech.pegasys.teku.validator.coordinator.DutyCachePrimer;
 import tech.pegasys.teku.validator.coordinator.DutyMetrics;
 import tech.pegasys.teku.validator.coordinator.Eth1DataCache;
 import tech.pegasys.teku.validator.coordinator.Eth1DataProvider;
@@ -182,6 +184,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
   private static final Logger LOG = LogManager.getLogger();
 
   protected static final String KEY_VALUE_STORE_SUBDIRECTORY = "kvstore";
+  protected static final String HOT_STATE_SNAPSHOT_FILE = "hot-states.snapshot";
 
   protected volatile BeaconChainConfiguration beaconConfig;
   protected volatile Spec spec;
@@ -204,6 +207,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
 
   protected volatile DataProvider dataProvider;
   protected volatile RecentChainData recentChainData;
+  protected volatile Optional<HotStateSnapshot> hotStateSnapshot = Optional.empty();
   protected volatile Eth2P2PNetwork p2pNetwork;
   protected volatile Optional<BeaconRestApi> beaconRestAPI = Optional.empty();
   protected volatile AggregatingAttestationPool attestationPool;
@@ -214,6 +218,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
   protected volatile CombinedChainDataClient combinedChainDataClient;
   protected volatile Eth1DataCache eth1DataCache;
   protected volatile SlotProcessor slotProcessor;
+  protected volatile EpochCachePrimer epochCachePrimer;
   protected volatile OperationPool<AttesterSlashing> attesterSlashingPool;
   protected volatile OperationPool<ProposerSlashing> proposerSlashingPool;
   protected volatile OperationPool<SignedVoluntaryExit> voluntaryExitPool;
@@ -334,7 +339,15 @@ public class BeaconChainController extends Service implements BeaconChainControl
             mergeTransitionConfigCheck
                 .map(MergeTransitionConfigCheck::stop)
                 .orElse(SafeFuture.completedFuture(null)))
-        .thenRun(forkChoiceExecutor::stop);
+        .thenRun(forkChoiceExecutor::stop)
+        .thenRun(this::saveHotStateSnapshot);
+  }
+
+  private void saveHotStateSnapshot() {
+    if (recentChainData == null || recentChainData.isPreGenesis()) {
+      return;
+    }
+    hotStateSnapshot.ifPresent(snapshot -> snapshot.save(recentChainData.getStore()));
   }
 
   protected SafeFuture<?> initialize() {
@@ -349,6 +362,11 @@ public class BeaconChainController extends Service implements BeaconChainControl
     storageQueryChannel = combinedStorageChannel;
     storageUpdateChannel = combinedStorageChannel;
     final VoteUpdateChannel voteUpdateChannel = eventChannels.getPublisher(VoteUpdateChannel.class);
+    if (storeConfig.isHotStateSnapshotEnabled()) {
+      hotStateSnapshot =
+          Optional.of(
+              new HotStateSnapshot(spec, beaconDataDirectory.resolve(HOT_STATE_SNAPSHOT_FILE)));
+    }
     // Init other services
     return initWeakSubjectivity(storageQueryChannel, storageUpdateChannel)
         .thenCompose(
@@ -356,6 +374,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 StorageBackedRecentChainData.create(
                     metricsSystem,
                     storeConfig,
+                    hotStateSnapshot,
                     beaconAsyncRunner,
                     storageQueryChannel,
                     storageUpdateChannel,
@@ -716,6 +735,9 @@ public class BeaconChainController extends Service implements BeaconChainControl
             syncCommitteeSubscriptionManager);
     eventChannels
         .subscribe(SlotEventsChannel.class, activeValidatorTracker)
+        .subscribe(
+            ChainHeadChannel.class,
+            new DutyCachePrimer(spec, recentChainData, activeValidatorTracker, epochCachePrimer))
         .subscribeMultithreaded(
             ValidatorApiChannel.class,
             validatorApiHandler,
@@ -880,6 +902,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
   }
 
   protected void initSlotProcessor() {
+    epochCachePrimer = new EpochCachePrimer(spec, recentChainData, beaconAsyncRunner);
     slotProcessor =
         new SlotProcessor(
             spec,
@@ -889,7 +912,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
             forkChoiceNotifier,
             p2pNetwork,
             slotEventsChannelPublisher,
-            new EpochCachePrimer(spec, recentChainData, beaconAsyncRunner));
+            epochCachePrimer);
   }
 
   public void initAttestationPool() {
@@ -923,6 +946,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 eventAsyncRunner,
                 timeProvider,
                 executionClientDataProvider,
+                metricsSystem,
                 spec));
 
     if (beaconConfig.beaconRestApiConfig().isBeaconLivenessTrackingEnabled()) {
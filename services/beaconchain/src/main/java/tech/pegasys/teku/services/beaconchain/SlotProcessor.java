@@ -142,6 +142,10 @@ public class SlotProcessor {
     if (isEpochPrecalculationDue(epoch, currentTimeMillis, genesisTimeMillis)) {
       processEpochPrecompute(epoch);
       performanceRecord.ifPresent(TickProcessingPerformance::precomputeEpochComplete);
+    } else if (isEpochPrecalculationPending(epoch, currentTimeMillis, genesisTimeMillis)) {
+      // A late block for the last slot may have changed the head since the epoch transition was
+      // precomputed so keep it in step with the head until the epoch starts
+      epochCachePrimer.primeCacheForEpoch(epoch);
     }
   }
 
@@ -211,6 +215,16 @@ public class SlotProcessor {
     return processingDueForSlot && timeReached;
   }
 
+  // Epoch transition was precalculated but the epoch hasn't started yet
+  boolean isEpochPrecalculationPending(
+      final UInt64 epoch, final UInt64 currentTimeMillis, final UInt64 genesisTimeMillis) {
+    final UInt64 firstSlotOfNextEpoch = spec.computeStartSlotAtEpoch(epoch);
+    final UInt64 nextEpochStartTimeMillis =
+        spec.getSlotStartTimeMillis(firstSlotOfNextEpoch, genesisTimeMillis);
+    return firstSlotOfNextEpoch.equals(onTickEpochPrecompute)
+        && currentTimeMillis.isLessThan(nextEpochStartTimeMillis);
+  }
+
   private UInt64 oneThirdSlotMillis(final UInt64 slot) {
     return spec.getMillisPerSlot(slot).dividedBy(INTERVALS_PER_SLOT);
   }
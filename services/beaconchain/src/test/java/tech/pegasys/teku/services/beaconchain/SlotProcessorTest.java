@@ -18,6 +18,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.time.TimeUtilities.secondsToMillis;
@@ -402,6 +403,46 @@ public class SlotProcessorTest {
     verify(recentChainData, atMostOnce()).retrieveStateAtSlot(any());
   }
 
+  @Test
+  void shouldPrimeEpochAgainUntilEpochStartsToFollowHeadChanges() {
+    final RecentChainData recentChainData = mock(RecentChainData.class);
+    when(recentChainData.getGenesisTimeMillis()).thenReturn(genesisTimeMillis);
+    when(syncStateProvider.getCurrentSyncState()).thenReturn(SyncState.IN_SYNC);
+    final SlotProcessor slotProcessor =
+        new SlotProcessor(
+            spec,
+            recentChainData,
+            syncStateProvider,
+            forkChoiceTrigger,
+            forkChoiceNotifier,
+            p2pNetwork,
+            slotEventsChannel,
+            epochCachePrimer,
+            eventLogger);
+
+    final UInt64 lastSlotOfEpoch =
+        UInt64.valueOf(spec.getGenesisSpecConfig().getSlotsPerEpoch() - 1);
+    slotProcessor.setCurrentSlot(lastSlotOfEpoch);
+    final UInt64 lastSlotStartMillis =
+        secondsToMillis(spec.getSlotStartTime(lastSlotOfEpoch, genesisTime));
+    final UInt64 nextEpochStartMillis =
+        secondsToMillis(spec.getSlotStartTime(lastSlotOfEpoch.plus(1), genesisTime));
+
+    slotProcessor.onTick(lastSlotStartMillis, Optional.empty());
+    slotProcessor.onTick(lastSlotStartMillis.plus(oneThirdMillis(millisPerSlot)), Optional.empty());
+    slotProcessor.onTick(
+        lastSlotStartMillis.plus(oneThirdMillis(millisPerSlot) * 2), Optional.empty());
+    verify(epochCachePrimer).primeCacheForEpoch(ONE);
+
+    // Keeps requesting priming so a new head is picked up before the epoch starts
+    slotProcessor.onTick(nextEpochStartMillis.minus(1), Optional.empty());
+    verify(epochCachePrimer, times(2)).primeCacheForEpoch(ONE);
+
+    // But stops once the epoch has started
+    slotProcessor.onTick(nextEpochStartMillis, Optional.empty());
+    verify(epochCachePrimer, times(2)).primeCacheForEpoch(ONE);
+  }
+
   private long oneThirdMillis(long millis) {
     return millis / 3L;
   }
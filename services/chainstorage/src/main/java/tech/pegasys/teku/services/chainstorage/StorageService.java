@@ -39,6 +39,7 @@ import tech.pegasys.teku.storage.server.StorageConfiguration;
 import tech.pegasys.teku.storage.server.VersionedDatabaseFactory;
 import tech.pegasys.teku.storage.server.pruner.BlobsPruner;
 import tech.pegasys.teku.storage.server.pruner.BlockPruner;
+import tech.pegasys.teku.storage.store.StateCacheMemoryMetrics;
 
 public class StorageService extends Service implements StorageServiceFacade {
   private final StorageConfiguration config;
@@ -49,14 +50,17 @@ public class StorageService extends Service implements StorageServiceFacade {
   private volatile Optional<BlockPruner> blockPruner = Optional.empty();
   private volatile Optional<BlobsPruner> blobsPruner = Optional.empty();
   private final boolean depositSnapshotStorageEnabled;
+  private final boolean stateCacheMemoryMetricsEnabled;
 
   public StorageService(
       final ServiceConfig serviceConfig,
       final StorageConfiguration storageConfiguration,
-      final boolean depositSnapshotStorageEnabled) {
+      final boolean depositSnapshotStorageEnabled,
+      final boolean stateCacheMemoryMetricsEnabled) {
     this.serviceConfig = serviceConfig;
     this.config = storageConfiguration;
     this.depositSnapshotStorageEnabled = depositSnapshotStorageEnabled;
+    this.stateCacheMemoryMetricsEnabled = stateCacheMemoryMetricsEnabled;
   }
 
   @Override
@@ -100,6 +104,13 @@ public class StorageService extends Service implements StorageServiceFacade {
               }
               final EventChannels eventChannels = serviceConfig.getEventChannels();
               chainStorage = ChainStorage.create(database, config.getSpec());
+              if (stateCacheMemoryMetricsEnabled) {
+                StateCacheMemoryMetrics.create(
+                    serviceConfig.getMetricsSystem(),
+                    storagePrunerAsyncRunner,
+                    "finalized_states",
+                    chainStorage::getCachedFinalizedStates);
+              }
               final DepositStorage depositStorage =
                   DepositStorage.create(
                       eventChannels.getPublisher(Eth1EventsChannel.class),
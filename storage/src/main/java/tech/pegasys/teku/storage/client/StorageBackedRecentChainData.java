@@ -17,6 +17,7 @@ import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.TimeoutException;
 import org.apache.logging.log4j.LogManager;
@@ -35,6 +36,7 @@ import tech.pegasys.teku.storage.api.OnDiskStoreData;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.api.VoteUpdateChannel;
+import tech.pegasys.teku.storage.store.HotStateSnapshot;
 import tech.pegasys.teku.storage.store.StoreBuilder;
 import tech.pegasys.teku.storage.store.StoreConfig;
 import tech.pegasys.teku.storage.store.UpdatableStore;
@@ -46,11 +48,13 @@ public class StorageBackedRecentChainData extends RecentChainData {
   private final StateAndBlockSummaryProvider stateProvider;
   private final StorageQueryChannel storageQueryChannel;
   private final StoreConfig storeConfig;
+  private final Optional<HotStateSnapshot> hotStateSnapshot;
 
   public StorageBackedRecentChainData(
       final AsyncRunner asyncRunner,
       final MetricsSystem metricsSystem,
       final StoreConfig storeConfig,
+      final Optional<HotStateSnapshot> hotStateSnapshot,
       final StorageQueryChannel storageQueryChannel,
       final StorageUpdateChannel storageUpdateChannel,
       final VoteUpdateChannel voteUpdateChannel,
@@ -70,6 +74,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
         chainHeadChannel,
         spec);
     this.storeConfig = storeConfig;
+    this.hotStateSnapshot = hotStateSnapshot;
     this.storageQueryChannel = storageQueryChannel;
     this.blockProvider = storageQueryChannel::getHotBlocksByRoot;
     this.stateProvider = storageQueryChannel::getHotStateAndBlockSummaryByBlockRoot;
@@ -79,6 +84,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
   public static SafeFuture<RecentChainData> create(
       final MetricsSystem metricsSystem,
       final StoreConfig storeConfig,
+      final Optional<HotStateSnapshot> hotStateSnapshot,
       final AsyncRunner asyncRunner,
       final StorageQueryChannel storageQueryChannel,
       final StorageUpdateChannel storageUpdateChannel,
@@ -91,6 +97,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
             asyncRunner,
             metricsSystem,
             storeConfig,
+            hotStateSnapshot,
             storageQueryChannel,
             storageUpdateChannel,
             voteUpdateChannel,
@@ -117,6 +124,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
             asyncRunner,
             metricsSystem,
             storeConfig,
+            Optional.empty(),
             storageQueryChannel,
             storageUpdateChannel,
             voteUpdateChannel,
@@ -159,6 +167,8 @@ public class StorageBackedRecentChainData extends RecentChainData {
                   .blobsSidecarProvider(blobsSidecarProvider)
                   .stateProvider(stateProvider)
                   .storeConfig(storeConfig)
+                  .hotStates(
+                      hotStateSnapshot.map(HotStateSnapshot::load).orElse(Collections.emptyList()))
                   .build();
           setStore(store);
           STATUS_LOG.finishInitializingChainData();
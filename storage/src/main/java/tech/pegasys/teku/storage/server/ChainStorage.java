@@ -65,6 +65,10 @@ public class ChainStorage
         database, new FinalizedStateCache(spec, database, finalizedStateCacheSize, true));
   }
 
+  public Collection<BeaconState> getCachedFinalizedStates() {
+    return finalizedStateCache.getCachedStates();
+  }
+
   private synchronized Optional<OnDiskStoreData> getStore() {
     if (cachedStoreData.isEmpty()) {
       // Create store from database
@@ -15,10 +15,12 @@ package tech.pegasys.teku.storage.server.kvstore;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonProperty.Access;
 import com.google.common.base.MoreObjects;
 import java.nio.file.Path;
+import java.util.Optional;
 import org.rocksdb.CompressionType;
 
 /**
@@ -90,8 +92,10 @@ public class KvStoreConfiguration {
   @JsonProperty("compressionType")
   private CompressionType compressionType = CompressionType.NO_COMPRESSION;
 
+  // Left unset by default so each column profile can choose its own bottommost compression
   @JsonProperty("bottomMostCompressionType")
-  private CompressionType bottomMostCompressionType = CompressionType.NO_COMPRESSION;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private CompressionType bottomMostCompressionType = null;
 
   @JsonIgnore private Path databaseDir;
 
@@ -158,8 +162,8 @@ public class KvStoreConfiguration {
     return compressionType;
   }
 
-  public CompressionType getBottomMostCompressionType() {
-    return bottomMostCompressionType;
+  public Optional<CompressionType> getBottomMostCompressionType() {
+    return Optional.ofNullable(bottomMostCompressionType);
   }
 
   public boolean optimizeForSmallDb() {
@@ -0,0 +1,31 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.schema;
+
+/**
+ * Describes how a column is accessed so the underlying store can tune its storage accordingly.
+ *
+ * <p>Profiles are only a hint. Changing the profile of an existing column is safe as the settings
+ * are applied to newly written files, and stores which don't support per-column tuning ignore them.
+ */
+public enum KvStoreColumnProfile {
+  /** No particular access pattern. */
+  DEFAULT,
+  /** Values are read individually by key, typically a root, and frequently for missing keys. */
+  POINT_LOOKUP,
+  /** Values are read in key order, typically a range of slots. */
+  RANGE_SCAN,
+  /** Values are large, written once and read rarely, such as full states. */
+  LARGE_VALUE
+}
@@ -14,6 +14,9 @@
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
 import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn.asColumnId;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.LARGE_VALUE;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.POINT_LOOKUP;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.RANGE_SCAN;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BLOCK_ROOTS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
@@ -52,28 +55,39 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
   private V6SchemaCombinedSnapshot(final Spec spec, final int finalizedOffset) {
     super(spec, finalizedOffset);
     slotsByFinalizedRoot =
-        KvStoreColumn.create(finalizedOffset + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+        KvStoreColumn.create(
+            finalizedOffset + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
     finalizedBlocksBySlot =
         KvStoreColumn.create(
             finalizedOffset + 2,
             UINT64_SERIALIZER,
-            KvStoreSerializer.createSignedBlockSerializer(spec));
+            KvStoreSerializer.createSignedBlockSerializer(spec),
+            RANGE_SCAN);
     finalizedStatesBySlot =
         KvStoreColumn.create(
-            finalizedOffset + 3, UINT64_SERIALIZER, KvStoreSerializer.createStateSerializer(spec));
+            finalizedOffset + 3,
+            UINT64_SERIALIZER,
+            KvStoreSerializer.createStateSerializer(spec),
+            LARGE_VALUE);
     slotsByFinalizedStateRoot =
-        KvStoreColumn.create(finalizedOffset + 4, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+        KvStoreColumn.create(
+            finalizedOffset + 4, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
     nonCanonicalBlocksByRoot =
         KvStoreColumn.create(
             finalizedOffset + 5,
             BYTES32_SERIALIZER,
-            KvStoreSerializer.createSignedBlockSerializer(spec));
+            KvStoreSerializer.createSignedBlockSerializer(spec),
+            POINT_LOOKUP);
     nonCanonicalBlockRootsBySlot =
-        KvStoreColumn.create(finalizedOffset + 6, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER);
+        KvStoreColumn.create(
+            finalizedOffset + 6, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER, RANGE_SCAN);
 
     blobsSidecarBySlotAndBlockRoot =
         KvStoreColumn.create(
-            finalizedOffset + 10, SLOT_AND_BLOCK_ROOT_KEY_SERIALIZER, BYTES_SERIALIZER);
+            finalizedOffset + 10,
+            SLOT_AND_BLOCK_ROOT_KEY_SERIALIZER,
+            BYTES_SERIALIZER,
+            LARGE_VALUE);
     unconfirmedBlobsSidecarBySlotAndBlockRoot =
         KvStoreColumn.create(
             finalizedOffset + 11, SLOT_AND_BLOCK_ROOT_KEY_SERIALIZER, VOID_SERIALIZER);
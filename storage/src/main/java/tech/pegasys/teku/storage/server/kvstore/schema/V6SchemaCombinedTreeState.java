@@ -14,6 +14,9 @@
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
 import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn.asColumnId;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.LARGE_VALUE;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.POINT_LOOKUP;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.RANGE_SCAN;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BLOCK_ROOTS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
@@ -54,34 +57,45 @@ public class V6SchemaCombinedTreeState extends V6SchemaCombined implements Schem
   public V6SchemaCombinedTreeState(final Spec spec) {
     super(spec, V6_FINALIZED_OFFSET);
     slotsByFinalizedRoot =
-        KvStoreColumn.create(V6_FINALIZED_OFFSET + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+        KvStoreColumn.create(
+            V6_FINALIZED_OFFSET + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
     slotsByFinalizedStateRoot =
-        KvStoreColumn.create(V6_FINALIZED_OFFSET + 2, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+        KvStoreColumn.create(
+            V6_FINALIZED_OFFSET + 2, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
     nonCanonicalBlockRootsBySlot =
-        KvStoreColumn.create(V6_FINALIZED_OFFSET + 3, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER);
+        KvStoreColumn.create(
+            V6_FINALIZED_OFFSET + 3, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER, RANGE_SCAN);
     finalizedStateRootsBySlot =
-        KvStoreColumn.create(V6_FINALIZED_OFFSET + 4, UINT64_SERIALIZER, BYTES32_SERIALIZER);
+        KvStoreColumn.create(
+            V6_FINALIZED_OFFSET + 4, UINT64_SERIALIZER, BYTES32_SERIALIZER, RANGE_SCAN);
     finalizedStateTreeLeavesByRoot =
-        KvStoreColumn.create(V6_FINALIZED_OFFSET + 5, BYTES32_SERIALIZER, BYTES_SERIALIZER);
+        KvStoreColumn.create(
+            V6_FINALIZED_OFFSET + 5, BYTES32_SERIALIZER, BYTES_SERIALIZER, POINT_LOOKUP);
     finalizedStateTreeBranchesByRoot =
         KvStoreColumn.create(
             V6_FINALIZED_OFFSET + 6,
             BYTES32_SERIALIZER,
-            COMPRESSED_BRANCH_INFO_KV_STORE_SERIALIZER);
+            COMPRESSED_BRANCH_INFO_KV_STORE_SERIALIZER,
+            POINT_LOOKUP);
     finalizedBlocksBySlot =
         KvStoreColumn.create(
             V6_FINALIZED_OFFSET + 7,
             UINT64_SERIALIZER,
-            KvStoreSerializer.createSignedBlockSerializer(spec));
+            KvStoreSerializer.createSignedBlockSerializer(spec),
+            RANGE_SCAN);
     nonCanonicalBlocksByRoot =
         KvStoreColumn.create(
             V6_FINALIZED_OFFSET + 8,
             BYTES32_SERIALIZER,
-            KvStoreSerializer.createSignedBlockSerializer(spec));
+            KvStoreSerializer.createSignedBlockSerializer(spec),
+            POINT_LOOKUP);
 
     blobsSidecarBySlotAndBlockRoot =
         KvStoreColumn.create(
-            finalizedOffset + 12, SLOT_AND_BLOCK_ROOT_KEY_SERIALIZER, BYTES_SERIALIZER);
+            finalizedOffset + 12,
+            SLOT_AND_BLOCK_ROOT_KEY_SERIALIZER,
+            BYTES_SERIALIZER,
+            LARGE_VALUE);
     unconfirmedBlobsSidecarBySlotAndBlockRoot =
         KvStoreColumn.create(
             finalizedOffset + 13, SLOT_AND_BLOCK_ROOT_KEY_SERIALIZER, VOID_SERIALIZER);
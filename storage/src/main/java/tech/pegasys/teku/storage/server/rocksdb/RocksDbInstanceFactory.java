@@ -15,9 +15,11 @@ package tech.pegasys.teku.storage.server.rocksdb;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -27,11 +29,14 @@ import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
+import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.Env;
 import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDBException;
@@ -42,9 +47,15 @@ import tech.pegasys.teku.storage.server.DatabaseStorageException;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile;
 import tech.pegasys.teku.storage.server.kvstore.schema.Schema;
 
 public class RocksDbInstanceFactory {
+  private static final double BLOOM_FILTER_BITS_PER_KEY = 10;
+  private static final long RANGE_SCAN_BLOCK_SIZE = 64 * 1024;
+  private static final long MIN_BLOB_SIZE = 4 * 1024;
+  private static final long BLOB_FILE_SIZE = 256 << 20;
+
   static {
     RocksDbUtil.loadNativeLibrary();
   }
@@ -69,11 +80,10 @@ public class RocksDbInstanceFactory {
     final RocksDbStats rocksDbStats = new RocksDbStats(metricsSystem, metricCategory);
     final DBOptions dbOptions = createDBOptions(configuration, rocksDbStats.getStats());
     final LRUCache blockCache = new LRUCache(configuration.getCacheCapacity());
-    final ColumnFamilyOptions columnFamilyOptions =
-        createColumnFamilyOptions(configuration, blockCache);
     final List<AutoCloseable> resources =
-        new ArrayList<>(
-            List.of(txOptions, dbOptions, columnFamilyOptions, rocksDbStats, blockCache));
+        new ArrayList<>(List.of(txOptions, dbOptions, rocksDbStats, blockCache));
+    final Map<KvStoreColumnProfile, ColumnFamilyOptions> columnFamilyOptions =
+        createColumnFamilyOptions(configuration, blockCache, resources);
 
     List<ColumnFamilyDescriptor> columnDescriptors =
         createColumnFamilyDescriptors(columns, deletedColumns, columnFamilyOptions);
@@ -151,24 +161,84 @@ public class RocksDbInstanceFactory {
     return options;
   }
 
-  private static ColumnFamilyOptions createColumnFamilyOptions(
-      final KvStoreConfiguration configuration, final Cache cache) {
+  private static Map<KvStoreColumnProfile, ColumnFamilyOptions> createColumnFamilyOptions(
+      final KvStoreConfiguration configuration,
+      final Cache cache,
+      final List<AutoCloseable> resources) {
+    final Map<KvStoreColumnProfile, ColumnFamilyOptions> optionsByProfile =
+        new EnumMap<>(KvStoreColumnProfile.class);
+    for (KvStoreColumnProfile profile : KvStoreColumnProfile.values()) {
+      final ColumnFamilyOptions options = createColumnFamilyOptions(configuration, profile);
+      final BlockBasedTableConfig tableConfig = createBlockBasedTableConfig(cache);
+      switch (profile) {
+        case POINT_LOOKUP:
+          // Most lookups are by root so a bloom filter avoids reading data blocks for missing
+          // keys and a hash index avoids a binary search within the data block
+          final BloomFilter bloomFilter = new BloomFilter(BLOOM_FILTER_BITS_PER_KEY);
+          resources.add(bloomFilter);
+          tableConfig
+              .setFilterPolicy(bloomFilter)
+              .setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash);
+          break;
+        case RANGE_SCAN:
+          // Keys are read in order so larger blocks mean fewer reads and compress better
+          tableConfig.setBlockSize(RANGE_SCAN_BLOCK_SIZE);
+          break;
+        case LARGE_VALUE:
+          // Keep large values out of the LSM tree so compaction only rewrites the keys
+          options
+              .setEnableBlobFiles(true)
+              .setMinBlobSize(MIN_BLOB_SIZE)
+              .setBlobFileSize(BLOB_FILE_SIZE)
+              .setBlobCompressionType(configuration.getCompressionType())
+              .setEnableBlobGarbageCollection(true);
+          break;
+        case DEFAULT:
+        default:
+          break;
+      }
+      options.setTableFormatConfig(tableConfig);
+      resources.add(options);
+      optionsByProfile.put(profile, options);
+    }
+    return optionsByProfile;
+  }
+
+  @VisibleForTesting
+  static ColumnFamilyOptions createColumnFamilyOptions(
+      final KvStoreConfiguration configuration, final KvStoreColumnProfile profile) {
+    // Range scanned columns hold data that is rarely rewritten so compress it well by default
+    final CompressionType bottomMostCompressionType =
+        configuration
+            .getBottomMostCompressionType()
+            .orElse(
+                profile == KvStoreColumnProfile.RANGE_SCAN
+                    ? CompressionType.ZSTD_COMPRESSION
+                    : CompressionType.NO_COMPRESSION);
     return new ColumnFamilyOptions()
         .setCompressionType(configuration.getCompressionType())
-        .setBottommostCompressionType(configuration.getBottomMostCompressionType())
-        .setTableFormatConfig(createBlockBasedTableConfig(cache));
+        .setBottommostCompressionType(bottomMostCompressionType);
   }
 
   private static List<ColumnFamilyDescriptor> createColumnFamilyDescriptors(
       final Collection<KvStoreColumn<?, ?>> columns,
       final Collection<Bytes> deletedColumns,
-      final ColumnFamilyOptions columnFamilyOptions) {
+      final Map<KvStoreColumnProfile, ColumnFamilyOptions> columnFamilyOptions) {
+    final ColumnFamilyOptions defaultOptions =
+        columnFamilyOptions.get(KvStoreColumnProfile.DEFAULT);
     List<ColumnFamilyDescriptor> columnDescriptors =
-        Stream.concat(columns.stream().map(KvStoreColumn::getId), deletedColumns.stream())
-            .map(id -> new ColumnFamilyDescriptor(id.toArrayUnsafe(), columnFamilyOptions))
+        Stream.concat(
+                columns.stream()
+                    .map(
+                        column ->
+                            new ColumnFamilyDescriptor(
+                                column.getId().toArrayUnsafe(),
+                                columnFamilyOptions.get(column.getProfile()))),
+                deletedColumns.stream()
+                    .map(id -> new ColumnFamilyDescriptor(id.toArrayUnsafe(), defaultOptions)))
             .collect(Collectors.toList());
     columnDescriptors.add(
-        new ColumnFamilyDescriptor(Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(), columnFamilyOptions));
+        new ColumnFamilyDescriptor(Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(), defaultOptions));
     return columnDescriptors;
   }
 
@@ -22,6 +22,8 @@ import com.google.common.cache.LoadingCache;
 import com.google.common.cache.RemovalCause;
 import com.google.common.cache.RemovalNotification;
 import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.Collection;
+import java.util.List;
 import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentSkipListSet;
@@ -80,6 +82,10 @@ public class FinalizedStateCache {
     }
   }
 
+  public Collection<BeaconState> getCachedStates() {
+    return List.copyOf(stateCache.asMap().values());
+  }
+
   private Optional<BeaconState> getLatestStateFromCache(final UInt64 slot) {
     return Optional.ofNullable(availableSlots.floor(slot)).map(stateCache::getIfPresent);
   }
@@ -0,0 +1,242 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.xerial.snappy.Snappy;
+import tech.pegasys.teku.dataproviders.generators.CachingTaskQueue.CacheableTask;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Second tier of the hot state cache.
+ *
+ * <p>States evicted from the in-memory state cache are SSZ serialized and snappy compressed so that
+ * many more states remain available without replaying blocks to regenerate them. The cache is
+ * bounded by the total size of the compressed states and evicts the states that are cheapest to
+ * regenerate first. States are removed once they are restored, as they are then held by the
+ * in-memory state cache again.
+ */
+class CompressedStateCache {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final Comparator<Entry> EVICTION_ORDER =
+      Comparator.<Entry>comparingLong(entry -> entry.regenerationCost)
+          .thenComparingLong(entry -> entry.sequence);
+
+  private final Spec spec;
+  private final AsyncRunner asyncRunner;
+  private final long maxBytes;
+  private final int hotStatePersistenceFrequencyInEpochs;
+
+  private final Map<Bytes32, Entry> entries = new HashMap<>();
+  private final NavigableSet<Entry> evictionQueue = new TreeSet<>(EVICTION_ORDER);
+  // States waiting to be compressed. Removing a pending state cancels adding it
+  private final Set<Bytes32> pendingStates = new HashSet<>();
+  private long totalBytes = 0;
+  private long nextSequence = 0;
+
+  CompressedStateCache(
+      final Spec spec,
+      final AsyncRunner asyncRunner,
+      final long maxBytes,
+      final int hotStatePersistenceFrequencyInEpochs) {
+    this.spec = spec;
+    this.asyncRunner = asyncRunner;
+    this.maxBytes = maxBytes;
+    this.hotStatePersistenceFrequencyInEpochs = hotStatePersistenceFrequencyInEpochs;
+  }
+
+  public void startMetrics(final MetricsSystem metricsSystem) {
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.STORAGE,
+        "memory_compressed_states_cache_size",
+        "Number of compressed states held in the in-memory store",
+        this::size);
+    metricsSystem.createGauge(
+        TekuMetricCategory.STORAGE,
+        "memory_compressed_states_cache_bytes",
+        "Total size in bytes of compressed states held in the in-memory store",
+        this::getTotalBytes);
+  }
+
+  public boolean isEnabled() {
+    return maxBytes > 0;
+  }
+
+  /**
+   * Called when a state is evicted from the in-memory state cache. Compression is performed
+   * asynchronously as the eviction is reported on the thread adding new states to the cache.
+   */
+  public void onEvicted(final Bytes32 blockRoot, final StateAndBlockSummary stateAndBlock) {
+    if (!isEnabled() || !markPending(blockRoot)) {
+      return;
+    }
+    asyncRunner
+        .runAsync(() -> add(blockRoot, stateAndBlock.getState()))
+        .finish(
+            error -> {
+              LOG.debug("Failed to compress evicted state {}", blockRoot, error);
+              remove(blockRoot);
+            });
+  }
+
+  public Optional<CacheableTask<Bytes32, StateAndBlockSummary>> createRestoreTask(
+      final Bytes32 blockRoot) {
+    return getCompressedState(blockRoot)
+        .map(compressedState -> new RestoreStateTask(blockRoot, compressedState));
+  }
+
+  public synchronized void remove(final Bytes32 blockRoot) {
+    pendingStates.remove(blockRoot);
+    final Entry entry = entries.remove(blockRoot);
+    if (entry != null) {
+      evictionQueue.remove(entry);
+      totalBytes -= entry.compressedState.length;
+    }
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public synchronized long getTotalBytes() {
+    return totalBytes;
+  }
+
+  synchronized boolean contains(final Bytes32 blockRoot) {
+    return entries.containsKey(blockRoot);
+  }
+
+  private synchronized boolean markPending(final Bytes32 blockRoot) {
+    return !entries.containsKey(blockRoot) && pendingStates.add(blockRoot);
+  }
+
+  private void add(final Bytes32 blockRoot, final BeaconState state) throws IOException {
+    final byte[] compressedState = Snappy.compress(state.sszSerialize().toArrayUnsafe());
+    synchronized (this) {
+      if (!pendingStates.remove(blockRoot) || compressedState.length > maxBytes) {
+        // State was removed while it was being compressed or is too large to ever fit
+        return;
+      }
+      final Entry entry =
+          new Entry(
+              blockRoot,
+              compressedState,
+              estimateRegenerationCost(state.getSlot()),
+              nextSequence++);
+      entries.put(blockRoot, entry);
+      evictionQueue.add(entry);
+      totalBytes += compressedState.length;
+      while (totalBytes > maxBytes) {
+        remove(evictionQueue.first().blockRoot);
+      }
+    }
+  }
+
+  /**
+   * Estimates the number of blocks that would need to be replayed to regenerate the state. States
+   * just after a persisted hot state are cheap to regenerate, while those far from any persisted
+   * state are expensive.
+   */
+  private long estimateRegenerationCost(final UInt64 slot) {
+    if (hotStatePersistenceFrequencyInEpochs <= 0) {
+      return slot.longValue();
+    }
+    return slot.mod((long) spec.getSlotsPerEpoch(slot) * hotStatePersistenceFrequencyInEpochs)
+        .longValue();
+  }
+
+  private synchronized Optional<byte[]> getCompressedState(final Bytes32 blockRoot) {
+    return Optional.ofNullable(entries.get(blockRoot)).map(entry -> entry.compressedState);
+  }
+
+  private class RestoreStateTask implements CacheableTask<Bytes32, StateAndBlockSummary> {
+    private final Bytes32 blockRoot;
+    private final byte[] compressedState;
+
+    private RestoreStateTask(final Bytes32 blockRoot, final byte[] compressedState) {
+      this.blockRoot = blockRoot;
+      this.compressedState = compressedState;
+    }
+
+    @Override
+    public Bytes32 getKey() {
+      return blockRoot;
+    }
+
+    @Override
+    public Stream<Bytes32> streamIntermediateSteps() {
+      return Stream.empty();
+    }
+
+    @Override
+    public CacheableTask<Bytes32, StateAndBlockSummary> rebase(
+        final StateAndBlockSummary newBaseValue) {
+      return this;
+    }
+
+    @Override
+    public SafeFuture<Optional<StateAndBlockSummary>> performTask() {
+      try {
+        final BeaconState state =
+            spec.deserializeBeaconState(Bytes.wrap(Snappy.uncompress(compressedState)));
+        // The restored state is added back to the in-memory state cache so don't hold it twice
+        remove(blockRoot);
+        return SafeFuture.completedFuture(Optional.of(StateAndBlockSummary.create(state)));
+      } catch (final IOException e) {
+        LOG.debug("Failed to decompress cached state {}", blockRoot, e);
+        remove(blockRoot);
+        return SafeFuture.completedFuture(Optional.empty());
+      }
+    }
+  }
+
+  private static class Entry {
+    private final Bytes32 blockRoot;
+    private final byte[] compressedState;
+    private final long regenerationCost;
+    private final long sequence;
+
+    private Entry(
+        final Bytes32 blockRoot,
+        final byte[] compressedState,
+        final long regenerationCost,
+        final long sequence) {
+      this.blockRoot = blockRoot;
+      this.compressedState = compressedState;
+      this.regenerationCost = regenerationCost;
+      this.sequence = sequence;
+    }
+  }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.Lists;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafDataNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeStore;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeData;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Persists the states held in the hot state cache on shutdown so they can be restored on the next
+ * start without regenerating them by replaying blocks.
+ *
+ * <p>States are written as deduplicated tree nodes, in the same form used for finalized states
+ * stored in tree mode, so nodes shared between states are only written once. On load the file is
+ * memory mapped and states are loaded lazily, so only the parts of each state that are actually
+ * accessed are read.
+ *
+ * <p>The snapshot is a cache. Any problem reading it results in it being ignored and the states
+ * being regenerated as usual.
+ */
+public class HotStateSnapshot {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final int MAGIC = 0x54454b48; // "TEKH"
+  private static final int VERSION = 1;
+  private static final int MAX_BRANCH_LEVELS_SKIPPED = 5;
+  // No further states are added once the snapshot reaches this size so it stays well within the
+  // limit of a single memory mapped buffer
+  private static final long TARGET_SNAPSHOT_SIZE = 1L << 30;
+
+  private final Spec spec;
+  private final Path file;
+
+  public HotStateSnapshot(final Spec spec, final Path file) {
+    this.spec = spec;
+    this.file = file;
+  }
+
+  /**
+   * Writes the cached states of the chain heads and justified checkpoint, followed by any other
+   * cached states from newest to oldest, until the snapshot size limit is reached.
+   */
+  public void save(final UpdatableStore store) {
+    final Map<Bytes32, BeaconState> states = new LinkedHashMap<>();
+    store.getForkChoiceStrategy().getChainHeads(false).stream()
+        .sorted(Comparator.comparing(ProtoNodeData::getSlot).reversed())
+        .map(ProtoNodeData::getRoot)
+        .forEach(root -> addIfAvailable(store, states, root));
+    addIfAvailable(store, states, store.getJustifiedCheckpoint().getRoot());
+    Lists.reverse(new ArrayList<>(store.getOrderedBlockRoots()))
+        .forEach(root -> addIfAvailable(store, states, root));
+    try {
+      save(states.values());
+    } catch (final IOException | RuntimeException e) {
+      LOG.warn("Failed to save hot state snapshot to {}", file, e);
+    }
+  }
+
+  private static void addIfAvailable(
+      final UpdatableStore store, final Map<Bytes32, BeaconState> states, final Bytes32 root) {
+    if (!states.containsKey(root)) {
+      store.getBlockStateIfAvailable(root).ifPresent(state -> states.put(root, state));
+    }
+  }
+
+  void save(final Collection<BeaconState> states) throws IOException {
+    final SnapshotNodeStore nodeStore = new SnapshotNodeStore();
+    final List<BeaconState> savedStates = new ArrayList<>();
+    for (BeaconState state : states) {
+      if (nodeStore.getSize() >= TARGET_SNAPSHOT_SIZE) {
+        break;
+      }
+      state
+          .getSchema()
+          .storeBackingNodes(
+              nodeStore,
+              MAX_BRANCH_LEVELS_SKIPPED,
+              GIndexUtil.SELF_G_INDEX,
+              state.getBackingNode());
+      savedStates.add(state);
+    }
+
+    final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+    final CRC32 checksum = new CRC32();
+    try (final OutputStream fileOut = Files.newOutputStream(tempFile);
+        final DataOutputStream out =
+            new DataOutputStream(
+                new BufferedOutputStream(new CheckedOutputStream(fileOut, checksum)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(savedStates.size());
+      for (BeaconState state : savedStates) {
+        out.writeLong(state.getSlot().longValue());
+        out.write(state.hashTreeRoot().toArrayUnsafe());
+      }
+      out.writeInt(nodeStore.branchNodes.size());
+      for (Map.Entry<Bytes32, CompressedBranchInfo> entry : nodeStore.branchNodes.entrySet()) {
+        final Bytes32[] children = entry.getValue().getChildren();
+        out.write(entry.getKey().toArrayUnsafe());
+        out.writeInt(entry.getValue().getDepth());
+        out.writeInt(children.length);
+        for (Bytes32 child : children) {
+          out.write(child.toArrayUnsafe());
+        }
+      }
+      out.writeInt(nodeStore.leafNodes.size());
+      for (Map.Entry<Bytes32, Bytes> entry : nodeStore.leafNodes.entrySet()) {
+        out.write(entry.getKey().toArrayUnsafe());
+        out.writeInt(entry.getValue().size());
+        out.write(entry.getValue().toArrayUnsafe());
+      }
+      out.flush();
+      // Checksum is written directly to the file so isn't included in itself
+      new DataOutputStream(fileOut).writeLong(checksum.getValue());
+    }
+    Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    LOG.info(
+        "Saved {} hot states to snapshot ({} branch nodes, {} leaf nodes)",
+        savedStates.size(),
+        nodeStore.branchNodes.size(),
+        nodeStore.leafNodes.size());
+  }
+
+  /**
+   * Loads the states from a previously saved snapshot.
+   *
+   * @return the loaded states or an empty list if no valid snapshot is available
+   */
+  public List<StateAndBlockSummary> load() {
+    if (!Files.exists(file)) {
+      return List.of();
+    }
+    try {
+      final List<StateAndBlockSummary> states = loadStates();
+      LOG.info("Loaded {} hot states from snapshot", states.size());
+      return states;
+    } catch (final IOException | RuntimeException e) {
+      LOG.warn("Ignoring invalid hot state snapshot {}", file, e);
+      return List.of();
+    }
+  }
+
+  private List<StateAndBlockSummary> loadStates() throws IOException {
+    final MappedByteBuffer buffer;
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      checkArgument(channel.size() <= Integer.MAX_VALUE, "Snapshot file is too large");
+      buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+    }
+    final int checksumOffset = buffer.limit() - Long.BYTES;
+    final CRC32 checksum = new CRC32();
+    checksum.update(buffer.duplicate().limit(checksumOffset));
+    checkArgument(checksum.getValue() == buffer.getLong(checksumOffset), "Checksum mismatch");
+
+    checkArgument(buffer.getInt() == MAGIC, "Not a hot state snapshot");
+    checkArgument(buffer.getInt() == VERSION, "Unsupported snapshot version");
+    final int stateCount = buffer.getInt();
+    final List<UInt64> slots = new ArrayList<>(stateCount);
+    final List<Bytes32> stateRoots = new ArrayList<>(stateCount);
+    for (int i = 0; i < stateCount; i++) {
+      slots.add(UInt64.fromLongBits(buffer.getLong()));
+      stateRoots.add(readBytes32(buffer));
+    }
+
+    final MappedNodeSource nodeSource = new MappedNodeSource(buffer);
+    final int branchCount = buffer.getInt();
+    for (int i = 0; i < branchCount; i++) {
+      nodeSource.branchOffsets.put(readBytes32(buffer), buffer.position());
+      buffer.position(buffer.position() + Integer.BYTES);
+      final int childCount = buffer.getInt();
+      buffer.position(buffer.position() + childCount * Bytes32.SIZE);
+    }
+    final int leafCount = buffer.getInt();
+    for (int i = 0; i < leafCount; i++) {
+      nodeSource.leafOffsets.put(readBytes32(buffer), buffer.position());
+      buffer.position(buffer.position() + Integer.BYTES + buffer.getInt(buffer.position()));
+    }
+    checkArgument(buffer.position() == checksumOffset, "Unexpected trailing data");
+
+    final List<StateAndBlockSummary> states = new ArrayList<>(stateCount);
+    for (int i = 0; i < stateCount; i++) {
+      final BeaconState state =
+          spec.atSlot(slots.get(i))
+              .getSchemaDefinitions()
+              .getBeaconStateSchema()
+              .load(nodeSource, stateRoots.get(i), GIndexUtil.SELF_G_INDEX);
+      states.add(StateAndBlockSummary.create(state));
+    }
+    return states;
+  }
+
+  private static Bytes32 readBytes32(final ByteBuffer buffer) {
+    final byte[] data = new byte[Bytes32.SIZE];
+    buffer.get(data);
+    return Bytes32.wrap(data);
+  }
+
+  private static class SnapshotNodeStore implements TreeNodeStore {
+    private final Map<Bytes32, CompressedBranchInfo> branchNodes = new LinkedHashMap<>();
+    private final Map<Bytes32, Bytes> leafNodes = new LinkedHashMap<>();
+    private long size = 0;
+
+    @Override
+    public boolean canSkipBranch(final Bytes32 root, final long gIndex) {
+      return branchNodes.containsKey(root);
+    }
+
+    @Override
+    public void storeBranchNode(
+        final Bytes32 root, final long gIndex, final int depth, final Bytes32[] children) {
+      if (TreeUtil.ZERO_TREES_BY_ROOT.containsKey(root) || branchNodes.containsKey(root)) {
+        return;
+      }
+      branchNodes.put(root, new CompressedBranchInfo(depth, children.clone()));
+      size += Bytes32.SIZE + 2 * Integer.BYTES + (long) children.length * Bytes32.SIZE;
+    }
+
+    @Override
+    public void storeLeafNode(final TreeNode treeNode, final long gIndex) {
+      checkArgument(treeNode instanceof LeafDataNode, "Can't store a non-leaf node");
+      final LeafDataNode node = (LeafDataNode) treeNode;
+      // Leaves of up to 32 bytes are recreated from their hash when loading
+      if (node.getData().size() > Bytes32.SIZE
+          && leafNodes.putIfAbsent(node.hashTreeRoot(), node.getData()) == null) {
+        size += Bytes32.SIZE + Integer.BYTES + node.getData().size();
+      }
+    }
+
+    public long getSize() {
+      return size;
+    }
+
+    @Override
+    public Collection<? extends Bytes32> getStoredBranchRoots() {
+      return branchNodes.keySet();
+    }
+
+    @Override
+    public int getStoredBranchNodeCount() {
+      return branchNodes.size();
+    }
+
+    @Override
+    public int getSkippedBranchNodeCount() {
+      return 0;
+    }
+
+    @Override
+    public int getStoredLeafNodeCount() {
+      return leafNodes.size();
+    }
+  }
+
+  private static class MappedNodeSource implements TreeNodeSource {
+    private final ByteBuffer buffer;
+    private final Map<Bytes32, Integer> branchOffsets = new HashMap<>();
+    private final Map<Bytes32, Integer> leafOffsets = new HashMap<>();
+
+    private MappedNodeSource(final ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public CompressedBranchInfo loadBranchNode(final Bytes32 rootHash, final long gIndex) {
+      final Integer offset = branchOffsets.get(rootHash);
+      if (offset == null) {
+        throw new IllegalArgumentException("Unknown branch node: " + rootHash + " at " + gIndex);
+      }
+      // Duplicate so concurrent loads don't share a position
+      final ByteBuffer data = buffer.duplicate().position(offset);
+      final int depth = data.getInt();
+      final Bytes32[] children = new Bytes32[data.getInt()];
+      for (int i = 0; i < children.length; i++) {
+        children[i] = readBytes32(data);
+      }
+      return new CompressedBranchInfo(depth, children);
+    }
+
+    @Override
+    public Bytes loadLeafNode(final Bytes32 rootHash, final long gIndex) {
+      final Integer offset = leafOffsets.get(rootHash);
+      if (offset == null) {
+        return rootHash;
+      }
+      final ByteBuffer data = buffer.duplicate().position(offset);
+      final byte[] leafData = new byte[data.getInt()];
+      data.get(leafData);
+      return Bytes.wrap(leafData);
+    }
+  }
+}
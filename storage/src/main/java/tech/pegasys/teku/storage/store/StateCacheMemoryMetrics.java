@@ -0,0 +1,165 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import com.google.common.collect.MapMaker;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeMemoryAccountant;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeMemoryAccountant.TreeMemoryDiff;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
+import tech.pegasys.teku.infrastructure.time.Throttler;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Estimates the heap retained by the states held in a cache, accounting for tree nodes shared
+ * between the cached states.
+ *
+ * <p>One cached state is used as a base and each other state is diffed against it, so the cost of
+ * an update is proportional to how much the states differ rather than to their full size. The size
+ * of each diffed state is remembered so the next update can use it as the base without walking it.
+ * A full walk of a state is only needed when none of the previously measured states remain cached.
+ *
+ * <p>The estimate is refreshed asynchronously when the metrics are read, at most once every {@link
+ * #UPDATE_INTERVAL}, and at most {@link #MAX_SAMPLED_STATES} states are diffed with the result
+ * extrapolated to the rest of the cache. These metrics are only created when enabled in {@link
+ * StoreConfig}.
+ */
+public class StateCacheMemoryMetrics {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final Duration UPDATE_INTERVAL = Duration.ofMinutes(5);
+  static final int MAX_SAMPLED_STATES = 8;
+
+  private final TimeProvider timeProvider;
+  private final Supplier<Collection<BeaconState>> cachedStates;
+  private final Throttler<AsyncRunner> updateThrottler;
+  private final Map<TreeNode, Long> measuredSizes = new MapMaker().weakKeys().makeMap();
+  private volatile StateCacheMemoryUsage latestUsage = new StateCacheMemoryUsage(0, 0, 0);
+
+  StateCacheMemoryMetrics(
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final Supplier<Collection<BeaconState>> cachedStates) {
+    this.timeProvider = timeProvider;
+    this.cachedStates = cachedStates;
+    this.updateThrottler = new Throttler<>(asyncRunner, UInt64.valueOf(UPDATE_INTERVAL.toMillis()));
+  }
+
+  public static void create(
+      final MetricsSystem metricsSystem,
+      final AsyncRunner asyncRunner,
+      final String metricsPrefix,
+      final Supplier<Collection<BeaconState>> cachedStates) {
+    final StateCacheMemoryMetrics metrics =
+        new StateCacheMemoryMetrics(asyncRunner, new SystemTimeProvider(), cachedStates);
+    final LabelledGauge retainedBytes =
+        metricsSystem.createLabelledGauge(
+            TekuMetricCategory.STORAGE,
+            metricsPrefix + "_retained_bytes",
+            "Estimated heap retained by cached states accounting for shared tree nodes",
+            "type");
+    retainedBytes.labels(() -> metrics.getLatestUsage().getUniqueBytes(), "unique");
+    retainedBytes.labels(() -> metrics.getLatestUsage().getSingleStateBytes(), "single_state");
+  }
+
+  StateCacheMemoryUsage getLatestUsage() {
+    updateThrottler.invoke(
+        timeProvider.getTimeInMillis(),
+        runner ->
+            runner
+                .runAsync(this::update)
+                .finish(error -> LOG.debug("Failed to estimate memory used by cache", error)));
+    return latestUsage;
+  }
+
+  void update() {
+    final List<TreeNode> roots =
+        cachedStates.get().stream().map(BeaconState::getBackingNode).collect(Collectors.toList());
+    if (roots.isEmpty()) {
+      measuredSizes.clear();
+      latestUsage = new StateCacheMemoryUsage(0, 0, 0);
+      return;
+    }
+    final TreeNode base =
+        roots.stream().filter(measuredSizes::containsKey).findFirst().orElse(roots.get(0));
+    final long baseBytes = measuredSizes.computeIfAbsent(base, TreeMemoryAccountant::estimateSize);
+
+    final List<TreeNode> otherRoots = new ArrayList<>(roots);
+    otherRoots.removeIf(root -> root == base);
+    Collections.shuffle(otherRoots);
+    final List<TreeNode> sample =
+        otherRoots.subList(0, Math.min(otherRoots.size(), MAX_SAMPLED_STATES));
+
+    final Map<TreeNode, Long> sampledSizes = new IdentityHashMap<>();
+    sampledSizes.put(base, baseBytes);
+    long sampledAddedBytes = 0;
+    for (TreeNode root : sample) {
+      final TreeMemoryDiff diff = TreeMemoryAccountant.diff(base, root);
+      sampledAddedBytes += diff.getAddedBytes();
+      sampledSizes.put(root, baseBytes + diff.getAddedBytes() - diff.getRemovedBytes());
+    }
+    final long addedBytes =
+        sample.isEmpty()
+            ? 0
+            : Math.round((double) sampledAddedBytes * otherRoots.size() / sample.size());
+
+    measuredSizes.clear();
+    measuredSizes.putAll(sampledSizes);
+    latestUsage = new StateCacheMemoryUsage(roots.size(), baseBytes + addedBytes, baseBytes);
+  }
+
+  static class StateCacheMemoryUsage {
+    private final int stateCount;
+    private final long uniqueBytes;
+    private final long singleStateBytes;
+
+    StateCacheMemoryUsage(
+        final int stateCount, final long uniqueBytes, final long singleStateBytes) {
+      this.stateCount = stateCount;
+      this.uniqueBytes = uniqueBytes;
+      this.singleStateBytes = singleStateBytes;
+    }
+
+    public int getStateCount() {
+      return stateCount;
+    }
+
+    /** Total estimated bytes retained by the cached states, counting shared nodes once. */
+    public long getUniqueBytes() {
+      return uniqueBytes;
+    }
+
+    /** Estimated bytes retained by one of the cached states on its own. */
+    public long getSingleStateBytes() {
+      return singleStateBytes;
+    }
+  }
+}
@@ -31,11 +31,13 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.dataproviders.generators.CachingTaskQueue;
+import tech.pegasys.teku.dataproviders.generators.CachingTaskQueue.CacheableTask;
 import tech.pegasys.teku.dataproviders.generators.StateAtSlotTask;
 import tech.pegasys.teku.dataproviders.generators.StateGenerationTask;
 import tech.pegasys.teku.dataproviders.generators.StateRegenerationBaseSelector;
@@ -76,6 +78,7 @@ class Store implements UpdatableStore {
   public static final int VOTE_TRACKER_SPARE_CAPACITY = 1000;
 
   private final int hotStatePersistenceFrequencyInEpochs;
+  private final boolean stateCacheMemoryMetricsEnabled;
 
   private final ReadWriteLock votesLock = new ReentrantReadWriteLock();
   private final Lock readVotesLock = votesLock.readLock();
@@ -83,6 +86,7 @@ class Store implements UpdatableStore {
   private final Lock readLock = lock.readLock();
 
   private final MetricsSystem metricsSystem;
+  private final AsyncRunner asyncRunner;
   private Optional<SettableGauge> blockCountGauge = Optional.empty();
 
   private final Spec spec;
@@ -100,19 +104,23 @@ class Store implements UpdatableStore {
   Optional<SlotAndExecutionPayloadSummary> finalizedOptimisticTransitionPayload;
   Optional<Bytes32> proposerBoostRoot = Optional.empty();
   final CachingTaskQueue<Bytes32, StateAndBlockSummary> states;
+  final CompressedStateCache compressedStates;
   final Map<Bytes32, SignedBeaconBlock> blocks;
   final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates;
   VoteTracker[] votes;
   UInt64 highestVotedValidatorIndex;
 
   private Store(
+      final AsyncRunner asyncRunner,
       final MetricsSystem metricsSystem,
       final Spec spec,
       final int hotStatePersistenceFrequencyInEpochs,
+      final boolean stateCacheMemoryMetricsEnabled,
       final BlockProvider blockProvider,
       final BlobsSidecarProvider blobsSidecarProvider,
       final StateAndBlockSummaryProvider stateProvider,
       final CachingTaskQueue<Bytes32, StateAndBlockSummary> states,
+      final CompressedStateCache compressedStates,
       final Optional<Checkpoint> initialCheckpoint,
       final UInt64 time,
       final UInt64 genesisTime,
@@ -135,13 +143,16 @@ class Store implements UpdatableStore {
 
     // Set up metrics
     this.metricsSystem = metricsSystem;
+    this.asyncRunner = asyncRunner;
     this.spec = spec;
     this.states = states;
+    this.compressedStates = compressedStates;
     this.checkpointStates = checkpointStates;
 
     // Store instance variables
     this.initialCheckpoint = initialCheckpoint;
     this.hotStatePersistenceFrequencyInEpochs = hotStatePersistenceFrequencyInEpochs;
+    this.stateCacheMemoryMetricsEnabled = stateCacheMemoryMetricsEnabled;
     this.timeMillis = secondsToMillis(time);
     this.genesisTime = genesisTime;
     this.justifiedCheckpoint = justifiedCheckpoint;
@@ -189,6 +200,7 @@ class Store implements UpdatableStore {
       final Checkpoint bestJustifiedCheckpoint,
       final Map<Bytes32, StoredBlockMetadata> blockInfoByRoot,
       final Map<UInt64, VoteTracker> votes,
+      final Collection<StateAndBlockSummary> hotStates,
       final StoreConfig config) {
 
     // Create limited collections for non-final data
@@ -200,9 +212,23 @@ class Store implements UpdatableStore {
             metricsSystem,
             "memory_checkpoint_states",
             config.getCheckpointStateCacheSize());
+    final CompressedStateCache compressedStates =
+        new CompressedStateCache(
+            spec,
+            asyncRunner,
+            config.getCompressedStateCacheMaxBytes(),
+            config.getHotStatePersistenceFrequencyInEpochs());
     final CachingTaskQueue<Bytes32, StateAndBlockSummary> stateTaskQueue =
         CachingTaskQueue.create(
-            asyncRunner, metricsSystem, "memory_states", config.getStateCacheSize());
+            asyncRunner,
+            metricsSystem,
+            "memory_states",
+            config.getStateCacheSize(),
+            compressedStates::onEvicted);
+    // States restored from a previous run, discarding any for blocks that have since been pruned
+    hotStates.stream()
+        .filter(state -> blockInfoByRoot.containsKey(state.getRoot()))
+        .forEach(state -> stateTaskQueue.cache(state.getRoot(), state));
     final UInt64 currentEpoch = spec.computeEpochAtSlot(spec.getCurrentSlot(time, genesisTime));
     final ForkChoiceStrategy forkChoiceStrategy =
         ForkChoiceStrategy.initialize(
@@ -216,13 +242,16 @@ class Store implements UpdatableStore {
                 finalizedAnchor));
 
     return new Store(
+        asyncRunner,
         metricsSystem,
         spec,
         config.getHotStatePersistenceFrequencyInEpochs(),
+        config.isStateCacheMemoryMetricsEnabled(),
         blockProvider,
         blobsSidecarProvider,
         stateAndBlockProvider,
         stateTaskQueue,
+        compressedStates,
         initialCheckpoint,
         time,
         genesisTime,
@@ -290,7 +319,23 @@ class Store implements UpdatableStore {
                   "memory_block_count",
                   "Number of beacon blocks held in the in-memory store"));
       states.startMetrics();
+      compressedStates.startMetrics(metricsSystem);
       checkpointStates.startMetrics();
+      if (stateCacheMemoryMetricsEnabled) {
+        StateCacheMemoryMetrics.create(
+            metricsSystem,
+            asyncRunner,
+            "memory_states",
+            () ->
+                states.getCachedValues().stream()
+                    .map(StateAndBlockSummary::getState)
+                    .collect(Collectors.toList()));
+        StateCacheMemoryMetrics.create(
+            metricsSystem,
+            asyncRunner,
+            "memory_checkpoint_states",
+            checkpointStates::getCachedValues);
+      }
     } finally {
       votesLock.writeLock().unlock();
       lock.writeLock().unlock();
@@ -651,6 +696,12 @@ class Store implements UpdatableStore {
     if (cachedResult.isPresent()) {
       return SafeFuture.completedFuture(cachedResult);
     }
+    // Restoring a compressed state is much cheaper than replaying blocks to regenerate it.
+    final Optional<CacheableTask<Bytes32, StateAndBlockSummary>> restoreTask =
+        compressedStates.createRestoreTask(blockRoot);
+    if (restoreTask.isPresent()) {
+      return states.perform(restoreTask.get());
+    }
     return createStateGenerationTask(blockRoot)
         .thenCompose(
             maybeTask ->
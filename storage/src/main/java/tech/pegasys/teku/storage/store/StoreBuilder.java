@@ -16,6 +16,8 @@ package tech.pegasys.teku.storage.store;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -27,6 +29,7 @@ import tech.pegasys.teku.dataproviders.lookup.StateAndBlockSummaryProvider;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
 import tech.pegasys.teku.spec.datastructures.execution.SlotAndExecutionPayloadSummary;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
@@ -53,6 +56,7 @@ public class StoreBuilder {
   private Map<UInt64, VoteTracker> votes;
   private Optional<SlotAndExecutionPayloadSummary> finalizedOptimisticTransitionPayload =
       Optional.empty();
+  private Collection<StateAndBlockSummary> hotStates = Collections.emptyList();
 
   private StoreBuilder() {}
 
@@ -120,6 +124,7 @@ public class StoreBuilder {
         bestJustifiedCheckpoint,
         blockInfoByRoot,
         votes,
+        hotStates,
         storeConfig);
   }
 
@@ -237,4 +242,10 @@ public class StoreBuilder {
     this.votes = votes;
     return this;
   }
+
+  public StoreBuilder hotStates(final Collection<StateAndBlockSummary> hotStates) {
+    checkNotNull(hotStates);
+    this.hotStates = hotStates;
+    return this;
+  }
 }
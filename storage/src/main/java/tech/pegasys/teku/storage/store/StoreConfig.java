@@ -25,21 +25,33 @@ public class StoreConfig {
   public static final int DEFAULT_BLOCK_CACHE_SIZE = 32;
   public static final int DEFAULT_CHECKPOINT_STATE_CACHE_SIZE = 20;
   public static final int DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS = 2;
+  public static final long DEFAULT_COMPRESSED_STATE_CACHE_MAX_BYTES = 0;
+  public static final boolean DEFAULT_HOT_STATE_SNAPSHOT_ENABLED = false;
+  public static final boolean DEFAULT_STATE_CACHE_MEMORY_METRICS_ENABLED = false;
 
   private final int stateCacheSize;
   private final int blockCacheSize;
   private final int checkpointStateCacheSize;
   private final int hotStatePersistenceFrequencyInEpochs;
+  private final long compressedStateCacheMaxBytes;
+  private final boolean hotStateSnapshotEnabled;
+  private final boolean stateCacheMemoryMetricsEnabled;
 
   private StoreConfig(
       final int stateCacheSize,
       final int blockCacheSize,
       final int checkpointStateCacheSize,
-      final int hotStatePersistenceFrequencyInEpochs) {
+      final int hotStatePersistenceFrequencyInEpochs,
+      final long compressedStateCacheMaxBytes,
+      final boolean hotStateSnapshotEnabled,
+      final boolean stateCacheMemoryMetricsEnabled) {
     this.stateCacheSize = stateCacheSize;
     this.blockCacheSize = blockCacheSize;
     this.checkpointStateCacheSize = checkpointStateCacheSize;
     this.hotStatePersistenceFrequencyInEpochs = hotStatePersistenceFrequencyInEpochs;
+    this.compressedStateCacheMaxBytes = compressedStateCacheMaxBytes;
+    this.hotStateSnapshotEnabled = hotStateSnapshotEnabled;
+    this.stateCacheMemoryMetricsEnabled = stateCacheMemoryMetricsEnabled;
   }
 
   public static Builder builder() {
@@ -66,6 +78,18 @@ public class StoreConfig {
     return hotStatePersistenceFrequencyInEpochs;
   }
 
+  public long getCompressedStateCacheMaxBytes() {
+    return compressedStateCacheMaxBytes;
+  }
+
+  public boolean isHotStateSnapshotEnabled() {
+    return hotStateSnapshotEnabled;
+  }
+
+  public boolean isStateCacheMemoryMetricsEnabled() {
+    return stateCacheMemoryMetricsEnabled;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -78,7 +102,10 @@ public class StoreConfig {
     return stateCacheSize == that.stateCacheSize
         && blockCacheSize == that.blockCacheSize
         && checkpointStateCacheSize == that.checkpointStateCacheSize
-        && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs;
+        && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs
+        && compressedStateCacheMaxBytes == that.compressedStateCacheMaxBytes
+        && hotStateSnapshotEnabled == that.hotStateSnapshotEnabled
+        && stateCacheMemoryMetricsEnabled == that.stateCacheMemoryMetricsEnabled;
   }
 
   @Override
@@ -87,7 +114,10 @@ public class StoreConfig {
         stateCacheSize,
         blockCacheSize,
         checkpointStateCacheSize,
-        hotStatePersistenceFrequencyInEpochs);
+        hotStatePersistenceFrequencyInEpochs,
+        compressedStateCacheMaxBytes,
+        hotStateSnapshotEnabled,
+        stateCacheMemoryMetricsEnabled);
   }
 
   public static class Builder {
@@ -96,6 +126,9 @@ public class StoreConfig {
     private int checkpointStateCacheSize = DEFAULT_CHECKPOINT_STATE_CACHE_SIZE;
     private int hotStatePersistenceFrequencyInEpochs =
         DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS;
+    private long compressedStateCacheMaxBytes = DEFAULT_COMPRESSED_STATE_CACHE_MAX_BYTES;
+    private boolean hotStateSnapshotEnabled = DEFAULT_HOT_STATE_SNAPSHOT_ENABLED;
+    private boolean stateCacheMemoryMetricsEnabled = DEFAULT_STATE_CACHE_MEMORY_METRICS_ENABLED;
 
     private Builder() {}
 
@@ -104,7 +137,10 @@ public class StoreConfig {
           stateCacheSize,
           blockCacheSize,
           checkpointStateCacheSize,
-          hotStatePersistenceFrequencyInEpochs);
+          hotStatePersistenceFrequencyInEpochs,
+          compressedStateCacheMaxBytes,
+          hotStateSnapshotEnabled,
+          stateCacheMemoryMetricsEnabled);
     }
 
     public Builder stateCacheSize(final int stateCacheSize) {
@@ -137,6 +173,22 @@ public class StoreConfig {
       return this;
     }
 
+    public Builder compressedStateCacheMaxBytes(final long compressedStateCacheMaxBytes) {
+      checkArgument(compressedStateCacheMaxBytes >= 0, "Cache size cannot be negative");
+      this.compressedStateCacheMaxBytes = compressedStateCacheMaxBytes;
+      return this;
+    }
+
+    public Builder hotStateSnapshotEnabled(final boolean hotStateSnapshotEnabled) {
+      this.hotStateSnapshotEnabled = hotStateSnapshotEnabled;
+      return this;
+    }
+
+    public Builder stateCacheMemoryMetricsEnabled(final boolean stateCacheMemoryMetricsEnabled) {
+      this.stateCacheMemoryMetricsEnabled = stateCacheMemoryMetricsEnabled;
+      return this;
+    }
+
     private void validateCacheSize(final int cacheSize) {
       checkArgument(cacheSize >= 0, "Cache size cannot be negative");
       checkArgument(
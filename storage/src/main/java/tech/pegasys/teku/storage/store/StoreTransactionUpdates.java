@@ -115,6 +115,7 @@ class StoreTransactionUpdates {
             (root) -> {
               store.blocks.remove(root);
               store.states.remove(root);
+              store.compressedStates.remove(root);
             });
 
     store.checkpointStates.removeIf(
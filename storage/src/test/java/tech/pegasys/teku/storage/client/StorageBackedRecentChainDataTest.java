@@ -76,6 +76,7 @@ public class StorageBackedRecentChainDataTest {
         StorageBackedRecentChainData.create(
             new StubMetricsSystem(),
             storeConfig,
+            Optional.empty(),
             asyncRunner,
             storageQueryChannel,
             storageUpdateChannel,
@@ -124,6 +125,7 @@ public class StorageBackedRecentChainDataTest {
         StorageBackedRecentChainData.create(
             new StubMetricsSystem(),
             storeConfig,
+            Optional.empty(),
             asyncRunner,
             storageQueryChannel,
             storageUpdateChannel,
@@ -175,6 +177,7 @@ public class StorageBackedRecentChainDataTest {
         StorageBackedRecentChainData.create(
             new StubMetricsSystem(),
             StoreConfig.createDefault(),
+            Optional.empty(),
             asyncRunner,
             storageQueryChannel,
             storageUpdateChannel,
@@ -221,6 +224,7 @@ public class StorageBackedRecentChainDataTest {
         StorageBackedRecentChainData.create(
             new StubMetricsSystem(),
             StoreConfig.createDefault(),
+            Optional.empty(),
             asyncRunner,
             storageQueryChannel,
             storageUpdateChannel,
@@ -0,0 +1,133 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.server.DatabaseVersion;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile;
+
+class RocksDbInstanceFactoryTest {
+  private static final KvStoreColumn<Bytes32, Bytes> POINT_LOOKUP_COLUMN =
+      KvStoreColumn.create(
+          1, BYTES32_SERIALIZER, BYTES_SERIALIZER, KvStoreColumnProfile.POINT_LOOKUP);
+  private static final KvStoreColumn<UInt64, Bytes> RANGE_SCAN_COLUMN =
+      KvStoreColumn.create(2, UINT64_SERIALIZER, BYTES_SERIALIZER, KvStoreColumnProfile.RANGE_SCAN);
+  private static final KvStoreColumn<UInt64, Bytes> LARGE_VALUE_COLUMN =
+      KvStoreColumn.create(
+          3, UINT64_SERIALIZER, BYTES_SERIALIZER, KvStoreColumnProfile.LARGE_VALUE);
+  private static final KvStoreColumn<UInt64, Bytes> DEFAULT_COLUMN =
+      KvStoreColumn.create(4, UINT64_SERIALIZER, BYTES_SERIALIZER);
+
+  @BeforeAll
+  static void setUp() {
+    assumeThat(DatabaseVersion.isRocksDbSupported())
+        .describedAs("RocksDB support required")
+        .isTrue();
+  }
+
+  @Test
+  void shouldStoreAndRetrieveValuesForAllProfiles(@TempDir final Path tempDir) throws Exception {
+    final Bytes32 root = Bytes32.fromHexString("0x1234");
+    final Bytes largeValue = Bytes.wrap(new byte[64 * 1024]);
+
+    try (KvStoreAccessor db = open(tempDir)) {
+      try (KvStoreTransaction transaction = db.startTransaction()) {
+        transaction.put(POINT_LOOKUP_COLUMN, root, Bytes.of(1));
+        for (int i = 0; i < 10; i++) {
+          transaction.put(RANGE_SCAN_COLUMN, UInt64.valueOf(i), Bytes.of(i));
+        }
+        transaction.put(LARGE_VALUE_COLUMN, UInt64.ONE, largeValue);
+        transaction.put(DEFAULT_COLUMN, UInt64.ONE, Bytes.of(2));
+        transaction.commit();
+      }
+    }
+
+    // Reopen to ensure values are read back from disk
+    try (KvStoreAccessor db = open(tempDir)) {
+      assertThat(db.get(POINT_LOOKUP_COLUMN, root)).contains(Bytes.of(1));
+      assertThat(db.get(POINT_LOOKUP_COLUMN, Bytes32.ZERO)).isEmpty();
+      try (Stream<ColumnEntry<UInt64, Bytes>> stream =
+          db.stream(RANGE_SCAN_COLUMN, UInt64.valueOf(3), UInt64.valueOf(5))) {
+        assertThat(stream.map(ColumnEntry::getValue).collect(Collectors.toList()))
+            .containsExactly(Bytes.of(3), Bytes.of(4), Bytes.of(5));
+      }
+      assertThat(db.get(LARGE_VALUE_COLUMN, UInt64.ONE)).contains(largeValue);
+      assertThat(db.get(DEFAULT_COLUMN, UInt64.ONE)).contains(Bytes.of(2));
+    }
+  }
+
+  @Test
+  void shouldUseProfileDefaultBottommostCompressionWhenNotConfigured() {
+    final KvStoreConfiguration configuration = KvStoreConfiguration.v6SingleDefaults();
+    try (ColumnFamilyOptions rangeScanOptions =
+            RocksDbInstanceFactory.createColumnFamilyOptions(
+                configuration, KvStoreColumnProfile.RANGE_SCAN);
+        ColumnFamilyOptions defaultOptions =
+            RocksDbInstanceFactory.createColumnFamilyOptions(
+                configuration, KvStoreColumnProfile.DEFAULT)) {
+      assertThat(rangeScanOptions.bottommostCompressionType())
+          .isEqualTo(CompressionType.ZSTD_COMPRESSION);
+      assertThat(defaultOptions.bottommostCompressionType())
+          .isEqualTo(CompressionType.NO_COMPRESSION);
+    }
+  }
+
+  @Test
+  void shouldUseConfiguredBottommostCompressionForAllProfiles() throws Exception {
+    final KvStoreConfiguration configuration =
+        new ObjectMapper(new YAMLFactory())
+            .readValue("bottomMostCompressionType: NO_COMPRESSION", KvStoreConfiguration.class);
+    for (KvStoreColumnProfile profile : KvStoreColumnProfile.values()) {
+      try (ColumnFamilyOptions options =
+          RocksDbInstanceFactory.createColumnFamilyOptions(configuration, profile)) {
+        assertThat(options.bottommostCompressionType()).isEqualTo(CompressionType.NO_COMPRESSION);
+      }
+    }
+  }
+
+  private KvStoreAccessor open(final Path databaseDir) {
+    return RocksDbInstanceFactory.create(
+        new NoOpMetricsSystem(),
+        TekuMetricCategory.STORAGE_HOT_DB,
+        KvStoreConfiguration.v6SingleDefaults().withDatabaseDir(databaseDir),
+        List.of(POINT_LOOKUP_COLUMN, RANGE_SCAN_COLUMN, LARGE_VALUE_COLUMN, DEFAULT_COLUMN),
+        List.of());
+  }
+}
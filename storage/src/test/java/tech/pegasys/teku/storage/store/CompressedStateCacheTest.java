@@ -0,0 +1,139 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
+
+import java.io.IOException;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.xerial.snappy.Snappy;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.generator.ChainBuilder;
+
+class CompressedStateCacheTest {
+  private static final Spec SPEC = TestSpecFactory.createMinimalPhase0();
+  private static final int HOT_STATE_PERSISTENCE_FREQUENCY = 2;
+
+  // With 8 slots per epoch, regeneration cost is slot % 16
+  private static SignedBlockAndState cheapBlock;
+  private static SignedBlockAndState expensiveBlock1;
+  private static SignedBlockAndState expensiveBlock2;
+
+  @BeforeAll
+  static void setUp() {
+    final ChainBuilder chainBuilder = ChainBuilder.create(SPEC);
+    chainBuilder.generateGenesis();
+    cheapBlock = chainBuilder.generateBlockAtSlot(17);
+    expensiveBlock1 = chainBuilder.generateBlockAtSlot(30);
+    expensiveBlock2 = chainBuilder.generateBlockAtSlot(31);
+  }
+
+  @Test
+  void shouldNotRetainStatesWhenDisabled() {
+    final CompressedStateCache cache = createCache(0);
+    cache.onEvicted(cheapBlock.getRoot(), cheapBlock);
+
+    assertThat(cache.size()).isZero();
+    assertThat(cache.createRestoreTask(cheapBlock.getRoot())).isEmpty();
+  }
+
+  @Test
+  void shouldRestoreEvictedState() {
+    final CompressedStateCache cache = createCache(Long.MAX_VALUE);
+    cache.onEvicted(cheapBlock.getRoot(), cheapBlock);
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.getTotalBytes()).isEqualTo(compressedSize(cheapBlock));
+    final Optional<StateAndBlockSummary> restored =
+        cache.createRestoreTask(cheapBlock.getRoot()).orElseThrow().performTask().join();
+    assertThat(restored).isPresent();
+    assertThat(restored.get().getRoot()).isEqualTo(cheapBlock.getRoot());
+    assertThat(restored.get().getState()).isEqualTo(cheapBlock.getState());
+    // Restored states are held by the in-memory state cache again
+    assertThat(cache.size()).isZero();
+    assertThat(cache.getTotalBytes()).isZero();
+  }
+
+  @Test
+  void shouldEvictCheapestStateToRegenerateWhenOverBudget() {
+    final CompressedStateCache cache =
+        createCache(compressedSize(expensiveBlock1) + compressedSize(expensiveBlock2));
+    cache.onEvicted(expensiveBlock1.getRoot(), expensiveBlock1);
+    cache.onEvicted(expensiveBlock2.getRoot(), expensiveBlock2);
+    cache.onEvicted(cheapBlock.getRoot(), cheapBlock);
+
+    assertThat(cache.contains(expensiveBlock1.getRoot())).isTrue();
+    assertThat(cache.contains(expensiveBlock2.getRoot())).isTrue();
+    assertThat(cache.contains(cheapBlock.getRoot())).isFalse();
+  }
+
+  @Test
+  void shouldRemoveState() {
+    final CompressedStateCache cache = createCache(Long.MAX_VALUE);
+    cache.onEvicted(cheapBlock.getRoot(), cheapBlock);
+    cache.remove(cheapBlock.getRoot());
+
+    assertThat(cache.size()).isZero();
+    assertThat(cache.getTotalBytes()).isZero();
+    assertThat(cache.createRestoreTask(cheapBlock.getRoot())).isEmpty();
+  }
+
+  @Test
+  void shouldNotAddStateRemovedWhileCompressionIsPending() {
+    final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+    final CompressedStateCache cache =
+        new CompressedStateCache(
+            SPEC, asyncRunner, Long.MAX_VALUE, HOT_STATE_PERSISTENCE_FREQUENCY);
+    cache.onEvicted(cheapBlock.getRoot(), cheapBlock);
+    cache.remove(cheapBlock.getRoot());
+    asyncRunner.executeQueuedActions();
+
+    assertThat(cache.size()).isZero();
+    assertThat(cache.createRestoreTask(cheapBlock.getRoot())).isEmpty();
+  }
+
+  @Test
+  void shouldOnlyCompressStateOnceWhenEvictedAgainWhilePending() {
+    final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+    final CompressedStateCache cache =
+        new CompressedStateCache(
+            SPEC, asyncRunner, Long.MAX_VALUE, HOT_STATE_PERSISTENCE_FREQUENCY);
+    cache.onEvicted(cheapBlock.getRoot(), cheapBlock);
+    cache.onEvicted(cheapBlock.getRoot(), cheapBlock);
+
+    assertThat(asyncRunner.countDelayedActions()).isEqualTo(1);
+    asyncRunner.executeQueuedActions();
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.getTotalBytes()).isEqualTo(compressedSize(cheapBlock));
+  }
+
+  private CompressedStateCache createCache(final long maxBytes) {
+    return new CompressedStateCache(SPEC, SYNC_RUNNER, maxBytes, HOT_STATE_PERSISTENCE_FREQUENCY);
+  }
+
+  private static long compressedSize(final SignedBlockAndState blockAndState) {
+    try {
+      return Snappy.compress(blockAndState.getState().sszSerialize().toArrayUnsafe()).length;
+    } catch (final IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
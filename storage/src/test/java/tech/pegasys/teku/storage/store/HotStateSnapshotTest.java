@@ -0,0 +1,69 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class HotStateSnapshotTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  @Test
+  void shouldRestoreSavedStates(@TempDir final Path tempDir) throws IOException {
+    final HotStateSnapshot snapshot = new HotStateSnapshot(spec, tempDir.resolve("snapshot"));
+    final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.valueOf(10));
+    final BeaconState derivedState = state.updated(s -> s.setSlot(UInt64.valueOf(11)));
+
+    snapshot.save(List.of(state, derivedState));
+
+    final List<BeaconState> loadedStates =
+        snapshot.load().stream().map(StateAndBlockSummary::getState).collect(Collectors.toList());
+    assertThat(loadedStates).containsExactly(state, derivedState);
+    assertThat(loadedStates.get(1).sszSerialize()).isEqualTo(derivedState.sszSerialize());
+  }
+
+  @Test
+  void shouldReturnEmptyListWhenNoSnapshotExists(@TempDir final Path tempDir) {
+    final HotStateSnapshot snapshot = new HotStateSnapshot(spec, tempDir.resolve("snapshot"));
+
+    assertThat(snapshot.load()).isEmpty();
+  }
+
+  @Test
+  void shouldIgnoreCorruptSnapshot(@TempDir final Path tempDir) throws IOException {
+    final Path file = tempDir.resolve("snapshot");
+    final HotStateSnapshot snapshot = new HotStateSnapshot(spec, file);
+    snapshot.save(List.of(dataStructureUtil.randomBeaconState()));
+
+    final byte[] data = Files.readAllBytes(file);
+    data[data.length / 2] ^= 0x01;
+    Files.write(file, data);
+
+    assertThat(snapshot.load()).isEmpty();
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeMemoryAccountant;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.store.StateCacheMemoryMetrics.StateCacheMemoryUsage;
+
+class StateCacheMemoryMetricsTest {
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createMinimalPhase0());
+  private final Collection<BeaconState> cachedStates = new ArrayList<>();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+  private final StateCacheMemoryMetrics metrics =
+      new StateCacheMemoryMetrics(SYNC_RUNNER, timeProvider, () -> cachedStates);
+
+  @Test
+  void shouldOnlyRefreshUsageOncePerInterval() {
+    final BeaconState state = dataStructureUtil.randomBeaconState();
+    cachedStates.add(state);
+    assertThat(metrics.getLatestUsage().getStateCount()).isEqualTo(1);
+
+    cachedStates.add(state.updated(s -> s.setSlot(UInt64.valueOf(1000))));
+    assertThat(metrics.getLatestUsage().getStateCount()).isEqualTo(1);
+
+    timeProvider.advanceTimeBy(StateCacheMemoryMetrics.UPDATE_INTERVAL);
+    assertThat(metrics.getLatestUsage().getStateCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldAccountForNodesSharedBetweenStates() {
+    final BeaconState state = dataStructureUtil.randomBeaconState();
+    final BeaconState derivedState = state.updated(s -> s.setSlot(UInt64.valueOf(1000)));
+
+    cachedStates.add(state);
+    metrics.update();
+    final long singleStateBytes = metrics.getLatestUsage().getUniqueBytes();
+    assertThat(singleStateBytes).isPositive();
+
+    cachedStates.add(derivedState);
+    metrics.update();
+    final StateCacheMemoryUsage usage = metrics.getLatestUsage();
+    assertThat(usage.getStateCount()).isEqualTo(2);
+    assertThat(usage.getSingleStateBytes()).isEqualTo(singleStateBytes);
+    assertThat(usage.getUniqueBytes()).isBetween(singleStateBytes, singleStateBytes * 11 / 10);
+  }
+
+  @Test
+  void shouldCarrySizeOverWhenBaseStateIsEvicted() {
+    final BeaconState state = dataStructureUtil.randomBeaconState();
+    final BeaconState derivedState =
+        state.updated(s -> s.getValidators().append(dataStructureUtil.randomValidator()));
+    cachedStates.add(state);
+    cachedStates.add(derivedState);
+    metrics.update();
+
+    cachedStates.remove(state);
+    metrics.update();
+
+    assertThat(metrics.getLatestUsage().getUniqueBytes())
+        .isEqualTo(TreeMemoryAccountant.estimateSize(derivedState.getBackingNode()));
+  }
+
+  @Test
+  void shouldSampleLargeCaches() {
+    final BeaconState state = dataStructureUtil.randomBeaconState();
+    final List<BeaconState> states = new ArrayList<>();
+    for (int i = 0; i < StateCacheMemoryMetrics.MAX_SAMPLED_STATES * 2; i++) {
+      final UInt64 slot = UInt64.valueOf(i);
+      states.add(state.updated(s -> s.setSlot(slot)));
+    }
+    cachedStates.addAll(states);
+
+    metrics.update();
+    assertThat(metrics.getLatestUsage().getStateCount()).isEqualTo(states.size());
+  }
+}
@@ -70,6 +70,7 @@ class StoreTest extends AbstractStoreTest {
                     genesisCheckpoint,
                     Collections.emptyMap(),
                     Collections.emptyMap(),
+                    Collections.emptyList(),
                     StoreConfig.createDefault()))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("Time must be greater than or equal to genesisTime");
@@ -131,6 +131,18 @@ public class BeaconRestApiOptions {
       hidden = true)
   private int validatorThreads = BeaconRestApiConfig.DEFAULT_SUBSCRIBE_THREADS_COUNT;
 
+  @Option(
+      names = {"--Xrest-api-virtual-threads-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Handle rest api requests on virtual threads. Requires a JVM with virtual thread support.",
+      arity = "0..1",
+      fallbackValue = "true",
+      hidden = true)
+  private boolean restApiVirtualThreadsEnabled =
+      BeaconRestApiConfig.DEFAULT_REST_API_VIRTUAL_THREADS_ENABLED;
+
   public void configure(final TekuConfiguration.Builder builder) {
     builder.restApi(
         restApiBuilder ->
@@ -145,6 +157,7 @@ public class BeaconRestApiOptions {
                 .maxUrlLength(maxUrlLength)
                 .beaconLivenessTrackingEnabled(beaconLivenessTrackingEnabled)
                 .maxPendingEvents(maxPendingEvents)
-                .validatorThreads(validatorThreads));
+                .validatorThreads(validatorThreads)
+                .restApiVirtualThreadsEnabled(restApiVirtualThreadsEnabled));
   }
 }
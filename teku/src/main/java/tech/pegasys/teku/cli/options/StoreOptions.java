@@ -52,12 +52,48 @@ public class StoreOptions {
       arity = "1")
   private int checkpointStateCacheSize = StoreConfig.DEFAULT_CHECKPOINT_STATE_CACHE_SIZE;
 
+  @Option(
+      hidden = true,
+      names = {"--Xstore-compressed-state-cache-max-bytes"},
+      paramLabel = "<LONG>",
+      description =
+          "Maximum total size in bytes of compressed states retained after eviction from the state"
+              + " cache. A value of zero disables the compressed state cache.",
+      arity = "1")
+  private long compressedStateCacheMaxBytes = StoreConfig.DEFAULT_COMPRESSED_STATE_CACHE_MAX_BYTES;
+
+  @Option(
+      hidden = true,
+      names = {"--Xstore-hot-state-snapshot-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Save cached hot states to disk on shutdown and restore them on startup to avoid"
+              + " regenerating them.",
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean hotStateSnapshotEnabled = StoreConfig.DEFAULT_HOT_STATE_SNAPSHOT_ENABLED;
+
+  @Option(
+      hidden = true,
+      names = {"--Xstore-state-cache-memory-metrics-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Periodically estimate the heap retained by the state caches and report it as metrics."
+              + " Walking the cached states has a CPU cost so this is disabled by default.",
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean stateCacheMemoryMetricsEnabled =
+      StoreConfig.DEFAULT_STATE_CACHE_MEMORY_METRICS_ENABLED;
+
   public void configure(final TekuConfiguration.Builder builder) {
     builder.store(
         b ->
             b.hotStatePersistenceFrequencyInEpochs(hotStatePersistenceFrequencyInEpochs)
                 .blockCacheSize(blockCacheSize)
                 .stateCacheSize(stateCacheSize)
-                .checkpointStateCacheSize(checkpointStateCacheSize));
+                .checkpointStateCacheSize(checkpointStateCacheSize)
+                .compressedStateCacheMaxBytes(compressedStateCacheMaxBytes)
+                .hotStateSnapshotEnabled(hotStateSnapshotEnabled)
+                .stateCacheMemoryMetricsEnabled(stateCacheMemoryMetricsEnabled));
   }
 }
@@ -56,6 +56,27 @@ public class ValidatorClientOptions {
   private boolean failoversPublishSignedDutiesEnabled =
       ValidatorConfig.DEFAULT_FAILOVERS_PUBLISH_SIGNED_DUTIES_ENABLED;
 
+  @Option(
+      names = {"--Xbeacon-node-hedged-requests-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Send attestation data and block production requests to the fastest failover beacon node as well when the primary node responds slower than usual",
+      hidden = true,
+      showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+      arity = "0..1",
+      fallbackValue = "true")
+  private boolean hedgedRequestsEnabled = ValidatorConfig.DEFAULT_HEDGED_REQUESTS_ENABLED;
+
+  @Option(
+      names = {"--Xbeacon-node-hedged-requests-percentile"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Percentile of recent primary beacon node response times after which a hedged request is sent",
+      hidden = true,
+      showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+      arity = "1")
+  private int hedgedRequestsPercentile = ValidatorConfig.DEFAULT_HEDGED_REQUESTS_PERCENTILE;
+
   @Option(
       names = {"--beacon-node-ssz-blocks-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -65,6 +86,43 @@ public class ValidatorClientOptions {
       fallbackValue = "true")
   private boolean validatorClientSszBlocksEnabled = DEFAULT_VALIDATOR_CLIENT_SSZ_BLOCKS_ENABLED;
 
+  @Option(
+      names = {"--Xbeacon-node-ssz-attestations-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Use SSZ encoding for API attestation data and attestation requests. Falls back to JSON if the beacon node does not support it",
+      hidden = true,
+      showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+      arity = "0..1",
+      fallbackValue = "true")
+  private boolean validatorClientSszAttestationsEnabled =
+      ValidatorConfig.DEFAULT_VALIDATOR_CLIENT_SSZ_ATTESTATIONS_ENABLED;
+
+  @Option(
+      names = {"--Xbeacon-node-proposer-duties-push-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Receive proposer duties from the beacon node event stream instead of requesting them."
+              + " Attester and sync committee duties are still requested. Requires a Teku beacon"
+              + " node",
+      hidden = true,
+      showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+      arity = "0..1",
+      fallbackValue = "true")
+  private boolean proposerDutiesPushEnabled = ValidatorConfig.DEFAULT_PROPOSER_DUTIES_PUSH_ENABLED;
+
+  @Option(
+      names = {"--Xbeacon-node-api-virtual-threads-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Send requests to the beacon node from virtual threads. Requires a JVM with virtual thread support",
+      hidden = true,
+      showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+      arity = "0..1",
+      fallbackValue = "true")
+  private boolean beaconNodeApiVirtualThreadsEnabled =
+      ValidatorConfig.DEFAULT_BEACON_NODE_API_VIRTUAL_THREADS_ENABLED;
+
   public void configure(TekuConfiguration.Builder builder) {
     configureBeaconNodeApiEndpoints();
 
@@ -73,8 +131,13 @@ public class ValidatorClientOptions {
             config
                 .beaconNodeApiEndpoints(getBeaconNodeApiEndpoints())
                 .validatorClientUseSszBlocksEnabled(validatorClientSszBlocksEnabled)
+                .validatorClientUseSszAttestationsEnabled(validatorClientSszAttestationsEnabled)
+                .proposerDutiesPushEnabled(proposerDutiesPushEnabled)
+                .beaconNodeApiVirtualThreadsEnabled(beaconNodeApiVirtualThreadsEnabled)
                 .failoversSendSubnetSubscriptionsEnabled(failoversSendSubnetSubscriptionsEnabled)
                 .failoversPublishSignedDutiesEnabled(failoversPublishSignedDutiesEnabled)
+                .hedgedRequestsEnabled(hedgedRequestsEnabled)
+                .hedgedRequestsPercentile(hedgedRequestsPercentile)
                 .sentryNodeConfigurationFile(exclusiveParams.sentryConfigFile));
   }
 
@@ -25,6 +25,7 @@ import org.apache.commons.lang3.StringUtils;
 import picocli.CommandLine;
 import tech.pegasys.teku.config.TekuConfiguration;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
+import tech.pegasys.teku.validator.api.ExternalSignerBulkSigningFormat;
 import tech.pegasys.teku.validator.api.ValidatorConfig;
 
 public class ValidatorKeysOptions {
@@ -105,6 +106,83 @@ public class ValidatorKeysOptions {
   private int validatorExternalSignerConcurrentRequestLimit =
       ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
 
+  @CommandLine.Option(
+      names = {"--Xvalidators-external-signer-bulk-signing-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Group attestation, aggregation slot, randao and sync committee signing requests for the"
+              + " same slot into bulk requests to the signer. Requires an external signer which"
+              + " implements the non-standard /api/v1/eth2/sign/bulk endpoint. Falls back to"
+              + " individual requests if the signer doesn't support bulk signing.",
+      hidden = true,
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean validatorExternalSignerBulkSigningEnabled =
+      ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BULK_SIGNING_ENABLED;
+
+  @CommandLine.Option(
+      names = {"--Xvalidators-external-signer-bulk-signing-format"},
+      paramLabel = "<FORMAT>",
+      description =
+          "Wire format for bulk signing requests (Valid values: ${COMPLETION-CANDIDATES})",
+      hidden = true,
+      arity = "1")
+  private ExternalSignerBulkSigningFormat validatorExternalSignerBulkSigningFormat =
+      ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BULK_SIGNING_FORMAT;
+
+  @CommandLine.Option(
+      names = {"--Xvalidators-external-signer-http2-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Use HTTP/2 to multiplex requests to the external signer over a single connection",
+      hidden = true,
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean validatorExternalSignerHttp2Enabled =
+      ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_HTTP2_ENABLED;
+
+  @CommandLine.Option(
+      names = {"--Xvalidators-local-signing-threads"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Number of threads used to sign with local validator keys. Defaults to the number of"
+              + " available processors.",
+      hidden = true,
+      arity = "1")
+  private int validatorLocalSigningThreads =
+      ValidatorConfig.DEFAULT_VALIDATOR_LOCAL_SIGNING_THREADS;
+
+  @CommandLine.Option(
+      names = {"--Xvalidators-incremental-loading-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Start performing duties for each validator as soon as its key is loaded instead of"
+              + " waiting for all keys to load. Ignored when doppelganger detection is enabled.",
+      hidden = true,
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean validatorsIncrementalLoadingEnabled =
+      ValidatorConfig.DEFAULT_VALIDATORS_INCREMENTAL_LOADING_ENABLED;
+
+  @CommandLine.Option(
+      names = {"--Xvalidators-key-cache-file"},
+      paramLabel = "<FILE>",
+      description =
+          "File to cache decrypted validator keys in, encrypted with the password from"
+              + " --Xvalidators-key-cache-password-file, so restarts don't need to decrypt every"
+              + " keystore",
+      hidden = true,
+      arity = "1")
+  private String validatorKeyCacheFile = null;
+
+  @CommandLine.Option(
+      names = {"--Xvalidators-key-cache-password-file"},
+      paramLabel = "<FILE>",
+      description = "Password file used to encrypt the validator key cache",
+      hidden = true,
+      arity = "1")
+  private String validatorKeyCachePasswordFile = null;
+
   public void configure(TekuConfiguration.Builder builder) {
     builder.validator(
         config ->
@@ -114,6 +192,14 @@ public class ValidatorKeysOptions {
                 .validatorExternalSignerUrl(parseValidatorExternalSignerUrl())
                 .validatorExternalSignerConcurrentRequestLimit(
                     validatorExternalSignerConcurrentRequestLimit)
+                .validatorExternalSignerBulkSigningEnabled(
+                    validatorExternalSignerBulkSigningEnabled)
+                .validatorExternalSignerBulkSigningFormat(validatorExternalSignerBulkSigningFormat)
+                .validatorExternalSignerHttp2Enabled(validatorExternalSignerHttp2Enabled)
+                .validatorLocalSigningThreads(validatorLocalSigningThreads)
+                .validatorsIncrementalLoadingEnabled(validatorsIncrementalLoadingEnabled)
+                .validatorKeyCacheFile(convertToPath(validatorKeyCacheFile))
+                .validatorKeyCachePasswordFile(convertToPath(validatorKeyCachePasswordFile))
                 .validatorExternalSignerTimeout(Duration.ofMillis(validatorExternalSignerTimeout))
                 .validatorExternalSignerKeystore(convertToPath(validatorExternalSignerKeystore))
                 .validatorExternalSignerKeystorePasswordFile(
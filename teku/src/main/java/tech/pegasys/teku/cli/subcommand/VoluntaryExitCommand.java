@@ -58,6 +58,7 @@ import tech.pegasys.teku.spec.datastructures.operations.VoluntaryExit;
 import tech.pegasys.teku.spec.datastructures.state.Fork;
 import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.signatures.RejectingSlashingProtector;
+import tech.pegasys.teku.spec.signatures.SigningRootCache;
 import tech.pegasys.teku.validator.client.Validator;
 import tech.pegasys.teku.validator.client.loader.PublicKeyLoader;
 import tech.pegasys.teku.validator.client.loader.SlashingProtectionLogger;
@@ -316,6 +317,7 @@ public class VoluntaryExitCommand implements Callable<Integer> {
             new PublicKeyLoader(),
             asyncRunner,
             metricsSystem,
+            new SigningRootCache(spec),
             dataDirLayout);
 
     validatorLoader.loadValidators();
@@ -66,4 +66,55 @@ public class StoreOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(output).isNotEmpty();
     assertThat(output).contains("Invalid value");
   }
+
+  @Test
+  public void compressedStateCacheMaxBytes_shouldRespectCLIArg() {
+    final String[] args = {
+      "--Xstore-compressed-state-cache-max-bytes", "536870912",
+    };
+    TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments(args);
+    final StoreConfig globalConfiguration = tekuConfiguration.beaconChain().storeConfig();
+    assertThat(globalConfiguration.getCompressedStateCacheMaxBytes()).isEqualTo(536870912L);
+
+    assertThat(createConfigBuilder().store(b -> b.compressedStateCacheMaxBytes(536870912L)).build())
+        .usingRecursiveComparison()
+        .isEqualTo(tekuConfiguration);
+  }
+
+  @Test
+  public void compressedStateCacheMaxBytes_shouldBeDisabledByDefault() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(globalConfiguration.getCompressedStateCacheMaxBytes()).isZero();
+  }
+
+  @Test
+  public void hotStateSnapshotEnabled_shouldRespectCLIArg() {
+    final String[] args = {"--Xstore-hot-state-snapshot-enabled"};
+    TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments(args);
+    final StoreConfig globalConfiguration = tekuConfiguration.beaconChain().storeConfig();
+    assertThat(globalConfiguration.isHotStateSnapshotEnabled()).isTrue();
+  }
+
+  @Test
+  public void hotStateSnapshotEnabled_shouldBeDisabledByDefault() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(globalConfiguration.isHotStateSnapshotEnabled()).isFalse();
+  }
+
+  @Test
+  public void stateCacheMemoryMetricsEnabled_shouldRespectCLIArg() {
+    final String[] args = {"--Xstore-state-cache-memory-metrics-enabled"};
+    TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments(args);
+    final StoreConfig globalConfiguration = tekuConfiguration.beaconChain().storeConfig();
+    assertThat(globalConfiguration.isStateCacheMemoryMetricsEnabled()).isTrue();
+  }
+
+  @Test
+  public void stateCacheMemoryMetricsEnabled_shouldBeDisabledByDefault() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(globalConfiguration.isStateCacheMemoryMetricsEnabled()).isFalse();
+  }
 }
@@ -27,6 +27,7 @@ import tech.pegasys.teku.cli.AbstractBeaconNodeCommandTest;
 import tech.pegasys.teku.config.TekuConfiguration;
 import tech.pegasys.teku.ethereum.execution.types.Eth1Address;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.validator.api.ExternalSignerBulkSigningFormat;
 import tech.pegasys.teku.validator.api.ValidatorConfig;
 
 public class ValidatorOptionsTest extends AbstractBeaconNodeCommandTest {
@@ -61,6 +62,40 @@ public class ValidatorOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(config.getValidatorExternalSignerConcurrentRequestLimit()).isEqualTo(123);
   }
 
+  @Test
+  public void shouldDisableExternalSignerBulkSigningByDefault() {
+    final ValidatorConfig config =
+        getTekuConfigurationFromArguments().validatorClient().getValidatorConfig();
+    assertThat(config.isValidatorExternalSignerBulkSigningEnabled()).isFalse();
+    assertThat(config.getValidatorExternalSignerBulkSigningFormat())
+        .isEqualTo(ExternalSignerBulkSigningFormat.JSON);
+    assertThat(config.isValidatorExternalSignerHttp2Enabled()).isFalse();
+  }
+
+  @Test
+  public void shouldReadExternalSignerBulkSigningOptions() {
+    final ValidatorConfig config =
+        getTekuConfigurationFromArguments(
+                "--Xvalidators-external-signer-bulk-signing-enabled",
+                "--Xvalidators-external-signer-bulk-signing-format=BINARY",
+                "--Xvalidators-external-signer-http2-enabled=true")
+            .validatorClient()
+            .getValidatorConfig();
+    assertThat(config.isValidatorExternalSignerBulkSigningEnabled()).isTrue();
+    assertThat(config.getValidatorExternalSignerBulkSigningFormat())
+        .isEqualTo(ExternalSignerBulkSigningFormat.BINARY);
+    assertThat(config.isValidatorExternalSignerHttp2Enabled()).isTrue();
+  }
+
+  @Test
+  public void shouldSetLocalSigningThreads() {
+    final ValidatorConfig config =
+        getTekuConfigurationFromArguments("--Xvalidators-local-signing-threads=3")
+            .validatorClient()
+            .getValidatorConfig();
+    assertThat(config.getValidatorLocalSigningThreads()).isEqualTo(3);
+  }
+
   @Test
   public void graffiti_shouldBeEmptyByDefault() {
     final ValidatorConfig config =
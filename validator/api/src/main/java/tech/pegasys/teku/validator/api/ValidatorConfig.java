@@ -41,12 +41,24 @@ public class ValidatorConfig {
       List.of(URI.create("http://127.0.0.1:" + DEFAULT_REST_API_PORT));
   public static final boolean DEFAULT_FAILOVERS_SEND_SUBNET_SUBSCRIPTIONS_ENABLED = true;
   public static final boolean DEFAULT_FAILOVERS_PUBLISH_SIGNED_DUTIES_ENABLED = true;
+  public static final boolean DEFAULT_HEDGED_REQUESTS_ENABLED = false;
+  public static final int DEFAULT_HEDGED_REQUESTS_PERCENTILE = 95;
   public static final boolean DEFAULT_VALIDATOR_CLIENT_SSZ_BLOCKS_ENABLED = true;
+  public static final boolean DEFAULT_VALIDATOR_CLIENT_SSZ_ATTESTATIONS_ENABLED = false;
+  public static final boolean DEFAULT_PROPOSER_DUTIES_PUSH_ENABLED = false;
+  public static final boolean DEFAULT_BEACON_NODE_API_VIRTUAL_THREADS_ENABLED = false;
   public static final boolean DEFAULT_DOPPELGANGER_DETECTION_ENABLED = false;
   public static final int DEFAULT_EXECUTOR_MAX_QUEUE_SIZE = 20_000;
   public static final Duration DEFAULT_VALIDATOR_EXTERNAL_SIGNER_TIMEOUT = Duration.ofSeconds(5);
   public static final int DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT = 32;
+  public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BULK_SIGNING_ENABLED = false;
+  public static final ExternalSignerBulkSigningFormat
+      DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BULK_SIGNING_FORMAT = ExternalSignerBulkSigningFormat.JSON;
+  public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_HTTP2_ENABLED = false;
+  public static final int DEFAULT_VALIDATOR_LOCAL_SIGNING_THREADS =
+      Runtime.getRuntime().availableProcessors();
   public static final boolean DEFAULT_VALIDATOR_KEYSTORE_LOCKING_ENABLED = true;
+  public static final boolean DEFAULT_VALIDATORS_INCREMENTAL_LOADING_ENABLED = false;
   public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_SLASHING_PROTECTION_ENABLED = true;
   public static final boolean DEFAULT_GENERATE_EARLY_ATTESTATIONS = true;
   public static final Optional<Bytes32> DEFAULT_GRAFFITI = Optional.empty();
@@ -70,6 +82,13 @@ public class ValidatorConfig {
   private final boolean validatorKeystoreLockingEnabled;
   private final Optional<List<URI>> beaconNodeApiEndpoints;
   private final int validatorExternalSignerConcurrentRequestLimit;
+  private final boolean validatorExternalSignerBulkSigningEnabled;
+  private final ExternalSignerBulkSigningFormat validatorExternalSignerBulkSigningFormat;
+  private final boolean validatorExternalSignerHttp2Enabled;
+  private final int validatorLocalSigningThreads;
+  private final boolean validatorsIncrementalLoadingEnabled;
+  private final Path validatorKeyCacheFile;
+  private final Path validatorKeyCachePasswordFile;
   private final boolean generateEarlyAttestations;
   private final Optional<Eth1Address> proposerDefaultFeeRecipient;
   private final Optional<String> proposerConfigSource;
@@ -77,9 +96,14 @@ public class ValidatorConfig {
   private final boolean blindedBeaconBlocksEnabled;
   private final boolean builderRegistrationDefaultEnabled;
   private final boolean validatorClientUseSszBlocksEnabled;
+  private final boolean validatorClientUseSszAttestationsEnabled;
+  private final boolean proposerDutiesPushEnabled;
+  private final boolean beaconNodeApiVirtualThreadsEnabled;
   private final boolean doppelgangerDetectionEnabled;
   private final boolean failoversSendSubnetSubscriptionsEnabled;
   private final boolean failoversPublishSignedDutiesEnabled;
+  private final boolean hedgedRequestsEnabled;
+  private final int hedgedRequestsPercentile;
   private final UInt64 builderRegistrationDefaultGasLimit;
   private final int builderRegistrationSendingBatchSize;
   private final Optional<UInt64> builderRegistrationTimestampOverride;
@@ -102,6 +126,13 @@ public class ValidatorConfig {
       final boolean validatorKeystoreLockingEnabled,
       final boolean validatorExternalSignerSlashingProtectionEnabled,
       final int validatorExternalSignerConcurrentRequestLimit,
+      final boolean validatorExternalSignerBulkSigningEnabled,
+      final ExternalSignerBulkSigningFormat validatorExternalSignerBulkSigningFormat,
+      final boolean validatorExternalSignerHttp2Enabled,
+      final int validatorLocalSigningThreads,
+      final boolean validatorsIncrementalLoadingEnabled,
+      final Path validatorKeyCacheFile,
+      final Path validatorKeyCachePasswordFile,
       final boolean generateEarlyAttestations,
       final Optional<Eth1Address> proposerDefaultFeeRecipient,
       final Optional<String> proposerConfigSource,
@@ -109,9 +140,14 @@ public class ValidatorConfig {
       final boolean builderRegistrationDefaultEnabled,
       final boolean blindedBeaconBlocksEnabled,
       final boolean validatorClientUseSszBlocksEnabled,
+      final boolean validatorClientUseSszAttestationsEnabled,
+      final boolean proposerDutiesPushEnabled,
+      final boolean beaconNodeApiVirtualThreadsEnabled,
       final boolean doppelgangerDetectionEnabled,
       final boolean failoversSendSubnetSubscriptionsEnabled,
       final boolean failoversPublishSignedDutiesEnabled,
+      final boolean hedgedRequestsEnabled,
+      final int hedgedRequestsPercentile,
       final UInt64 builderRegistrationDefaultGasLimit,
       final int builderRegistrationSendingBatchSize,
       final Optional<UInt64> builderRegistrationTimestampOverride,
@@ -135,6 +171,13 @@ public class ValidatorConfig {
         validatorExternalSignerSlashingProtectionEnabled;
     this.validatorExternalSignerConcurrentRequestLimit =
         validatorExternalSignerConcurrentRequestLimit;
+    this.validatorExternalSignerBulkSigningEnabled = validatorExternalSignerBulkSigningEnabled;
+    this.validatorExternalSignerBulkSigningFormat = validatorExternalSignerBulkSigningFormat;
+    this.validatorExternalSignerHttp2Enabled = validatorExternalSignerHttp2Enabled;
+    this.validatorLocalSigningThreads = validatorLocalSigningThreads;
+    this.validatorsIncrementalLoadingEnabled = validatorsIncrementalLoadingEnabled;
+    this.validatorKeyCacheFile = validatorKeyCacheFile;
+    this.validatorKeyCachePasswordFile = validatorKeyCachePasswordFile;
     this.generateEarlyAttestations = generateEarlyAttestations;
     this.proposerDefaultFeeRecipient = proposerDefaultFeeRecipient;
     this.proposerConfigSource = proposerConfigSource;
@@ -142,9 +185,14 @@ public class ValidatorConfig {
     this.blindedBeaconBlocksEnabled = blindedBeaconBlocksEnabled;
     this.builderRegistrationDefaultEnabled = builderRegistrationDefaultEnabled;
     this.validatorClientUseSszBlocksEnabled = validatorClientUseSszBlocksEnabled;
+    this.validatorClientUseSszAttestationsEnabled = validatorClientUseSszAttestationsEnabled;
+    this.proposerDutiesPushEnabled = proposerDutiesPushEnabled;
+    this.beaconNodeApiVirtualThreadsEnabled = beaconNodeApiVirtualThreadsEnabled;
     this.doppelgangerDetectionEnabled = doppelgangerDetectionEnabled;
     this.failoversSendSubnetSubscriptionsEnabled = failoversSendSubnetSubscriptionsEnabled;
     this.failoversPublishSignedDutiesEnabled = failoversPublishSignedDutiesEnabled;
+    this.hedgedRequestsEnabled = hedgedRequestsEnabled;
+    this.hedgedRequestsPercentile = hedgedRequestsPercentile;
     this.builderRegistrationDefaultGasLimit = builderRegistrationDefaultGasLimit;
     this.builderRegistrationSendingBatchSize = builderRegistrationSendingBatchSize;
     this.builderRegistrationTimestampOverride = builderRegistrationTimestampOverride;
@@ -185,6 +233,33 @@ public class ValidatorConfig {
     return validatorExternalSignerConcurrentRequestLimit;
   }
 
+  public boolean isValidatorExternalSignerBulkSigningEnabled() {
+    return validatorExternalSignerBulkSigningEnabled;
+  }
+
+  public ExternalSignerBulkSigningFormat getValidatorExternalSignerBulkSigningFormat() {
+    return validatorExternalSignerBulkSigningFormat;
+  }
+
+  public boolean isValidatorExternalSignerHttp2Enabled() {
+    return validatorExternalSignerHttp2Enabled;
+  }
+
+  public int getValidatorLocalSigningThreads() {
+    return validatorLocalSigningThreads;
+  }
+
+  public boolean isValidatorsIncrementalLoadingEnabled() {
+    return validatorsIncrementalLoadingEnabled;
+  }
+
+  public Optional<Pair<Path, Path>> getValidatorKeyCacheFilePasswordFilePair() {
+    if (validatorKeyCacheFile == null || validatorKeyCachePasswordFile == null) {
+      return Optional.empty();
+    }
+    return Optional.of(Pair.of(validatorKeyCacheFile, validatorKeyCachePasswordFile));
+  }
+
   public Pair<Path, Path> getValidatorExternalSignerKeystorePasswordFilePair() {
     return Pair.of(validatorExternalSignerKeystore, validatorExternalSignerKeystorePasswordFile);
   }
@@ -252,6 +327,18 @@ public class ValidatorConfig {
     return validatorClientUseSszBlocksEnabled;
   }
 
+  public boolean isValidatorClientUseSszAttestationsEnabled() {
+    return validatorClientUseSszAttestationsEnabled;
+  }
+
+  public boolean isProposerDutiesPushEnabled() {
+    return proposerDutiesPushEnabled;
+  }
+
+  public boolean isBeaconNodeApiVirtualThreadsEnabled() {
+    return beaconNodeApiVirtualThreadsEnabled;
+  }
+
   public boolean isDoppelgangerDetectionEnabled() {
     return doppelgangerDetectionEnabled;
   }
@@ -264,6 +351,14 @@ public class ValidatorConfig {
     return failoversPublishSignedDutiesEnabled;
   }
 
+  public boolean isHedgedRequestsEnabled() {
+    return hedgedRequestsEnabled;
+  }
+
+  public int getHedgedRequestsPercentile() {
+    return hedgedRequestsPercentile;
+  }
+
   public boolean isBuilderRegistrationDefaultEnabled() {
     return builderRegistrationDefaultEnabled;
   }
@@ -291,6 +386,17 @@ public class ValidatorConfig {
     private URL validatorExternalSignerUrl;
     private int validatorExternalSignerConcurrentRequestLimit =
         DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
+    private boolean validatorExternalSignerBulkSigningEnabled =
+        DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BULK_SIGNING_ENABLED;
+    private ExternalSignerBulkSigningFormat validatorExternalSignerBulkSigningFormat =
+        DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BULK_SIGNING_FORMAT;
+    private boolean validatorExternalSignerHttp2Enabled =
+        DEFAULT_VALIDATOR_EXTERNAL_SIGNER_HTTP2_ENABLED;
+    private int validatorLocalSigningThreads = DEFAULT_VALIDATOR_LOCAL_SIGNING_THREADS;
+    private boolean validatorsIncrementalLoadingEnabled =
+        DEFAULT_VALIDATORS_INCREMENTAL_LOADING_ENABLED;
+    private Path validatorKeyCacheFile;
+    private Path validatorKeyCachePasswordFile;
     private Duration validatorExternalSignerTimeout = DEFAULT_VALIDATOR_EXTERNAL_SIGNER_TIMEOUT;
     private Path validatorExternalSignerKeystore;
     private Path validatorExternalSignerKeystorePasswordFile;
@@ -313,11 +419,18 @@ public class ValidatorConfig {
         DEFAULT_BUILDER_REGISTRATION_DEFAULT_ENABLED;
     private boolean blindedBlocksEnabled = DEFAULT_VALIDATOR_BLINDED_BLOCKS_ENABLED;
     private boolean validatorClientSszBlocksEnabled = DEFAULT_VALIDATOR_CLIENT_SSZ_BLOCKS_ENABLED;
+    private boolean validatorClientSszAttestationsEnabled =
+        DEFAULT_VALIDATOR_CLIENT_SSZ_ATTESTATIONS_ENABLED;
+    private boolean proposerDutiesPushEnabled = DEFAULT_PROPOSER_DUTIES_PUSH_ENABLED;
+    private boolean beaconNodeApiVirtualThreadsEnabled =
+        DEFAULT_BEACON_NODE_API_VIRTUAL_THREADS_ENABLED;
     private boolean doppelgangerDetectionEnabled = DEFAULT_DOPPELGANGER_DETECTION_ENABLED;
     private boolean failoversSendSubnetSubscriptionsEnabled =
         DEFAULT_FAILOVERS_SEND_SUBNET_SUBSCRIPTIONS_ENABLED;
     private boolean failoversPublishSignedDutiesEnabled =
         DEFAULT_FAILOVERS_PUBLISH_SIGNED_DUTIES_ENABLED;
+    private boolean hedgedRequestsEnabled = DEFAULT_HEDGED_REQUESTS_ENABLED;
+    private int hedgedRequestsPercentile = DEFAULT_HEDGED_REQUESTS_PERCENTILE;
     private UInt64 builderRegistrationDefaultGasLimit = DEFAULT_BUILDER_REGISTRATION_GAS_LIMIT;
     private int builderRegistrationSendingBatchSize =
         DEFAULT_VALIDATOR_REGISTRATION_SENDING_BATCH_SIZE;
@@ -375,6 +488,50 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder validatorExternalSignerBulkSigningEnabled(
+        final boolean validatorExternalSignerBulkSigningEnabled) {
+      this.validatorExternalSignerBulkSigningEnabled = validatorExternalSignerBulkSigningEnabled;
+      return this;
+    }
+
+    public Builder validatorExternalSignerBulkSigningFormat(
+        final ExternalSignerBulkSigningFormat validatorExternalSignerBulkSigningFormat) {
+      this.validatorExternalSignerBulkSigningFormat = validatorExternalSignerBulkSigningFormat;
+      return this;
+    }
+
+    public Builder validatorExternalSignerHttp2Enabled(
+        final boolean validatorExternalSignerHttp2Enabled) {
+      this.validatorExternalSignerHttp2Enabled = validatorExternalSignerHttp2Enabled;
+      return this;
+    }
+
+    public Builder validatorLocalSigningThreads(final int validatorLocalSigningThreads) {
+      if (validatorLocalSigningThreads < 1) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid validatorLocalSigningThreads: %s", validatorLocalSigningThreads));
+      }
+      this.validatorLocalSigningThreads = validatorLocalSigningThreads;
+      return this;
+    }
+
+    public Builder validatorsIncrementalLoadingEnabled(
+        final boolean validatorsIncrementalLoadingEnabled) {
+      this.validatorsIncrementalLoadingEnabled = validatorsIncrementalLoadingEnabled;
+      return this;
+    }
+
+    public Builder validatorKeyCacheFile(final Path validatorKeyCacheFile) {
+      this.validatorKeyCacheFile = validatorKeyCacheFile;
+      return this;
+    }
+
+    public Builder validatorKeyCachePasswordFile(final Path validatorKeyCachePasswordFile) {
+      this.validatorKeyCachePasswordFile = validatorKeyCachePasswordFile;
+      return this;
+    }
+
     public Builder validatorExternalSignerKeystore(final Path validatorExternalSignerKeystore) {
       this.validatorExternalSignerKeystore = validatorExternalSignerKeystore;
       return this;
@@ -467,6 +624,23 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder validatorClientUseSszAttestationsEnabled(
+        final boolean validatorClientUseSszAttestationsEnabled) {
+      this.validatorClientSszAttestationsEnabled = validatorClientUseSszAttestationsEnabled;
+      return this;
+    }
+
+    public Builder proposerDutiesPushEnabled(final boolean proposerDutiesPushEnabled) {
+      this.proposerDutiesPushEnabled = proposerDutiesPushEnabled;
+      return this;
+    }
+
+    public Builder beaconNodeApiVirtualThreadsEnabled(
+        final boolean beaconNodeApiVirtualThreadsEnabled) {
+      this.beaconNodeApiVirtualThreadsEnabled = beaconNodeApiVirtualThreadsEnabled;
+      return this;
+    }
+
     public Builder doppelgangerDetectionEnabled(final boolean doppelgangerDetectionEnabled) {
       this.doppelgangerDetectionEnabled = doppelgangerDetectionEnabled;
       return this;
@@ -484,6 +658,20 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder hedgedRequestsEnabled(final boolean hedgedRequestsEnabled) {
+      this.hedgedRequestsEnabled = hedgedRequestsEnabled;
+      return this;
+    }
+
+    public Builder hedgedRequestsPercentile(final int hedgedRequestsPercentile) {
+      if (hedgedRequestsPercentile < 1 || hedgedRequestsPercentile > 100) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid hedgedRequestsPercentile: %s", hedgedRequestsPercentile));
+      }
+      this.hedgedRequestsPercentile = hedgedRequestsPercentile;
+      return this;
+    }
+
     public Builder builderRegistrationDefaultGasLimit(
         final UInt64 builderRegistrationDefaultGasLimit) {
       this.builderRegistrationDefaultGasLimit = builderRegistrationDefaultGasLimit;
@@ -525,6 +713,7 @@ public class ValidatorConfig {
       validateExternalSignerUrlAndPublicKeys();
       validateExternalSignerKeystoreAndPasswordFileConfig();
       validateExternalSignerTruststoreAndPasswordFileConfig();
+      validateKeyCacheAndPasswordFileConfig();
       validateExternalSignerURLScheme();
       validateValidatorsRegistrationAndBlindedBlocks();
       return new ValidatorConfig(
@@ -542,6 +731,13 @@ public class ValidatorConfig {
           validatorKeystoreLockingEnabled,
           validatorExternalSignerSlashingProtectionEnabled,
           validatorExternalSignerConcurrentRequestLimit,
+          validatorExternalSignerBulkSigningEnabled,
+          validatorExternalSignerBulkSigningFormat,
+          validatorExternalSignerHttp2Enabled,
+          validatorLocalSigningThreads,
+          validatorsIncrementalLoadingEnabled,
+          validatorKeyCacheFile,
+          validatorKeyCachePasswordFile,
           generateEarlyAttestations,
           proposerDefaultFeeRecipient,
           proposerConfigSource,
@@ -549,9 +745,14 @@ public class ValidatorConfig {
           validatorsRegistrationDefaultEnabled,
           blindedBlocksEnabled,
           validatorClientSszBlocksEnabled,
+          validatorClientSszAttestationsEnabled,
+          proposerDutiesPushEnabled,
+          beaconNodeApiVirtualThreadsEnabled,
           doppelgangerDetectionEnabled,
           failoversSendSubnetSubscriptionsEnabled,
           failoversPublishSignedDutiesEnabled,
+          hedgedRequestsEnabled,
+          hedgedRequestsPercentile,
           builderRegistrationDefaultGasLimit,
           builderRegistrationSendingBatchSize,
           builderRegistrationTimestampOverride,
@@ -590,6 +791,14 @@ public class ValidatorConfig {
       }
     }
 
+    private void validateKeyCacheAndPasswordFileConfig() {
+      if (onlyOneInitialized(validatorKeyCacheFile, validatorKeyCachePasswordFile)) {
+        final String errorMessage =
+            "Invalid configuration. '--Xvalidators-key-cache-file' and '--Xvalidators-key-cache-password-file' must be specified together";
+        throw new InvalidConfigurationException(errorMessage);
+      }
+    }
+
     private void validateExternalSignerURLScheme() {
       if (validatorExternalSignerPublicKeySources.isEmpty() || validatorExternalSignerUrl == null) {
         return;
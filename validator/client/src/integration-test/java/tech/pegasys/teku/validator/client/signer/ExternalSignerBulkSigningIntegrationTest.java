@@ -0,0 +1,210 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.validator.client.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.validator.client.signer.ExternalSigner.slashableAttestationMessage;
+import static tech.pegasys.teku.validator.client.signer.ExternalSignerTestUtil.validateMetrics;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.junit.jupiter.MockServerExtension;
+import org.mockserver.model.MediaType;
+import org.mockserver.verify.VerificationTimes;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueueWithPriority;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
+import tech.pegasys.teku.spec.signatures.SigningRootUtil;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.validator.api.ExternalSignerBulkSigningFormat;
+import tech.pegasys.teku.validator.api.ValidatorConfig;
+import tech.pegasys.teku.validator.client.loader.HttpClientExternalSignerFactory;
+
+@ExtendWith(MockServerExtension.class)
+public class ExternalSignerBulkSigningIntegrationTest {
+  private static final Duration TIMEOUT = Duration.ofMillis(500);
+  private static final BLSKeyPair KEYPAIR_1 = BLSTestUtil.randomKeyPair(1);
+  private static final BLSKeyPair KEYPAIR_2 = BLSTestUtil.randomKeyPair(2);
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final ForkInfo fork = dataStructureUtil.randomForkInfo();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final ThrottlingTaskQueueWithPriority queue =
+      ThrottlingTaskQueueWithPriority.create(
+          8, metricsSystem, TekuMetricCategory.VALIDATOR, "externalSignerTest");
+  private final BLSSignature signature1 = BLSTestUtil.randomSignature(1);
+  private final BLSSignature signature2 = BLSTestUtil.randomSignature(2);
+
+  private ClientAndServer client;
+  private ExternalSigner externalSigner1;
+  private ExternalSigner externalSigner2;
+
+  @BeforeEach
+  void setup(final ClientAndServer client) throws MalformedURLException {
+    this.client = client;
+    final ValidatorConfig config =
+        ValidatorConfig.builder()
+            .validatorExternalSignerUrl(new URL("http://127.0.0.1:" + client.getLocalPort()))
+            .validatorExternalSignerTimeout(TIMEOUT)
+            .validatorExternalSignerBulkSigningEnabled(true)
+            .validatorExternalSignerBulkSigningFormat(ExternalSignerBulkSigningFormat.JSON)
+            .build();
+    final HttpClientExternalSignerFactory httpClientFactory =
+        new HttpClientExternalSignerFactory(config);
+    final ExternalSignerBatcher batcher =
+        ExternalSignerBatcherFactory.create(
+                metricsSystem,
+                config,
+                httpClientFactory,
+                queue,
+                asyncRunner,
+                StubTimeProvider.withTimeInMillis(0))
+            .getBatcher(config.getValidatorExternalSignerUrl());
+
+    externalSigner1 = createSigner(config, httpClientFactory, KEYPAIR_1, batcher);
+    externalSigner2 = createSigner(config, httpClientFactory, KEYPAIR_2, batcher);
+  }
+
+  private ExternalSigner createSigner(
+      final ValidatorConfig config,
+      final HttpClientExternalSignerFactory httpClientFactory,
+      final BLSKeyPair keyPair,
+      final ExternalSignerBatcher batcher) {
+    return new ExternalSigner(
+        spec,
+        httpClientFactory.get(),
+        config.getValidatorExternalSignerUrl(),
+        keyPair.getPublicKey(),
+        TIMEOUT,
+        queue,
+        metricsSystem,
+        Optional.of(batcher),
+        new SigningRootUtil(spec));
+  }
+
+  @AfterEach
+  void tearDown() {
+    client.reset();
+  }
+
+  @Test
+  void shouldSignAttestationsForSameSlotInSingleRequest() {
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+    client
+        .when(request().withPath(ExternalSignerBatcher.EXTERNAL_SIGNER_BULK_ENDPOINT))
+        .respond(
+            response()
+                .withContentType(MediaType.APPLICATION_JSON)
+                .withBody(
+                    "[{\"status\":200,\"signature\":\""
+                        + signature1
+                        + "\"},{\"status\":200,\"signature\":\""
+                        + signature2
+                        + "\"}]"));
+
+    final SafeFuture<BLSSignature> result1 =
+        externalSigner1.signAttestationData(attestationData, fork);
+    final SafeFuture<BLSSignature> result2 =
+        externalSigner2.signAttestationData(attestationData, fork);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result1.join()).isEqualTo(signature1);
+    assertThat(result2.join()).isEqualTo(signature2);
+    client.verify(
+        request().withPath(ExternalSignerBatcher.EXTERNAL_SIGNER_BULK_ENDPOINT),
+        VerificationTimes.exactly(1));
+    validateMetrics(metricsSystem, 2, 0, 0);
+  }
+
+  @Test
+  void shouldFailRequestsRefusedBySigner() {
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+    client
+        .when(request().withPath(ExternalSignerBatcher.EXTERNAL_SIGNER_BULK_ENDPOINT))
+        .respond(
+            response()
+                .withContentType(MediaType.APPLICATION_JSON)
+                .withBody(
+                    "[{\"status\":200,\"signature\":\"" + signature1 + "\"},{\"status\":412}]"));
+
+    final SafeFuture<BLSSignature> result1 =
+        externalSigner1.signAttestationData(attestationData, fork);
+    final SafeFuture<BLSSignature> result2 =
+        externalSigner2.signAttestationData(attestationData, fork);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result1.join()).isEqualTo(signature1);
+    assertThatThrownBy(result2::join)
+        .hasCauseInstanceOf(ExternalSignerException.class)
+        .hasMessageEndingWith(slashableAttestationMessage(attestationData).get());
+    validateMetrics(metricsSystem, 1, 1, 0);
+  }
+
+  @Test
+  void shouldFallBackToIndividualRequestsWhenBulkSigningIsNotSupported() {
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+    client
+        .when(request().withPath(ExternalSignerBatcher.EXTERNAL_SIGNER_BULK_ENDPOINT))
+        .respond(response().withStatusCode(SC_NOT_FOUND));
+    client
+        .when(
+            request()
+                .withPath(ExternalSigner.EXTERNAL_SIGNER_ENDPOINT + "/" + KEYPAIR_1.getPublicKey()))
+        .respond(response().withBody(signature1.toString()));
+    client
+        .when(
+            request()
+                .withPath(ExternalSigner.EXTERNAL_SIGNER_ENDPOINT + "/" + KEYPAIR_2.getPublicKey()))
+        .respond(response().withBody(signature2.toString()));
+
+    final SafeFuture<BLSSignature> result1 =
+        externalSigner1.signAttestationData(attestationData, fork);
+    final SafeFuture<BLSSignature> result2 =
+        externalSigner2.signAttestationData(attestationData, fork);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result1.join()).isEqualTo(signature1);
+    assertThat(result2.join()).isEqualTo(signature2);
+
+    // Subsequent requests go straight to the individual API
+    assertThat(externalSigner1.signAttestationData(attestationData, fork).join())
+        .isEqualTo(signature1);
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+    client.verify(
+        request().withPath(ExternalSignerBatcher.EXTERNAL_SIGNER_BULK_ENDPOINT),
+        VerificationTimes.exactly(1));
+    validateMetrics(metricsSystem, 3, 0, 0);
+  }
+}
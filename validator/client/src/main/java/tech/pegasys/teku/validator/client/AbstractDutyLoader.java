@@ -57,6 +57,10 @@ public abstract class AbstractDutyLoader<D, S extends ScheduledDuties> implement
             });
   }
 
+  /**
+   * Requests the duties for the given validators. Only proposer duties may have been pushed by the
+   * beacon node ahead of time, in which case the request is answered without contacting it.
+   */
   protected abstract SafeFuture<Optional<D>> requestDuties(
       final UInt64 epoch, final IntCollection validatorIndices);
 
@@ -24,6 +24,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecVersion;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.signatures.SigningRootCache;
 import tech.pegasys.teku.validator.api.AttesterDuties;
 import tech.pegasys.teku.validator.api.AttesterDuty;
 import tech.pegasys.teku.validator.api.CommitteeSubscriptionRequest;
@@ -44,6 +45,7 @@ public class AttestationDutyLoader
           Bytes32, SlotBasedScheduledDuties<AttestationProductionDuty, AggregationDuty>>
       scheduledDutiesFactory;
   private final BeaconCommitteeSubscriptions beaconCommitteeSubscriptions;
+  private final SigningRootCache signingRootCache;
   private final Spec spec;
 
   public AttestationDutyLoader(
@@ -54,12 +56,14 @@ public class AttestationDutyLoader
       final OwnedValidators validators,
       final ValidatorIndexProvider validatorIndexProvider,
       final BeaconCommitteeSubscriptions beaconCommitteeSubscriptions,
+      final SigningRootCache signingRootCache,
       final Spec spec) {
     super(validators, validatorIndexProvider);
     this.validatorApiChannel = validatorApiChannel;
     this.forkProvider = forkProvider;
     this.scheduledDutiesFactory = scheduledDutiesFactory;
     this.beaconCommitteeSubscriptions = beaconCommitteeSubscriptions;
+    this.signingRootCache = signingRootCache;
     this.spec = spec;
   }
 
@@ -77,6 +81,7 @@ public class AttestationDutyLoader
       final UInt64 epoch, final AttesterDuties duties) {
     final SlotBasedScheduledDuties<AttestationProductionDuty, AggregationDuty> scheduledDuties =
         scheduledDutiesFactory.apply(duties.getDependentRoot());
+    precomputeDomains(epoch);
     return SafeFuture.allOf(
             duties.getDuties().stream()
                 .map(duty -> scheduleDuties(scheduledDuties, duty))
@@ -85,6 +90,13 @@ public class AttestationDutyLoader
         .alwaysRun(beaconCommitteeSubscriptions::sendRequests);
   }
 
+  private void precomputeDomains(final UInt64 epoch) {
+    forkProvider
+        .getForkInfo(spec.computeStartSlotAtEpoch(epoch))
+        .thenAccept(forkInfo -> signingRootCache.precomputeDomains(epoch, forkInfo))
+        .finish(error -> LOG.debug("Failed to precompute signing domains", error));
+  }
+
   private SafeFuture<Void> scheduleDuties(
       final SlotBasedScheduledDuties<AttestationProductionDuty, AggregationDuty> scheduledDuties,
       final AttesterDuty duty) {
@@ -15,9 +15,12 @@ package tech.pegasys.teku.validator.client;
 
 import it.unimi.dsi.fastutil.ints.IntCollection;
 import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.signatures.SigningRootCache;
 import tech.pegasys.teku.validator.api.SyncCommitteeDuties;
 import tech.pegasys.teku.validator.api.SyncCommitteeDuty;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
@@ -28,10 +31,12 @@ import tech.pegasys.teku.validator.client.loader.OwnedValidators;
 public class SyncCommitteeDutyLoader
     extends AbstractDutyLoader<SyncCommitteeDuties, SyncCommitteeScheduledDuties> {
 
+  private static final Logger LOG = LogManager.getLogger();
   private final Spec spec;
   private final ValidatorApiChannel validatorApiChannel;
   private final ChainHeadTracker chainHeadTracker;
   private final ForkProvider forkProvider;
+  private final SigningRootCache signingRootCache;
 
   public SyncCommitteeDutyLoader(
       final OwnedValidators validators,
@@ -39,12 +44,14 @@ public class SyncCommitteeDutyLoader
       final Spec spec,
       final ValidatorApiChannel validatorApiChannel,
       final ChainHeadTracker chainHeadTracker,
-      final ForkProvider forkProvider) {
+      final ForkProvider forkProvider,
+      final SigningRootCache signingRootCache) {
     super(validators, validatorIndexProvider);
     this.spec = spec;
     this.validatorApiChannel = validatorApiChannel;
     this.chainHeadTracker = chainHeadTracker;
     this.forkProvider = forkProvider;
+    this.signingRootCache = signingRootCache;
   }
 
   @Override
@@ -67,11 +74,19 @@ public class SyncCommitteeDutyLoader
                     .computeFirstEpochOfNextSyncCommitteePeriod(epoch)
                     .minusMinZero(1));
     duties.getDuties().forEach(duty -> scheduleDuty(dutyBuilder, duty));
+    precomputeDomains(epoch);
     final SyncCommitteeScheduledDuties scheduledDuties = dutyBuilder.build();
     scheduledDuties.subscribeToSubnets();
     return SafeFuture.completedFuture(scheduledDuties);
   }
 
+  private void precomputeDomains(final UInt64 epoch) {
+    forkProvider
+        .getForkInfo(spec.computeStartSlotAtEpoch(epoch))
+        .thenAccept(forkInfo -> signingRootCache.precomputeDomains(epoch, forkInfo))
+        .finish(error -> LOG.debug("Failed to precompute signing domains", error));
+  }
+
   private void scheduleDuty(
       final SyncCommitteeScheduledDuties.Builder dutyBuilder, final SyncCommitteeDuty duty) {
     validators
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -38,6 +39,7 @@ import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.signatures.LocalSlashingProtector;
+import tech.pegasys.teku.spec.signatures.SigningRootCache;
 import tech.pegasys.teku.spec.signatures.SlashingProtector;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 import tech.pegasys.teku.validator.api.ValidatorConfig;
@@ -73,10 +75,12 @@ public class ValidatorClientService extends Service {
   private static final Duration DOPPELGANGER_DETECTOR_CHECK_DELAY = Duration.ofSeconds(12);
   private static final Duration DOPPELGANGER_DETECTOR_TIMEOUT = Duration.ofMinutes(15);
   private static final int DOPPELGANGER_DETECTOR_MAX_EPOCHS = 2;
+  private static final Duration INCREMENTAL_LOADING_LOOKUP_DELAY = Duration.ofSeconds(2);
   private final EventChannels eventChannels;
   private final ValidatorLoader validatorLoader;
   private final BeaconNodeApi beaconNodeApi;
   private final ForkProvider forkProvider;
+  private final SigningRootCache signingRootCache;
   private final Spec spec;
 
   private final List<ValidatorTimingChannel> validatorTimingChannels = new ArrayList<>();
@@ -90,6 +94,7 @@ public class ValidatorClientService extends Service {
 
   private final Optional<ProposerConfigManager> proposerConfigManager;
   private final SafeFuture<Void> initializationComplete = new SafeFuture<>();
+  private final SafeFuture<Void> validatorKeysLoaded = new SafeFuture<>();
 
   private final MetricsSystem metricsSystem;
 
@@ -98,6 +103,7 @@ public class ValidatorClientService extends Service {
       final ValidatorLoader validatorLoader,
       final BeaconNodeApi beaconNodeApi,
       final ForkProvider forkProvider,
+      final SigningRootCache signingRootCache,
       final Optional<ProposerConfigManager> proposerConfigManager,
       final Optional<BeaconProposerPreparer> beaconProposerPreparer,
       final Optional<ValidatorRegistrator> validatorRegistrator,
@@ -108,6 +114,7 @@ public class ValidatorClientService extends Service {
     this.validatorLoader = validatorLoader;
     this.beaconNodeApi = beaconNodeApi;
     this.forkProvider = forkProvider;
+    this.signingRootCache = signingRootCache;
     this.proposerConfigManager = proposerConfigManager;
     this.beaconProposerPreparer = beaconProposerPreparer;
     this.validatorRegistrator = validatorRegistrator;
@@ -133,8 +140,10 @@ public class ValidatorClientService extends Service {
     final GenesisDataProvider genesisDataProvider =
         new GenesisDataProvider(asyncRunner, validatorApiChannel);
     final ForkProvider forkProvider = new ForkProvider(config.getSpec(), genesisDataProvider);
+    final SigningRootCache signingRootCache = new SigningRootCache(config.getSpec());
 
-    final ValidatorLoader validatorLoader = createValidatorLoader(services, config, asyncRunner);
+    final ValidatorLoader validatorLoader =
+        createValidatorLoader(services, config, asyncRunner, signingRootCache);
     final ValidatorRestApiConfig validatorApiConfig = config.getValidatorRestApiConfig();
     final Optional<ProposerConfigManager> proposerConfigManager;
     Optional<BeaconProposerPreparer> beaconProposerPreparer = Optional.empty();
@@ -187,6 +196,7 @@ public class ValidatorClientService extends Service {
             validatorLoader,
             beaconNodeApi,
             forkProvider,
+            signingRootCache,
             proposerConfigManager,
             beaconProposerPreparer,
             validatorRegistrator,
@@ -194,9 +204,26 @@ public class ValidatorClientService extends Service {
             services.getMetricsSystem(),
             doppelgangerDetectionAction);
 
+    final boolean incrementalLoadingEnabled =
+        validatorConfig.isValidatorsIncrementalLoadingEnabled()
+            && !validatorConfig.isDoppelgangerDetectionEnabled();
+    if (validatorConfig.isValidatorsIncrementalLoadingEnabled() && !incrementalLoadingEnabled) {
+      LOG.info(
+          "Loading all validator keys before performing duties because doppelganger detection is enabled");
+    }
+
     asyncRunner
         .runAsync(
-            () -> validatorClientService.initializeValidators(validatorApiChannel, asyncRunner))
+            () -> {
+              if (incrementalLoadingEnabled) {
+                validatorClientService.initializeValidatorsIncrementally(
+                    validatorApiChannel,
+                    asyncRunner,
+                    services.createAsyncRunner("validatorLoader", 1));
+              } else {
+                validatorClientService.initializeValidators(validatorApiChannel, asyncRunner);
+              }
+            })
         .thenCompose(
             __ -> {
               if (validatorConfig.isDoppelgangerDetectionEnabled()) {
@@ -281,6 +308,12 @@ public class ValidatorClientService extends Service {
       final ValidatorClientConfiguration validatorClientConfiguration,
       final AsyncRunner asyncRunner) {
     final ValidatorConfig validatorConfig = validatorClientConfiguration.getValidatorConfig();
+    // Requests to remote beacon nodes block while waiting for a response
+    final AsyncRunner remoteApiAsyncRunner =
+        validatorConfig.isBeaconNodeApiVirtualThreadsEnabled()
+            ? services.createAsyncRunnerWithVirtualThreads(
+                "validatorBeaconNodeApi", validatorConfig.getExecutorMaxQueueSize())
+            : asyncRunner;
 
     final BeaconNodeApi beaconNodeApi;
     if (validatorConfig.getSentryNodeConfigurationFile().isEmpty()) {
@@ -292,7 +325,7 @@ public class ValidatorClientService extends Service {
                       RemoteBeaconNodeApi.create(
                           services,
                           validatorConfig,
-                          asyncRunner,
+                          remoteApiAsyncRunner,
                           validatorClientConfiguration.getSpec(),
                           beaconNodeApiEndpoints))
               .orElseGet(
@@ -311,7 +344,7 @@ public class ValidatorClientService extends Service {
           SentryBeaconNodeApi.create(
               services,
               validatorConfig,
-              asyncRunner,
+              remoteApiAsyncRunner,
               validatorClientConfiguration.getSpec(),
               sentryNodesConfig);
     }
@@ -322,7 +355,8 @@ public class ValidatorClientService extends Service {
   private static ValidatorLoader createValidatorLoader(
       final ServiceConfig services,
       final ValidatorClientConfiguration config,
-      final AsyncRunner asyncRunner) {
+      final AsyncRunner asyncRunner,
+      final SigningRootCache signingRootCache) {
     final Path slashingProtectionPath = getSlashingProtectionPath(services.getDataDirLayout());
     final SlashingProtector slashingProtector =
         new LocalSlashingProtector(
@@ -339,6 +373,7 @@ public class ValidatorClientService extends Service {
         new PublicKeyLoader(),
         asyncRunner,
         services.getMetricsSystem(),
+        signingRootCache,
         config.getValidatorRestApiConfig().isRestApiEnabled()
             ? Optional.of(services.getDataDirLayout())
             : Optional.empty());
@@ -347,11 +382,46 @@ public class ValidatorClientService extends Service {
   private void initializeValidators(
       final ValidatorApiChannel validatorApiChannel, final AsyncRunner asyncRunner) {
     validatorLoader.loadValidators();
+    validatorKeysLoaded.complete(null);
     final OwnedValidators validators = validatorLoader.getOwnedValidators();
     this.validatorIndexProvider =
         new ValidatorIndexProvider(validators, validatorApiChannel, asyncRunner);
   }
 
+  private void initializeValidatorsIncrementally(
+      final ValidatorApiChannel validatorApiChannel,
+      final AsyncRunner asyncRunner,
+      final AsyncRunner loaderAsyncRunner) {
+    final OwnedValidators validators = validatorLoader.getOwnedValidators();
+    this.validatorIndexProvider =
+        new ValidatorIndexProvider(validators, validatorApiChannel, asyncRunner);
+    // Duties are recalculated once the indices of newly loaded validators are known
+    final ValidatorTimingChannel validatorTimingChannel =
+        eventChannels.getPublisher(ValidatorTimingChannel.class);
+    validatorIndexProvider.subscribeToNewValidatorIndices(
+        validatorTimingChannel::onValidatorsAdded);
+
+    final AtomicBoolean lookupPending = new AtomicBoolean(false);
+    final Runnable onValidatorAdded =
+        () -> {
+          // Batch up index lookups rather than making a request for every key loaded
+          if (lookupPending.compareAndSet(false, true)) {
+            asyncRunner
+                .runAfterDelay(
+                    () -> {
+                      lookupPending.set(false);
+                      validatorIndexProvider.lookupValidators();
+                    },
+                    INCREMENTAL_LOADING_LOOKUP_DELAY)
+                .ifExceptionGetsHereRaiseABug();
+          }
+        };
+    loaderAsyncRunner
+        .runAsync(() -> validatorLoader.loadValidatorsIncrementally(onValidatorAdded))
+        .thenRun(validatorIndexProvider::lookupValidators)
+        .propagateTo(validatorKeysLoaded);
+  }
+
   private void scheduleValidatorsDuties(
       ValidatorClientConfiguration config,
       ValidatorApiChannel validatorApiChannel,
@@ -378,6 +448,7 @@ public class ValidatorClientService extends Service {
                 validators,
                 validatorIndexProvider,
                 beaconCommitteeSubscriptions,
+                signingRootCache,
                 spec));
     final DutyLoader<?> blockDutyLoader =
         new RetryingDutyLoader<>(
@@ -404,7 +475,8 @@ public class ValidatorClientService extends Service {
                   spec,
                   validatorApiChannel,
                   chainHeadTracker,
-                  forkProvider));
+                  forkProvider,
+                  signingRootCache));
       validatorTimingChannels.add(
           new SyncCommitteeScheduler(
               metricsSystem, spec, syncCommitteeDutyLoader, new Random()::nextInt));
@@ -455,46 +527,53 @@ public class ValidatorClientService extends Service {
 
   @Override
   protected SafeFuture<?> doStart() {
-    return initializationComplete
-        .thenCompose(
-            __ ->
-                proposerConfigManager
-                    .map(manager -> manager.initialize(validatorLoader.getOwnedValidators()))
-                    .orElse(SafeFuture.COMPLETE))
-        .thenCompose(
-            __ -> {
-              maybeValidatorRestApi.ifPresent(
-                  restApi -> restApi.start().ifExceptionGetsHereRaiseABug());
-              SystemSignalListener.registerReloadConfigListener(validatorLoader::loadValidators);
-              validatorIndexProvider.lookupValidators();
-              return maybeDoppelgangerDetector
-                  .map(
-                      doppelgangerDetector ->
-                          doppelgangerDetector
-                              .performDoppelgangerDetection(
-                                  validatorLoader.getOwnedValidators().getPublicKeys())
-                              .thenAccept(
-                                  doppelgangerDetected -> {
-                                    if (!doppelgangerDetected.isEmpty()) {
-                                      doppelgangerDetectionAction.perform(
-                                          new ArrayList<>(doppelgangerDetected.values()));
-                                    }
-                                  }))
-                  .orElse(SafeFuture.COMPLETE);
-            })
-        .thenCompose(
-            __ -> {
-              eventChannels.subscribe(
-                  ValidatorTimingChannel.class,
-                  new ValidatorTimingActions(
-                      validatorStatusLogger,
-                      validatorIndexProvider,
-                      validatorTimingChannels,
-                      spec,
-                      metricsSystem));
-              validatorStatusLogger.printInitialValidatorStatuses().ifExceptionGetsHereRaiseABug();
-              return beaconNodeApi.subscribeToEvents();
-            });
+    // Keys may still be loading incrementally once duties start, but a failure to load them
+    // fails startup just as it would if all keys were loaded up front
+    final SafeFuture<Void> startComplete =
+        initializationComplete
+            .thenCompose(
+                __ ->
+                    proposerConfigManager
+                        .map(manager -> manager.initialize(validatorLoader.getOwnedValidators()))
+                        .orElse(SafeFuture.COMPLETE))
+            .thenCompose(
+                __ -> {
+                  maybeValidatorRestApi.ifPresent(
+                      restApi -> restApi.start().ifExceptionGetsHereRaiseABug());
+                  SystemSignalListener.registerReloadConfigListener(
+                      validatorLoader::loadValidators);
+                  validatorIndexProvider.lookupValidators();
+                  return maybeDoppelgangerDetector
+                      .map(
+                          doppelgangerDetector ->
+                              doppelgangerDetector
+                                  .performDoppelgangerDetection(
+                                      validatorLoader.getOwnedValidators().getPublicKeys())
+                                  .thenAccept(
+                                      doppelgangerDetected -> {
+                                        if (!doppelgangerDetected.isEmpty()) {
+                                          doppelgangerDetectionAction.perform(
+                                              new ArrayList<>(doppelgangerDetected.values()));
+                                        }
+                                      }))
+                      .orElse(SafeFuture.COMPLETE);
+                })
+            .thenCompose(
+                __ -> {
+                  eventChannels.subscribe(
+                      ValidatorTimingChannel.class,
+                      new ValidatorTimingActions(
+                          validatorStatusLogger,
+                          validatorIndexProvider,
+                          validatorTimingChannels,
+                          spec,
+                          metricsSystem));
+                  validatorStatusLogger
+                      .printInitialValidatorStatuses()
+                      .ifExceptionGetsHereRaiseABug();
+                  return beaconNodeApi.subscribeToEvents();
+                });
+    return SafeFuture.allOfFailFast(startComplete, validatorKeysLoaded);
   }
 
   @Override
@@ -504,6 +583,7 @@ public class ValidatorClientService extends Service {
             () ->
                 maybeValidatorRestApi.ifPresent(
                     restApi -> restApi.stop().ifExceptionGetsHereRaiseABug())),
-        beaconNodeApi.unsubscribeFromEvents());
+        beaconNodeApi.unsubscribeFromEvents(),
+        SafeFuture.fromRunnable(validatorLoader::shutdown));
   }
 }
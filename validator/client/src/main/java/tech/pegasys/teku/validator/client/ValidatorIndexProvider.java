@@ -20,8 +20,10 @@ import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntCollection;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
@@ -45,6 +47,7 @@ public class ValidatorIndexProvider {
 
   private final AtomicBoolean requestInProgress = new AtomicBoolean(false);
   private final SafeFuture<Void> firstSuccessfulRequest = new SafeFuture<>();
+  private final List<Runnable> newValidatorIndicesSubscribers = new CopyOnWriteArrayList<>();
 
   public ValidatorIndexProvider(
       final OwnedValidators ownedValidators,
@@ -71,7 +74,9 @@ public class ValidatorIndexProvider {
             knownValidators -> {
               logNewValidatorIndices(knownValidators);
               validatorIndicesByPublicKey.putAll(knownValidators);
-              firstSuccessfulRequest.complete(null);
+              if (!firstSuccessfulRequest.complete(null) && !knownValidators.isEmpty()) {
+                newValidatorIndicesSubscribers.forEach(Runnable::run);
+              }
             })
         .orTimeout(30, TimeUnit.SECONDS)
         .whenComplete((result, error) -> requestInProgress.set(false))
@@ -84,6 +89,14 @@ public class ValidatorIndexProvider {
             });
   }
 
+  /**
+   * Subscribes to be notified when indices are found for validators after the first successful
+   * lookup, for example when validators are added while keys are still being loaded.
+   */
+  public void subscribeToNewValidatorIndices(final Runnable subscriber) {
+    newValidatorIndicesSubscribers.add(subscriber);
+  }
+
   private Collection<BLSPublicKey> getUnknownValidators() {
     return Sets.difference(ownedValidators.getPublicKeys(), validatorIndicesByPublicKey.keySet());
   }
@@ -18,6 +18,7 @@ import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -210,9 +211,10 @@ public class DoppelgangerDetector {
     }
 
     private SafeFuture<Void> checkDoppelgangersAtEpoch(final UInt64 epoch) {
+      final Set<BLSPublicKey> detectedPubKeys = new HashSet<>(detectedDoppelgangers.values());
       Set<BLSPublicKey> inactivePubKeys =
           pubKeys.stream()
-              .filter(pubKey -> !detectedDoppelgangers.containsValue(pubKey))
+              .filter(pubKey -> !detectedPubKeys.contains(pubKey))
               .collect(Collectors.toSet());
       statusLog.doppelgangerCheck(
           epoch.longValue(), mapToAbbreviatedKeys(inactivePubKeys).collect(Collectors.toSet()));
@@ -251,7 +253,7 @@ public class DoppelgangerDetector {
     }
 
     private boolean allKeysAreActive() {
-      return detectedDoppelgangers.values().containsAll(pubKeys);
+      return new HashSet<>(detectedDoppelgangers.values()).containsAll(pubKeys);
     }
 
     private SafeFuture<Void> checkValidatorsLivenessAtEpoch(
@@ -337,29 +339,25 @@ public class DoppelgangerDetector {
     private List<Pair<BLSPublicKey, ValidatorLivenessAtEpoch>> filterLiveValidators(
         final Optional<List<ValidatorLivenessAtEpoch>> validatorLivenessAtEpoches,
         final Map<BLSPublicKey, UInt64> validatorPubKeysByIndices) {
-      return validatorLivenessAtEpoches
+      if (validatorLivenessAtEpoches.isEmpty()) {
+        return new ArrayList<>();
+      }
+      // Index once so large key sets aren't scanned for every liveness result
+      final Map<UInt64, BLSPublicKey> pubKeysByValidatorIndex =
+          new HashMap<>(validatorPubKeysByIndices.size());
+      validatorPubKeysByIndices.forEach(
+          (pubKey, validatorIndex) -> pubKeysByValidatorIndex.putIfAbsent(validatorIndex, pubKey));
+      return validatorLivenessAtEpoches.get().stream()
+          .filter(ValidatorLivenessAtEpoch::isLive)
+          .filter(
+              validatorLivenessAtEpoch ->
+                  pubKeysByValidatorIndex.containsKey(validatorLivenessAtEpoch.getIndex()))
           .map(
-              validatorLiveness ->
-                  validatorLiveness.stream()
-                      .filter(
-                          validatorLivenessAtEpoch ->
-                              validatorPubKeysByIndices.containsValue(
-                                      validatorLivenessAtEpoch.getIndex())
-                                  && validatorLivenessAtEpoch.isLive())
-                      .map(
-                          validatorLivenessAtEpoch ->
-                              Pair.of(
-                                  validatorPubKeysByIndices.entrySet().stream()
-                                      .filter(
-                                          e ->
-                                              e.getValue()
-                                                  .equals(validatorLivenessAtEpoch.getIndex()))
-                                      .findFirst()
-                                      .get()
-                                      .getKey(),
-                                  validatorLivenessAtEpoch))
-                      .collect(Collectors.toList()))
-          .orElse(new ArrayList<>());
+              validatorLivenessAtEpoch ->
+                  Pair.of(
+                      pubKeysByValidatorIndex.get(validatorLivenessAtEpoch.getIndex()),
+                      validatorLivenessAtEpoch))
+          .collect(Collectors.toList());
     }
 
     private String extractErrorMessage(final Throwable throwable) {
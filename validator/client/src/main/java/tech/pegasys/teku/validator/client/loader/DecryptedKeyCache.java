@@ -0,0 +1,237 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.loader;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.spec.KeySpec;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSecretKey;
+import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
+
+/**
+ * Caches decrypted validator keys in a single file, encrypted with one password, so that restarts
+ * don't need to run the expensive key derivation function of every EIP-2335 keystore.
+ *
+ * <p>The cache file is encrypted with AES-GCM using a key derived from the password with a single
+ * PBKDF2 derivation, so the cost of loading is the same regardless of the number of keys.
+ */
+public class DecryptedKeyCache {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final int VERSION = 1;
+  private static final int SALT_LENGTH = 16;
+  private static final int IV_LENGTH = 12;
+  private static final int GCM_TAG_LENGTH_BITS = 128;
+  private static final int KEY_LENGTH_BITS = 256;
+  private static final int KDF_ITERATIONS = 262_144;
+  private static final int ENTRY_LENGTH = Bytes48.SIZE + Bytes32.SIZE;
+
+  private final Path cacheFile;
+  private final String password;
+  private final Map<BLSPublicKey, BLSSecretKey> keys = new ConcurrentHashMap<>();
+  private volatile boolean dirty = false;
+
+  private DecryptedKeyCache(final Path cacheFile, final String password) {
+    this.cacheFile = cacheFile;
+    this.password = password;
+  }
+
+  public static DecryptedKeyCache load(final Path cacheFile, final Path passwordFile) {
+    final String password;
+    try {
+      password = Files.readString(passwordFile, UTF_8).trim();
+    } catch (final IOException e) {
+      throw new InvalidConfigurationException(
+          "Unable to read key cache password file: " + passwordFile, e);
+    }
+    if (StringUtils.isEmpty(password)) {
+      throw new InvalidConfigurationException(
+          "Key cache password cannot be empty: " + passwordFile);
+    }
+    return load(cacheFile, password);
+  }
+
+  @VisibleForTesting
+  static DecryptedKeyCache load(final Path cacheFile, final String password) {
+    final DecryptedKeyCache cache = new DecryptedKeyCache(cacheFile, password);
+    if (!Files.exists(cacheFile)) {
+      return cache;
+    }
+    try {
+      cache.decrypt(Bytes.wrap(Files.readAllBytes(cacheFile)));
+      LOG.info("Loaded {} validator keys from key cache {}", cache.keys.size(), cacheFile);
+    } catch (final IOException | GeneralSecurityException | RuntimeException e) {
+      // Fall back to decrypting keystores, the cache is rewritten once they are loaded
+      LOG.warn("Unable to load key cache {}, ignoring it", cacheFile, e);
+      cache.keys.clear();
+      cache.dirty = true;
+    }
+    return cache;
+  }
+
+  public Optional<BLSSecretKey> getSecretKey(final BLSPublicKey publicKey) {
+    return Optional.ofNullable(keys.get(publicKey));
+  }
+
+  public void put(final BLSPublicKey publicKey, final BLSSecretKey secretKey) {
+    if (!secretKey.equals(keys.put(publicKey, secretKey))) {
+      dirty = true;
+    }
+  }
+
+  /** Removes any cached keys which are no longer in use so they aren't kept at rest. */
+  public void retainAll(final Set<BLSPublicKey> publicKeys) {
+    if (keys.keySet().retainAll(publicKeys)) {
+      dirty = true;
+    }
+  }
+
+  public int size() {
+    return keys.size();
+  }
+
+  /** Writes the cache file if any keys have changed since it was loaded or last saved. */
+  public synchronized void save() {
+    if (!dirty) {
+      return;
+    }
+    dirty = false;
+    try {
+      write(encrypt());
+      LOG.debug("Saved {} validator keys to key cache {}", keys.size(), cacheFile);
+    } catch (final IOException | GeneralSecurityException e) {
+      dirty = true;
+      LOG.warn("Unable to save key cache {}", cacheFile, e);
+    }
+  }
+
+  private void decrypt(final Bytes data) throws GeneralSecurityException {
+    final ByteBuffer buffer = ByteBuffer.wrap(data.toArrayUnsafe());
+    final int version = buffer.get();
+    if (version != VERSION) {
+      throw new IllegalArgumentException("Unsupported key cache version " + version);
+    }
+    final byte[] salt = new byte[SALT_LENGTH];
+    buffer.get(salt);
+    final int iterations = buffer.getInt();
+    final byte[] iv = new byte[IV_LENGTH];
+    buffer.get(iv);
+    final byte[] ciphertext = new byte[buffer.remaining()];
+    buffer.get(ciphertext);
+
+    final Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+    cipher.init(
+        Cipher.DECRYPT_MODE,
+        deriveKey(salt, iterations),
+        new GCMParameterSpec(GCM_TAG_LENGTH_BITS, iv));
+    final Bytes plaintext = Bytes.wrap(cipher.doFinal(ciphertext));
+    if (plaintext.size() % ENTRY_LENGTH != 0) {
+      throw new IllegalArgumentException("Invalid key cache length " + plaintext.size());
+    }
+    for (int offset = 0; offset < plaintext.size(); offset += ENTRY_LENGTH) {
+      final BLSPublicKey publicKey =
+          BLSPublicKey.fromBytesCompressed(Bytes48.wrap(plaintext.slice(offset, Bytes48.SIZE)));
+      final BLSSecretKey secretKey =
+          BLSSecretKey.fromBytes(
+              Bytes32.wrap(plaintext.slice(offset + Bytes48.SIZE, Bytes32.SIZE)));
+      keys.put(publicKey, secretKey);
+    }
+  }
+
+  private Bytes encrypt() throws GeneralSecurityException {
+    final SecureRandom random = new SecureRandom();
+    final byte[] salt = new byte[SALT_LENGTH];
+    random.nextBytes(salt);
+    final byte[] iv = new byte[IV_LENGTH];
+    random.nextBytes(iv);
+
+    final Bytes plaintext =
+        Bytes.concatenate(
+            keys.entrySet().stream()
+                .map(
+                    entry ->
+                        Bytes.concatenate(
+                            entry.getKey().toBytesCompressed(), entry.getValue().toBytes()))
+                .toArray(Bytes[]::new));
+    final Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+    cipher.init(
+        Cipher.ENCRYPT_MODE,
+        deriveKey(salt, KDF_ITERATIONS),
+        new GCMParameterSpec(GCM_TAG_LENGTH_BITS, iv));
+    final byte[] ciphertext = cipher.doFinal(plaintext.toArrayUnsafe());
+
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(1 + SALT_LENGTH + Integer.BYTES + IV_LENGTH + ciphertext.length);
+    buffer.put((byte) VERSION);
+    buffer.put(salt);
+    buffer.putInt(KDF_ITERATIONS);
+    buffer.put(iv);
+    buffer.put(ciphertext);
+    return Bytes.wrap(buffer.array());
+  }
+
+  private SecretKey deriveKey(final byte[] salt, final int iterations)
+      throws GeneralSecurityException {
+    final KeySpec keySpec =
+        new PBEKeySpec(password.toCharArray(), salt, iterations, KEY_LENGTH_BITS);
+    final byte[] key =
+        SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(keySpec).getEncoded();
+    return new SecretKeySpec(key, "AES");
+  }
+
+  private void write(final Bytes data) throws IOException {
+    final Path absolutePath = cacheFile.toAbsolutePath();
+    Files.createDirectories(absolutePath.getParent());
+    final Path tmpFile = absolutePath.resolveSibling(absolutePath.getFileName() + ".tmp");
+    Files.deleteIfExists(tmpFile);
+    try {
+      // Create the file as owner only before any keys are written to it
+      Files.createFile(
+          tmpFile,
+          PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+    } catch (final UnsupportedOperationException e) {
+      Files.createFile(tmpFile);
+    }
+    Files.write(tmpFile, data.toArrayUnsafe(), StandardOpenOption.SYNC);
+    Files.move(
+        tmpFile, absolutePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+}
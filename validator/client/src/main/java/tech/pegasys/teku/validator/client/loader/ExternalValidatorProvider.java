@@ -17,13 +17,16 @@ import com.google.common.annotations.VisibleForTesting;
 import java.net.URL;
 import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.function.Supplier;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueueWithPriority;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.signatures.Signer;
+import tech.pegasys.teku.spec.signatures.SigningRootUtil;
 import tech.pegasys.teku.validator.client.signer.ExternalSigner;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerBatcherFactory;
 
 class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
 
@@ -33,6 +36,8 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
   private final BLSPublicKey publicKey;
   private final Duration externalSignerTimeout;
   private final ThrottlingTaskQueueWithPriority externalSignerTaskQueue;
+  private final Optional<ExternalSignerBatcherFactory> externalSignerBatcherFactory;
+  private final SigningRootUtil signingRootUtil;
   private final MetricsSystem metricsSystem;
   private final boolean readOnly;
 
@@ -43,6 +48,8 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
       final BLSPublicKey publicKey,
       final Duration externalSignerTimeout,
       final ThrottlingTaskQueueWithPriority externalSignerTaskQueue,
+      final Optional<ExternalSignerBatcherFactory> externalSignerBatcherFactory,
+      final SigningRootUtil signingRootUtil,
       final MetricsSystem metricsSystem,
       final boolean readOnly) {
     this.spec = spec;
@@ -51,6 +58,8 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
     this.publicKey = publicKey;
     this.externalSignerTimeout = externalSignerTimeout;
     this.externalSignerTaskQueue = externalSignerTaskQueue;
+    this.externalSignerBatcherFactory = externalSignerBatcherFactory;
+    this.signingRootUtil = signingRootUtil;
     this.metricsSystem = metricsSystem;
     this.readOnly = readOnly;
   }
@@ -74,7 +83,9 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
         publicKey,
         externalSignerTimeout,
         externalSignerTaskQueue,
-        metricsSystem);
+        metricsSystem,
+        externalSignerBatcherFactory.map(factory -> factory.getBatcher(externalSignerUrl)),
+        signingRootUtil);
   }
 
   @VisibleForTesting
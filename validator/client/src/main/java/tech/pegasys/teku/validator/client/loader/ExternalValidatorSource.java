@@ -39,12 +39,14 @@ import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueueWithPriority;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.signatures.SigningRootUtil;
 import tech.pegasys.teku.validator.api.ValidatorConfig;
 import tech.pegasys.teku.validator.client.ValidatorClientService;
 import tech.pegasys.teku.validator.client.restapi.ValidatorTypes;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.DeleteKeyResult;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.ExternalValidator;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.PostKeyResult;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerBatcherFactory;
 import tech.pegasys.teku.validator.client.signer.ExternalSignerStatusLogger;
 import tech.pegasys.teku.validator.client.signer.ExternalSignerUpcheck;
 
@@ -55,6 +57,8 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
   private final Supplier<HttpClient> externalSignerHttpClientFactory;
   private final PublicKeyLoader publicKeyLoader;
   private final ThrottlingTaskQueueWithPriority externalSignerTaskQueue;
+  private final Optional<ExternalSignerBatcherFactory> externalSignerBatcherFactory;
+  private final SigningRootUtil signingRootUtil;
   private final MetricsSystem metricsSystem;
   private final Map<BLSPublicKey, URL> externalValidatorSourceMap = new ConcurrentHashMap<>();
 
@@ -64,6 +68,8 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
       final Supplier<HttpClient> externalSignerHttpClientFactory,
       final PublicKeyLoader publicKeyLoader,
       final ThrottlingTaskQueueWithPriority externalSignerTaskQueue,
+      final Optional<ExternalSignerBatcherFactory> externalSignerBatcherFactory,
+      final SigningRootUtil signingRootUtil,
       final MetricsSystem metricsSystem,
       final boolean readOnly,
       final Optional<DataDirLayout> maybeDataDirLayout) {
@@ -73,6 +79,8 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
     this.externalSignerHttpClientFactory = externalSignerHttpClientFactory;
     this.publicKeyLoader = publicKeyLoader;
     this.externalSignerTaskQueue = externalSignerTaskQueue;
+    this.externalSignerBatcherFactory = externalSignerBatcherFactory;
+    this.signingRootUtil = signingRootUtil;
     this.metricsSystem = metricsSystem;
   }
 
@@ -85,6 +93,8 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
       final AsyncRunner asyncRunner,
       final boolean readOnly,
       final ThrottlingTaskQueueWithPriority externalSignerTaskQueue,
+      final Optional<ExternalSignerBatcherFactory> externalSignerBatcherFactory,
+      final SigningRootUtil signingRootUtil,
       final Optional<DataDirLayout> maybeDataDirLayout) {
     setupExternalSignerStatusLogging(config, externalSignerHttpClientFactory, asyncRunner);
     return new ExternalValidatorSource(
@@ -93,6 +103,8 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
         externalSignerHttpClientFactory,
         publicKeyLoader,
         externalSignerTaskQueue,
+        externalSignerBatcherFactory,
+        signingRootUtil,
         metricsSystem,
         readOnly,
         maybeDataDirLayout);
@@ -122,6 +134,8 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
                     key,
                     config.getValidatorExternalSignerTimeout(),
                     externalSignerTaskQueue,
+                    externalSignerBatcherFactory,
+                    signingRootUtil,
                     metricsSystem,
                     readOnly))
         .collect(toList());
@@ -155,6 +169,8 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
           externalValidator.getPublicKey(),
           config.getValidatorExternalSignerTimeout(),
           externalSignerTaskQueue,
+          externalSignerBatcherFactory,
+          signingRootUtil,
           metricsSystem,
           readOnly);
 
@@ -235,6 +251,8 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
               publicKey,
               config.getValidatorExternalSignerTimeout(),
               externalSignerTaskQueue,
+              externalSignerBatcherFactory,
+              signingRootUtil,
               metricsSystem,
               readOnly);
 
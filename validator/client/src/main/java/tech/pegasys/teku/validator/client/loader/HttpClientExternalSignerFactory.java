@@ -43,7 +43,13 @@ public class HttpClientExternalSignerFactory implements Supplier<HttpClient> {
 
   @Override
   public HttpClient get() {
-    final HttpClient.Builder builder = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1);
+    // HTTP/2 multiplexes concurrent requests over a single connection to the signer
+    final HttpClient.Builder builder =
+        HttpClient.newBuilder()
+            .version(
+                validatorConfig.isValidatorExternalSignerHttp2Enabled()
+                    ? HttpClient.Version.HTTP_2
+                    : HttpClient.Version.HTTP_1_1);
     if (isTLSEnabled()) {
       builder.sslContext(
           getSSLContext(
@@ -45,6 +45,7 @@ import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.signatures.LocalSigner;
 import tech.pegasys.teku.spec.signatures.Signer;
+import tech.pegasys.teku.spec.signatures.SigningRootUtil;
 import tech.pegasys.teku.validator.api.KeyStoreFilesLocator;
 import tech.pegasys.teku.validator.client.ValidatorClientService;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.DeleteKeyResult;
@@ -57,7 +58,9 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
   private final boolean validatorKeystoreLockingEnabled;
   private final KeystoreLocker keystoreLocker;
   private final AsyncRunner asyncRunner;
+  private final SigningRootUtil signingRootUtil;
   private final KeyStoreFilesLocator keyStoreFilesLocator;
+  private final Optional<DecryptedKeyCache> keyCache;
   private final Map<BLSPublicKey, ActiveLocalValidatorSource> localValidatorSourceMap =
       new ConcurrentHashMap<>();
 
@@ -67,6 +70,8 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
       final KeystoreLocker keystoreLocker,
       final KeyStoreFilesLocator keyStoreFilesLocator,
       final AsyncRunner asyncRunner,
+      final SigningRootUtil signingRootUtil,
+      final Optional<DecryptedKeyCache> keyCache,
       final boolean readOnly,
       final Optional<DataDirLayout> maybeDataDirLayout) {
     super(readOnly, maybeDataDirLayout);
@@ -74,7 +79,9 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
     this.validatorKeystoreLockingEnabled = validatorKeystoreLockingEnabled;
     this.keystoreLocker = keystoreLocker;
     this.asyncRunner = asyncRunner;
+    this.signingRootUtil = signingRootUtil;
     this.keyStoreFilesLocator = keyStoreFilesLocator;
+    this.keyCache = keyCache;
   }
 
   @Override
@@ -233,22 +240,28 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
 
     @Override
     public Signer createSigner() {
-      final BLSKeyPair keyPair = new BLSKeyPair(BLSSecretKey.fromBytes(loadBLSPrivateKey()));
+      final BLSKeyPair keyPair = new BLSKeyPair(loadBLSSecretKey());
       if (!keyPair.getPublicKey().equals(getPublicKey())) {
         throw new InvalidConfigurationException(
             String.format(
                 "Keystore declares incorrect public key. Was %s but expected %s",
                 getPublicKey(), keyPair.getPublicKey()));
       }
-      return new LocalSigner(spec, keyPair, asyncRunner);
+      keyCache.ifPresent(cache -> cache.put(publicKey, keyPair.getSecretKey()));
+      return new LocalSigner(spec, keyPair, asyncRunner, signingRootUtil);
     }
 
-    private Bytes32 loadBLSPrivateKey() {
+    private BLSSecretKey loadBLSSecretKey() {
       try {
         if (validatorKeystoreLockingEnabled) {
           keystoreLocker.lockKeystore(keystoreFile);
         }
-        return Bytes32.wrap(KeyStore.decrypt(password, keyStoreData));
+        final Optional<BLSSecretKey> cachedKey =
+            keyCache.flatMap(cache -> cache.getSecretKey(publicKey));
+        if (cachedKey.isPresent()) {
+          return cachedKey.get();
+        }
+        return BLSSecretKey.fromBytes(Bytes32.wrap(KeyStore.decrypt(password, keyStoreData)));
       } catch (final KeyStoreValidationException e) {
         keystoreLocker.unlockKeystore(keystoreFile);
         throw new InvalidConfigurationException(
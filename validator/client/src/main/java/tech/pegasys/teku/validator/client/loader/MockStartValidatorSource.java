@@ -29,6 +29,7 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.interop.MockStartValidatorKeyPairFactory;
 import tech.pegasys.teku.spec.signatures.LocalSigner;
 import tech.pegasys.teku.spec.signatures.Signer;
+import tech.pegasys.teku.spec.signatures.SigningRootUtil;
 import tech.pegasys.teku.validator.api.InteropConfig;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.DeleteKeyResult;
 
@@ -37,12 +38,17 @@ public class MockStartValidatorSource implements ValidatorSource {
   private final Spec spec;
   private final InteropConfig config;
   private final AsyncRunner asyncRunner;
+  private final SigningRootUtil signingRootUtil;
 
   public MockStartValidatorSource(
-      final Spec spec, final InteropConfig config, final AsyncRunner asyncRunner) {
+      final Spec spec,
+      final InteropConfig config,
+      final AsyncRunner asyncRunner,
+      final SigningRootUtil signingRootUtil) {
     this.spec = spec;
     this.config = config;
     this.asyncRunner = asyncRunner;
+    this.signingRootUtil = signingRootUtil;
   }
 
   @Override
@@ -96,7 +102,7 @@ public class MockStartValidatorSource implements ValidatorSource {
 
     @Override
     public Signer createSigner() {
-      return new LocalSigner(spec, keyPair, asyncRunner);
+      return new LocalSigner(spec, keyPair, asyncRunner, signingRootUtil);
     }
   }
 }
@@ -19,6 +19,7 @@ import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -38,15 +39,22 @@ import tech.pegasys.teku.validator.client.loader.ValidatorSource.ValidatorProvid
  *
  * <p>Progress is reported to the logs to keep the user informed as loading a large number of keys
  * can be slow.
+ *
+ * <p>When a callback is provided, each validator is added to the owned validators as soon as its
+ * key is available so it can start performing duties while the remaining keys load. Otherwise
+ * validators are only added once all keys have loaded successfully.
  */
 public class MultithreadedValidatorLoader {
 
   public static void loadValidators(
       final OwnedValidators ownedValidators,
       final Map<BLSPublicKey, ValidatorProvider> providers,
-      final GraffitiProvider graffitiProvider) {
+      final GraffitiProvider graffitiProvider,
+      final ValidatorLoadingMetrics loadingMetrics,
+      final Optional<Runnable> onValidatorAdded) {
     final int totalValidatorCount = providers.size();
     STATUS_LOG.loadingValidators(totalValidatorCount);
+    loadingMetrics.onLoadStarted();
 
     final ExecutorService executorService =
         Executors.newFixedThreadPool(Math.min(4, Runtime.getRuntime().availableProcessors()));
@@ -64,6 +72,13 @@ public class MultithreadedValidatorLoader {
                                     new DeletableSigner(provider.createSigner()),
                                     graffitiProvider,
                                     provider.isReadOnly());
+                            if (onValidatorAdded.isPresent()) {
+                              // Make the validator available for duties without waiting for
+                              // the rest of the keys to load
+                              ownedValidators.addValidator(validator);
+                              loadingMetrics.onValidatorAvailable();
+                              onValidatorAdded.get().run();
+                            }
                             int loadedValidatorCount = numberOfLoadedKeys.incrementAndGet();
                             if (loadedValidatorCount % 10 == 0) {
                               STATUS_LOG.atLoadedValidatorNumber(
@@ -79,8 +94,15 @@ public class MultithreadedValidatorLoader {
         addedValidators.add(validator);
       }
 
-      // Only start adding validators once we've successfully loaded all keys
-      addedValidators.forEach(ownedValidators::addValidator);
+      if (onValidatorAdded.isEmpty()) {
+        // Only start adding validators once we've successfully loaded all keys
+        addedValidators.forEach(
+            validator -> {
+              ownedValidators.addValidator(validator);
+              loadingMetrics.onValidatorAvailable();
+            });
+      }
+      loadingMetrics.onLoadCompleted();
 
       STATUS_LOG.validatorsInitialised(
           addedValidators.stream()
@@ -30,10 +30,12 @@ import tech.pegasys.signers.bls.keystore.model.KeyStoreData;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.data.SlashingProtectionImporter;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.signatures.DeletableSigner;
 import tech.pegasys.teku.spec.signatures.Signer;
+import tech.pegasys.teku.spec.signatures.SigningRootCache;
 import tech.pegasys.teku.spec.signatures.SlashingProtector;
 import tech.pegasys.teku.validator.api.GraffitiProvider;
 import tech.pegasys.teku.validator.api.InteropConfig;
@@ -55,6 +57,9 @@ public class ValidatorLoader {
   private final GraffitiProvider graffitiProvider;
   private final Optional<DataDirLayout> maybeDataDirLayout;
   private final SlashingProtectionLogger slashingProtectionLogger;
+  private final Optional<DecryptedKeyCache> decryptedKeyCache;
+  private final ValidatorLoadingMetrics loadingMetrics;
+  private final Optional<AsyncRunner> localSigningAsyncRunner;
 
   private ValidatorLoader(
       final List<ValidatorSource> validatorSources,
@@ -62,13 +67,19 @@ public class ValidatorLoader {
       final Optional<ValidatorSource> mutableExternalValidatorSource,
       final GraffitiProvider graffitiProvider,
       final Optional<DataDirLayout> maybeDataDirLayout,
-      final SlashingProtectionLogger slashingProtectionLogger) {
+      final SlashingProtectionLogger slashingProtectionLogger,
+      final Optional<DecryptedKeyCache> decryptedKeyCache,
+      final ValidatorLoadingMetrics loadingMetrics,
+      final Optional<AsyncRunner> localSigningAsyncRunner) {
     this.validatorSources = validatorSources;
     this.mutableLocalValidatorSource = mutableLocalValidatorSource;
     this.mutableExternalValidatorSource = mutableExternalValidatorSource;
     this.graffitiProvider = graffitiProvider;
     this.maybeDataDirLayout = maybeDataDirLayout;
     this.slashingProtectionLogger = slashingProtectionLogger;
+    this.decryptedKeyCache = decryptedKeyCache;
+    this.loadingMetrics = loadingMetrics;
+    this.localSigningAsyncRunner = localSigningAsyncRunner;
   }
 
   public static ValidatorLoader create(
@@ -80,6 +91,7 @@ public class ValidatorLoader {
       final PublicKeyLoader publicKeyLoader,
       final AsyncRunner asyncRunner,
       final MetricsSystem metricsSystem,
+      final SigningRootCache signingRootCache,
       final Optional<DataDirLayout> maybeMutableDir) {
     final Supplier<HttpClient> externalSignerHttpClientFactory =
         Suppliers.memoize(new HttpClientExternalSignerFactory(config)::get);
@@ -93,15 +105,35 @@ public class ValidatorLoader {
         publicKeyLoader,
         asyncRunner,
         metricsSystem,
+        signingRootCache,
         maybeMutableDir);
   }
 
   // synchronized to ensure that only one load is active at a time
   public synchronized void loadValidators() {
+    loadValidators(Optional.empty());
+  }
+
+  /**
+   * Loads validators, adding each one to the owned validators as soon as its key is available
+   * instead of waiting for all keys to load.
+   *
+   * @param onValidatorAdded called each time a validator is added
+   */
+  public synchronized void loadValidatorsIncrementally(final Runnable onValidatorAdded) {
+    loadValidators(Optional.of(onValidatorAdded));
+  }
+
+  private void loadValidators(final Optional<Runnable> onValidatorAdded) {
     final Map<BLSPublicKey, ValidatorProvider> validatorProviders = new HashMap<>();
     validatorSources.forEach(source -> addValidatorsFromSource(validatorProviders, source));
     MultithreadedValidatorLoader.loadValidators(
-        ownedValidators, validatorProviders, graffitiProvider);
+        ownedValidators, validatorProviders, graffitiProvider, loadingMetrics, onValidatorAdded);
+    decryptedKeyCache.ifPresent(
+        cache -> {
+          cache.retainAll(ownedValidators.getPublicKeys());
+          cache.save();
+        });
     slashingProtectionLogger.protectionSummary(ownedValidators.getActiveValidators());
   }
 
@@ -250,6 +282,7 @@ public class ValidatorLoader {
       final PublicKeyLoader publicKeyLoader,
       final AsyncRunner asyncRunner,
       final MetricsSystem metricsSystem,
+      final SigningRootCache signingRootCache,
       final Optional<DataDirLayout> maybeMutableDir) {
     final ValidatorSourceFactory validatorSources =
         new ValidatorSourceFactory(
@@ -261,6 +294,7 @@ public class ValidatorLoader {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             maybeMutableDir);
 
     final List<ValidatorSource> validatorSourceList = validatorSources.createValidatorSources();
@@ -270,7 +304,10 @@ public class ValidatorLoader {
         validatorSources.getMutableExternalValidatorSource(),
         config.getGraffitiProvider(),
         maybeMutableDir,
-        slashingProtectionLogger);
+        slashingProtectionLogger,
+        validatorSources.getDecryptedKeyCache(),
+        new ValidatorLoadingMetrics(metricsSystem, new SystemTimeProvider()),
+        validatorSources.getLocalSigningAsyncRunner());
   }
 
   @VisibleForTesting
@@ -280,14 +317,18 @@ public class ValidatorLoader {
       final Optional<ValidatorSource> mutableExternalValidatorSource,
       final GraffitiProvider graffitiProvider,
       final Optional<DataDirLayout> maybeDataDirLayout,
-      final SlashingProtectionLogger slashingProtectionLogger) {
+      final SlashingProtectionLogger slashingProtectionLogger,
+      final MetricsSystem metricsSystem) {
     return new ValidatorLoader(
         validatorSources,
         mutableLocalValidatorSource,
         mutableExternalValidatorSource,
         graffitiProvider,
         maybeDataDirLayout,
-        slashingProtectionLogger);
+        slashingProtectionLogger,
+        Optional.empty(),
+        new ValidatorLoadingMetrics(metricsSystem, new SystemTimeProvider()),
+        Optional.empty());
   }
 
   private void addValidatorsFromSource(
@@ -302,4 +343,9 @@ public class ValidatorLoader {
   public SlashingProtectionLogger getSlashingProtectionLogger() {
     return slashingProtectionLogger;
   }
+
+  /** Stops the threads used to sign with local keys. */
+  public void shutdown() {
+    localSigningAsyncRunner.ifPresent(AsyncRunner::shutdown);
+  }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.loader;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/** Tracks how quickly validator keys are loaded and become available to perform duties. */
+public class ValidatorLoadingMetrics {
+  private final TimeProvider timeProvider;
+  private final Counter loadedKeysCounter;
+  private final AtomicBoolean firstKeyLoaded = new AtomicBoolean(false);
+  private volatile UInt64 loadStartTimeMillis = UInt64.ZERO;
+  private volatile double timeToFirstKeySeconds = 0;
+  private volatile double loadDurationSeconds = 0;
+
+  public ValidatorLoadingMetrics(
+      final MetricsSystem metricsSystem, final TimeProvider timeProvider) {
+    this.timeProvider = timeProvider;
+    this.loadedKeysCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.VALIDATOR,
+            "keys_loaded_total",
+            "Number of validator keys loaded and available to perform duties");
+    metricsSystem.createGauge(
+        TekuMetricCategory.VALIDATOR,
+        "keys_time_to_first_key_seconds",
+        "Time from the start of the most recent key load until the first validator was available to perform duties",
+        () -> timeToFirstKeySeconds);
+    metricsSystem.createGauge(
+        TekuMetricCategory.VALIDATOR,
+        "keys_load_duration_seconds",
+        "Time taken by the most recent key load to make all validators available",
+        () -> loadDurationSeconds);
+  }
+
+  void onLoadStarted() {
+    loadStartTimeMillis = timeProvider.getTimeInMillis();
+    firstKeyLoaded.set(false);
+  }
+
+  void onValidatorAvailable() {
+    loadedKeysCounter.inc();
+    if (firstKeyLoaded.compareAndSet(false, true)) {
+      timeToFirstKeySeconds = getSecondsSinceLoadStarted();
+    }
+  }
+
+  void onLoadCompleted() {
+    loadDurationSeconds = getSecondsSinceLoadStarted();
+  }
+
+  private double getSecondsSinceLoadStarted() {
+    return timeProvider.getTimeInMillis().minusMinZero(loadStartTimeMillis).doubleValue() / 1000;
+  }
+}
@@ -26,13 +26,18 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueueWithPriority;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.signatures.SigningRootCache;
+import tech.pegasys.teku.spec.signatures.SigningRootUtil;
 import tech.pegasys.teku.spec.signatures.SlashingProtector;
 import tech.pegasys.teku.validator.api.InteropConfig;
 import tech.pegasys.teku.validator.api.KeyStoreFilesLocator;
 import tech.pegasys.teku.validator.api.ValidatorConfig;
 import tech.pegasys.teku.validator.client.ValidatorClientService;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerBatcherFactory;
+import tech.pegasys.teku.validator.client.signer.LocalSigningAsyncRunner;
 
 /**
  * ValidatorSourceFactory creates the validator sources that control loading, and sometimes removal,
@@ -70,10 +75,14 @@ public class ValidatorSourceFactory {
   private final PublicKeyLoader publicKeyLoader;
   private final AsyncRunner asyncRunner;
   private final MetricsSystem metricsSystem;
+  private final SigningRootUtil signingRootUtil;
   private final Optional<DataDirLayout> maybeDataDir;
   private Optional<ValidatorSource> mutableLocalValidatorSource = Optional.empty();
   private Optional<ValidatorSource> mutableExternalValidatorSource = Optional.empty();
+  private Optional<DecryptedKeyCache> decryptedKeyCache = Optional.empty();
   private ThrottlingTaskQueueWithPriority externalSignerTaskQueue;
+  private Optional<ExternalSignerBatcherFactory> externalSignerBatcherFactory;
+  private LocalSigningAsyncRunner localSigningAsyncRunner;
 
   public ValidatorSourceFactory(
       final Spec spec,
@@ -84,6 +93,7 @@ public class ValidatorSourceFactory {
       final PublicKeyLoader publicKeyLoader,
       final AsyncRunner asyncRunner,
       final MetricsSystem metricsSystem,
+      final SigningRootCache signingRootCache,
       final Optional<DataDirLayout> maybeDataDir) {
     this.spec = spec;
     this.config = config;
@@ -93,6 +103,7 @@ public class ValidatorSourceFactory {
     this.publicKeyLoader = publicKeyLoader;
     this.asyncRunner = asyncRunner;
     this.metricsSystem = metricsSystem;
+    this.signingRootUtil = new SigningRootUtil(spec, signingRootCache);
     this.maybeDataDir = maybeDataDir;
   }
 
@@ -100,7 +111,9 @@ public class ValidatorSourceFactory {
     final List<ValidatorSource> validatorSources = new ArrayList<>();
     if (interopConfig.isInteropEnabled()) {
       validatorSources.add(
-          slashingProtected(new MockStartValidatorSource(spec, interopConfig, asyncRunner)));
+          slashingProtected(
+              new MockStartValidatorSource(
+                  spec, interopConfig, initializeLocalSigningAsyncRunner(), signingRootUtil)));
     } else {
       addExternalValidatorSource().ifPresent(validatorSources::add);
       addLocalValidatorSource().ifPresent(validatorSources::add);
@@ -118,6 +131,25 @@ public class ValidatorSourceFactory {
     return mutableExternalValidatorSource;
   }
 
+  public Optional<DecryptedKeyCache> getDecryptedKeyCache() {
+    return decryptedKeyCache;
+  }
+
+  /** Returns the runner used to sign with local keys, if any local validator source needed it. */
+  public Optional<AsyncRunner> getLocalSigningAsyncRunner() {
+    return Optional.ofNullable(localSigningAsyncRunner);
+  }
+
+  private Optional<DecryptedKeyCache> initializeDecryptedKeyCache() {
+    if (decryptedKeyCache.isEmpty()) {
+      decryptedKeyCache =
+          config
+              .getValidatorKeyCacheFilePasswordFilePair()
+              .map(paths -> DecryptedKeyCache.load(paths.getLeft(), paths.getRight()));
+    }
+    return decryptedKeyCache;
+  }
+
   private Optional<ValidatorSource> addMutableLocalValidatorSource() {
     if (maybeDataDir.isEmpty()) {
       return Optional.empty();
@@ -142,7 +174,9 @@ public class ValidatorSourceFactory {
             config.isValidatorKeystoreLockingEnabled(),
             new KeystoreLocker(),
             keyStoreFilesLocator,
-            asyncRunner,
+            initializeLocalSigningAsyncRunner(),
+            signingRootUtil,
+            Optional.empty(),
             false,
             maybeDataDir);
     mutableLocalValidatorSource = Optional.of(slashingProtected(localValidatorSource));
@@ -164,6 +198,8 @@ public class ValidatorSourceFactory {
             asyncRunner,
             false,
             initializeExternalSignerTaskQueue(),
+            initializeExternalSignerBatcherFactory(),
+            signingRootUtil,
             maybeDataDir);
     mutableExternalValidatorSource = Optional.of(slashingProtected(externalValidatorSource));
     return mutableExternalValidatorSource;
@@ -186,7 +222,9 @@ public class ValidatorSourceFactory {
                 config.isValidatorKeystoreLockingEnabled(),
                 new KeystoreLocker(),
                 keyStoreFilesLocator,
-                asyncRunner,
+                initializeLocalSigningAsyncRunner(),
+                signingRootUtil,
+                initializeDecryptedKeyCache(),
                 true,
                 maybeDataDir)));
   }
@@ -206,6 +244,8 @@ public class ValidatorSourceFactory {
             asyncRunner,
             true,
             initializeExternalSignerTaskQueue(),
+            initializeExternalSignerBatcherFactory(),
+            signingRootUtil,
             maybeDataDir);
     return Optional.of(
         config.isValidatorExternalSignerSlashingProtectionEnabled()
@@ -229,4 +269,35 @@ public class ValidatorSourceFactory {
 
     return externalSignerTaskQueue;
   }
+
+  private Optional<ExternalSignerBatcherFactory> initializeExternalSignerBatcherFactory() {
+    if (externalSignerBatcherFactory == null) {
+      externalSignerBatcherFactory =
+          config.isValidatorExternalSignerBulkSigningEnabled()
+              ? Optional.of(
+                  ExternalSignerBatcherFactory.create(
+                      metricsSystem,
+                      config,
+                      externalSignerHttpClientFactory,
+                      initializeExternalSignerTaskQueue(),
+                      asyncRunner,
+                      new SystemTimeProvider()))
+              : Optional.empty();
+    }
+
+    return externalSignerBatcherFactory;
+  }
+
+  private LocalSigningAsyncRunner initializeLocalSigningAsyncRunner() {
+    if (localSigningAsyncRunner == null) {
+      localSigningAsyncRunner =
+          LocalSigningAsyncRunner.create(
+              config.getValidatorLocalSigningThreads(),
+              asyncRunner,
+              metricsSystem,
+              new SystemTimeProvider());
+    }
+
+    return localSigningAsyncRunner;
+  }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.validator.client.signer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.provider.JsonProvider;
+
+/**
+ * A compact binary encoding for bulk signing requests.
+ *
+ * <p>Validators in the same committee sign identical messages, so the JSON metadata describing each
+ * distinct message is sent once and referenced by index. All integers are little-endian uint32
+ * values, as in SSZ.
+ *
+ * <pre>
+ * request:  metadata_count, (length, utf8_json)*, request_count,
+ *           (pubkey[48], signing_root[32], metadata_index)*
+ * response: result_count, (status[1], signature[96])*
+ * </pre>
+ *
+ * <p>The response status is 0 when signed, 1 when refused due to slashing protection and 2 for any
+ * other failure. The signature is all zeros unless signed.
+ */
+class BinaryBulkSigningWireFormat implements BulkSigningWireFormat {
+  static final byte STATUS_SIGNED = 0;
+  static final byte STATUS_REFUSED = 1;
+  static final byte STATUS_FAILED = 2;
+
+  private static final int PUBKEY_SIZE = 48;
+  private static final int SIGNATURE_SIZE = 96;
+  private final JsonProvider jsonProvider = new JsonProvider();
+
+  @Override
+  public String getContentType() {
+    return "application/octet-stream";
+  }
+
+  @Override
+  public byte[] encodeRequests(final List<BulkSigningRequest> requests) {
+    final Map<String, Integer> metadataIndices = new LinkedHashMap<>();
+    final int[] requestMetadataIndices = new int[requests.size()];
+    for (int i = 0; i < requests.size(); i++) {
+      final String metadata = encodeMetadata(requests.get(i));
+      requestMetadataIndices[i] =
+          metadataIndices.computeIfAbsent(metadata, __ -> metadataIndices.size());
+    }
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writeUInt32(out, metadataIndices.size());
+    for (String metadata : metadataIndices.keySet()) {
+      final byte[] bytes = metadata.getBytes(UTF_8);
+      writeUInt32(out, bytes.length);
+      out.writeBytes(bytes);
+    }
+    writeUInt32(out, requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      final BulkSigningRequest request = requests.get(i);
+      out.writeBytes(request.getPublicKey().toBytesCompressed().toArrayUnsafe());
+      out.writeBytes(request.getSigningRoot().toArrayUnsafe());
+      writeUInt32(out, requestMetadataIndices[i]);
+    }
+    return out.toByteArray();
+  }
+
+  private String encodeMetadata(final BulkSigningRequest request) {
+    final Map<String, Object> metadata = new HashMap<>(request.getMetadata());
+    metadata.put("type", request.getType());
+    try {
+      return jsonProvider.objectToJSON(metadata);
+    } catch (final JsonProcessingException e) {
+      throw new ExternalSignerException("Unable to create external bulk signing request", e);
+    }
+  }
+
+  @Override
+  public List<BulkSigningResult> decodeResults(final byte[] body) {
+    final ByteBuffer buffer = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+    try {
+      final int count = buffer.getInt();
+      if (count < 0 || (long) count * (1 + SIGNATURE_SIZE) != buffer.remaining()) {
+        throw new ExternalSignerException(
+            "External signer returned an invalid bulk signing response of "
+                + body.length
+                + " bytes for "
+                + count
+                + " results");
+      }
+      final List<BulkSigningResult> results = new ArrayList<>(count);
+      final byte[] signature = new byte[SIGNATURE_SIZE];
+      for (int i = 0; i < count; i++) {
+        final byte status = buffer.get();
+        buffer.get(signature);
+        results.add(decodeResult(status, signature));
+      }
+      return results;
+    } catch (final BufferUnderflowException | IllegalArgumentException e) {
+      throw new ExternalSignerException(
+          "External signer returned an invalid bulk signing response: " + e.getMessage(), e);
+    }
+  }
+
+  private BulkSigningResult decodeResult(final byte status, final byte[] signature) {
+    switch (status) {
+      case STATUS_SIGNED:
+        return BulkSigningResult.signed(
+            BLSSignature.fromBytesCompressed(Bytes.wrap(signature).copy()));
+      case STATUS_REFUSED:
+        return BulkSigningResult.refused();
+      default:
+        return BulkSigningResult.failed();
+    }
+  }
+
+  private static void writeUInt32(final ByteArrayOutputStream out, final int value) {
+    out.write(value);
+    out.write(value >>> 8);
+    out.write(value >>> 16);
+    out.write(value >>> 24);
+  }
+}
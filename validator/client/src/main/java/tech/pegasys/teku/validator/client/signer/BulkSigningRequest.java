@@ -0,0 +1,52 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.validator.client.signer;
+
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.bls.BLSPublicKey;
+
+/** A single signing request sent to the external signer as part of a bulk request. */
+public class BulkSigningRequest {
+  private final BLSPublicKey publicKey;
+  private final Bytes signingRoot;
+  private final SignType type;
+  private final Map<String, Object> metadata;
+
+  public BulkSigningRequest(
+      final BLSPublicKey publicKey,
+      final Bytes signingRoot,
+      final SignType type,
+      final Map<String, Object> metadata) {
+    this.publicKey = publicKey;
+    this.signingRoot = signingRoot;
+    this.type = type;
+    this.metadata = metadata;
+  }
+
+  public BLSPublicKey getPublicKey() {
+    return publicKey;
+  }
+
+  public Bytes getSigningRoot() {
+    return signingRoot;
+  }
+
+  public SignType getType() {
+    return type;
+  }
+
+  public Map<String, Object> getMetadata() {
+    return metadata;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.validator.client.signer;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import java.util.Optional;
+import tech.pegasys.teku.bls.BLSSignature;
+
+/** The outcome of a single signing request within a bulk request. */
+public class BulkSigningResult {
+  public enum Status {
+    SIGNED,
+    /** The signer refused to sign because it may violate a slashing condition. */
+    REFUSED,
+    FAILED
+  }
+
+  private final Status status;
+  private final Optional<BLSSignature> signature;
+
+  private BulkSigningResult(final Status status, final Optional<BLSSignature> signature) {
+    this.status = status;
+    this.signature = signature;
+  }
+
+  public static BulkSigningResult signed(final BLSSignature signature) {
+    return new BulkSigningResult(Status.SIGNED, Optional.of(signature));
+  }
+
+  public static BulkSigningResult refused() {
+    return new BulkSigningResult(Status.REFUSED, Optional.empty());
+  }
+
+  public static BulkSigningResult failed() {
+    return new BulkSigningResult(Status.FAILED, Optional.empty());
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public Optional<BLSSignature> getSignature() {
+    return signature;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final BulkSigningResult that = (BulkSigningResult) o;
+    return status == that.status && Objects.equals(signature, that.signature);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(status, signature);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("status", status)
+        .add("signature", signature)
+        .toString();
+  }
+}
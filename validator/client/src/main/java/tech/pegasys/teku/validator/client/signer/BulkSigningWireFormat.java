@@ -0,0 +1,42 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.validator.client.signer;
+
+import java.util.List;
+import tech.pegasys.teku.validator.api.ExternalSignerBulkSigningFormat;
+
+/** Encodes bulk signing requests and decodes the signer's response. */
+public interface BulkSigningWireFormat {
+
+  static BulkSigningWireFormat create(final ExternalSignerBulkSigningFormat format) {
+    switch (format) {
+      case BINARY:
+        return new BinaryBulkSigningWireFormat();
+      case JSON:
+      default:
+        return new JsonBulkSigningWireFormat();
+    }
+  }
+
+  String getContentType();
+
+  byte[] encodeRequests(List<BulkSigningRequest> requests);
+
+  /**
+   * Decodes the response to a bulk request.
+   *
+   * @return one result for each request, in the same order as the requests
+   * @throws ExternalSignerException if the response can't be decoded
+   */
+  List<BulkSigningResult> decodeResults(byte[] body);
+}
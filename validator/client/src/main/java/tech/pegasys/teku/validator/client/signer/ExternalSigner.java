@@ -69,6 +69,7 @@ public class ExternalSigner implements Signer {
   private final HttpClient httpClient;
   private final ThrottlingTaskQueueWithPriority taskQueue;
   private final SigningRootUtil signingRootUtil;
+  private final Optional<ExternalSignerBatcher> batcher;
 
   private final Counter successCounter;
   private final Counter failedCounter;
@@ -82,13 +83,36 @@ public class ExternalSigner implements Signer {
       final Duration timeout,
       final ThrottlingTaskQueueWithPriority taskQueue,
       final MetricsSystem metricsSystem) {
+    this(
+        spec,
+        httpClient,
+        signingServiceUrl,
+        blsPublicKey,
+        timeout,
+        taskQueue,
+        metricsSystem,
+        Optional.empty(),
+        new SigningRootUtil(spec));
+  }
+
+  public ExternalSigner(
+      final Spec spec,
+      final HttpClient httpClient,
+      final URL signingServiceUrl,
+      final BLSPublicKey blsPublicKey,
+      final Duration timeout,
+      final ThrottlingTaskQueueWithPriority taskQueue,
+      final MetricsSystem metricsSystem,
+      final Optional<ExternalSignerBatcher> batcher,
+      final SigningRootUtil signingRootUtil) {
     this.spec = spec;
     this.httpClient = httpClient;
     this.signingServiceUrl = signingServiceUrl;
     this.blsPublicKey = blsPublicKey;
     this.timeout = timeout;
     this.taskQueue = taskQueue;
-    this.signingRootUtil = new SigningRootUtil(spec);
+    this.signingRootUtil = signingRootUtil;
+    this.batcher = batcher;
 
     final LabelledMetric<Counter> labelledCounter =
         metricsSystem.createLabelledCounter(
@@ -106,7 +130,8 @@ public class ExternalSigner implements Signer {
 
   @Override
   public SafeFuture<BLSSignature> createRandaoReveal(final UInt64 epoch, final ForkInfo forkInfo) {
-    return sign(
+    return signBatchable(
+        spec.computeStartSlotAtEpoch(epoch),
         signingRootUtil.signingRootForRandaoReveal(epoch, forkInfo),
         SignType.RANDAO_REVEAL,
         Map.of("randao_reveal", Map.of("epoch", epoch), FORK_INFO, forkInfo(forkInfo)),
@@ -128,7 +153,8 @@ public class ExternalSigner implements Signer {
   @Override
   public SafeFuture<BLSSignature> signAttestationData(
       final AttestationData attestationData, final ForkInfo forkInfo) {
-    return sign(
+    return signBatchable(
+        attestationData.getSlot(),
         signingRootUtil.signingRootForSignAttestationData(attestationData, forkInfo),
         SignType.ATTESTATION,
         Map.of(
@@ -153,14 +179,23 @@ public class ExternalSigner implements Signer {
 
   @Override
   public SafeFuture<BLSSignature> signAggregationSlot(final UInt64 slot, final ForkInfo forkInfo) {
-    return taskQueue.queueTask(
+    final Bytes signingRoot = signingRootUtil.signingRootForSignAggregationSlot(slot, forkInfo);
+    final Map<String, Object> metadata =
+        Map.of("aggregation_slot", Map.of("slot", slot), FORK_INFO, forkInfo(forkInfo));
+    final Supplier<String> slashableMessage = slashableGenericMessage("aggregation slot");
+    // The batcher queues bulk requests itself so only individual requests are queued here
+    return signBatchable(
+        slot,
+        signingRoot,
+        SignType.AGGREGATION_SLOT,
+        metadata,
+        slashableMessage,
         () ->
-            sign(
-                signingRootUtil.signingRootForSignAggregationSlot(slot, forkInfo),
-                SignType.AGGREGATION_SLOT,
-                Map.of("aggregation_slot", Map.of("slot", slot), FORK_INFO, forkInfo(forkInfo)),
-                slashableGenericMessage("aggregation slot")),
-        true);
+            taskQueue.queueTask(
+                () ->
+                    sendSigningRequest(
+                        signingRoot, SignType.AGGREGATION_SLOT, metadata, slashableMessage),
+                true));
   }
 
   @Override
@@ -194,14 +229,13 @@ public class ExternalSigner implements Signer {
   @Override
   public SafeFuture<BLSSignature> signSyncCommitteeMessage(
       final UInt64 slot, final Bytes32 beaconBlockRoot, final ForkInfo forkInfo) {
-    return signingRootFromSyncCommitteeUtils(
-            slot,
-            utils ->
-                utils.getSyncCommitteeMessageSigningRoot(
-                    beaconBlockRoot, spec.computeEpochAtSlot(slot), forkInfo))
+    return SafeFuture.of(
+            () ->
+                signingRootUtil.signingRootForSyncCommitteeMessage(slot, beaconBlockRoot, forkInfo))
         .thenCompose(
             signingRoot ->
-                sign(
+                signBatchable(
+                    slot,
                     signingRoot,
                     SignType.SYNC_COMMITTEE_MESSAGE,
                     Map.of(
@@ -220,7 +254,8 @@ public class ExternalSigner implements Signer {
             utils -> utils.getSyncAggregatorSelectionDataSigningRoot(selectionData, forkInfo))
         .thenCompose(
             signingRoot ->
-                sign(
+                signBatchable(
+                    selectionData.getSlot(),
                     signingRoot,
                     SignType.SYNC_COMMITTEE_SELECTION_PROOF,
                     Map.of(
@@ -295,30 +330,76 @@ public class ExternalSigner implements Signer {
         forkInfo.getGenesisValidatorsRoot());
   }
 
+  private SafeFuture<BLSSignature> signBatchable(
+      final UInt64 slot,
+      final Bytes signingRoot,
+      final SignType type,
+      final Map<String, Object> metadata,
+      final Supplier<String> slashableMessage) {
+    return signBatchable(
+        slot,
+        signingRoot,
+        type,
+        metadata,
+        slashableMessage,
+        () -> sendSigningRequest(signingRoot, type, metadata, slashableMessage));
+  }
+
+  private SafeFuture<BLSSignature> signBatchable(
+      final UInt64 slot,
+      final Bytes signingRoot,
+      final SignType type,
+      final Map<String, Object> metadata,
+      final Supplier<String> slashableMessage,
+      final Supplier<SafeFuture<BLSSignature>> individualRequest) {
+    final SafeFuture<BLSSignature> result =
+        batcher
+            .map(
+                bulkSigner ->
+                    bulkSigner.sign(
+                        blsPublicKey,
+                        slot,
+                        signingRoot,
+                        type,
+                        metadata,
+                        slashableMessage,
+                        individualRequest))
+            .orElseGet(individualRequest);
+    return result.whenComplete(this::recordMetrics);
+  }
+
   private SafeFuture<BLSSignature> sign(
       final Bytes signingRoot,
       final SignType type,
       final Map<String, Object> metadata,
       final Supplier<String> slashableMessage) {
+    return sendSigningRequest(signingRoot, type, metadata, slashableMessage)
+        .whenComplete(this::recordMetrics);
+  }
+
+  private SafeFuture<BLSSignature> sendSigningRequest(
+      final Bytes signingRoot,
+      final SignType type,
+      final Map<String, Object> metadata,
+      final Supplier<String> slashableMessage) {
     final String publicKey = blsPublicKey.toBytesCompressed().toString();
     return SafeFuture.of(
-            () -> {
-              final String requestBody = createSigningRequestBody(signingRoot, type, metadata);
-              final URI uri =
-                  signingServiceUrl.toURI().resolve(EXTERNAL_SIGNER_ENDPOINT + "/" + publicKey);
-              final HttpRequest request =
-                  HttpRequest.newBuilder()
-                      .uri(uri)
-                      .timeout(timeout)
-                      .header("Content-Type", "application/json")
-                      .POST(BodyPublishers.ofString(requestBody))
-                      .build();
-              return httpClient
-                  .sendAsync(request, BodyHandlers.ofString())
-                  .handleAsync(
-                      (response, error) -> this.getBlsSignature(response, error, slashableMessage));
-            })
-        .whenComplete(this::recordMetrics);
+        () -> {
+          final String requestBody = createSigningRequestBody(signingRoot, type, metadata);
+          final URI uri =
+              signingServiceUrl.toURI().resolve(EXTERNAL_SIGNER_ENDPOINT + "/" + publicKey);
+          final HttpRequest request =
+              HttpRequest.newBuilder()
+                  .uri(uri)
+                  .timeout(timeout)
+                  .header("Content-Type", "application/json")
+                  .POST(BodyPublishers.ofString(requestBody))
+                  .build();
+          return httpClient
+              .sendAsync(request, BodyHandlers.ofString())
+              .handleAsync(
+                  (response, error) -> this.getBlsSignature(response, error, slashableMessage));
+        });
   }
 
   private String createSigningRequestBody(
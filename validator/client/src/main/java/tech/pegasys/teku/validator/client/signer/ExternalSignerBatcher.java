@@ -0,0 +1,346 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.validator.client.signer;
+
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_IMPLEMENTED;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORTED_MEDIA_TYPE;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueueWithPriority;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Groups signing requests of the same type for the same slot, typically from many validators
+ * attesting at once, into a single request to the external signer.
+ *
+ * <p>Bulk signing is not part of the standard remote signing API, so this is only enabled when the
+ * external signer is known to implement {@link #EXTERNAL_SIGNER_BULK_ENDPOINT}. If the signer
+ * doesn't support bulk signing, the batcher disables itself and all requests fall back to the
+ * standard per-key API.
+ *
+ * <p>When no bulk request is in flight, a batch is sent as soon as the requests currently being
+ * made have been added to it. Otherwise requests build up into a batch until the in-flight request
+ * completes, for at most {@link #BATCH_DELAY}. Bulk requests are counted against the same {@link
+ * ThrottlingTaskQueueWithPriority} as individual requests to the signer.
+ */
+public class ExternalSignerBatcher {
+  private static final Logger LOG = LogManager.getLogger();
+
+  // Not part of the standard remote signing API
+  public static final String EXTERNAL_SIGNER_BULK_ENDPOINT = "/api/v1/eth2/sign/bulk";
+  static final Set<SignType> BATCHED_SIGN_TYPES =
+      Set.of(
+          SignType.RANDAO_REVEAL,
+          SignType.ATTESTATION,
+          SignType.AGGREGATION_SLOT,
+          SignType.SYNC_COMMITTEE_MESSAGE,
+          SignType.SYNC_COMMITTEE_SELECTION_PROOF);
+  static final Duration BATCH_DELAY = Duration.ofMillis(5);
+  static final int MAX_BATCH_SIZE = 1024;
+
+  private final HttpClient httpClient;
+  private final URL signingServiceUrl;
+  private final Duration timeout;
+  private final BulkSigningWireFormat wireFormat;
+  private final ThrottlingTaskQueueWithPriority taskQueue;
+  private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
+  private final MetricsHistogram batchDurationHistogram;
+  private final MetricsHistogram batchSizeHistogram;
+
+  private final Map<BatchKey, Batch> pendingBatches = new HashMap<>();
+  private int inFlightRequestCount;
+  private volatile boolean bulkSigningSupported = true;
+
+  public ExternalSignerBatcher(
+      final HttpClient httpClient,
+      final URL signingServiceUrl,
+      final Duration timeout,
+      final BulkSigningWireFormat wireFormat,
+      final ThrottlingTaskQueueWithPriority taskQueue,
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final MetricsHistogram batchDurationHistogram,
+      final MetricsHistogram batchSizeHistogram) {
+    this.httpClient = httpClient;
+    this.signingServiceUrl = signingServiceUrl;
+    this.timeout = timeout;
+    this.wireFormat = wireFormat;
+    this.taskQueue = taskQueue;
+    this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
+    this.batchDurationHistogram = batchDurationHistogram;
+    this.batchSizeHistogram = batchSizeHistogram;
+  }
+
+  /**
+   * Adds a signing request to the batch for its slot and type.
+   *
+   * @param fallback performs the request individually if bulk signing isn't supported
+   */
+  public SafeFuture<BLSSignature> sign(
+      final BLSPublicKey publicKey,
+      final UInt64 slot,
+      final Bytes signingRoot,
+      final SignType type,
+      final Map<String, Object> metadata,
+      final Supplier<String> slashableMessage,
+      final Supplier<SafeFuture<BLSSignature>> fallback) {
+    if (!bulkSigningSupported || !BATCHED_SIGN_TYPES.contains(type)) {
+      return fallback.get();
+    }
+    final PendingRequest request =
+        new PendingRequest(
+            new BulkSigningRequest(publicKey, signingRoot, type, metadata),
+            slashableMessage,
+            fallback);
+    final BatchKey key = new BatchKey(type, slot);
+    final Batch newBatch;
+    final Batch fullBatch;
+    final boolean idle;
+    synchronized (this) {
+      Batch batch = pendingBatches.get(key);
+      if (batch == null) {
+        batch = new Batch(key);
+        pendingBatches.put(key, batch);
+        newBatch = batch;
+      } else {
+        newBatch = null;
+      }
+      batch.requests.add(request);
+      if (batch.requests.size() >= MAX_BATCH_SIZE) {
+        pendingBatches.remove(key);
+        inFlightRequestCount++;
+        fullBatch = batch;
+      } else {
+        fullBatch = null;
+      }
+      idle = inFlightRequestCount == 0;
+    }
+    if (newBatch != null && fullBatch == null) {
+      // A busy batcher sends pending batches when its in-flight requests complete
+      final SafeFuture<Void> flushed =
+          idle
+              ? asyncRunner.runAsync(() -> flush(newBatch))
+              : asyncRunner.runAfterDelay(() -> flush(newBatch), BATCH_DELAY);
+      flushed.finish(error -> LOG.error("Failed to send bulk signing request", error));
+    }
+    if (fullBatch != null) {
+      send(fullBatch);
+    }
+    return request.result;
+  }
+
+  private void flush(final Batch batch) {
+    synchronized (this) {
+      if (!pendingBatches.remove(batch.key, batch)) {
+        // Already sent because it filled up or an in-flight request completed
+        return;
+      }
+      inFlightRequestCount++;
+    }
+    send(batch);
+  }
+
+  private void onRequestComplete() {
+    final List<Batch> batchesToSend;
+    synchronized (this) {
+      inFlightRequestCount--;
+      if (inFlightRequestCount > 0 || pendingBatches.isEmpty()) {
+        return;
+      }
+      batchesToSend = new ArrayList<>(pendingBatches.values());
+      pendingBatches.clear();
+      inFlightRequestCount += batchesToSend.size();
+    }
+    batchesToSend.forEach(this::send);
+  }
+
+  private void send(final Batch batch) {
+    final List<PendingRequest> requests = batch.requests;
+    final UInt64 startTime = timeProvider.getTimeInMillis();
+    // One bulk request covers many validators so takes priority over individual requests
+    taskQueue
+        .queueTask(() -> SafeFuture.of(() -> sendBulkRequest(requests)), true)
+        .thenAccept(response -> handleResponse(requests, response))
+        .alwaysRun(
+            () -> {
+              final String type = batch.key.type.name();
+              batchDurationHistogram.recordValue(
+                  timeProvider.getTimeInMillis().minusMinZero(startTime).longValue(), type);
+              batchSizeHistogram.recordValue(requests.size(), type);
+              onRequestComplete();
+            })
+        .finish(
+            error -> {
+              final ExternalSignerException exception =
+                  new ExternalSignerException(
+                      "External signer ("
+                          + signingServiceUrl
+                          + ") failed to sign batch due to "
+                          + error.getMessage(),
+                      error);
+              requests.forEach(request -> request.result.completeExceptionally(exception));
+            });
+  }
+
+  private CompletableFuture<HttpResponse<byte[]>> sendBulkRequest(
+      final List<PendingRequest> requests) throws URISyntaxException {
+    final byte[] body =
+        wireFormat.encodeRequests(
+            requests.stream().map(request -> request.request).collect(Collectors.toList()));
+    final URI uri = signingServiceUrl.toURI().resolve(EXTERNAL_SIGNER_BULK_ENDPOINT);
+    final HttpRequest httpRequest =
+        HttpRequest.newBuilder()
+            .uri(uri)
+            .timeout(timeout)
+            .header("Content-Type", wireFormat.getContentType())
+            .header("Accept", wireFormat.getContentType())
+            .POST(BodyPublishers.ofByteArray(body))
+            .build();
+    return httpClient.sendAsync(httpRequest, BodyHandlers.ofByteArray());
+  }
+
+  private void handleResponse(
+      final List<PendingRequest> requests, final HttpResponse<byte[]> response) {
+    final int statusCode = response.statusCode();
+    if (statusCode == SC_NOT_FOUND
+        || statusCode == SC_NOT_IMPLEMENTED
+        || statusCode == SC_UNSUPPORTED_MEDIA_TYPE) {
+      if (bulkSigningSupported) {
+        bulkSigningSupported = false;
+        LOG.warn(
+            "External signer ({}) does not support bulk signing (status code {}). Falling back to"
+                + " individual signing requests.",
+            signingServiceUrl,
+            statusCode);
+      }
+      requests.forEach(request -> request.fallback.get().propagateTo(request.result));
+      return;
+    }
+    if (statusCode != SC_OK) {
+      throw new ExternalSignerException(
+          "External signer failed to sign batch and returned invalid response status code: "
+              + statusCode);
+    }
+
+    final List<BulkSigningResult> results = wireFormat.decodeResults(response.body());
+    if (results.size() != requests.size()) {
+      throw new ExternalSignerException(
+          "External signer returned "
+              + results.size()
+              + " results for a batch of "
+              + requests.size()
+              + " signing requests");
+    }
+    for (int i = 0; i < requests.size(); i++) {
+      final PendingRequest request = requests.get(i);
+      final BulkSigningResult result = results.get(i);
+      switch (result.getStatus()) {
+        case SIGNED:
+          request.result.complete(result.getSignature().orElseThrow());
+          break;
+        case REFUSED:
+          request.result.completeExceptionally(
+              new ExternalSignerException(request.slashableMessage.get()));
+          break;
+        case FAILED:
+        default:
+          request.result.completeExceptionally(
+              new ExternalSignerException(
+                  "External signer failed to sign " + request.request.getType()));
+          break;
+      }
+    }
+  }
+
+  private static class PendingRequest {
+    private final BulkSigningRequest request;
+    private final Supplier<String> slashableMessage;
+    private final Supplier<SafeFuture<BLSSignature>> fallback;
+    private final SafeFuture<BLSSignature> result = new SafeFuture<>();
+
+    private PendingRequest(
+        final BulkSigningRequest request,
+        final Supplier<String> slashableMessage,
+        final Supplier<SafeFuture<BLSSignature>> fallback) {
+      this.request = request;
+      this.slashableMessage = slashableMessage;
+      this.fallback = fallback;
+    }
+  }
+
+  private static class Batch {
+    private final BatchKey key;
+    private final List<PendingRequest> requests = new ArrayList<>();
+
+    private Batch(final BatchKey key) {
+      this.key = key;
+    }
+  }
+
+  private static class BatchKey {
+    private final SignType type;
+    private final UInt64 slot;
+
+    private BatchKey(final SignType type, final UInt64 slot) {
+      this.type = type;
+      this.slot = slot;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final BatchKey that = (BatchKey) o;
+      return type == that.type && Objects.equals(slot, that.slot);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, slot);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.validator.client.signer;
+
+import com.google.common.base.Suppliers;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueueWithPriority;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.validator.api.ValidatorConfig;
+
+/**
+ * Provides a single {@link ExternalSignerBatcher} for each external signer URL. All batchers share
+ * one HTTP client so bulk requests reuse the same connections.
+ */
+public class ExternalSignerBatcherFactory {
+  private final Supplier<HttpClient> httpClient;
+  private final Duration timeout;
+  private final BulkSigningWireFormat wireFormat;
+  private final ThrottlingTaskQueueWithPriority taskQueue;
+  private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
+  private final MetricsHistogram batchDurationHistogram;
+  private final MetricsHistogram batchSizeHistogram;
+  private final Map<String, ExternalSignerBatcher> batchers = new ConcurrentHashMap<>();
+
+  ExternalSignerBatcherFactory(
+      final Supplier<HttpClient> httpClientFactory,
+      final Duration timeout,
+      final BulkSigningWireFormat wireFormat,
+      final ThrottlingTaskQueueWithPriority taskQueue,
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final MetricsHistogram batchDurationHistogram,
+      final MetricsHistogram batchSizeHistogram) {
+    this.httpClient = Suppliers.memoize(httpClientFactory::get);
+    this.timeout = timeout;
+    this.wireFormat = wireFormat;
+    this.taskQueue = taskQueue;
+    this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
+    this.batchDurationHistogram = batchDurationHistogram;
+    this.batchSizeHistogram = batchSizeHistogram;
+  }
+
+  public static ExternalSignerBatcherFactory create(
+      final MetricsSystem metricsSystem,
+      final ValidatorConfig config,
+      final Supplier<HttpClient> httpClientFactory,
+      final ThrottlingTaskQueueWithPriority taskQueue,
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider) {
+    return new ExternalSignerBatcherFactory(
+        httpClientFactory,
+        config.getValidatorExternalSignerTimeout(),
+        BulkSigningWireFormat.create(config.getValidatorExternalSignerBulkSigningFormat()),
+        taskQueue,
+        asyncRunner,
+        timeProvider,
+        MetricsHistogram.create(
+            TekuMetricCategory.VALIDATOR,
+            metricsSystem,
+            "external_signer_batch_duration_ms",
+            "Histogram of the time taken to complete bulk signing requests",
+            3,
+            List.of("type")),
+        MetricsHistogram.create(
+            TekuMetricCategory.VALIDATOR,
+            metricsSystem,
+            "external_signer_batch_size",
+            "Histogram of the number of signing requests in each bulk signing request",
+            3,
+            List.of("type")));
+  }
+
+  public ExternalSignerBatcher getBatcher(final URL signingServiceUrl) {
+    // Key by string as URL.equals performs host name resolution
+    return batchers.computeIfAbsent(
+        signingServiceUrl.toString(),
+        __ ->
+            new ExternalSignerBatcher(
+                httpClient.get(),
+                signingServiceUrl,
+                timeout,
+                wireFormat,
+                taskQueue,
+                asyncRunner,
+                timeProvider,
+                batchDurationHistogram,
+                batchSizeHistogram));
+  }
+}
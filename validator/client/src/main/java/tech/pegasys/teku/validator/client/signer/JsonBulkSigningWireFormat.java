@@ -0,0 +1,99 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.validator.client.signer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.http.HttpStatusCodes;
+import tech.pegasys.teku.provider.JsonProvider;
+
+/**
+ * Sends requests as a JSON array of the standard signing request bodies, each with an added {@code
+ * pubkey} field. The response is a JSON array with a {@code status} and, if signed, a {@code
+ * signature} for each request.
+ */
+class JsonBulkSigningWireFormat implements BulkSigningWireFormat {
+  private static final String PUBKEY = "pubkey";
+  private final JsonProvider jsonProvider = new JsonProvider();
+
+  @Override
+  public String getContentType() {
+    return "application/json";
+  }
+
+  @Override
+  public byte[] encodeRequests(final List<BulkSigningRequest> requests) {
+    final List<SigningRequestBody> bodies = new ArrayList<>(requests.size());
+    for (BulkSigningRequest request : requests) {
+      final Map<String, Object> metadata = new HashMap<>(request.getMetadata());
+      metadata.put(PUBKEY, request.getPublicKey().toBytesCompressed().toHexString());
+      bodies.add(new SigningRequestBody(request.getSigningRoot(), request.getType(), metadata));
+    }
+    try {
+      return jsonProvider.objectToJSON(bodies).getBytes(UTF_8);
+    } catch (final IOException e) {
+      throw new ExternalSignerException("Unable to create external bulk signing request", e);
+    }
+  }
+
+  @Override
+  public List<BulkSigningResult> decodeResults(final byte[] body) {
+    try {
+      final ResponseEntry[] entries =
+          jsonProvider.getObjectMapper().readValue(body, ResponseEntry[].class);
+      final List<BulkSigningResult> results = new ArrayList<>(entries.length);
+      for (ResponseEntry entry : entries) {
+        results.add(entry.toResult());
+      }
+      return results;
+    } catch (final IOException | IllegalArgumentException e) {
+      throw new ExternalSignerException(
+          "External signer returned an invalid bulk signing response: " + e.getMessage(), e);
+    }
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  static class ResponseEntry {
+    private final int status;
+    private final String signature;
+
+    @JsonCreator
+    ResponseEntry(
+        @JsonProperty(value = "status", required = true) final int status,
+        @JsonProperty("signature") final String signature) {
+      this.status = status;
+      this.signature = signature;
+    }
+
+    BulkSigningResult toResult() {
+      if (status == HttpStatusCodes.SC_PRECONDITION_FAILED) {
+        return BulkSigningResult.refused();
+      }
+      if (status != HttpStatusCodes.SC_OK || signature == null) {
+        return BulkSigningResult.failed();
+      }
+      return BulkSigningResult.signed(
+          BLSSignature.fromBytesCompressed(Bytes.fromHexString(signature)));
+    }
+  }
+}
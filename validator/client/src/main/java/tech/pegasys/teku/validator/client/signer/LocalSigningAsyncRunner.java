@@ -0,0 +1,162 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.validator.client.signer;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingFutureSupplier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Runs signing with local keys on a dedicated work-stealing pool so that producing signatures for
+ * many validators isn't held up behind other validator client tasks.
+ *
+ * <p>Signing requests arrive in bursts as duties become due. Along with the latency of each
+ * signature, the time taken to work through each burst, from the first request until the pool is
+ * idle again, is recorded as a batch.
+ *
+ * <p>Sign calls are deliberately not grouped into a single task per duty. Each duty already
+ * requests the signatures for all its validators at once, so they reach the pool together and work
+ * stealing spreads them over every thread. Grouping them would only delay each signature until the
+ * slowest one in its group was done, while batching the resulting messages is left to the sending
+ * strategies such as {@code BatchAttestationSendingStrategy}.
+ */
+public class LocalSigningAsyncRunner implements AsyncRunner {
+  private final ExecutorService executor;
+  private final AsyncRunner delayRunner;
+  private final TimeProvider timeProvider;
+  private final MetricsHistogram signingDurationHistogram;
+  private final MetricsHistogram batchDurationHistogram;
+  private final MetricsHistogram batchSizeHistogram;
+
+  // Only used for metrics so a request racing with the end of a burst may be counted in either
+  private final AtomicInteger inFlightCount = new AtomicInteger();
+  private final AtomicInteger batchSize = new AtomicInteger();
+  private volatile UInt64 batchStartTime = UInt64.ZERO;
+
+  @VisibleForTesting
+  LocalSigningAsyncRunner(
+      final ExecutorService executor,
+      final AsyncRunner delayRunner,
+      final TimeProvider timeProvider,
+      final MetricsHistogram signingDurationHistogram,
+      final MetricsHistogram batchDurationHistogram,
+      final MetricsHistogram batchSizeHistogram) {
+    this.executor = executor;
+    this.delayRunner = delayRunner;
+    this.timeProvider = timeProvider;
+    this.signingDurationHistogram = signingDurationHistogram;
+    this.batchDurationHistogram = batchDurationHistogram;
+    this.batchSizeHistogram = batchSizeHistogram;
+  }
+
+  /**
+   * Creates a runner with its own pool of {@code threads} signing threads.
+   *
+   * @param delayRunner the runner used to wait out delays before signing is started
+   */
+  public static LocalSigningAsyncRunner create(
+      final int threads,
+      final AsyncRunner delayRunner,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider) {
+    final ForkJoinPool pool =
+        new ForkJoinPool(
+            threads,
+            forkJoinPool -> {
+              final ForkJoinWorkerThread thread =
+                  ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+              thread.setName("local-signer-" + thread.getPoolIndex());
+              return thread;
+            },
+            null,
+            true);
+    return new LocalSigningAsyncRunner(
+        pool,
+        delayRunner,
+        timeProvider,
+        MetricsHistogram.create(
+            TekuMetricCategory.VALIDATOR,
+            metricsSystem,
+            "local_signer_signing_duration_ms",
+            "Histogram of the time taken to produce each signature with a local key",
+            3,
+            List.of()),
+        MetricsHistogram.create(
+            TekuMetricCategory.VALIDATOR,
+            metricsSystem,
+            "local_signer_batch_duration_ms",
+            "Histogram of the time taken to produce each batch of signatures with local keys",
+            3,
+            List.of()),
+        MetricsHistogram.create(
+            TekuMetricCategory.VALIDATOR,
+            metricsSystem,
+            "local_signer_batch_size",
+            "Histogram of the number of signatures in each batch signed with local keys",
+            3,
+            List.of()));
+  }
+
+  @Override
+  public <U> SafeFuture<U> runAsync(final ExceptionThrowingFutureSupplier<U> action) {
+    final UInt64 submittedTime = onSubmitted();
+    final SafeFuture<U> result = new SafeFuture<>();
+    try {
+      executor.execute(() -> SafeFuture.of(action).propagateTo(result));
+    } catch (final Throwable t) {
+      result.completeExceptionally(t);
+    }
+    return result.alwaysRun(() -> onCompleted(submittedTime));
+  }
+
+  @Override
+  public <U> SafeFuture<U> runAfterDelay(
+      final ExceptionThrowingFutureSupplier<U> action, final Duration delay) {
+    return delayRunner.runAfterDelay(() -> runAsync(action), delay);
+  }
+
+  @Override
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private UInt64 onSubmitted() {
+    final UInt64 now = timeProvider.getTimeInMillis();
+    if (inFlightCount.getAndIncrement() == 0) {
+      batchStartTime = now;
+    }
+    batchSize.incrementAndGet();
+    return now;
+  }
+
+  private void onCompleted(final UInt64 submittedTime) {
+    final UInt64 now = timeProvider.getTimeInMillis();
+    signingDurationHistogram.recordValue(now.minusMinZero(submittedTime).longValue());
+    if (inFlightCount.decrementAndGet() == 0) {
+      batchDurationHistogram.recordValue(now.minusMinZero(batchStartTime).longValue());
+      batchSizeHistogram.recordValue(batchSize.getAndSet(0));
+    }
+  }
+}
@@ -33,6 +33,7 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.signatures.Signer;
+import tech.pegasys.teku.spec.signatures.SigningRootCache;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.validator.api.AttesterDuties;
 import tech.pegasys.teku.validator.api.AttesterDuty;
@@ -67,6 +68,7 @@ class AttestationDutyLoaderTest {
       new Validator(validatorKey, signer, new FileBackedGraffitiProvider());
   private final Map<BLSPublicKey, Validator> validators = Map.of(validatorKey, validator);
   private final ForkInfo forkInfo = dataStructureUtil.randomForkInfo();
+  private final SigningRootCache signingRootCache = mock(SigningRootCache.class);
 
   private final AttestationDutyLoader dutyLoader =
       new AttestationDutyLoader(
@@ -76,6 +78,7 @@ class AttestationDutyLoaderTest {
           new OwnedValidators(validators),
           validatorIndexProvider,
           beaconCommitteeSubscriptions,
+          signingRootCache,
           spec);
 
   @BeforeEach
@@ -175,4 +178,21 @@ class AttestationDutyLoaderTest {
     assertThat(result).isCompleted();
     verify(beaconCommitteeSubscriptions).sendRequests();
   }
+
+  @Test
+  void shouldPrecomputeDomainsWhenDutiesAreScheduled() {
+    final UInt64 epoch = UInt64.ONE;
+    when(validatorApiChannel.getAttestationDuties(epoch, VALIDATOR_INDICES))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    new AttesterDuties(
+                        false, false, dataStructureUtil.randomBytes32(), List.of()))));
+
+    final SafeFuture<Optional<SlotBasedScheduledDuties<?, ?>>> result =
+        dutyLoader.loadDutiesForEpoch(epoch);
+
+    assertThat(result).isCompleted();
+    verify(signingRootCache).precomputeDomains(epoch, forkInfo);
+  }
 }
@@ -41,6 +41,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.signatures.SigningRootCache;
 import tech.pegasys.teku.validator.api.AttesterDuties;
 import tech.pegasys.teku.validator.api.AttesterDuty;
 import tech.pegasys.teku.validator.client.duties.BeaconCommitteeSubscriptions;
@@ -767,6 +768,7 @@ public class AttestationDutySchedulerTest extends AbstractDutySchedulerTest {
             new OwnedValidators(Map.of(VALIDATOR1_KEY, validator1, VALIDATOR2_KEY, validator2)),
             validatorIndexProvider,
             beaconCommitteeSubscriptions,
+            new SigningRootCache(spec),
             spec);
     dutyScheduler =
         new AttestationDutyScheduler(
@@ -782,6 +784,7 @@ public class AttestationDutySchedulerTest extends AbstractDutySchedulerTest {
             new OwnedValidators(Map.of(VALIDATOR1_KEY, validator1, VALIDATOR2_KEY, validator2)),
             validatorIndexProvider,
             beaconCommitteeSubscriptions,
+            new SigningRootCache(spec),
             spec);
     dutyScheduler =
         new AttestationDutyScheduler(
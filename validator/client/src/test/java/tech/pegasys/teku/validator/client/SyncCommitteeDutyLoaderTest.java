@@ -31,7 +31,9 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.signatures.Signer;
+import tech.pegasys.teku.spec.signatures.SigningRootCache;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.validator.api.SyncCommitteeDuties;
 import tech.pegasys.teku.validator.api.SyncCommitteeDuty;
@@ -59,6 +61,8 @@ class SyncCommitteeDutyLoaderTest {
   private final ValidatorApiChannel validatorApiChannel = mock(ValidatorApiChannel.class);
   private final ChainHeadTracker chainHeadTracker = mock(ChainHeadTracker.class);
   private final ForkProvider forkProvider = mock(ForkProvider.class);
+  private final SigningRootCache signingRootCache = mock(SigningRootCache.class);
+  private final ForkInfo forkInfo = dataStructureUtil.randomForkInfo();
 
   private final SyncCommitteeDutyLoader dutyLoader =
       new SyncCommitteeDutyLoader(
@@ -67,7 +71,8 @@ class SyncCommitteeDutyLoaderTest {
           spec,
           validatorApiChannel,
           chainHeadTracker,
-          forkProvider);
+          forkProvider,
+          signingRootCache);
 
   @BeforeEach
   void setUp() {
@@ -75,6 +80,7 @@ class SyncCommitteeDutyLoaderTest {
         .thenReturn(SafeFuture.COMPLETE);
     when(validatorIndexProvider.getValidatorIndices())
         .thenReturn(SafeFuture.completedFuture(validatorIndices));
+    when(forkProvider.getForkInfo(any())).thenReturn(SafeFuture.completedFuture(forkInfo));
   }
 
   @Test
@@ -109,6 +115,7 @@ class SyncCommitteeDutyLoaderTest {
                     validator1Index, IntSet.of(1, 6, 25), untilEpoch.increment()),
                 new SyncCommitteeSubnetSubscription(
                     validator2Index, IntSet.of(7, 50, 38), untilEpoch.increment())));
+    verify(signingRootCache).precomputeDomains(epoch, forkInfo);
   }
 
   private SyncCommitteeScheduledDuties loadDuties(final UInt64 epoch) {
@@ -0,0 +1,106 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
+
+class DecryptedKeyCacheTest {
+  private static final String PASSWORD = "password";
+
+  private final BLSKeyPair keyPair1 = BLSTestUtil.randomKeyPair(1);
+  private final BLSKeyPair keyPair2 = BLSTestUtil.randomKeyPair(2);
+
+  @Test
+  void shouldRestoreSavedKeys(@TempDir final Path tempDir) {
+    final Path cacheFile = tempDir.resolve("cache");
+    final DecryptedKeyCache cache = DecryptedKeyCache.load(cacheFile, PASSWORD);
+    cache.put(keyPair1.getPublicKey(), keyPair1.getSecretKey());
+    cache.put(keyPair2.getPublicKey(), keyPair2.getSecretKey());
+    cache.save();
+
+    final DecryptedKeyCache loadedCache = DecryptedKeyCache.load(cacheFile, PASSWORD);
+    assertThat(loadedCache.size()).isEqualTo(2);
+    assertThat(loadedCache.getSecretKey(keyPair1.getPublicKey())).contains(keyPair1.getSecretKey());
+    assertThat(loadedCache.getSecretKey(keyPair2.getPublicKey())).contains(keyPair2.getSecretKey());
+  }
+
+  @Test
+  void shouldNotStoreKeysInPlaintext(@TempDir final Path tempDir) throws Exception {
+    final Path cacheFile = tempDir.resolve("cache");
+    final DecryptedKeyCache cache = DecryptedKeyCache.load(cacheFile, PASSWORD);
+    cache.put(keyPair1.getPublicKey(), keyPair1.getSecretKey());
+    cache.save();
+
+    final String content = new String(Files.readAllBytes(cacheFile), "ISO-8859-1");
+    assertThat(content)
+        .doesNotContain(
+            new String(keyPair1.getSecretKey().toBytes().toArrayUnsafe(), "ISO-8859-1"));
+  }
+
+  @Test
+  void shouldIgnoreCacheWithWrongPassword(@TempDir final Path tempDir) {
+    final Path cacheFile = tempDir.resolve("cache");
+    final DecryptedKeyCache cache = DecryptedKeyCache.load(cacheFile, PASSWORD);
+    cache.put(keyPair1.getPublicKey(), keyPair1.getSecretKey());
+    cache.save();
+
+    assertThat(DecryptedKeyCache.load(cacheFile, "wrong").size()).isZero();
+  }
+
+  @Test
+  void shouldIgnoreCorruptCache(@TempDir final Path tempDir) throws Exception {
+    final Path cacheFile = tempDir.resolve("cache");
+    final DecryptedKeyCache cache = DecryptedKeyCache.load(cacheFile, PASSWORD);
+    cache.put(keyPair1.getPublicKey(), keyPair1.getSecretKey());
+    cache.save();
+
+    final byte[] data = Files.readAllBytes(cacheFile);
+    data[data.length - 1] ^= 0x01;
+    Files.write(cacheFile, data);
+
+    assertThat(DecryptedKeyCache.load(cacheFile, PASSWORD).size()).isZero();
+  }
+
+  @Test
+  void shouldRemoveKeysNotRetained(@TempDir final Path tempDir) {
+    final Path cacheFile = tempDir.resolve("cache");
+    final DecryptedKeyCache cache = DecryptedKeyCache.load(cacheFile, PASSWORD);
+    cache.put(keyPair1.getPublicKey(), keyPair1.getSecretKey());
+    cache.put(keyPair2.getPublicKey(), keyPair2.getSecretKey());
+    cache.retainAll(Set.of(keyPair2.getPublicKey()));
+    cache.save();
+
+    final DecryptedKeyCache loadedCache = DecryptedKeyCache.load(cacheFile, PASSWORD);
+    assertThat(loadedCache.getSecretKey(keyPair1.getPublicKey())).isEmpty();
+    assertThat(loadedCache.getSecretKey(keyPair2.getPublicKey())).contains(keyPair2.getSecretKey());
+  }
+
+  @Test
+  void shouldRejectEmptyPassword(@TempDir final Path tempDir) throws Exception {
+    final Path passwordFile = Files.writeString(tempDir.resolve("password.txt"), "");
+
+    assertThatThrownBy(() -> DecryptedKeyCache.load(tempDir.resolve("cache"), passwordFile))
+        .isInstanceOf(InvalidConfigurationException.class);
+  }
+}
@@ -49,6 +49,7 @@ import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.signatures.SigningRootUtil;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.validator.api.ValidatorConfig;
 import tech.pegasys.teku.validator.client.ValidatorClientService;
@@ -269,6 +270,8 @@ public class ExternalValidatorSourceTest {
         asyncRunner,
         readOnly,
         externalSignerTaskQueue,
+        Optional.empty(),
+        new SigningRootUtil(spec),
         Optional.of(new SimpleDataDirLayout(tempDir)));
   }
 
@@ -78,7 +78,15 @@ class LocalValidatorSourceTest {
 
   private final LocalValidatorSource validatorSource =
       new LocalValidatorSource(
-          spec, true, keystoreLocker, keyStoreFilesLocator, asyncRunner, true, Optional.empty());
+          spec,
+          true,
+          keystoreLocker,
+          keyStoreFilesLocator,
+          asyncRunner,
+          new SigningRootUtil(spec),
+          Optional.empty(),
+          true,
+          Optional.empty());
 
   @Test
   void shouldLoadKeysFromKeyStores(@TempDir final Path tempDir) throws Exception {
@@ -103,6 +111,30 @@ class LocalValidatorSourceTest {
     assertProviderMatchesKey(availableValidators.get(1), EXPECTED_BLS_KEY_PAIR);
   }
 
+  @Test
+  void shouldUseDecryptedKeyCacheWhenConfigured(@TempDir final Path tempDir) throws Exception {
+    final Path scryptKeystore = Path.of(Resources.getResource("scryptTestVector.json").toURI());
+    final Path tempPasswordFile = createTempFile(tempDir, "pass", ".txt");
+    writeString(tempPasswordFile, EXPECTED_PASSWORD);
+    when(keyStoreFilesLocator.parse())
+        .thenReturn(List.of(Pair.of(scryptKeystore, tempPasswordFile)));
+
+    final Path cacheFile = tempDir.resolve("key-cache");
+    final DecryptedKeyCache keyCache = DecryptedKeyCache.load(cacheFile, "cachepassword");
+    assertProviderMatchesKey(
+        createSourceWithKeyCache(keyCache).getAvailableValidators().get(0), EXPECTED_BLS_KEY_PAIR);
+    assertThat(keyCache.getSecretKey(EXPECTED_BLS_KEY_PAIR.getPublicKey()))
+        .contains(EXPECTED_BLS_KEY_PAIR.getSecretKey());
+    keyCache.save();
+
+    // Keystore can't be decrypted any more so the key must come from the cache
+    writeString(tempPasswordFile, "invalidpassword");
+    final DecryptedKeyCache reloadedKeyCache = DecryptedKeyCache.load(cacheFile, "cachepassword");
+    assertProviderMatchesKey(
+        createSourceWithKeyCache(reloadedKeyCache).getAvailableValidators().get(0),
+        EXPECTED_BLS_KEY_PAIR);
+  }
+
   @Test
   void shouldThrowExceptionWhenPasswordFileIsEmpty(@TempDir final Path tempDir) throws Exception {
     // load keystores from resources
@@ -180,6 +212,19 @@ class LocalValidatorSourceTest {
         .hasMessage("KeyStore file not found: " + scryptKeystore);
   }
 
+  private LocalValidatorSource createSourceWithKeyCache(final DecryptedKeyCache keyCache) {
+    return new LocalValidatorSource(
+        spec,
+        true,
+        keystoreLocker,
+        keyStoreFilesLocator,
+        asyncRunner,
+        new SigningRootUtil(spec),
+        Optional.of(keyCache),
+        true,
+        Optional.empty());
+  }
+
   private void assertProviderMatchesKey(
       final ValidatorProvider provider, final BLSKeyPair expectedKeyPair) {
     assertThat(provider.getPublicKey()).isEqualTo(expectedKeyPair.getPublicKey());
@@ -266,6 +311,8 @@ class LocalValidatorSourceTest {
             keystoreLocker,
             keyStoreFilesLocator,
             asyncRunner,
+            new SigningRootUtil(spec),
+            Optional.empty(),
             false,
             Optional.of(new SimpleDataDirLayout(tempDir)));
     final KeyStoreData keyStoreData =
@@ -34,6 +34,7 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -54,6 +55,8 @@ import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.signatures.DeletableSigner;
+import tech.pegasys.teku.spec.signatures.Signer;
+import tech.pegasys.teku.spec.signatures.SigningRootCache;
 import tech.pegasys.teku.spec.signatures.SlashingProtector;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.validator.api.InteropConfig;
@@ -62,6 +65,7 @@ import tech.pegasys.teku.validator.client.LocalValidatorImportResult;
 import tech.pegasys.teku.validator.client.Validator;
 import tech.pegasys.teku.validator.client.ValidatorClientService;
 import tech.pegasys.teku.validator.client.ValidatorImportResult;
+import tech.pegasys.teku.validator.client.loader.ValidatorSource.ValidatorProvider;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.DeleteKeyResult;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.DeletionStatus;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.ImportStatus;
@@ -99,6 +103,7 @@ class ValidatorLoaderTest {
       mock(SlashingProtectionLogger.class);
   private final HttpClient httpClient = mock(HttpClient.class);
   private final MetricsSystem metricsSystem = new StubMetricsSystem();
+  private final SigningRootCache signingRootCache = new SigningRootCache(spec);
   private final PublicKeyLoader publicKeyLoader = new PublicKeyLoader();
 
   @SuppressWarnings("unchecked")
@@ -137,6 +142,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.empty());
 
     validatorLoader.loadValidators();
@@ -175,6 +181,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.empty());
 
     validatorLoader.loadValidators();
@@ -219,6 +226,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.empty());
 
     validatorLoader.loadValidators();
@@ -265,6 +273,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.empty());
 
     validatorLoader.loadValidators();
@@ -310,6 +319,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.of(dataDirLayout));
 
     validatorLoader.loadValidators();
@@ -348,6 +358,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.empty());
 
     final DeleteKeyResult result =
@@ -378,6 +389,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.empty());
 
     validatorLoader.loadValidators();
@@ -403,13 +415,39 @@ class ValidatorLoaderTest {
             Optional.of(validatorSource),
             null,
             Optional.of(dataDirLayout),
-            slashingProtectionLogger);
+            slashingProtectionLogger,
+            metricsSystem);
 
     when(validatorSource.deleteValidator(publicKey)).thenReturn(DeleteKeyResult.success());
     loader.deleteLocalMutableValidator(publicKey);
     verify(validatorSource).deleteValidator(publicKey);
   }
 
+  @Test
+  void loadValidatorsIncrementally_shouldAddEachValidatorAsItIsLoaded() {
+    final ValidatorSource validatorSource = mock(ValidatorSource.class);
+    final ValidatorProvider provider1 = createValidatorProvider(PUBLIC_KEY1);
+    final ValidatorProvider provider2 = createValidatorProvider(PUBLIC_KEY2);
+    when(validatorSource.getAvailableValidators()).thenReturn(List.of(provider1, provider2));
+    final ValidatorLoader loader =
+        ValidatorLoader.create(
+            List.of(validatorSource),
+            Optional.empty(),
+            Optional.empty(),
+            null,
+            Optional.empty(),
+            slashingProtectionLogger,
+            metricsSystem);
+    final List<Integer> validatorCounts = new CopyOnWriteArrayList<>();
+
+    loader.loadValidatorsIncrementally(
+        () -> validatorCounts.add(loader.getOwnedValidators().getValidatorCount()));
+
+    assertThat(validatorCounts).hasSize(2).allMatch(count -> count > 0);
+    assertThat(loader.getOwnedValidators().getPublicKeys())
+        .containsExactlyInAnyOrder(PUBLIC_KEY1, PUBLIC_KEY2);
+  }
+
   @Test
   void shouldNotInitializeMutableValidatorsWithoutDirectoryStructure(
       @TempDir Path tempDir, @TempDir Path tempDirMutable) throws Exception {
@@ -432,6 +470,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.of(dataDirLayout));
 
     validatorLoader.loadValidators();
@@ -468,6 +507,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.empty());
 
     validatorLoader.loadValidators();
@@ -503,6 +543,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.empty());
 
     validatorLoader.loadValidators();
@@ -544,6 +585,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.empty());
 
     validatorLoader.loadValidators();
@@ -581,6 +623,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.empty());
 
     validatorLoader.loadValidators();
@@ -613,6 +656,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.empty());
 
     // No validators initially
@@ -648,6 +692,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.empty());
     validatorLoader.loadValidators();
     final OwnedValidators validators = validatorLoader.getOwnedValidators();
@@ -669,6 +714,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.empty());
     validatorLoader.loadValidators();
     final LocalValidatorImportResult result =
@@ -694,6 +740,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.of(new SimpleDataDirLayout(tempDir)));
     validatorLoader.loadValidators();
 
@@ -731,6 +778,7 @@ class ValidatorLoaderTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            signingRootCache,
             Optional.empty());
     validatorLoader.loadValidators();
     final OwnedValidators validators = validatorLoader.getOwnedValidators();
@@ -738,6 +786,13 @@ class ValidatorLoaderTest {
     assertThat(validators.hasNoValidators()).isTrue();
   }
 
+  private ValidatorProvider createValidatorProvider(final BLSPublicKey publicKey) {
+    final ValidatorProvider provider = mock(ValidatorProvider.class);
+    when(provider.getPublicKey()).thenReturn(publicKey);
+    when(provider.createSigner()).thenReturn(mock(Signer.class));
+    return provider;
+  }
+
   private void writeKeystore(final Path tempDir) throws Exception {
     final URL resource = Resources.getResource("pbkdf2TestVector.json");
     Files.copy(Path.of(resource.toURI()), tempDir.resolve("key.json"));
@@ -28,6 +28,7 @@ import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.service.serviceutils.layout.SeparateServiceDataDirLayout;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.signatures.SigningRootCache;
 import tech.pegasys.teku.spec.signatures.SlashingProtector;
 import tech.pegasys.teku.validator.api.InteropConfig;
 import tech.pegasys.teku.validator.api.ValidatorConfig;
@@ -59,6 +60,7 @@ class ValidatorSourceFactoryTest {
             publicKeyLoader,
             asyncRunner,
             metricsSystem,
+            new SigningRootCache(spec),
             Optional.of(dataDirLayout));
     factory.createValidatorSources();
     final Optional<ValidatorSource> source = factory.getMutableLocalValidatorSource();
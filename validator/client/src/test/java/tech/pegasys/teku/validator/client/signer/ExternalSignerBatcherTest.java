@@ -0,0 +1,366 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueueWithPriority;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class ExternalSignerBatcherTest {
+  private static final UInt64 SLOT = UInt64.valueOf(10);
+
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createMinimalPhase0());
+  private final HttpClient httpClient = mock(HttpClient.class);
+  private final BulkSigningWireFormat wireFormat = mock(BulkSigningWireFormat.class);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(0);
+  private final ThrottlingTaskQueueWithPriority taskQueue =
+      ThrottlingTaskQueueWithPriority.create(
+          1, new NoOpMetricsSystem(), TekuMetricCategory.VALIDATOR, "queue");
+
+  @SuppressWarnings("unchecked")
+  private final HttpResponse<byte[]> httpResponse = mock(HttpResponse.class);
+
+  private final Supplier<SafeFuture<BLSSignature>> unexpectedFallback =
+      () -> SafeFuture.failedFuture(new AssertionError("Should not fall back"));
+
+  private ExternalSignerBatcher batcher;
+
+  @BeforeEach
+  void setUp() throws MalformedURLException {
+    when(wireFormat.getContentType()).thenReturn("application/json");
+    when(wireFormat.encodeRequests(any())).thenReturn(new byte[0]);
+    when(httpResponse.statusCode()).thenReturn(SC_OK);
+    when(httpResponse.body()).thenReturn(new byte[0]);
+    when(httpClient.sendAsync(any(), ArgumentMatchers.<HttpResponse.BodyHandler<byte[]>>any()))
+        .thenReturn(CompletableFuture.completedFuture(httpResponse));
+    batcher = createFactory(() -> httpClient).getBatcher(new URL("http://localhost:9000"));
+  }
+
+  @Test
+  void shouldSendRequestsForSameSlotAndTypeAsSingleBatch() {
+    final List<BLSSignature> signatures = randomSignatures(3);
+    when(wireFormat.decodeResults(any())).thenReturn(signedResults(signatures));
+
+    final List<SafeFuture<BLSSignature>> results = new ArrayList<>();
+    for (int i = 0; i < signatures.size(); i++) {
+      results.add(sign(SLOT, SignType.ATTESTATION, unexpectedFallback));
+    }
+    verifyNoInteractions(httpClient);
+    assertThat(results).allMatch(result -> !result.isDone());
+    // Nothing is in flight so the batch is sent without waiting for the batch delay
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+
+    asyncRunner.executeQueuedActions();
+
+    verify(httpClient).sendAsync(any(), ArgumentMatchers.<HttpResponse.BodyHandler<byte[]>>any());
+    assertThat(getEncodedBatchSizes()).containsExactly(3);
+    for (int i = 0; i < signatures.size(); i++) {
+      assertThat(results.get(i)).isCompletedWithValue(signatures.get(i));
+    }
+  }
+
+  @Test
+  void shouldHoldBatchWhileBulkRequestIsInFlightUntilItCompletes() {
+    final CompletableFuture<HttpResponse<byte[]>> inFlightResponse = new CompletableFuture<>();
+    when(httpClient.sendAsync(any(), ArgumentMatchers.<HttpResponse.BodyHandler<byte[]>>any()))
+        .thenReturn(inFlightResponse)
+        .thenReturn(CompletableFuture.completedFuture(httpResponse));
+    final List<BLSSignature> signatures = randomSignatures(3);
+    when(wireFormat.decodeResults(any()))
+        .thenReturn(signedResults(signatures.subList(0, 1)))
+        .thenReturn(signedResults(signatures.subList(1, 3)));
+
+    final SafeFuture<BLSSignature> result1 = sign(SLOT, SignType.ATTESTATION, unexpectedFallback);
+    asyncRunner.executeQueuedActions();
+    verify(httpClient).sendAsync(any(), ArgumentMatchers.<HttpResponse.BodyHandler<byte[]>>any());
+
+    final SafeFuture<BLSSignature> result2 = sign(SLOT, SignType.ATTESTATION, unexpectedFallback);
+    final SafeFuture<BLSSignature> result3 = sign(SLOT, SignType.ATTESTATION, unexpectedFallback);
+    assertThat(asyncRunner.hasDelayedActions()).isTrue();
+    verify(httpClient).sendAsync(any(), ArgumentMatchers.<HttpResponse.BodyHandler<byte[]>>any());
+
+    inFlightResponse.complete(httpResponse);
+
+    verify(httpClient, times(2))
+        .sendAsync(any(), ArgumentMatchers.<HttpResponse.BodyHandler<byte[]>>any());
+    assertThat(getEncodedBatchSizes()).containsExactly(1, 2);
+    assertThat(result1).isCompletedWithValue(signatures.get(0));
+    assertThat(result2).isCompletedWithValue(signatures.get(1));
+    assertThat(result3).isCompletedWithValue(signatures.get(2));
+
+    // The delayed flush must not send the batch again
+    asyncRunner.executeQueuedActions();
+    verify(httpClient, times(2))
+        .sendAsync(any(), ArgumentMatchers.<HttpResponse.BodyHandler<byte[]>>any());
+  }
+
+  @Test
+  void shouldQueueBulkRequestsInTaskQueue() {
+    final CompletableFuture<HttpResponse<byte[]>> inFlightResponse = new CompletableFuture<>();
+    when(httpClient.sendAsync(any(), ArgumentMatchers.<HttpResponse.BodyHandler<byte[]>>any()))
+        .thenReturn(inFlightResponse)
+        .thenReturn(CompletableFuture.completedFuture(httpResponse));
+    when(wireFormat.decodeResults(any()))
+        .thenReturn(signedResults(randomSignatures(1)))
+        .thenReturn(signedResults(randomSignatures(1)));
+
+    final SafeFuture<BLSSignature> result1 = sign(SLOT, SignType.ATTESTATION, unexpectedFallback);
+    asyncRunner.executeQueuedActions();
+    // Different type so the batch is sent after the delay rather than waiting for the first one
+    final SafeFuture<BLSSignature> result2 = sign(SLOT, SignType.RANDAO_REVEAL, unexpectedFallback);
+    asyncRunner.executeQueuedActions();
+
+    // The task queue only allows one request at a time
+    verify(httpClient).sendAsync(any(), ArgumentMatchers.<HttpResponse.BodyHandler<byte[]>>any());
+
+    inFlightResponse.complete(httpResponse);
+
+    verify(httpClient, times(2))
+        .sendAsync(any(), ArgumentMatchers.<HttpResponse.BodyHandler<byte[]>>any());
+    assertThat(result1).isCompleted();
+    assertThat(result2).isCompleted();
+  }
+
+  @Test
+  void shouldSendSeparateBatchesForDifferentSlotsAndTypes() {
+    when(wireFormat.decodeResults(any()))
+        .thenReturn(signedResults(randomSignatures(1)))
+        .thenReturn(signedResults(randomSignatures(1)))
+        .thenReturn(signedResults(randomSignatures(1)));
+
+    final SafeFuture<BLSSignature> result1 = sign(SLOT, SignType.ATTESTATION, unexpectedFallback);
+    final SafeFuture<BLSSignature> result2 =
+        sign(SLOT.increment(), SignType.ATTESTATION, unexpectedFallback);
+    final SafeFuture<BLSSignature> result3 = sign(SLOT, SignType.RANDAO_REVEAL, unexpectedFallback);
+    asyncRunner.executeQueuedActions();
+
+    verify(httpClient, times(3))
+        .sendAsync(any(), ArgumentMatchers.<HttpResponse.BodyHandler<byte[]>>any());
+    assertThat(getEncodedBatchSizes()).containsExactly(1, 1, 1);
+    assertThat(result1).isCompleted();
+    assertThat(result2).isCompleted();
+    assertThat(result3).isCompleted();
+  }
+
+  @Test
+  void shouldSendBatchImmediatelyWhenFull() {
+    final List<BLSSignature> signatures = randomSignatures(ExternalSignerBatcher.MAX_BATCH_SIZE);
+    when(wireFormat.decodeResults(any())).thenReturn(signedResults(signatures));
+
+    final List<SafeFuture<BLSSignature>> results = new ArrayList<>();
+    for (int i = 0; i < ExternalSignerBatcher.MAX_BATCH_SIZE; i++) {
+      results.add(sign(SLOT, SignType.ATTESTATION, unexpectedFallback));
+    }
+
+    verify(httpClient).sendAsync(any(), ArgumentMatchers.<HttpResponse.BodyHandler<byte[]>>any());
+    assertThat(results).allMatch(SafeFuture::isCompletedNormally);
+
+    // The delayed flush must not send the batch again
+    asyncRunner.executeQueuedActions();
+    verify(httpClient).sendAsync(any(), ArgumentMatchers.<HttpResponse.BodyHandler<byte[]>>any());
+    assertThat(getEncodedBatchSizes()).containsExactly(ExternalSignerBatcher.MAX_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldNotBatchUnsupportedSignTypes() {
+    final BLSSignature signature = dataStructureUtil.randomSignature();
+
+    final SafeFuture<BLSSignature> result =
+        sign(SLOT, SignType.BLOCK, () -> SafeFuture.completedFuture(signature));
+
+    assertThat(result).isCompletedWithValue(signature);
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+    verifyNoInteractions(httpClient);
+  }
+
+  @Test
+  void shouldFailAllRequestsInBatchWhenRequestFails() {
+    when(httpClient.sendAsync(any(), ArgumentMatchers.<HttpResponse.BodyHandler<byte[]>>any()))
+        .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Connection refused")));
+
+    final SafeFuture<BLSSignature> result1 = sign(SLOT, SignType.ATTESTATION, unexpectedFallback);
+    final SafeFuture<BLSSignature> result2 = sign(SLOT, SignType.ATTESTATION, unexpectedFallback);
+    asyncRunner.executeQueuedActions();
+
+    assertThatFailedWithExternalSignerException(result1);
+    assertThatFailedWithExternalSignerException(result2);
+  }
+
+  @Test
+  void shouldFailAllRequestsInBatchWhenResponseStatusIsInvalid() {
+    when(httpResponse.statusCode()).thenReturn(500);
+
+    final SafeFuture<BLSSignature> result1 = sign(SLOT, SignType.ATTESTATION, unexpectedFallback);
+    final SafeFuture<BLSSignature> result2 = sign(SLOT, SignType.ATTESTATION, unexpectedFallback);
+    asyncRunner.executeQueuedActions();
+
+    assertThatFailedWithExternalSignerException(result1);
+    assertThatFailedWithExternalSignerException(result2);
+  }
+
+  @Test
+  void shouldFailAllRequestsInBatchWhenNumberOfResultsDoesNotMatch() {
+    when(wireFormat.decodeResults(any())).thenReturn(signedResults(randomSignatures(1)));
+
+    final SafeFuture<BLSSignature> result1 = sign(SLOT, SignType.ATTESTATION, unexpectedFallback);
+    final SafeFuture<BLSSignature> result2 = sign(SLOT, SignType.ATTESTATION, unexpectedFallback);
+    asyncRunner.executeQueuedActions();
+
+    assertThatFailedWithExternalSignerException(result1);
+    assertThatFailedWithExternalSignerException(result2);
+  }
+
+  @Test
+  void shouldOnlyFailRequestsWhichWereNotSigned() {
+    final BLSSignature signature = dataStructureUtil.randomSignature();
+    when(wireFormat.decodeResults(any()))
+        .thenReturn(
+            List.of(
+                BulkSigningResult.signed(signature),
+                BulkSigningResult.refused(),
+                BulkSigningResult.failed()));
+
+    final SafeFuture<BLSSignature> signed = sign(SLOT, SignType.ATTESTATION, unexpectedFallback);
+    final SafeFuture<BLSSignature> refused = sign(SLOT, SignType.ATTESTATION, unexpectedFallback);
+    final SafeFuture<BLSSignature> failed = sign(SLOT, SignType.ATTESTATION, unexpectedFallback);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(signed).isCompletedWithValue(signature);
+    assertThatFailedWithExternalSignerException(refused);
+    assertThatFailedWithExternalSignerException(failed);
+  }
+
+  @Test
+  void shouldFallBackToIndividualRequestsWhenBulkSigningIsNotSupported() {
+    when(httpResponse.statusCode()).thenReturn(SC_NOT_FOUND);
+    final BLSSignature signature1 = dataStructureUtil.randomSignature();
+    final BLSSignature signature2 = dataStructureUtil.randomSignature();
+
+    final SafeFuture<BLSSignature> result1 =
+        sign(SLOT, SignType.ATTESTATION, () -> SafeFuture.completedFuture(signature1));
+    final SafeFuture<BLSSignature> result2 =
+        sign(SLOT, SignType.ATTESTATION, () -> SafeFuture.completedFuture(signature2));
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result1).isCompletedWithValue(signature1);
+    assertThat(result2).isCompletedWithValue(signature2);
+
+    // Subsequent requests go straight to the fallback
+    final SafeFuture<BLSSignature> result3 =
+        sign(SLOT.increment(), SignType.ATTESTATION, () -> SafeFuture.completedFuture(signature1));
+    assertThat(result3).isCompletedWithValue(signature1);
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+    verify(httpClient).sendAsync(any(), ArgumentMatchers.<HttpResponse.BodyHandler<byte[]>>any());
+  }
+
+  @Test
+  void shouldShareHttpClientBetweenBatchers() throws MalformedURLException {
+    @SuppressWarnings("unchecked")
+    final Supplier<HttpClient> httpClientFactory = mock(Supplier.class);
+    when(httpClientFactory.get()).thenReturn(httpClient);
+    final ExternalSignerBatcherFactory factory = createFactory(httpClientFactory);
+
+    verify(httpClientFactory, never()).get();
+    factory.getBatcher(new URL("http://localhost:9000"));
+    factory.getBatcher(new URL("http://localhost:9001"));
+
+    verify(httpClientFactory).get();
+  }
+
+  private SafeFuture<BLSSignature> sign(
+      final UInt64 slot, final SignType type, final Supplier<SafeFuture<BLSSignature>> fallback) {
+    final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+    final Bytes signingRoot = dataStructureUtil.randomBytes32();
+    return batcher.sign(
+        publicKey, slot, signingRoot, type, Map.of(), () -> "Refused to sign", fallback);
+  }
+
+  private List<Integer> getEncodedBatchSizes() {
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<List<BulkSigningRequest>> captor = ArgumentCaptor.forClass(List.class);
+    verify(wireFormat, atLeastOnce()).encodeRequests(captor.capture());
+    return captor.getAllValues().stream().map(List::size).collect(Collectors.toList());
+  }
+
+  private List<BLSSignature> randomSignatures(final int count) {
+    return IntStream.range(0, count)
+        .mapToObj(__ -> dataStructureUtil.randomSignature())
+        .collect(Collectors.toList());
+  }
+
+  private static List<BulkSigningResult> signedResults(final List<BLSSignature> signatures) {
+    return signatures.stream().map(BulkSigningResult::signed).collect(Collectors.toList());
+  }
+
+  private static void assertThatFailedWithExternalSignerException(
+      final SafeFuture<BLSSignature> result) {
+    assertThatSafeFuture(result).isCompletedExceptionallyWith(ExternalSignerException.class);
+  }
+
+  private ExternalSignerBatcherFactory createFactory(final Supplier<HttpClient> httpClientFactory) {
+    final NoOpMetricsSystem metricsSystem = new NoOpMetricsSystem();
+    return new ExternalSignerBatcherFactory(
+        httpClientFactory,
+        Duration.ofSeconds(1),
+        wireFormat,
+        taskQueue,
+        asyncRunner,
+        timeProvider,
+        MetricsHistogram.create(
+            TekuMetricCategory.VALIDATOR, metricsSystem, "duration", "", 3, List.of("type")),
+        MetricsHistogram.create(
+            TekuMetricCategory.VALIDATOR, metricsSystem, "size", "", 3, List.of("type")));
+  }
+}
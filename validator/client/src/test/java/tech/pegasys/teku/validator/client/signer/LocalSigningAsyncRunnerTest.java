@@ -0,0 +1,98 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.validator.client.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+
+class LocalSigningAsyncRunnerTest {
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(1000);
+  private final MetricsHistogram signingDurationHistogram = mock(MetricsHistogram.class);
+  private final MetricsHistogram batchDurationHistogram = mock(MetricsHistogram.class);
+  private final MetricsHistogram batchSizeHistogram = mock(MetricsHistogram.class);
+  private final StubAsyncRunner delayRunner = new StubAsyncRunner();
+
+  private final LocalSigningAsyncRunner asyncRunner =
+      new LocalSigningAsyncRunner(
+          MoreExecutors.newDirectExecutorService(),
+          delayRunner,
+          timeProvider,
+          signingDurationHistogram,
+          batchDurationHistogram,
+          batchSizeHistogram);
+
+  @Test
+  void shouldCompleteWithResultOfAction() {
+    final SafeFuture<String> result = asyncRunner.runAsync(() -> SafeFuture.completedFuture("a"));
+
+    assertThat(result).isCompletedWithValue("a");
+  }
+
+  @Test
+  void shouldCompleteExceptionallyWhenActionFails() {
+    final RuntimeException error = new RuntimeException("Nope");
+    final SafeFuture<String> result =
+        asyncRunner.runAsync(
+            () -> {
+              throw error;
+            });
+
+    assertThatSafeFuture(result).isCompletedExceptionallyWith(error);
+  }
+
+  @Test
+  void shouldUseDelayRunnerToWaitBeforeSigning() {
+    final SafeFuture<String> result =
+        asyncRunner.runAfterDelay(() -> SafeFuture.completedFuture("a"), Duration.ofSeconds(1));
+    assertThat(result).isNotDone();
+    verifyNoInteractions(signingDurationHistogram);
+
+    delayRunner.executeQueuedActions();
+
+    assertThat(result).isCompletedWithValue("a");
+    verify(signingDurationHistogram).recordValue(0);
+  }
+
+  @Test
+  void shouldRecordBatchWhenAllInFlightSigningCompletes() {
+    final SafeFuture<String> signature1 = new SafeFuture<>();
+    final SafeFuture<String> signature2 = new SafeFuture<>();
+    final SafeFuture<String> result1 = asyncRunner.runAsync(() -> signature1);
+    timeProvider.advanceTimeByMillis(10);
+    final SafeFuture<String> result2 = asyncRunner.runAsync(() -> signature2);
+
+    timeProvider.advanceTimeByMillis(20);
+    signature1.complete("1");
+    assertThat(result1).isCompletedWithValue("1");
+    verify(signingDurationHistogram).recordValue(30);
+    verifyNoInteractions(batchDurationHistogram, batchSizeHistogram);
+
+    timeProvider.advanceTimeByMillis(5);
+    signature2.complete("2");
+    assertThat(result2).isCompletedWithValue("2");
+    verify(signingDurationHistogram).recordValue(25);
+    verify(batchDurationHistogram).recordValue(35);
+    verify(batchSizeHistogram).recordValue(2);
+  }
+}
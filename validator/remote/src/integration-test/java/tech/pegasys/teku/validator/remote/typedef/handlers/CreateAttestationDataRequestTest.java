@@ -24,6 +24,7 @@ import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import java.util.Optional;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestTemplate;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -103,4 +104,38 @@ class CreateAttestationDataRequestTest extends AbstractTypeDefRequestTestBase {
 
     assertThat(attestationData.get()).isEqualTo(expectedAttestationData);
   }
+
+  @TestTemplate
+  public void createAttestationData_WhenSszPreferred_ReturnsSszAttestationData() throws Exception {
+    final CreateAttestationDataRequest sszRequest =
+        new CreateAttestationDataRequest(mockWebServer.url("/"), okHttpClient, true);
+    final AttestationData expectedAttestationData = dataStructureUtil.randomAttestationData();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_OK)
+            .setHeader("Content-Type", OCTET_STREAM_CONTENT_TYPE)
+            .setBody(new Buffer().write(expectedAttestationData.sszSerialize().toArrayUnsafe())));
+
+    final Optional<AttestationData> attestationData =
+        sszRequest.createAttestationData(UInt64.ONE, 1);
+
+    assertThat(attestationData).contains(expectedAttestationData);
+    assertThat(mockWebServer.takeRequest().getHeader("Accept"))
+        .isEqualTo("application/octet-stream;q=0.9, application/json;q=0.4");
+  }
+
+  @TestTemplate
+  public void createAttestationData_WhenSszPreferredButJsonReturned_ReturnsAttestationData()
+      throws Exception {
+    final CreateAttestationDataRequest sszRequest =
+        new CreateAttestationDataRequest(mockWebServer.url("/"), okHttpClient, true);
+    final AttestationData expectedAttestationData = dataStructureUtil.randomAttestationData();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_OK)
+            .setHeader("Content-Type", JSON_CONTENT_TYPE)
+            .setBody(serializeSszObjectToJsonWithDataWrapper(expectedAttestationData)));
+
+    assertThat(sszRequest.createAttestationData(UInt64.ONE, 1)).contains(expectedAttestationData);
+  }
 }
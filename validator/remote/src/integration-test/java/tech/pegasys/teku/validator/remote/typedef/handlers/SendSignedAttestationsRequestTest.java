@@ -0,0 +1,133 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.remote.typedef.handlers;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORTED_MEDIA_TYPE;
+
+import java.util.List;
+import java.util.Optional;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.TestTemplate;
+import tech.pegasys.teku.api.response.v1.beacon.PostDataFailure;
+import tech.pegasys.teku.api.response.v1.beacon.PostDataFailureResponse;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.TestSpecContext;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.spec.networks.Eth2Network;
+import tech.pegasys.teku.spec.schemas.ApiSchemas;
+import tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod;
+import tech.pegasys.teku.validator.remote.typedef.AbstractTypeDefRequestTestBase;
+
+// Only need to test PHASE0 as attestations haven't yet changed
+@TestSpecContext(milestone = SpecMilestone.PHASE0, network = Eth2Network.MINIMAL)
+class SendSignedAttestationsRequestTest extends AbstractTypeDefRequestTestBase {
+
+  @TestTemplate
+  void shouldSendAttestationsAsJson() throws Exception {
+    final SendSignedAttestationsRequest request = createRequest(false);
+    final List<Attestation> attestations = randomAttestations();
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+
+    assertThat(request.sendSignedAttestations(attestations)).isEmpty();
+
+    final RecordedRequest recordedRequest = mockWebServer.takeRequest();
+    assertThat(recordedRequest.getMethod()).isEqualTo("POST");
+    assertThat(recordedRequest.getPath())
+        .contains(ValidatorApiMethod.SEND_SIGNED_ATTESTATION.getPath(emptyMap()));
+    assertThat(recordedRequest.getHeader("Content-Type")).isEqualTo(JSON_CONTENT_TYPE);
+    assertThat(
+            JsonUtil.parse(
+                recordedRequest.getBody().readUtf8(),
+                DeserializableTypeDefinition.listOf(
+                    getAttestationSchema().getJsonTypeDefinition())))
+        .isEqualTo(attestations);
+  }
+
+  @TestTemplate
+  void shouldSendAttestationsAsSszWhenPreferred() throws Exception {
+    final SendSignedAttestationsRequest request = createRequest(true);
+    final List<Attestation> attestations = randomAttestations();
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+
+    assertThat(request.sendSignedAttestations(attestations)).isEmpty();
+
+    final RecordedRequest recordedRequest = mockWebServer.takeRequest();
+    assertThat(recordedRequest.getHeader("Content-Type")).isEqualTo(OCTET_STREAM_CONTENT_TYPE);
+    assertThat(
+            ApiSchemas.createAttestationsSchema(getAttestationSchema())
+                .sszDeserialize(Bytes.of(recordedRequest.getBody().readByteArray()))
+                .asList())
+        .isEqualTo(attestations);
+  }
+
+  @TestTemplate
+  void shouldFallbackToJsonWhenSszIsNotSupported() throws Exception {
+    final SendSignedAttestationsRequest request = createRequest(true);
+    final List<Attestation> attestations = randomAttestations();
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_UNSUPPORTED_MEDIA_TYPE));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+
+    request.sendSignedAttestations(attestations);
+    request.sendSignedAttestations(attestations);
+
+    assertThat(mockWebServer.getRequestCount()).isEqualTo(3);
+    assertThat(mockWebServer.takeRequest().getHeader("Content-Type"))
+        .isEqualTo(OCTET_STREAM_CONTENT_TYPE);
+    // Falls back for the failed request and then sticks with JSON
+    assertThat(mockWebServer.takeRequest().getHeader("Content-Type")).isEqualTo(JSON_CONTENT_TYPE);
+    assertThat(mockWebServer.takeRequest().getHeader("Content-Type")).isEqualTo(JSON_CONTENT_TYPE);
+  }
+
+  @TestTemplate
+  void shouldReturnFailuresWhenBadRequest() throws Exception {
+    final SendSignedAttestationsRequest request = createRequest(true);
+    final PostDataFailureResponse response =
+        new PostDataFailureResponse(
+            SC_BAD_REQUEST, "Computer said no", List.of(new PostDataFailure(UInt64.ZERO, "Bad")));
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_BAD_REQUEST)
+            .setBody(JSON_PROVIDER.objectToJSON(response)));
+
+    final Optional<PostDataFailureResponse> result =
+        request.sendSignedAttestations(randomAttestations());
+
+    assertThat(result).isPresent();
+    assertThat(result.get()).usingRecursiveComparison().isEqualTo(response);
+  }
+
+  private SendSignedAttestationsRequest createRequest(final boolean preferSszEncoding) {
+    return new SendSignedAttestationsRequest(
+        mockWebServer.url("/"), okHttpClient, spec, preferSszEncoding);
+  }
+
+  private AttestationSchema getAttestationSchema() {
+    return spec.getGenesisSchemaDefinitions().getAttestationSchema();
+  }
+
+  private List<Attestation> randomAttestations() {
+    return List.of(dataStructureUtil.randomAttestation(), dataStructureUtil.randomAttestation());
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.remote;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Tracks the latency of successful requests to each beacon node so time-critical requests can be
+ * hedged to another node when the current one is slower than usual.
+ *
+ * <p>Only the most recent {@link #MAX_SAMPLES} latencies for each node and method are kept so the
+ * percentiles follow changes in beacon node performance.
+ */
+public class BeaconNodeLatencyTracker {
+  static final int MAX_SAMPLES = 128;
+  static final int MIN_SAMPLES = 8;
+
+  static final String LATENCY_HISTOGRAM_NAME = "remote_beacon_nodes_request_latency_ms";
+  static final String HEDGED_REQUESTS_COUNTER_NAME = "remote_beacon_nodes_hedged_requests_total";
+  static final String HEDGED_REQUEST_WINS_COUNTER_NAME =
+      "remote_beacon_nodes_hedged_request_wins_total";
+
+  private final Map<List<String>, LatencySamples> samples = new ConcurrentHashMap<>();
+  private final TimeProvider timeProvider;
+  private final MetricsHistogram latencyHistogram;
+  private final LabelledMetric<Counter> hedgedRequestsCounter;
+  private final LabelledMetric<Counter> hedgedRequestWinsCounter;
+
+  public BeaconNodeLatencyTracker(
+      final MetricsSystem metricsSystem, final TimeProvider timeProvider) {
+    this.timeProvider = timeProvider;
+    this.latencyHistogram =
+        MetricsHistogram.create(
+            TekuMetricCategory.VALIDATOR,
+            metricsSystem,
+            LATENCY_HISTOGRAM_NAME,
+            "Latency of successful requests to the configured Beacon Nodes endpoint(s)",
+            3,
+            List.of("endpoint", "method"));
+    this.hedgedRequestsCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.VALIDATOR,
+            HEDGED_REQUESTS_COUNTER_NAME,
+            "Counter recording the number of hedged requests sent to each Beacon Node endpoint",
+            "endpoint",
+            "method");
+    this.hedgedRequestWinsCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.VALIDATOR,
+            HEDGED_REQUEST_WINS_COUNTER_NAME,
+            "Counter recording the number of hedged requests where the response from each Beacon Node endpoint was used",
+            "endpoint",
+            "method");
+  }
+
+  public <T> SafeFuture<T> recordLatency(
+      final RemoteValidatorApiChannel delegate,
+      final String method,
+      final Supplier<SafeFuture<T>> request) {
+    final UInt64 startTime = timeProvider.getTimeInMillis();
+    return request
+        .get()
+        .thenPeek(
+            __ -> {
+              final long latency =
+                  timeProvider.getTimeInMillis().minusMinZero(startTime).longValue();
+              final String endpoint = delegate.getEndpoint().toString();
+              latencyHistogram.recordValue(latency, endpoint, method);
+              samples
+                  .computeIfAbsent(List.of(endpoint, method), key -> new LatencySamples())
+                  .add(latency);
+            });
+  }
+
+  /**
+   * Returns the given percentile of recent latencies for the node and method, or empty if there
+   * aren't yet enough samples to be meaningful.
+   */
+  public Optional<Long> getLatencyPercentile(
+      final RemoteValidatorApiChannel delegate, final String method, final int percentile) {
+    return Optional.ofNullable(samples.get(List.of(delegate.getEndpoint().toString(), method)))
+        .flatMap(latencySamples -> latencySamples.getPercentile(percentile));
+  }
+
+  public void onHedgedRequest(final RemoteValidatorApiChannel delegate, final String method) {
+    hedgedRequestsCounter.labels(delegate.getEndpoint().toString(), method).inc();
+  }
+
+  public void onHedgedRequestWin(final RemoteValidatorApiChannel delegate, final String method) {
+    hedgedRequestWinsCounter.labels(delegate.getEndpoint().toString(), method).inc();
+  }
+
+  private static class LatencySamples {
+    private final long[] latencies = new long[MAX_SAMPLES];
+    private int count = 0;
+    private int nextIndex = 0;
+
+    synchronized void add(final long latency) {
+      latencies[nextIndex] = latency;
+      nextIndex = (nextIndex + 1) % MAX_SAMPLES;
+      count = Math.min(count + 1, MAX_SAMPLES);
+    }
+
+    synchronized Optional<Long> getPercentile(final int percentile) {
+      if (count < MIN_SAMPLES) {
+        return Optional.empty();
+      }
+      final long[] sorted = Arrays.copyOf(latencies, count);
+      Arrays.sort(sorted);
+      final int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+      return Optional.of(sorted[Math.max(0, Math.min(index, count - 1))]);
+    }
+  }
+}
@@ -14,8 +14,11 @@
 package tech.pegasys.teku.validator.remote;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Streams;
 import it.unimi.dsi.fastutil.ints.IntCollection;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -23,6 +26,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -35,6 +39,7 @@ import tech.pegasys.teku.api.migrated.ValidatorLivenessAtEpoch;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
@@ -77,6 +82,10 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
   private final List<RemoteValidatorApiChannel> failoverDelegates;
   private final boolean failoversSendSubnetSubscriptions;
   private final boolean failoversPublishSignedDuties;
+  private final PushedProposerDuties pushedProposerDuties;
+  private final AsyncRunner asyncRunner;
+  private final BeaconNodeLatencyTracker latencyTracker;
+  private final Optional<Integer> hedgedRequestsPercentile;
   private final LabelledMetric<Counter> failoverBeaconNodesRequestsCounter;
 
   public FailoverValidatorApiHandler(
@@ -85,12 +94,20 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
       final List<RemoteValidatorApiChannel> failoverDelegates,
       final boolean failoversSendSubnetSubscriptions,
       final boolean failoversPublishSignedDuties,
+      final PushedProposerDuties pushedProposerDuties,
+      final AsyncRunner asyncRunner,
+      final BeaconNodeLatencyTracker latencyTracker,
+      final Optional<Integer> hedgedRequestsPercentile,
       final MetricsSystem metricsSystem) {
     this.beaconNodeReadinessManager = beaconNodeReadinessManager;
     this.primaryDelegate = primaryDelegate;
     this.failoverDelegates = failoverDelegates;
     this.failoversSendSubnetSubscriptions = failoversSendSubnetSubscriptions;
     this.failoversPublishSignedDuties = failoversPublishSignedDuties;
+    this.pushedProposerDuties = pushedProposerDuties;
+    this.asyncRunner = asyncRunner;
+    this.latencyTracker = latencyTracker;
+    this.hedgedRequestsPercentile = hedgedRequestsPercentile;
     failoverBeaconNodesRequestsCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.VALIDATOR,
@@ -141,6 +158,11 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
 
   @Override
   public SafeFuture<Optional<ProposerDuties>> getProposerDuties(final UInt64 epoch) {
+    final Optional<ProposerDuties> maybePushedDuties =
+        pushedProposerDuties.getProposerDuties(epoch);
+    if (maybePushedDuties.isPresent()) {
+      return SafeFuture.completedFuture(maybePushedDuties);
+    }
     return tryRequestUntilSuccess(
         apiChannel -> apiChannel.getProposerDuties(epoch),
         BeaconNodeRequestLabels.GET_PROPOSER_DUTIES_REQUESTS_METHOD);
@@ -162,13 +184,18 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
                         blindedBlockCreatorCache.put(slot, apiChannel);
                       }
                     });
-    return tryRequestUntilSuccess(request, BeaconNodeRequestLabels.CREATE_UNSIGNED_BLOCK_METHOD);
+    if (blinded) {
+      // A blinded block can only be unblinded by the node which created it so don't hedge
+      return tryRequestUntilSuccess(request, BeaconNodeRequestLabels.CREATE_UNSIGNED_BLOCK_METHOD);
+    }
+    return tryHedgedRequestUntilSuccess(
+        request, BeaconNodeRequestLabels.CREATE_UNSIGNED_BLOCK_METHOD);
   }
 
   @Override
   public SafeFuture<Optional<AttestationData>> createAttestationData(
       final UInt64 slot, final int committeeIndex) {
-    return tryRequestUntilSuccess(
+    return tryHedgedRequestUntilSuccess(
         apiChannel -> apiChannel.createAttestationData(slot, committeeIndex),
         BeaconNodeRequestLabels.CREATE_ATTESTATION_METHOD);
   }
@@ -366,6 +393,102 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
             });
   }
 
+  /**
+   * Sends the given request to the primary Beacon Node and, if hedged requests are enabled and the
+   * response takes longer than the configured percentile of recent primary response times, sends
+   * the same request to the failover with the lowest latency. The first successful response is
+   * used. If the request fails on both nodes, the remaining failovers are tried in order of
+   * readiness as in {@link #tryRequestUntilSuccess(ValidatorApiChannelRequest, String)}.
+   */
+  private <T> SafeFuture<T> tryHedgedRequestUntilSuccess(
+      final ValidatorApiChannelRequest<T> request, final String method) {
+    if (failoverDelegates.isEmpty() || hedgedRequestsPercentile.isEmpty()) {
+      return tryRequestUntilSuccess(request, method);
+    }
+    final Optional<Long> maybeHedgeDelay =
+        latencyTracker.getLatencyPercentile(
+            primaryDelegate, method, hedgedRequestsPercentile.get());
+    final Optional<RemoteValidatorApiChannel> maybeHedgeDelegate = selectHedgeDelegate(method);
+    if (maybeHedgeDelay.isEmpty() || maybeHedgeDelegate.isEmpty()) {
+      return tryRequestUntilSuccess(request, method);
+    }
+    final RemoteValidatorApiChannel hedgeDelegate = maybeHedgeDelegate.get();
+    final Map<RemoteValidatorApiChannel, Throwable> capturedExceptions = new ConcurrentHashMap<>();
+    final SafeFuture<T> primaryResponse =
+        runPrimaryRequestWithConfiguredFailovers(request, method)
+            .catchAndRethrow(throwable -> capturedExceptions.put(primaryDelegate, throwable));
+    final SafeFuture<T> hedgeResponse = new SafeFuture<>();
+    final AtomicBoolean hedgeSent = new AtomicBoolean(false);
+    final Runnable sendHedgedRequest =
+        () -> {
+          if (hedgeSent.compareAndSet(false, true)) {
+            latencyTracker.onHedgedRequest(hedgeDelegate, method);
+            runFailoverRequest(hedgeDelegate, request, method)
+                .catchAndRethrow(throwable -> capturedExceptions.put(hedgeDelegate, throwable))
+                .propagateTo(hedgeResponse);
+          }
+        };
+    asyncRunner
+        .runAfterDelay(
+            () -> {
+              if (!primaryResponse.isDone()) {
+                sendHedgedRequest.run();
+              }
+            },
+            Duration.ofMillis(maybeHedgeDelay.get()))
+        .ifExceptionGetsHereRaiseABug();
+    // Don't wait for the delay if the primary has already failed
+    primaryResponse.finish(__ -> {}, __ -> sendHedgedRequest.run());
+
+    return SafeFuture.firstSuccess(
+            List.of(
+                primaryResponse.thenPeek(
+                    response -> {
+                      if (hedgeSent.get() && hasResult(response)) {
+                        latencyTracker.onHedgedRequestWin(primaryDelegate, method);
+                      }
+                    }),
+                hedgeResponse.thenPeek(
+                    response -> {
+                      if (hasResult(response)) {
+                        latencyTracker.onHedgedRequestWin(hedgeDelegate, method);
+                      }
+                    })))
+        .exceptionallyCompose(
+            __ -> {
+              final Iterator<RemoteValidatorApiChannel> remainingDelegates =
+                  Streams.stream(beaconNodeReadinessManager.getFailoversInOrderOfReadiness())
+                      .filter(delegate -> !delegate.equals(hedgeDelegate))
+                      .iterator();
+              if (!remainingDelegates.hasNext()) {
+                return SafeFuture.failedFuture(
+                    new FailoverRequestException(method, capturedExceptions));
+              }
+              return makeFailoverRequestUntilSuccess(
+                  remainingDelegates.next(),
+                  remainingDelegates,
+                  request,
+                  method,
+                  capturedExceptions);
+            });
+  }
+
+  private Optional<RemoteValidatorApiChannel> selectHedgeDelegate(final String method) {
+    return failoverDelegates.stream()
+        .filter(beaconNodeReadinessManager::isReady)
+        .min(
+            Comparator.comparing(
+                delegate ->
+                    latencyTracker
+                        .getLatencyPercentile(delegate, method, hedgedRequestsPercentile.get())
+                        .orElse(Long.MAX_VALUE)));
+  }
+
+  /** An empty response means the node had nothing to return so isn't counted as a hedge win. */
+  private static boolean hasResult(final Object response) {
+    return !(response instanceof Optional) || ((Optional<?>) response).isPresent();
+  }
+
   private <T> SafeFuture<T> makeFailoverRequestUntilSuccess(
       final RemoteValidatorApiChannel currentFailoverDelegate,
       final Iterator<RemoteValidatorApiChannel> failoverDelegates,
@@ -416,7 +539,7 @@ public class FailoverValidatorApiHandler implements ValidatorApiChannel {
       final String method) {
     final SafeFuture<T> futureResponse;
     if (!failIfNotReady || beaconNodeReadinessManager.isReady(delegate)) {
-      futureResponse = request.run(delegate);
+      futureResponse = latencyTracker.recordLatency(delegate, method, () -> request.run(delegate));
     } else {
       final RemoteServiceNotAvailableException exception =
           new RemoteServiceNotAvailableException(
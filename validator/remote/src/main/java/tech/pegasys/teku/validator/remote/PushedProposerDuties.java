@@ -0,0 +1,62 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.validator.remote;
+
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.validator.api.ProposerDuties;
+
+/**
+ * Proposer duties sent by the beacon node on the event stream, so they don't need to be requested.
+ *
+ * <p>The beacon node sends updated duties shortly after the head event which changes the dependent
+ * root. Duties are only used while their dependent root matches the latest head event, so until
+ * they arrive, or if an update is missed, the duties are requested from the beacon node as usual.
+ *
+ * <p>Only proposer duties are pushed. They are the same for every validator client, so the beacon
+ * node calculates them once per dependent root and sends the same event to every subscriber.
+ * Attester and sync committee duties depend on each client's validator indices, so pushing them
+ * would mean either sending the duties of every active validator to every client or keeping an
+ * index filter per subscription. They are still requested by the duty loaders, which already only
+ * do so when the dependent root changes.
+ */
+public class PushedProposerDuties {
+  private static final int MAX_EPOCHS = 2;
+
+  private final NavigableMap<UInt64, ProposerDuties> dutiesByEpoch = new TreeMap<>();
+  private Optional<Bytes32> currentDutyDependentRoot = Optional.empty();
+
+  public synchronized void onProposerDuties(final UInt64 epoch, final ProposerDuties duties) {
+    dutiesByEpoch.put(epoch, duties);
+    while (dutiesByEpoch.size() > MAX_EPOCHS) {
+      dutiesByEpoch.pollFirstEntry();
+    }
+  }
+
+  public synchronized void onHeadUpdate(final Bytes32 currentDutyDependentRoot) {
+    this.currentDutyDependentRoot = Optional.of(currentDutyDependentRoot);
+  }
+
+  public synchronized void clear() {
+    dutiesByEpoch.clear();
+    currentDutyDependentRoot = Optional.empty();
+  }
+
+  public synchronized Optional<ProposerDuties> getProposerDuties(final UInt64 epoch) {
+    return Optional.ofNullable(dutiesByEpoch.get(epoch))
+        .filter(duties -> currentDutyDependentRoot.equals(Optional.of(duties.getDependentRoot())));
+  }
+}
@@ -17,6 +17,7 @@ import com.google.common.base.Preconditions;
 import java.net.URI;
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -83,6 +84,7 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
             okHttpClient,
             spec,
             validatorConfig.isValidatorClientUseSszBlocksEnabled(),
+            validatorConfig.isValidatorClientUseSszAttestationsEnabled(),
             asyncRunner);
     final List<RemoteValidatorApiChannel> failoverValidatorApis =
         failoverEndpoints.stream()
@@ -93,6 +95,7 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
                         okHttpClient,
                         spec,
                         validatorConfig.isValidatorClientUseSszBlocksEnabled(),
+                        validatorConfig.isValidatorClientUseSszAttestationsEnabled(),
                         asyncRunner))
             .collect(Collectors.toList());
 
@@ -118,6 +121,7 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
 
     eventChannels.subscribe(ValidatorTimingChannel.class, beaconNodeReadinessManager);
 
+    final PushedProposerDuties pushedProposerDuties = new PushedProposerDuties();
     final ValidatorApiChannel validatorApi =
         new MetricRecordingValidatorApiChannel(
             metricsSystem,
@@ -127,6 +131,12 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
                 failoverValidatorApis,
                 validatorConfig.isFailoversSendSubnetSubscriptionsEnabled(),
                 validatorConfig.isFailoversPublishSignedDutiesEnabled(),
+                pushedProposerDuties,
+                asyncRunner,
+                new BeaconNodeLatencyTracker(metricsSystem, serviceConfig.getTimeProvider()),
+                validatorConfig.isHedgedRequestsEnabled()
+                    ? Optional.of(validatorConfig.getHedgedRequestsPercentile())
+                    : Optional.empty(),
                 metricsSystem));
 
     final EventSourceBeaconChainEventAdapter beaconChainEventAdapter =
@@ -143,8 +153,10 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
                 validatorTimingChannel,
                 spec),
             validatorTimingChannel,
+            pushedProposerDuties,
             metricsSystem,
-            validatorConfig.generateEarlyAttestations());
+            validatorConfig.generateEarlyAttestations(),
+            validatorConfig.isProposerDutiesPushEnabled());
 
     eventChannels.subscribe(RemoteBeaconNodeSyncingChannel.class, beaconChainEventAdapter);
 
@@ -34,6 +34,7 @@ import tech.pegasys.teku.infrastructure.logging.ValidatorLogger;
 import tech.pegasys.teku.validator.api.ValidatorTimingChannel;
 import tech.pegasys.teku.validator.beaconnode.BeaconChainEventAdapter;
 import tech.pegasys.teku.validator.remote.BeaconNodeReadinessManager;
+import tech.pegasys.teku.validator.remote.PushedProposerDuties;
 import tech.pegasys.teku.validator.remote.RemoteBeaconNodeSyncingChannel;
 import tech.pegasys.teku.validator.remote.RemoteValidatorApiChannel;
 import tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod;
@@ -57,6 +58,7 @@ public class EventSourceBeaconChainEventAdapter
   private final ValidatorLogger validatorLogger;
   private final BeaconChainEventAdapter timeBasedEventAdapter;
   private final EventSourceHandler eventSourceHandler;
+  private final boolean proposerDutiesPushEnabled;
 
   public EventSourceBeaconChainEventAdapter(
       final BeaconNodeReadinessManager beaconNodeReadinessManager,
@@ -66,8 +68,10 @@ public class EventSourceBeaconChainEventAdapter
       final ValidatorLogger validatorLogger,
       final BeaconChainEventAdapter timeBasedEventAdapter,
       final ValidatorTimingChannel validatorTimingChannel,
+      final PushedProposerDuties pushedProposerDuties,
       final MetricsSystem metricsSystem,
-      final boolean generateEarlyAttestations) {
+      final boolean generateEarlyAttestations,
+      final boolean proposerDutiesPushEnabled) {
     this.beaconNodeReadinessManager = beaconNodeReadinessManager;
     this.primaryBeaconNodeApi = primaryBeaconNodeApi;
     this.failoverBeaconNodeApis = failoverBeaconNodeApis;
@@ -75,7 +79,9 @@ public class EventSourceBeaconChainEventAdapter
     this.validatorLogger = validatorLogger;
     this.timeBasedEventAdapter = timeBasedEventAdapter;
     this.eventSourceHandler =
-        new EventSourceHandler(validatorTimingChannel, metricsSystem, generateEarlyAttestations);
+        new EventSourceHandler(
+            validatorTimingChannel, pushedProposerDuties, metricsSystem, generateEarlyAttestations);
+    this.proposerDutiesPushEnabled = proposerDutiesPushEnabled;
   }
 
   @Override
@@ -135,9 +141,12 @@ public class EventSourceBeaconChainEventAdapter
   }
 
   private HttpUrl createHeadEventSourceUrl(final HttpUrl endpoint) {
+    final String topics =
+        proposerDutiesPushEnabled
+            ? EventType.head + "," + EventType.proposer_duties
+            : EventType.head.name();
     final HttpUrl eventSourceUrl =
-        endpoint.resolve(
-            ValidatorApiMethod.EVENTS.getPath(emptyMap()) + "?topics=" + EventType.head);
+        endpoint.resolve(ValidatorApiMethod.EVENTS.getPath(emptyMap()) + "?topics=" + topics);
     return Preconditions.checkNotNull(eventSourceUrl);
   }
 
@@ -20,6 +20,7 @@ import com.google.common.base.Throwables;
 import com.launchdarkly.eventsource.EventHandler;
 import com.launchdarkly.eventsource.MessageEvent;
 import java.net.SocketTimeoutException;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -27,9 +28,13 @@ import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.api.response.v1.EventType;
 import tech.pegasys.teku.api.response.v1.HeadEvent;
+import tech.pegasys.teku.api.response.v1.ProposerDutiesEvent;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.provider.JsonProvider;
+import tech.pegasys.teku.validator.api.ProposerDuties;
+import tech.pegasys.teku.validator.api.ProposerDuty;
 import tech.pegasys.teku.validator.api.ValidatorTimingChannel;
+import tech.pegasys.teku.validator.remote.PushedProposerDuties;
 
 class EventSourceHandler implements EventHandler {
 
@@ -38,6 +43,7 @@ class EventSourceHandler implements EventHandler {
   private final JsonProvider jsonProvider = new JsonProvider();
 
   private final ValidatorTimingChannel validatorTimingChannel;
+  private final PushedProposerDuties pushedProposerDuties;
   private final Counter disconnectCounter;
   private final Counter invalidEventCounter;
   private final Counter timeoutCounter;
@@ -46,9 +52,11 @@ class EventSourceHandler implements EventHandler {
 
   public EventSourceHandler(
       final ValidatorTimingChannel validatorTimingChannel,
+      final PushedProposerDuties pushedProposerDuties,
       final MetricsSystem metricsSystem,
       final boolean generateEarlyAttestations) {
     this.validatorTimingChannel = validatorTimingChannel;
+    this.pushedProposerDuties = pushedProposerDuties;
     invalidEventCounter =
         metricsSystem.createCounter(
             TekuMetricCategory.VALIDATOR,
@@ -72,6 +80,7 @@ class EventSourceHandler implements EventHandler {
     VALIDATOR_LOGGER.connectedToBeaconNodeEventStream();
     // We might have missed some events while connecting or reconnected so ensure the duties are
     // recalculated
+    pushedProposerDuties.clear();
     validatorTimingChannel.onPossibleMissedEvents();
   }
 
@@ -85,10 +94,15 @@ class EventSourceHandler implements EventHandler {
   public void onMessage(final String event, final MessageEvent messageEvent) {
     LOG.trace("Received {} event from beacon node {}", event, messageEvent.getOrigin());
     try {
-      if (EventType.valueOf(event) == EventType.head) {
-        handleHeadEvent(messageEvent.getData());
-      } else {
-        LOG.warn("Received unexpected event type: " + event);
+      switch (EventType.valueOf(event)) {
+        case head:
+          handleHeadEvent(messageEvent.getData());
+          break;
+        case proposer_duties:
+          handleProposerDutiesEvent(messageEvent.getData());
+          break;
+        default:
+          LOG.warn("Received unexpected event type: " + event);
       }
     } catch (final IllegalArgumentException | JsonProcessingException e) {
       invalidEventCounter.inc();
@@ -102,6 +116,11 @@ class EventSourceHandler implements EventHandler {
 
   private void handleHeadEvent(final String data) throws JsonProcessingException {
     final HeadEvent headEvent = jsonProvider.jsonToObject(data, HeadEvent.class);
+    if (headEvent.currentDutyDependentRoot != null) {
+      pushedProposerDuties.onHeadUpdate(headEvent.currentDutyDependentRoot);
+    } else {
+      pushedProposerDuties.clear();
+    }
     validatorTimingChannel.onHeadUpdate(
         headEvent.slot,
         headEvent.previousDutyDependentRoot,
@@ -112,6 +131,23 @@ class EventSourceHandler implements EventHandler {
     }
   }
 
+  private void handleProposerDutiesEvent(final String data) throws JsonProcessingException {
+    final ProposerDutiesEvent event = jsonProvider.jsonToObject(data, ProposerDutiesEvent.class);
+    pushedProposerDuties.onProposerDuties(
+        event.epoch,
+        new ProposerDuties(
+            event.dependentRoot,
+            event.data.stream()
+                .map(
+                    duty ->
+                        new ProposerDuty(
+                            duty.pubkey.asBLSPublicKey(),
+                            duty.validatorIndex.intValue(),
+                            duty.slot))
+                .collect(Collectors.toList()),
+            event.executionOptimistic));
+  }
+
   @Override
   public void onComment(final String comment) {}
 
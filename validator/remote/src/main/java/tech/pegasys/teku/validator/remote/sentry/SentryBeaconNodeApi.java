@@ -36,8 +36,10 @@ import tech.pegasys.teku.validator.beaconnode.BeaconNodeApi;
 import tech.pegasys.teku.validator.beaconnode.GenesisDataProvider;
 import tech.pegasys.teku.validator.beaconnode.TimeBasedEventAdapter;
 import tech.pegasys.teku.validator.beaconnode.metrics.MetricRecordingValidatorApiChannel;
+import tech.pegasys.teku.validator.remote.BeaconNodeLatencyTracker;
 import tech.pegasys.teku.validator.remote.BeaconNodeReadinessManager;
 import tech.pegasys.teku.validator.remote.FailoverValidatorApiHandler;
+import tech.pegasys.teku.validator.remote.PushedProposerDuties;
 import tech.pegasys.teku.validator.remote.RemoteBeaconNodeEndpoints;
 import tech.pegasys.teku.validator.remote.RemoteBeaconNodeSyncingChannel;
 import tech.pegasys.teku.validator.remote.RemoteValidatorApiChannel;
@@ -99,6 +101,10 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
 
     eventChannels.subscribe(ValidatorTimingChannel.class, beaconNodeReadinessManager);
 
+    // Shared by every handler as its metrics can only be registered once
+    final BeaconNodeLatencyTracker latencyTracker =
+        new BeaconNodeLatencyTracker(metricsSystem, serviceConfig.getTimeProvider());
+    final PushedProposerDuties pushedProposerDuties = new PushedProposerDuties();
     final ValidatorApiChannel dutiesProviderValidatorApi =
         new MetricRecordingValidatorApiChannel(
             serviceConfig.getMetricsSystem(),
@@ -108,6 +114,12 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
                 dutiesProviderFailoverValidatorApiChannel,
                 validatorConfig.isFailoversSendSubnetSubscriptionsEnabled(),
                 validatorConfig.isFailoversPublishSignedDutiesEnabled(),
+                pushedProposerDuties,
+                asyncRunner,
+                latencyTracker,
+                validatorConfig.isHedgedRequestsEnabled()
+                    ? Optional.of(validatorConfig.getHedgedRequestsPercentile())
+                    : Optional.empty(),
                 serviceConfig.getMetricsSystem()));
 
     final Optional<ValidatorApiChannel> blockHandlerValidatorApi =
@@ -122,6 +134,7 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
                         sentryNodesHttpClient,
                         spec,
                         asyncRunner,
+                        latencyTracker,
                         metricsSystem));
 
     final Optional<ValidatorApiChannel> attestationPublisherValidatorApi =
@@ -136,6 +149,7 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
                         sentryNodesHttpClient,
                         spec,
                         asyncRunner,
+                        latencyTracker,
                         metricsSystem));
 
     final ValidatorApiChannel sentryValidatorApi =
@@ -157,8 +171,10 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
                 validatorTimingChannel,
                 spec),
             validatorTimingChannel,
+            pushedProposerDuties,
             serviceConfig.getMetricsSystem(),
-            validatorConfig.generateEarlyAttestations());
+            validatorConfig.generateEarlyAttestations(),
+            validatorConfig.isProposerDutiesPushEnabled());
 
     eventChannels.subscribe(RemoteBeaconNodeSyncingChannel.class, beaconChainEventAdapter);
 
@@ -176,6 +192,7 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
         httpClient,
         spec,
         validatorConfig.isValidatorClientUseSszBlocksEnabled(),
+        validatorConfig.isValidatorClientUseSszAttestationsEnabled(),
         asyncRunner);
   }
 
@@ -194,6 +211,7 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
                         httpClient,
                         spec,
                         validatorConfig.isValidatorClientUseSszBlocksEnabled(),
+                        validatorConfig.isValidatorClientUseSszAttestationsEnabled(),
                         asyncRunner))
             .collect(Collectors.toList());
 
@@ -213,6 +231,7 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
       final OkHttpClient httpClient,
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final BeaconNodeLatencyTracker latencyTracker,
       final MetricsSystem metricsSystem) {
     final RemoteBeaconNodeEndpoints remoteBeaconNodeEndpoints =
         new RemoteBeaconNodeEndpoints(endpoints);
@@ -231,6 +250,10 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
             failoverValidatorApis,
             validatorConfig.isFailoversSendSubnetSubscriptionsEnabled(),
             validatorConfig.isFailoversPublishSignedDutiesEnabled(),
+            new PushedProposerDuties(),
+            asyncRunner,
+            latencyTracker,
+            Optional.empty(),
             metricsSystem));
   }
 
@@ -13,12 +13,14 @@
 
 package tech.pegasys.teku.validator.remote.typedef;
 
+import java.util.List;
 import java.util.Optional;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.api.response.v1.beacon.PostDataFailureResponse;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -27,6 +29,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.builder.SignedValidatorRegistration;
 import tech.pegasys.teku.spec.datastructures.genesis.GenesisData;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
 import tech.pegasys.teku.validator.api.SendSignedBlockResult;
 import tech.pegasys.teku.validator.api.required.SyncingStatus;
@@ -35,6 +38,7 @@ import tech.pegasys.teku.validator.remote.typedef.handlers.CreateBlockRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.GetGenesisRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.GetSyncingStatusRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.RegisterValidatorsRequest;
+import tech.pegasys.teku.validator.remote.typedef.handlers.SendSignedAttestationsRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.SendSignedBlockRequest;
 
 public class OkHttpValidatorTypeDefClient {
@@ -51,12 +55,22 @@ public class OkHttpValidatorTypeDefClient {
   private final SendSignedBlockRequest sendSignedBlockRequest;
   private final RegisterValidatorsRequest registerValidatorsRequest;
   private final CreateAttestationDataRequest createAttestationDataRequest;
+  private final SendSignedAttestationsRequest sendSignedAttestationsRequest;
 
   public OkHttpValidatorTypeDefClient(
       final OkHttpClient okHttpClient,
       final HttpUrl baseEndpoint,
       final Spec spec,
       final boolean preferSszBlockEncoding) {
+    this(okHttpClient, baseEndpoint, spec, preferSszBlockEncoding, false);
+  }
+
+  public OkHttpValidatorTypeDefClient(
+      final OkHttpClient okHttpClient,
+      final HttpUrl baseEndpoint,
+      final Spec spec,
+      final boolean preferSszBlockEncoding,
+      final boolean preferSszAttestationEncoding) {
     this.okHttpClient = okHttpClient;
     this.baseEndpoint = baseEndpoint;
     this.spec = spec;
@@ -68,7 +82,10 @@ public class OkHttpValidatorTypeDefClient {
     this.registerValidatorsRequest =
         new RegisterValidatorsRequest(baseEndpoint, okHttpClient, false);
     this.createAttestationDataRequest =
-        new CreateAttestationDataRequest(baseEndpoint, okHttpClient);
+        new CreateAttestationDataRequest(baseEndpoint, okHttpClient, preferSszAttestationEncoding);
+    this.sendSignedAttestationsRequest =
+        new SendSignedAttestationsRequest(
+            baseEndpoint, okHttpClient, spec, preferSszAttestationEncoding);
   }
 
   public SyncingStatus getSyncingStatus() {
@@ -114,4 +131,9 @@ public class OkHttpValidatorTypeDefClient {
       final UInt64 slot, final int committeeIndex) {
     return createAttestationDataRequest.createAttestationData(slot, committeeIndex);
   }
+
+  public Optional<PostDataFailureResponse> sendSignedAttestations(
+      final List<Attestation> attestations) {
+    return sendSignedAttestationsRequest.sendSignedAttestations(attestations);
+  }
 }
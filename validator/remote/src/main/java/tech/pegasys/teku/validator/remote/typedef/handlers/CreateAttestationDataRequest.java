@@ -13,13 +13,24 @@
 
 package tech.pegasys.teku.validator.remote.typedef.handlers;
 
+import static java.util.Collections.emptyMap;
 import static tech.pegasys.teku.ethereum.json.types.SharedApiTypes.withDataWrapper;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 
+import com.google.common.net.MediaType;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
 import tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod;
@@ -27,8 +38,25 @@ import tech.pegasys.teku.validator.remote.typedef.ResponseHandler;
 
 public class CreateAttestationDataRequest extends AbstractTypeDefRequest {
 
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final DeserializableTypeDefinition<AttestationData> RESPONSE_TYPE =
+      withDataWrapper(AttestationData.SSZ_SCHEMA);
+
+  private final boolean preferSszEncoding;
+  private final ResponseHandler<AttestationData> responseHandler =
+      new ResponseHandler<>(RESPONSE_TYPE).withHandler(SC_OK, this::handleAttestationDataResult);
+
   public CreateAttestationDataRequest(final HttpUrl baseEndpoint, final OkHttpClient okHttpClient) {
+    this(baseEndpoint, okHttpClient, false);
+  }
+
+  public CreateAttestationDataRequest(
+      final HttpUrl baseEndpoint,
+      final OkHttpClient okHttpClient,
+      final boolean preferSszEncoding) {
     super(baseEndpoint, okHttpClient);
+    this.preferSszEncoding = preferSszEncoding;
   }
 
   public Optional<AttestationData> createAttestationData(
@@ -36,9 +64,28 @@ public class CreateAttestationDataRequest extends AbstractTypeDefRequest {
     final Map<String, String> queryParams = new HashMap<>();
     queryParams.put("slot", slot.toString());
     queryParams.put("committee_index", Integer.toString(committeeIndex));
+    final Map<String, String> headers = new HashMap<>();
+    if (preferSszEncoding) {
+      // application/octet-stream is preferred, but will accept application/json
+      headers.put("Accept", "application/octet-stream;q=0.9, application/json;q=0.4");
+    }
     return get(
-        ValidatorApiMethod.GET_ATTESTATION_DATA,
-        queryParams,
-        new ResponseHandler<>(withDataWrapper(AttestationData.SSZ_SCHEMA)));
+        ValidatorApiMethod.GET_ATTESTATION_DATA, emptyMap(), queryParams, headers, responseHandler);
+  }
+
+  private Optional<AttestationData> handleAttestationDataResult(
+      final Request request, final Response response) {
+    try {
+      final String responseContentType = response.header("Content-Type");
+      if (responseContentType != null
+          && MediaType.parse(responseContentType).is(MediaType.OCTET_STREAM)) {
+        return Optional.of(
+            AttestationData.SSZ_SCHEMA.sszDeserialize(Bytes.of(response.body().bytes())));
+      }
+      return Optional.of(JsonUtil.parse(response.body().string(), RESPONSE_TYPE));
+    } catch (IOException e) {
+      LOG.trace("Failed to parse response object creating attestation data", e);
+    }
+    return Optional.empty();
   }
 }
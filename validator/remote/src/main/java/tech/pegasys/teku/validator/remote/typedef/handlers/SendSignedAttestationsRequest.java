@@ -0,0 +1,116 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.remote.typedef.handlers;
+
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORTED_MEDIA_TYPE;
+import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_SIGNED_ATTESTATION;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import tech.pegasys.teku.api.response.v1.beacon.PostDataFailureResponse;
+import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.provider.JsonProvider;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.spec.schemas.ApiSchemas;
+import tech.pegasys.teku.validator.remote.typedef.ResponseHandler;
+
+public class SendSignedAttestationsRequest extends AbstractTypeDefRequest {
+
+  private final JsonProvider jsonProvider = new JsonProvider();
+
+  private final ResponseHandler<PostDataFailureResponse> jsonResponseHandler =
+      new ResponseHandler<PostDataFailureResponse>()
+          .withHandler(SC_BAD_REQUEST, this::handleBadRequest);
+
+  private final ResponseHandler<PostDataFailureResponse> sszResponseHandler =
+      new ResponseHandler<PostDataFailureResponse>()
+          .withHandler(SC_BAD_REQUEST, this::handleBadRequest)
+          .withHandler(SC_UNSUPPORTED_MEDIA_TYPE, this::handleUnsupportedSszRequest);
+
+  private final DeserializableTypeDefinition<List<Attestation>> attestationsTypeDefinition;
+  private final SszListSchema<Attestation, ?> attestationsSchema;
+  private final AtomicBoolean preferSszEncoding;
+
+  public SendSignedAttestationsRequest(
+      final HttpUrl baseEndpoint,
+      final OkHttpClient okHttpClient,
+      final Spec spec,
+      final boolean preferSszEncoding) {
+    super(baseEndpoint, okHttpClient);
+    final AttestationSchema attestationSchema =
+        spec.getGenesisSchemaDefinitions().getAttestationSchema();
+    this.attestationsTypeDefinition =
+        DeserializableTypeDefinition.listOf(attestationSchema.getJsonTypeDefinition());
+    this.attestationsSchema = ApiSchemas.createAttestationsSchema(attestationSchema);
+    this.preferSszEncoding = new AtomicBoolean(preferSszEncoding);
+  }
+
+  public Optional<PostDataFailureResponse> sendSignedAttestations(
+      final List<Attestation> attestations) {
+    return preferSszEncoding.get()
+        ? sendSignedAttestationsAsSszOrFallback(attestations)
+        : sendSignedAttestationsAsJson(attestations);
+  }
+
+  private Optional<PostDataFailureResponse> sendSignedAttestationsAsSszOrFallback(
+      final List<Attestation> attestations) {
+    final Optional<PostDataFailureResponse> result = sendSignedAttestationsAsSsz(attestations);
+    if (!preferSszEncoding.get()) {
+      return sendSignedAttestationsAsJson(attestations);
+    }
+    return result;
+  }
+
+  private Optional<PostDataFailureResponse> sendSignedAttestationsAsSsz(
+      final List<Attestation> attestations) {
+    return postOctetStream(
+        SEND_SIGNED_ATTESTATION,
+        Collections.emptyMap(),
+        attestationsSchema.createFromElements(attestations).sszSerialize().toArray(),
+        sszResponseHandler);
+  }
+
+  private Optional<PostDataFailureResponse> sendSignedAttestationsAsJson(
+      final List<Attestation> attestations) {
+    return postJson(
+        SEND_SIGNED_ATTESTATION,
+        Collections.emptyMap(),
+        attestations,
+        attestationsTypeDefinition,
+        jsonResponseHandler);
+  }
+
+  private Optional<PostDataFailureResponse> handleBadRequest(
+      final Request request, final Response response) throws IOException {
+    return Optional.of(
+        jsonProvider.jsonToObject(response.body().string(), PostDataFailureResponse.class));
+  }
+
+  private Optional<PostDataFailureResponse> handleUnsupportedSszRequest(
+      final Request request, final Response response) {
+    preferSszEncoding.set(false);
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.remote;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+
+class BeaconNodeLatencyTrackerTest {
+  private static final String METHOD = "method";
+
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(0);
+  private final RemoteValidatorApiChannel delegate = mock(RemoteValidatorApiChannel.class);
+
+  private final BeaconNodeLatencyTracker tracker =
+      new BeaconNodeLatencyTracker(new StubMetricsSystem(), timeProvider);
+
+  @BeforeEach
+  void setUp() {
+    when(delegate.getEndpoint()).thenReturn(HttpUrl.get("http://localhost:5051"));
+  }
+
+  @Test
+  void shouldNotReportPercentileUntilEnoughSamplesRecorded() {
+    for (int i = 0; i < BeaconNodeLatencyTracker.MIN_SAMPLES - 1; i++) {
+      recordRequest(10);
+    }
+    assertThat(tracker.getLatencyPercentile(delegate, METHOD, 50)).isEmpty();
+
+    recordRequest(10);
+    assertThat(tracker.getLatencyPercentile(delegate, METHOD, 50)).contains(10L);
+  }
+
+  @Test
+  void shouldCalculatePercentiles() {
+    for (int i = 1; i <= 100; i++) {
+      recordRequest(i);
+    }
+
+    assertThat(tracker.getLatencyPercentile(delegate, METHOD, 50)).contains(50L);
+    assertThat(tracker.getLatencyPercentile(delegate, METHOD, 95)).contains(95L);
+    assertThat(tracker.getLatencyPercentile(delegate, METHOD, 100)).contains(100L);
+  }
+
+  @Test
+  void shouldOnlyKeepMostRecentSamples() {
+    for (int i = 0; i < BeaconNodeLatencyTracker.MAX_SAMPLES; i++) {
+      recordRequest(1000);
+    }
+    for (int i = 0; i < BeaconNodeLatencyTracker.MAX_SAMPLES; i++) {
+      recordRequest(10);
+    }
+
+    assertThat(tracker.getLatencyPercentile(delegate, METHOD, 100)).contains(10L);
+  }
+
+  @Test
+  void shouldNotRecordFailedRequests() {
+    for (int i = 0; i < BeaconNodeLatencyTracker.MIN_SAMPLES; i++) {
+      tracker.recordLatency(
+          delegate, METHOD, () -> SafeFuture.failedFuture(new IllegalStateException("oops")));
+    }
+
+    assertThat(tracker.getLatencyPercentile(delegate, METHOD, 50)).isEmpty();
+  }
+
+  private void recordRequest(final long latencyMillis) {
+    final SafeFuture<Optional<String>> response = new SafeFuture<>();
+    tracker.recordLatency(delegate, METHOD, () -> response);
+    timeProvider.advanceTimeByMillis(latencyMillis);
+    response.complete(Optional.empty());
+  }
+}
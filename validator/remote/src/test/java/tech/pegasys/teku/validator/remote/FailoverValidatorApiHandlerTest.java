@@ -49,9 +49,11 @@ import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.SafeFutureAssert;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -86,6 +88,8 @@ class FailoverValidatorApiHandlerTest {
   private static final DataStructureUtil DATA_STRUCTURE_UTIL = new DataStructureUtil(SPEC);
 
   private final StubMetricsSystem stubMetricsSystem = new StubMetricsSystem();
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(0);
 
   private BeaconNodeReadinessManager beaconNodeReadinessManager;
 
@@ -116,14 +120,7 @@ class FailoverValidatorApiHandlerTest {
     when(failoverApiChannel1.getEndpoint()).thenReturn(randomHttpUrlGenerator.get());
     when(failoverApiChannel2.getEndpoint()).thenReturn(randomHttpUrlGenerator.get());
 
-    failoverApiHandler =
-        new FailoverValidatorApiHandler(
-            beaconNodeReadinessManager,
-            primaryApiChannel,
-            failoverDelegates,
-            true,
-            true,
-            stubMetricsSystem);
+    failoverApiHandler = createFailoverApiHandler(failoverDelegates, true, true, Optional.empty());
   }
 
   @ParameterizedTest(name = "{0}")
@@ -234,14 +231,7 @@ class FailoverValidatorApiHandlerTest {
   @MethodSource("getRequestsUsingFailover")
   <T> void requestFailsAndNoFailoversConfigured(final ValidatorApiChannelRequest<T> request) {
 
-    failoverApiHandler =
-        new FailoverValidatorApiHandler(
-            beaconNodeReadinessManager,
-            primaryApiChannel,
-            List.of(),
-            true,
-            true,
-            stubMetricsSystem);
+    failoverApiHandler = createFailoverApiHandler(List.of(), true, true, Optional.empty());
 
     // readiness is ignored
     when(beaconNodeReadinessManager.isReady(primaryApiChannel)).thenReturn(false);
@@ -268,13 +258,8 @@ class FailoverValidatorApiHandlerTest {
       final T response) {
 
     failoverApiHandler =
-        new FailoverValidatorApiHandler(
-            beaconNodeReadinessManager,
-            primaryApiChannel,
-            List.of(failoverApiChannel1, failoverApiChannel2),
-            false,
-            true,
-            stubMetricsSystem);
+        createFailoverApiHandler(
+            List.of(failoverApiChannel1, failoverApiChannel2), false, true, Optional.empty());
 
     setupSuccesses(request, response, primaryApiChannel);
 
@@ -308,13 +293,8 @@ class FailoverValidatorApiHandlerTest {
       final T response) {
 
     failoverApiHandler =
-        new FailoverValidatorApiHandler(
-            beaconNodeReadinessManager,
-            primaryApiChannel,
-            List.of(failoverApiChannel1, failoverApiChannel2),
-            true,
-            false,
-            stubMetricsSystem);
+        createFailoverApiHandler(
+            List.of(failoverApiChannel1, failoverApiChannel2), true, false, Optional.empty());
 
     setupSuccesses(request, response, primaryApiChannel);
 
@@ -379,14 +359,7 @@ class FailoverValidatorApiHandlerTest {
       final String methodLabel,
       final T response) {
 
-    failoverApiHandler =
-        new FailoverValidatorApiHandler(
-            beaconNodeReadinessManager,
-            primaryApiChannel,
-            List.of(),
-            true,
-            true,
-            stubMetricsSystem);
+    failoverApiHandler = createFailoverApiHandler(List.of(), true, true, Optional.empty());
 
     // readiness is ignored
     when(beaconNodeReadinessManager.isReady(primaryApiChannel)).thenReturn(false);
@@ -605,6 +578,176 @@ class FailoverValidatorApiHandlerTest {
     verify(failoverApiChannel2, never()).sendSignedBlock(blindedBlock);
   }
 
+  @Test
+  void createAttestationData_shouldSendHedgedRequestWhenPrimaryIsSlow() {
+    failoverApiHandler =
+        createFailoverApiHandler(List.of(failoverApiChannel1), true, true, Optional.of(95));
+    final UInt64 slot = UInt64.ONE;
+    final Optional<AttestationData> response =
+        Optional.of(DATA_STRUCTURE_UTIL.randomAttestationData());
+    final SafeFuture<Optional<AttestationData>> primaryResponse = new SafeFuture<>();
+    recordPrimaryLatencySamples(slot, 100);
+
+    when(primaryApiChannel.createAttestationData(slot, 0)).thenReturn(primaryResponse);
+    when(failoverApiChannel1.createAttestationData(slot, 0))
+        .thenReturn(SafeFuture.completedFuture(response));
+
+    final SafeFuture<Optional<AttestationData>> result =
+        failoverApiHandler.createAttestationData(slot, 0);
+    assertThat(result).isNotDone();
+    verifyNoInteractions(failoverApiChannel1);
+
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result).isCompletedWithValue(response);
+    verify(failoverApiChannel1).createAttestationData(slot, 0);
+    assertThat(getHedgedRequestCounterValue(BeaconNodeLatencyTracker.HEDGED_REQUESTS_COUNTER_NAME))
+        .isEqualTo(1);
+    assertThat(
+            getHedgedRequestCounterValue(BeaconNodeLatencyTracker.HEDGED_REQUEST_WINS_COUNTER_NAME))
+        .isEqualTo(1);
+  }
+
+  @Test
+  void createAttestationData_shouldNotCountEmptyHedgedResponseAsWin() {
+    failoverApiHandler =
+        createFailoverApiHandler(List.of(failoverApiChannel1), true, true, Optional.of(95));
+    final UInt64 slot = UInt64.ONE;
+    recordPrimaryLatencySamples(slot, 100);
+
+    when(primaryApiChannel.createAttestationData(slot, 0)).thenReturn(new SafeFuture<>());
+    when(failoverApiChannel1.createAttestationData(slot, 0))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+
+    final SafeFuture<Optional<AttestationData>> result =
+        failoverApiHandler.createAttestationData(slot, 0);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result).isCompletedWithValue(Optional.empty());
+    assertThat(getHedgedRequestCounterValue(BeaconNodeLatencyTracker.HEDGED_REQUESTS_COUNTER_NAME))
+        .isEqualTo(1);
+    assertThat(
+            getHedgedRequestCounterValue(BeaconNodeLatencyTracker.HEDGED_REQUEST_WINS_COUNTER_NAME))
+        .isZero();
+  }
+
+  @Test
+  void createAttestationData_shouldNotSendHedgedRequestWhenPrimaryRespondsInTime() {
+    failoverApiHandler =
+        createFailoverApiHandler(List.of(failoverApiChannel1), true, true, Optional.of(95));
+    final UInt64 slot = UInt64.ONE;
+    final Optional<AttestationData> response =
+        Optional.of(DATA_STRUCTURE_UTIL.randomAttestationData());
+    final SafeFuture<Optional<AttestationData>> primaryResponse = new SafeFuture<>();
+    recordPrimaryLatencySamples(slot, 100);
+
+    when(primaryApiChannel.createAttestationData(slot, 0)).thenReturn(primaryResponse);
+
+    final SafeFuture<Optional<AttestationData>> result =
+        failoverApiHandler.createAttestationData(slot, 0);
+    primaryResponse.complete(response);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result).isCompletedWithValue(response);
+    verifyNoInteractions(failoverApiChannel1);
+  }
+
+  @Test
+  void createAttestationData_shouldSendHedgedRequestImmediatelyWhenPrimaryFails() {
+    failoverApiHandler =
+        createFailoverApiHandler(List.of(failoverApiChannel1), true, true, Optional.of(95));
+    final UInt64 slot = UInt64.ONE;
+    final Optional<AttestationData> response =
+        Optional.of(DATA_STRUCTURE_UTIL.randomAttestationData());
+    recordPrimaryLatencySamples(slot, 100);
+
+    when(primaryApiChannel.createAttestationData(slot, 0))
+        .thenReturn(SafeFuture.failedFuture(new IllegalStateException("oopsy")));
+    when(failoverApiChannel1.createAttestationData(slot, 0))
+        .thenReturn(SafeFuture.completedFuture(response));
+
+    final SafeFuture<Optional<AttestationData>> result =
+        failoverApiHandler.createAttestationData(slot, 0);
+
+    assertThat(result).isCompletedWithValue(response);
+  }
+
+  @Test
+  void createAttestationData_shouldNotHedgeUntilEnoughLatencySamplesRecorded() {
+    failoverApiHandler =
+        createFailoverApiHandler(List.of(failoverApiChannel1), true, true, Optional.of(95));
+    final UInt64 slot = UInt64.ONE;
+    when(primaryApiChannel.createAttestationData(slot, 0)).thenReturn(new SafeFuture<>());
+
+    final SafeFuture<Optional<AttestationData>> result =
+        failoverApiHandler.createAttestationData(slot, 0);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result).isNotDone();
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+    verifyNoInteractions(failoverApiChannel1);
+  }
+
+  @Test
+  void createUnsignedBlock_shouldNotHedgeBlindedBlockRequests() {
+    failoverApiHandler =
+        createFailoverApiHandler(List.of(failoverApiChannel1), true, true, Optional.of(95));
+    final UInt64 slot = UInt64.ONE;
+    final BLSSignature randaoReveal = DATA_STRUCTURE_UTIL.randomSignature();
+    for (int i = 0; i < BeaconNodeLatencyTracker.MIN_SAMPLES; i++) {
+      final SafeFuture<Optional<BeaconBlock>> response = new SafeFuture<>();
+      when(primaryApiChannel.createUnsignedBlock(slot, randaoReveal, Optional.empty(), true))
+          .thenReturn(response);
+      failoverApiHandler.createUnsignedBlock(slot, randaoReveal, Optional.empty(), true);
+      timeProvider.advanceTimeByMillis(100);
+      response.complete(Optional.empty());
+    }
+    when(primaryApiChannel.createUnsignedBlock(slot, randaoReveal, Optional.empty(), true))
+        .thenReturn(new SafeFuture<>());
+
+    failoverApiHandler.createUnsignedBlock(slot, randaoReveal, Optional.empty(), true);
+
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+    verifyNoInteractions(failoverApiChannel1);
+  }
+
+  private void recordPrimaryLatencySamples(final UInt64 slot, final long latencyMillis) {
+    for (int i = 0; i < BeaconNodeLatencyTracker.MIN_SAMPLES; i++) {
+      final SafeFuture<Optional<AttestationData>> response = new SafeFuture<>();
+      when(primaryApiChannel.createAttestationData(slot, 0)).thenReturn(response);
+      failoverApiHandler.createAttestationData(slot, 0);
+      timeProvider.advanceTimeByMillis(latencyMillis);
+      response.complete(Optional.empty());
+    }
+    asyncRunner.executeQueuedActions();
+  }
+
+  private long getHedgedRequestCounterValue(final String name) {
+    return stubMetricsSystem
+        .getCounter(TekuMetricCategory.VALIDATOR, name)
+        .getValue(
+            failoverApiChannel1.getEndpoint().toString(),
+            BeaconNodeRequestLabels.CREATE_ATTESTATION_METHOD);
+  }
+
+  private FailoverValidatorApiHandler createFailoverApiHandler(
+      final List<RemoteValidatorApiChannel> failoverDelegates,
+      final boolean failoversSendSubnetSubscriptions,
+      final boolean failoversPublishSignedDuties,
+      final Optional<Integer> hedgedRequestsPercentile) {
+    return new FailoverValidatorApiHandler(
+        beaconNodeReadinessManager,
+        primaryApiChannel,
+        failoverDelegates,
+        failoversSendSubnetSubscriptions,
+        failoversPublishSignedDuties,
+        new PushedProposerDuties(),
+        asyncRunner,
+        new BeaconNodeLatencyTracker(stubMetricsSystem, timeProvider),
+        hedgedRequestsPercentile,
+        stubMetricsSystem);
+  }
+
   private <T> void setupSuccesses(
       final ValidatorApiChannelRequest<T> request,
       final T response,
@@ -362,23 +362,13 @@ class RemoteValidatorApiHandlerTest {
     final PostDataFailureResponse failureResponse =
         new PostDataFailureResponse(
             SC_BAD_REQUEST, "Oh no", List.of(new PostDataFailure(UInt64.ZERO, "Bad")));
-    when(apiClient.sendSignedAttestations(any())).thenReturn(Optional.of(failureResponse));
-
-    final tech.pegasys.teku.api.schema.Attestation schemaAttestation =
-        new tech.pegasys.teku.api.schema.Attestation(attestation);
-
-    @SuppressWarnings("unchecked")
-    ArgumentCaptor<List<tech.pegasys.teku.api.schema.Attestation>> argumentCaptor =
-        ArgumentCaptor.forClass(List.class);
+    when(typeDefClient.sendSignedAttestations(any())).thenReturn(Optional.of(failureResponse));
 
     final SafeFuture<List<SubmitDataError>> result =
         apiHandler.sendSignedAttestations(List.of(attestation));
     asyncRunner.executeQueuedActions();
 
-    verify(apiClient).sendSignedAttestations(argumentCaptor.capture());
-    assertThat(argumentCaptor.getValue())
-        .usingRecursiveComparison()
-        .isEqualTo(List.of(schemaAttestation));
+    verify(typeDefClient).sendSignedAttestations(List.of(attestation));
     assertThat(result).isCompletedWithValue(List.of(new SubmitDataError(UInt64.ZERO, "Bad")));
   }
 
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.validator.remote.eventsource;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -21,16 +22,24 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import com.launchdarkly.eventsource.MessageEvent;
+import java.util.List;
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.api.response.v1.EventType;
 import tech.pegasys.teku.api.response.v1.HeadEvent;
+import tech.pegasys.teku.api.response.v1.ProposerDutiesEvent;
+import tech.pegasys.teku.api.schema.BLSPubKey;
+import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.validator.api.ProposerDuties;
+import tech.pegasys.teku.validator.api.ProposerDuty;
 import tech.pegasys.teku.validator.api.ValidatorTimingChannel;
+import tech.pegasys.teku.validator.remote.PushedProposerDuties;
 
 class EventSourceHandlerTest {
   private final DataStructureUtil dataStructureUtil =
@@ -38,9 +47,10 @@ class EventSourceHandlerTest {
   private final JsonProvider jsonProvider = new JsonProvider();
   private final ValidatorTimingChannel validatorTimingChannel = mock(ValidatorTimingChannel.class);
   final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final PushedProposerDuties pushedProposerDuties = new PushedProposerDuties();
 
   private final EventSourceHandler handler =
-      new EventSourceHandler(validatorTimingChannel, metricsSystem, true);
+      new EventSourceHandler(validatorTimingChannel, pushedProposerDuties, metricsSystem, true);
 
   @Test
   void onOpen_shouldNotifyOfPotentialMissedEvents() {
@@ -73,6 +83,37 @@ class EventSourceHandlerTest {
     verifyNoMoreInteractions(validatorTimingChannel);
   }
 
+  @Test
+  void onMessage_shouldStoreProposerDutiesUntilDependentRootChanges() throws Exception {
+    final UInt64 epoch = UInt64.valueOf(4);
+    final UInt64 slot = UInt64.valueOf(134);
+    final Bytes32 dependentRoot = dataStructureUtil.randomBytes32();
+    final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+    final ProposerDutiesEvent dutiesEvent =
+        new ProposerDutiesEvent(
+            epoch,
+            dependentRoot,
+            false,
+            List.of(
+                new tech.pegasys.teku.api.response.v1.validator.ProposerDuty(
+                    new BLSPubKey(publicKey), 3, slot)));
+    handler.onMessage(
+        EventType.proposer_duties.name(), new MessageEvent(jsonProvider.objectToJSON(dutiesEvent)));
+    handler.onMessage(
+        EventType.head.name(),
+        new MessageEvent(jsonProvider.objectToJSON(headEvent(dependentRoot))));
+
+    assertThat(pushedProposerDuties.getProposerDuties(epoch))
+        .contains(
+            new ProposerDuties(
+                dependentRoot, List.of(new ProposerDuty(publicKey, 3, slot)), false));
+
+    handler.onMessage(
+        EventType.head.name(),
+        new MessageEvent(jsonProvider.objectToJSON(headEvent(dataStructureUtil.randomBytes32()))));
+    assertThat(pushedProposerDuties.getProposerDuties(epoch)).isEqualTo(Optional.empty());
+  }
+
   @Test
   void onMessage_shouldHandleInvalidMessage() throws Exception {
     final UInt64 slot = UInt64.valueOf(134);
@@ -102,7 +143,7 @@ class EventSourceHandlerTest {
   @Test
   void onHeadEvent_shouldNotGenerateEarlyAttestationsIfNotEnabled() throws Exception {
     final EventSourceHandler onTimeHandler =
-        new EventSourceHandler(validatorTimingChannel, metricsSystem, false);
+        new EventSourceHandler(validatorTimingChannel, pushedProposerDuties, metricsSystem, false);
 
     final UInt64 slot = UInt64.valueOf(134);
     final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
@@ -125,4 +166,15 @@ class EventSourceHandlerTest {
             eq(slot), eq(previousDutyDependentRoot), eq(currentDutyDependentRoot), eq(blockRoot));
     verifyNoMoreInteractions(validatorTimingChannel);
   }
+
+  private HeadEvent headEvent(final Bytes32 currentDutyDependentRoot) {
+    return new HeadEvent(
+        UInt64.valueOf(134),
+        dataStructureUtil.randomBytes32(),
+        dataStructureUtil.randomBytes32(),
+        false,
+        false,
+        dataStructureUtil.randomBytes32(),
+        currentDutyDependentRoot);
+  }
 }